@@ -3,7 +3,6 @@ dependencies {
     implementation(project(":modules:jpa"))
     implementation(project(":modules:redis"))
     implementation(project(":modules:kafka"))
-    implementation(project(":modules:feign"))
     implementation(project(":modules:resilience4j"))
     implementation(project(":supports:jackson"))
     implementation(project(":supports:logging"))
@@ -19,11 +18,20 @@ dependencies {
 
     implementation("org.threeten:threeten-extra")
 
+    // async http client (PG)
+    implementation("org.apache.httpcomponents.client5:httpclient5")
+
+    // near-cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // querydsl
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
 
+    // PG 클라이언트 테스트
+    testImplementation("com.squareup.okhttp3:mockwebserver")
+
     // test-fixtures
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
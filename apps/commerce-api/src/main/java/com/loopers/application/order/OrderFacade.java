@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.loopers.config.jpa.replication.ReadYourWrites;
 import com.loopers.domain.coupon.CouponCommand;
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.order.OrderCommand;
@@ -16,8 +17,10 @@ import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.error.ProductErrorType;
 import com.loopers.domain.user.UserResult;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.concurrent.FanOut;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -34,6 +37,7 @@ public class OrderFacade {
     private final CouponService couponService;
     private final PointService pointService;
     private final PaymentService paymentService;
+    private final MeterRegistry meterRegistry;
 
     public OrderOutput.GetOrderDetail getOrderDetail(OrderInput.GetOrderDetail input) {
         UserResult.GetUser user = userService.getUser(input.getUserName())
@@ -43,17 +47,26 @@ public class OrderFacade {
                 .orderId(input.getOrderId())
                 .userId(user.getUserId())
                 .build();
-        OrderResult.GetOrderDetail order = orderService.getOrderDetail(orderCommand)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
-
         PaymentCommand.GetPayment paymentCommand = PaymentCommand.GetPayment.builder()
                 .orderId(input.getOrderId())
                 .userId(user.getUserId())
                 .build();
-        PaymentResult.GetPayment payment = paymentService.getPayment(paymentCommand)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
 
-        return OrderOutput.GetOrderDetail.from(order, payment);
+        // 주문과 결제는 서로 의존하지 않으므로 동시에 조회한다.
+        // 주문/결제 직후에 상태를 확인하는 조회이므로, 복제 지연이 없는 메인에서 조회한다.
+        return ReadYourWrites.call(() -> {
+            try (FanOut fanOut = FanOut.open("order.detail", meterRegistry)) {
+                FanOut.Branch<OrderResult.GetOrderDetail> order = fanOut.fork("order", () ->
+                        orderService.getOrderDetail(orderCommand)
+                                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND)));
+                FanOut.Branch<PaymentResult.GetPayment> payment = fanOut.fork("payment", () ->
+                        paymentService.getPayment(paymentCommand)
+                                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND)));
+                fanOut.join();
+
+                return OrderOutput.GetOrderDetail.from(order.get(), payment.get());
+            }
+        });
     }
 
     public OrderOutput.Create create(OrderInput.Create input) {
@@ -62,27 +75,48 @@ public class OrderFacade {
             throw new BusinessException(CommonErrorType.INVALID, "주문할 상품이 없습니다.");
         }
 
-        UserResult.GetUser user = userService.getUser(input.getUserName())
-                .orElseThrow(() -> new BusinessException(CommonErrorType.UNAUTHENTICATED));
-
+        // 회원과 주문 상품은 서로 의존하지 않으므로 동시에 조회한다.
         List<Long> productOptionIds = products.stream().map(OrderInput.Create.Product::getProductOptionId).toList();
-        ProductResult.GetProductOptions options = productService.getProductOptions(productOptionIds)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+        UserResult.GetUser user;
+        ProductResult.GetProductOptions options;
+        try (FanOut fanOut = FanOut.open("order.create", meterRegistry)) {
+            FanOut.Branch<UserResult.GetUser> userBranch = fanOut.fork("user", () ->
+                    userService.getUser(input.getUserName())
+                            .orElseThrow(() -> new BusinessException(CommonErrorType.UNAUTHENTICATED)));
+            FanOut.Branch<ProductResult.GetProductOptions> optionsBranch = fanOut.fork("product-options", () ->
+                    productService.getProductOptions(productOptionIds)
+                            .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND)));
+            fanOut.join();
+
+            user = userBranch.get();
+            options = optionsBranch.get();
+        }
 
         OrderCart cart = OrderCart.from(input, options);
         if (!cart.isEnoughStock()) {
             throw new BusinessException(ProductErrorType.NOT_ENOUGH);
         }
 
+        // 할인 금액은 장바구니 금액에 의존하지만, 포인트와는 서로 의존하지 않으므로 동시에 조회한다.
+        Long userId = user.getUserId();
         CouponCommand.GetDiscountAmount couponCommand = CouponCommand.GetDiscountAmount.builder()
                 .totalPrice(cart.getTotalPrice())
                 .userCouponIds(input.getUserCouponIds())
                 .build();
-        int discountAmount = couponService.getDiscountAmount(couponCommand);
+        int discountAmount;
+        PointResult.GetPoint point;
+        try (FanOut fanOut = FanOut.open("order.create.payable", meterRegistry)) {
+            FanOut.Branch<Integer> discountBranch = fanOut.fork("discount-amount", () ->
+                    couponService.getDiscountAmount(couponCommand));
+            FanOut.Branch<PointResult.GetPoint> pointBranch = fanOut.fork("point", () ->
+                    pointService.getPoint(userId)
+                            .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND)));
+            fanOut.join();
+
+            discountAmount = discountBranch.get();
+            point = pointBranch.get();
+        }
 
-        Long userId = user.getUserId();
-        PointResult.GetPoint point = pointService.getPoint(userId)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
         long balanceWithIncreasedPurchasingPower = point.getBalance() + discountAmount;
         if (!cart.isEnoughPoint(balanceWithIncreasedPurchasingPower)) {
             throw new BusinessException(PointErrorType.NOT_ENOUGH);
@@ -19,9 +19,11 @@ import com.loopers.domain.user.UserResult;
 import com.loopers.domain.user.UserService;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +37,8 @@ public class PaymentFacade {
     private final OrderService orderService;
     private final ProductService productService;
     private final CouponService couponService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     private final List<PaymentProcessor> processors;
 
@@ -87,18 +91,33 @@ public class PaymentFacade {
         return paymentProcessor.process(context);
     }
 
-    @Transactional
+    /**
+     * PG 에서 받은 거래 결과로 결제를 확정한다.
+     * <p>
+     * PG 에 거래를 확인하는 동안 커넥션을 잡지 않도록, 확인은 트랜잭션 밖에서 하고
+     * 결제 상태 변경과 재화 차감만 짧은 트랜잭션으로 묶는다.
+     * 단계마다 걸린 시간을 {@code payment.conclude.phase} 타이머로 기록한다.
+     */
     public void conclude(PaymentInput.Conclude input) {
-        UUID orderId = input.getOrderId();
-
-        // Inbox 저장을 위해 가장 먼저 호출한다.
         PaymentCommand.Conclude concludeCommand = PaymentCommand.Conclude.builder()
                 .transactionKey(input.getTransactionKey())
-                .orderId(orderId)
+                .orderId(input.getOrderId())
                 .amount(input.getAmount())
                 .status(input.getStatus())
                 .reason(input.getReason())
                 .build();
+
+        phaseTimer("verify").record(() -> paymentService.verify(concludeCommand));
+        phaseTimer("transition").record(() -> transactionTemplate.executeWithoutResult(
+                status -> applyConclusion(concludeCommand)));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void applyConclusion(PaymentCommand.Conclude concludeCommand) {
+        UUID orderId = concludeCommand.getOrderId();
+
+        // Inbox 저장을 위해 가장 먼저 호출한다.
         PaymentResult.Conclude payment = paymentService.conclude(concludeCommand);
         PaymentStatus paymentStatus = payment.getPaymentStatus();
 
@@ -141,4 +160,10 @@ public class PaymentFacade {
         couponService.use(couponCommand);
     }
 
+    private Timer phaseTimer(String phase) {
+        return Timer.builder("payment.conclude.phase")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
 }
@@ -1,26 +1,32 @@
 package com.loopers.application.payment.processor;
 
 import com.loopers.application.payment.PaymentOutput;
+import com.loopers.config.async.AsyncExecutorConfig;
+import com.loopers.domain.payment.AsyncPaymentGateway;
 import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentResult;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.payment.attribute.PaymentMethod;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 class CardPaymentProcessor implements PaymentProcessor {
 
     private final PaymentService paymentService;
-    private final PaymentGateway paymentGateway;
+    private final AsyncPaymentGateway paymentGateway;
 
-    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    /**
+     * PG 응답을 받은 뒤 DB 에 기록하는 작업을, HTTP 클라이언트의 I/O 스레드가 아닌 결제 실행기에서 이어간다.
+     */
+    @Qualifier(AsyncExecutorConfig.PAYMENT)
     private final TaskExecutor taskExecutor;
 
     @Override
@@ -40,24 +46,28 @@ class CardPaymentProcessor implements PaymentProcessor {
         );
 
         // 메인 트랜잭션에 영향을 주지 않기 위해, 비동기로 수행한다.
-        taskExecutor.execute(() -> {
-            PaymentGateway.Request.Transact request = new PaymentGateway.Request.Transact(
-                    context.orderId(),
-                    context.cardType(),
-                    context.cardNumber(),
-                    context.paymentAmount()
-            );
-            PaymentGateway.Response.Transact transaction = paymentGateway.transact(request);
-
-            // Inbox
-            paymentService.recordAsResponded(
-                    PaymentCommand.RecordAsResponded.builder()
-                            .transactionKey(transaction.transactionKey())
-                            .orderId(context.orderId())
-                            .paymentId(context.paymentId())
-                            .build()
-            );
-        });
+        // PG 응답을 기다리는 동안 스레드를 붙잡지 않으므로, PG 가 느려져도 다른 비동기 작업의 스레드를 차지하지 않는다.
+        PaymentGateway.Request.Transact request = new PaymentGateway.Request.Transact(
+                context.orderId(),
+                context.cardType(),
+                context.cardNumber(),
+                context.paymentAmount()
+        );
+        paymentGateway.transact(request)
+                .thenAcceptAsync(transaction ->
+                        // Inbox
+                        paymentService.recordAsResponded(
+                                PaymentCommand.RecordAsResponded.builder()
+                                        .transactionKey(transaction.transactionKey())
+                                        .orderId(context.orderId())
+                                        .paymentId(context.paymentId())
+                                        .build()
+                        ), taskExecutor)
+                .exceptionally(t -> {
+                    // 응답을 받지 못한 결제는 대사 스케줄러가 PG 에 조회하여 확정한다.
+                    log.error("Failed to request transaction: (orderId={}, message={})", context.orderId(), t.getMessage());
+                    return null;
+                });
 
         PaymentResult.Pending payment = paymentService.pending(context.paymentId());
 
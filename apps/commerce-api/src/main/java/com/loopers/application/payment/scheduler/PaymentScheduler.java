@@ -2,72 +2,256 @@ package com.loopers.application.payment.scheduler;
 
 import com.loopers.application.payment.PaymentFacade;
 import com.loopers.application.payment.PaymentInput;
+import com.loopers.config.payment.PaymentReconcileProperties;
+import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.domain.payment.PaymentResult;
 import com.loopers.domain.payment.PaymentService;
 import com.loopers.domain.payment.attribute.PaymentMethod;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.cluster.ClusterCoordinator;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.stream.Collectors.groupingBy;
 
 @Slf4j
 @Component
 @Profile("!test")
-@RequiredArgsConstructor
 public class PaymentScheduler {
 
+    private static final String RATE_LIMITER_NAME = "payment-gateway--reconcile";
+    private static final String RECONCILE_JOB_NAME = "payment.reconcile";
+    private static final String BACKLOG_JOB_NAME = "payment.reconcile.backlog";
+
     private final PaymentFacade paymentFacade;
     private final PaymentService paymentService;
+    private final ClusterCoordinator clusterCoordinator;
+    private final PaymentReconcileProperties properties;
+    private final RateLimiter rateLimiter;
+    private final Counter concludedCounter;
+    private final Counter pendingCounter;
+    private final Counter failedCounter;
+    private final Counter timedOutCounter;
+    private final Counter throttledCounter;
+    private final AtomicLong backlogCount = new AtomicLong();
+
+    public PaymentScheduler(
+            PaymentFacade paymentFacade,
+            PaymentService paymentService,
+            ClusterCoordinator clusterCoordinator,
+            PaymentReconcileProperties properties,
+            RateLimiterRegistry rateLimiterRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentFacade = paymentFacade;
+        this.paymentService = paymentService;
+        this.clusterCoordinator = clusterCoordinator;
+        this.properties = properties;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
+
+        // 확정된 결제 수의 증가율이 밀린 결제가 줄어드는 속도다.
+        this.concludedCounter = reconciledCounter(meterRegistry, "concluded");
+        this.pendingCounter = reconciledCounter(meterRegistry, "pending");
+        this.failedCounter = reconciledCounter(meterRegistry, "failed");
+        this.timedOutCounter = reconciledCounter(meterRegistry, "timeout");
+        this.throttledCounter = reconciledCounter(meterRegistry, "throttled");
+        // 리더만 세므로, 리더가 아닌 노드는 예전에 센 수 대신 NaN 을 보고하여 노드끼리 합치거나 평균 낼 때 섞이지 않게 한다.
+        Gauge.builder("payment.reconcile.backlog", this,
+                        scheduler -> scheduler.clusterCoordinator.isLeader() ? scheduler.backlogCount.get() : Double.NaN)
+                .register(meterRegistry);
+    }
 
     /**
      * 애플리케이션 시작하고 10분 후부터, 30분 간격으로 실행한다.
+     * <p>
+     * 노드마다 맡은 샤드의 결제만 대사하므로, 노드가 늘어도 같은 결제를 여러 노드가 PG 에 조회하지 않는다.
      */
     @Scheduled(fixedDelayString = "PT30M", initialDelayString = "PT10M")
     public void reconcilePaymentsByCard() {
-        PaymentResult.GetInconclusivePayments payments = paymentService.getInconclusivePayments(PaymentMethod.CARD);
+        clusterCoordinator.runOwnedShards(RECONCILE_JOB_NAME, properties.shardCount(), this::reconcileShard);
+        clusterCoordinator.runAsLeader(BACKLOG_JOB_NAME, this::updateBacklog);
+    }
+
+    /**
+     * 밀린 결제 수 지표를 갱신한다. 모든 노드가 같은 수를 세지 않도록 리더만 센다.
+     */
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void measureBacklog() {
+        clusterCoordinator.runAsLeader(BACKLOG_JOB_NAME, this::updateBacklog);
+    }
 
-        for (PaymentResult.GetInconclusivePayments.Item paymentItem : payments.getItems()) {
-            UUID orderId = paymentItem.getOrderId();
-            List<PaymentResult.GetTransactions.Item> transactions = paymentService.getTransactions(orderId)
-                    .map(PaymentResult.GetTransactions::getItems)
-                    .orElseGet(List::of);
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 샤드의 확정되지 않은 카드 결제를 아이디 순으로 한 페이지씩 조회하여, 페이지 안의 결제를 동시에 대사한다.
+     * 페이지를 마칠 때마다 진행 위치를 기록하므로, 중간에 멈추면 다음 대사는 멈춘 페이지부터 이어서 진행한다.
+     */
+    private void reconcileShard(int shard) {
+        Long lastPaymentId = null;
 
-            if (CollectionUtils.isEmpty(transactions)) {
-                continue;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            lastPaymentId = paymentService.getReconcileCheckpoint(shard).orElse(null);
+            if (lastPaymentId != null) {
+                log.info("Resume reconciling payments: (shard={}, lastPaymentId={})", shard, lastPaymentId);
             }
 
-            Map<String, List<PaymentInput.Conclude>> statusMap = transactions
-                    .stream()
-                    .map(item -> PaymentInput.Conclude.builder()
-                            .transactionKey(item.getTransactionKey())
-                            .orderId(orderId)
-                            .amount(paymentItem.getAmount())
-                            .status(item.getStatus())
-                            .reason(item.getReason())
-                            .build()
-                    )
-                    .collect(groupingBy(PaymentInput.Conclude::getStatus));
+            while (true) {
+                PaymentCommand.GetInconclusivePayments command = PaymentCommand.GetInconclusivePayments.builder()
+                        .method(PaymentMethod.CARD)
+                        .shard(shard)
+                        .shardCount(properties.shardCount())
+                        .lastPaymentId(lastPaymentId)
+                        .size(properties.pageSize())
+                        .build();
+                List<PaymentResult.GetInconclusivePayments.Item> items = paymentService.getInconclusivePayments(command).getItems();
+                if (items.isEmpty()) {
+                    break;
+                }
 
-            try {
-                if (statusMap.containsKey("SUCCESS")) {
-                    paymentFacade.conclude(statusMap.get("SUCCESS").getFirst());
-                } else if (statusMap.containsKey("FAILED") && !statusMap.containsKey("PENDING")) {
-                    // 진행중인 결제 건이 하나라도 있으면, 실패한 결제라고 단언할 수 없다.
-                    paymentFacade.conclude(statusMap.get("FAILED").getFirst());
+                reconcile(executor, items);
+
+                lastPaymentId = items.getLast().getPaymentId();
+                paymentService.saveReconcileCheckpoint(shard, lastPaymentId);
+
+                if (items.size() < properties.pageSize()) {
+                    break;
                 }
-            } catch (Exception e) {
-                // 보정에 실패해도, 다른 결제 건을 속행한다.
-                log.error("Failed to reconcile payment: (orderId={}, message={})", orderId, e.getMessage());
             }
+
+            paymentService.clearReconcileCheckpoint(shard);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Reconciling payments is interrupted: (shard={}, lastPaymentId={})", shard, lastPaymentId);
+        } catch (Exception e) {
+            log.error("Failed to reconcile payments: (shard={}, lastPaymentId={}, message={})",
+                    shard, lastPaymentId, e.getMessage());
+        }
+    }
+
+    private void updateBacklog() {
+        try {
+            backlogCount.set(paymentService.countInconclusivePayments(PaymentMethod.CARD));
+        } catch (Exception e) {
+            log.error("Failed to measure payment reconciliation backlog: {}", e.getMessage());
         }
     }
 
+    /**
+     * 페이지 안의 결제를 최대 {@code concurrency}건씩 동시에 대사하고, 모두 끝날 때까지 기다린다.
+     */
+    private void reconcile(
+            ExecutorService executor,
+            List<PaymentResult.GetInconclusivePayments.Item> items
+    ) throws InterruptedException {
+        Semaphore permits = new Semaphore(Math.max(1, properties.concurrency()));
+        List<Future<?>> workers = new ArrayList<>(items.size());
+
+        for (PaymentResult.GetInconclusivePayments.Item item : items) {
+            permits.acquire();
+            try {
+                workers.add(executor.submit(() -> {
+                    try {
+                        reconcileWithTimeout(executor, item);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                // 결제마다 예외를 처리하므로 여기까지 오지 않는다.
+                log.error("Unexpected failure while reconciling payment: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void reconcileWithTimeout(ExecutorService executor, PaymentResult.GetInconclusivePayments.Item item) {
+        UUID orderId = item.getOrderId();
+
+        // PG 호출 속도를 제한한다. 허용될 때까지 기다리는 시간은 대사 시간에 넣지 않는다.
+        if (!rateLimiter.acquirePermission()) {
+            log.warn("Skip reconciling payment, rate limit is exceeded: (orderId={})", orderId);
+            throttledCounter.increment();
+            return;
+        }
+
+        Future<?> task = executor.submit(() -> reconcile(item));
+        try {
+            task.get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            timedOutCounter.increment();
+            log.warn("Timed out reconciling payment: (orderId={}, timeout={})", orderId, properties.timeout());
+        } catch (ExecutionException e) {
+            // 보정에 실패해도, 다른 결제 건을 속행한다.
+            failedCounter.increment();
+            log.error("Failed to reconcile payment: (orderId={}, message={})", orderId, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reconcile(PaymentResult.GetInconclusivePayments.Item paymentItem) {
+        UUID orderId = paymentItem.getOrderId();
+        List<PaymentResult.GetTransactions.Item> transactions = paymentService.getTransactions(orderId)
+                .map(PaymentResult.GetTransactions::getItems)
+                .orElseGet(List::of);
+
+        if (CollectionUtils.isEmpty(transactions)) {
+            pendingCounter.increment();
+            return;
+        }
+
+        Map<String, List<PaymentInput.Conclude>> statusMap = transactions
+                .stream()
+                .map(item -> PaymentInput.Conclude.builder()
+                        .transactionKey(item.getTransactionKey())
+                        .orderId(orderId)
+                        .amount(paymentItem.getAmount())
+                        .status(item.getStatus())
+                        .reason(item.getReason())
+                        .build()
+                )
+                .collect(groupingBy(PaymentInput.Conclude::getStatus));
+
+        if (statusMap.containsKey("SUCCESS")) {
+            paymentFacade.conclude(statusMap.get("SUCCESS").getFirst());
+            concludedCounter.increment();
+        } else if (statusMap.containsKey("FAILED") && !statusMap.containsKey("PENDING")) {
+            // 진행중인 결제 건이 하나라도 있으면, 실패한 결제라고 단언할 수 없다.
+            paymentFacade.conclude(statusMap.get("FAILED").getFirst());
+            concludedCounter.increment();
+        } else {
+            pendingCounter.increment();
+        }
+    }
+
+    private static Counter reconciledCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("payment.reconcile.processed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
 }
@@ -1,21 +1,28 @@
 package com.loopers.application.product;
 
+import com.loopers.config.async.AsyncExecutorConfig;
 import com.loopers.domain.activity.event.ActivityEvent;
 import com.loopers.domain.brand.BrandResult;
 import com.loopers.domain.brand.BrandService;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductLikeFlush;
 import com.loopers.domain.product.ProductResult;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.ranking.RankingCommand;
 import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.saga.SagaCommand;
+import com.loopers.domain.saga.SagaService;
 import com.loopers.domain.user.UserService;
+import com.loopers.support.concurrent.FanOut;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
@@ -29,21 +36,32 @@ public class ProductFacade {
     private final BrandService brandService;
     private final RankingService rankingService;
     private final UserService userService;
+    private final SagaService sagaService;
 
-    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    @Qualifier(AsyncExecutorConfig.DB)
     private final TaskExecutor taskExecutor;
     private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     public ProductOutput.GetProductDetail getProductDetail(ProductInput.GetProductDetail input) {
         Long productId = input.getProductId();
 
-        ProductResult.GetProductDetail detail = productService.getProductDetail(productId)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+        // 순위는 상품 상세, 브랜드와 서로 의존하지 않으므로, 상품 상세와 브랜드를 차례로 조회하는 동안 따로 조회한다.
+        RankingCommand.FindRank rankCommand = new RankingCommand.FindRank(LocalDate.now(), productId);
+        ProductResult.GetProductDetail detail;
+        BrandResult.GetBrand brand;
+        Long rank;
+        try (FanOut fanOut = FanOut.open("product.detail", meterRegistry)) {
+            FanOut.Branch<Long> rankBranch = fanOut.fork("rank", () ->
+                    rankingService.findRank(rankCommand).orElse(null));
 
-        BrandResult.GetBrand brand = brandService.getBrand(detail.brandId()).orElse(null);
+            detail = productService.getProductDetail(productId)
+                    .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+            brand = brandService.getBrand(detail.brandId()).orElse(null);
 
-        RankingCommand.FindRank rankCommand = new RankingCommand.FindRank(LocalDate.now(), productId);
-        Long rank = rankingService.findRank(rankCommand).orElse(null);
+            fanOut.join();
+            rank = rankBranch.get();
+        }
 
         // 회원이면 상품 조회 이벤트를 발행한다.
         Optional.ofNullable(input.getUserName())
@@ -58,4 +76,22 @@ public class ProductFacade {
         return ProductOutput.GetProductDetail.from(detail, brand, rank);
     }
 
+    /**
+     * 좋아요 수 변경분을 DB 에 반영한다.
+     * <p>
+     * 반영한 뒤 Redis 의 변경분을 지우기 전에 노드가 죽으면 같은 변경분을 다시 받게 되므로,
+     * 반영 아이디를 inbox 에 함께 기록하여 한 번만 반영한다.
+     */
+    @Transactional
+    public void applyLikeFlush(ProductLikeFlush flush) {
+        SagaCommand.Inbound inbound = new SagaCommand.Inbound(flush.flushId(), "product.like.flush", null);
+        if (!sagaService.inbound(inbound).saved()) {
+            return;
+        }
+
+        productService.applyLikes(ProductCommand.ApplyLikes.builder()
+                .deltas(flush.deltas())
+                .build());
+    }
+
 }
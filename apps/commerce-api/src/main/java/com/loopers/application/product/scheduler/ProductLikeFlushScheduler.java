@@ -0,0 +1,76 @@
+package com.loopers.application.product.scheduler;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.config.product.LikeWriteBehindProperties;
+import com.loopers.domain.product.ProductLikeFlush;
+import com.loopers.domain.product.ProductService;
+import com.loopers.support.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Profile("!test")
+public class ProductLikeFlushScheduler {
+
+    private static final String FLUSH_JOB_NAME = "product.like.flush";
+
+    private final ProductService productService;
+    private final ProductFacade productFacade;
+    private final ClusterCoordinator clusterCoordinator;
+    private final LikeWriteBehindProperties properties;
+    private final Counter flushedCounter;
+
+    public ProductLikeFlushScheduler(
+            ProductService productService,
+            ProductFacade productFacade,
+            ClusterCoordinator clusterCoordinator,
+            LikeWriteBehindProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.productFacade = productFacade;
+        this.clusterCoordinator = clusterCoordinator;
+        this.properties = properties;
+
+        this.flushedCounter = Counter.builder("product.like.flushed").register(meterRegistry);
+    }
+
+    /**
+     * 쌓인 좋아요 수 변경량을 DB 에 반영한다. 노드마다 같은 변경분을 가져가 경합하지 않도록 리더만 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${loopers.like.write-behind.flush-interval}", initialDelayString = "PT10S")
+    public void flush() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            clusterCoordinator.runAsLeader(FLUSH_JOB_NAME, this::flushLikes);
+        } catch (Exception e) {
+            log.error("Failed to flush product like counts: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void flushLikes() {
+        Optional<ProductLikeFlush> flush = productService.beginLikeFlush();
+        if (flush.isEmpty()) {
+            return;
+        }
+
+        // DB 트랜잭션이 커밋된 뒤에 변경분을 지운다. 그 사이에 실패하면 다음 주기에 같은 변경분을 다시 반영한다.
+        productFacade.applyLikeFlush(flush.get());
+        productService.endLikeFlush(flush.get().flushId());
+
+        flushedCounter.increment(flush.get().deltas().size());
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.loopers.application.product.scheduler;
+
+import com.loopers.config.jpa.replication.ReadYourWrites;
+import com.loopers.config.product.StockReservationProperties;
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductResult;
+import com.loopers.domain.product.ProductService;
+import com.loopers.support.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@Profile("!test")
+public class StockSettlementScheduler {
+
+    private static final String SETTLE_JOB_NAME = "stock.settle";
+    private static final String RECONCILE_JOB_NAME = "stock.reconcile";
+
+    private final ProductService productService;
+    private final ClusterCoordinator clusterCoordinator;
+    private final StockReservationProperties properties;
+    private final Counter settledCounter;
+    private final Counter settleFailedCounter;
+    private final Counter correctedCounter;
+    private final AtomicLong driftCount = new AtomicLong();
+
+    /**
+     * 직전 대사에서 발견한 차이
+     */
+    private volatile List<ProductResult.StockDrift> suspects = List.of();
+
+    public StockSettlementScheduler(
+            ProductService productService,
+            ClusterCoordinator clusterCoordinator,
+            StockReservationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.clusterCoordinator = clusterCoordinator;
+        this.properties = properties;
+
+        this.settledCounter = Counter.builder("stock.reservation.settled").register(meterRegistry);
+        this.settleFailedCounter = Counter.builder("stock.reservation.settle.failed").register(meterRegistry);
+        this.correctedCounter = Counter.builder("stock.reservation.corrected").register(meterRegistry);
+        Gauge.builder("stock.reservation.drift", driftCount, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * 예약된 차감분을 재고에 반영한다. 여러 노드가 같은 재고 행을 두고 경합하지 않도록 리더만 정산한다.
+     */
+    @Scheduled(fixedDelayString = "PT1S", initialDelayString = "PT10S")
+    public void settle() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            clusterCoordinator.runAsLeader(SETTLE_JOB_NAME, this::settleStocks);
+        } catch (Exception e) {
+            log.error("Failed to settle stock deductions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재고 카운터를 DB 기준으로 대사하고, 정산에 실패한 차감분을 다시 정산 대상으로 돌려놓는다.
+     * 직전 대사의 차이와 비교해야 하므로, 리더 한 노드만 대사한다.
+     */
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void reconcile() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        try {
+            clusterCoordinator.runAsLeader(RECONCILE_JOB_NAME, this::reconcileStocks);
+        } catch (Exception e) {
+            log.error("Failed to reconcile stock counters: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 배치가 가득 찼다면 밀린 차감분이 더 있으므로, 다음 주기를 기다리지 않고 이어서 정산한다.
+     */
+    private void settleStocks() {
+        ProductCommand.SettleStocks command = ProductCommand.SettleStocks.builder()
+                .batchSize(properties.settleBatchSize())
+                .build();
+
+        ProductResult.SettleStocks result;
+        do {
+            result = productService.settleStocks(command);
+
+            settledCounter.increment(result.settled());
+            settleFailedCounter.increment(result.failed());
+        } while (result.processed() == properties.settleBatchSize());
+    }
+
+    private void reconcileStocks() {
+        ProductCommand.ReconcileStocks command = ProductCommand.ReconcileStocks.builder()
+                .batchSize(properties.reconcileBatchSize())
+                .suspects(suspects)
+                .build();
+
+        try {
+            int retried = productService.retryFailedSettlements();
+            if (retried > 0) {
+                log.warn("Retrying failed stock deductions: {}", retried);
+            }
+        } catch (Exception e) {
+            log.error("Failed to retry stock deductions: {}", e.getMessage());
+        }
+
+        // 레플리카는 방금 정산된 차감분을 아직 모를 수 있으므로, 그 차이를 카운터에 덮어쓰지 않도록 메인에서 비교한다.
+        ProductResult.ReconcileStocks result = ReadYourWrites.call(() -> productService.reconcileStocks(command));
+        suspects = result.drifts();
+        driftCount.set(result.drifts().size());
+        correctedCounter.increment(result.correctedCount());
+
+        if (result.correctedCount() > 0) {
+            log.warn("Corrected stock counters: {}", result.correctedCount());
+        }
+    }
+
+}
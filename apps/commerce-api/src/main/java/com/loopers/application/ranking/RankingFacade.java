@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -31,56 +32,80 @@ public class RankingFacade {
             return RankingOutput.SearchDaily.empty(ranks);
         }
 
-        List<ProductResult.GetProductDetail> details = ranks.items()
+        List<ProductResult.GetProductDetail> details = getProductDetails(ranks.items()
                 .stream()
-                .map(rank -> productService.getProductDetail(rank.productId())
-                        .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND))
-                )
-                .toList();
+                .map(RankingResult.SearchDaily.Item::productId)
+                .toList());
 
         return RankingOutput.SearchDaily.from(ranks, details);
     }
 
     public RankingOutput.SearchWeekly searchWeekly(RankingInput.SearchWeekly input) {
-        RankingResult.SearchWeekly ranks = rankingService.searchWeekly(new RankingCommand.SearchWeekly(
+        RankingCommand.SearchWeekly command = new RankingCommand.SearchWeekly(
                 input.yearWeek(),
                 input.page(),
                 input.size()
-        ));
+        );
+
+        // 발행된 페이지가 있으면 상품 상세를 다시 조회하지 않는다.
+        Optional<RankingResult.SearchBoard> board = rankingService.findWeeklyBoard(command);
+        if (board.isPresent()) {
+            return RankingOutput.SearchWeekly.from(board.get());
+        }
+
+        RankingResult.SearchWeekly ranks = rankingService.searchWeekly(command);
 
         if (CollectionUtils.isEmpty(ranks.items())) {
             return RankingOutput.SearchWeekly.empty(ranks);
         }
 
-        List<ProductResult.GetProductDetail> details = ranks.items()
+        List<ProductResult.GetProductDetail> details = getProductDetails(ranks.items()
                 .stream()
-                .map(rank -> productService.getProductDetail(rank.productId())
-                        .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND))
-                )
-                .toList();
+                .map(RankingResult.SearchWeekly.Item::productId)
+                .toList());
 
         return RankingOutput.SearchWeekly.from(ranks, details);
     }
 
     public RankingOutput.SearchMonthly searchMonthly(RankingInput.SearchMonthly input) {
-        RankingResult.SearchMonthly ranks = rankingService.searchMonthly(new RankingCommand.SearchMonthly(
+        RankingCommand.SearchMonthly command = new RankingCommand.SearchMonthly(
                 input.yearMonth(),
                 input.page(),
                 input.size()
-        ));
+        );
+
+        // 발행된 페이지가 있으면 상품 상세를 다시 조회하지 않는다.
+        Optional<RankingResult.SearchBoard> board = rankingService.findMonthlyBoard(command);
+        if (board.isPresent()) {
+            return RankingOutput.SearchMonthly.from(board.get());
+        }
+
+        RankingResult.SearchMonthly ranks = rankingService.searchMonthly(command);
 
         if (CollectionUtils.isEmpty(ranks.items())) {
             return RankingOutput.SearchMonthly.empty(ranks);
         }
 
-        List<ProductResult.GetProductDetail> details = ranks.items()
+        List<ProductResult.GetProductDetail> details = getProductDetails(ranks.items()
                 .stream()
-                .map(rank -> productService.getProductDetail(rank.productId())
-                        .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND))
-                )
-                .toList();
+                .map(RankingResult.SearchMonthly.Item::productId)
+                .toList());
 
         return RankingOutput.SearchMonthly.from(ranks, details);
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 순위에 오른 상품을 한 번에 조회한다.
+     */
+    private List<ProductResult.GetProductDetail> getProductDetails(List<Long> productIds) {
+        List<ProductResult.GetProductDetail> details = productService.getProductDetails(productIds);
+        if (details.size() != productIds.size()) {
+            throw new BusinessException(CommonErrorType.NOT_FOUND);
+        }
+
+        return details;
+    }
+
 }
@@ -42,6 +42,16 @@ public record RankingOutput() {
             return new SearchWeekly(result.totalPages(), result.totalItems(), result.page(), result.size(), List.of());
         }
 
+        public static SearchWeekly from(RankingResult.SearchBoard board) {
+            return new SearchWeekly(
+                    board.totalPages(),
+                    board.totalItems(),
+                    board.page(),
+                    board.size(),
+                    board.items().stream().map(Item::from).toList()
+            );
+        }
+
         public static SearchWeekly from(RankingResult.SearchWeekly ranks, List<ProductResult.GetProductDetail> details) {
             return new SearchWeekly(
                     ranks.totalPages(),
@@ -66,6 +76,16 @@ public record RankingOutput() {
             return new SearchMonthly(result.totalPages(), result.totalItems(), result.page(), result.size(), List.of());
         }
 
+        public static SearchMonthly from(RankingResult.SearchBoard board) {
+            return new SearchMonthly(
+                    board.totalPages(),
+                    board.totalItems(),
+                    board.page(),
+                    board.size(),
+                    board.items().stream().map(Item::from).toList()
+            );
+        }
+
         public static SearchMonthly from(RankingResult.SearchMonthly ranks, List<ProductResult.GetProductDetail> details) {
             return new SearchMonthly(
                     ranks.totalPages(),
@@ -87,6 +107,17 @@ public record RankingOutput() {
             Long brandId,
             String brandName
     ) {
+        public static Item from(RankingResult.SearchBoard.Item item) {
+            return new Item(
+                    item.productId(),
+                    item.productName(),
+                    item.basePrice(),
+                    item.likeCount(),
+                    item.brandId(),
+                    item.brandName()
+            );
+        }
+
         public static Item from(ProductResult.GetProductDetail detail) {
             return new Item(
                     detail.productId(),
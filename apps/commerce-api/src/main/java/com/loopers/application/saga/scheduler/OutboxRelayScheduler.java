@@ -0,0 +1,138 @@
+package com.loopers.application.saga.scheduler;
+
+import com.loopers.config.saga.OutboxRelayProperties;
+import com.loopers.domain.saga.Outbox;
+import com.loopers.domain.saga.SagaCommand;
+import com.loopers.domain.saga.SagaResult;
+import com.loopers.domain.saga.SagaService;
+import com.loopers.support.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+@Profile("!test")
+public class OutboxRelayScheduler {
+
+    private static final String PURGE_JOB_NAME = "outbox.purge";
+
+    private final SagaService sagaService;
+    private final ClusterCoordinator clusterCoordinator;
+    private final OutboxRelayProperties properties;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter purgedCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+    public OutboxRelayScheduler(
+            SagaService sagaService,
+            ClusterCoordinator clusterCoordinator,
+            OutboxRelayProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.sagaService = sagaService;
+        this.clusterCoordinator = clusterCoordinator;
+        this.properties = properties;
+
+        this.publishedCounter = Counter.builder("outbox.relay.published").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed").register(meterRegistry);
+        this.purgedCounter = Counter.builder("outbox.purged").register(meterRegistry);
+        Gauge.builder("outbox.relay.pending", pendingCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("outbox.relay.oldest.age", oldestAgeSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 파티션을 작업 수만큼 나누어 동시에 릴레이한다.
+     * 다른 노드와는 잠긴 행을 건너뛰는 방식으로 나누어 가진다.
+     */
+    @Scheduled(fixedDelayString = "PT0.5S", initialDelayString = "PT10S")
+    public void relay() {
+        int concurrency = Math.max(1, Math.min(properties.concurrency(), Outbox.PARTITION_COUNT));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                int offset = worker;
+                List<Integer> partitionNos = IntStream.range(0, Outbox.PARTITION_COUNT)
+                        .filter(partitionNo -> partitionNo % concurrency == offset)
+                        .boxed()
+                        .toList();
+                executor.submit(() -> relay(partitionNos));
+            }
+        }
+    }
+
+    /**
+     * 발행 지연 지표를 갱신한다.
+     */
+    @Scheduled(fixedDelayString = "PT10S", initialDelayString = "PT10S")
+    public void measureLag() {
+        try {
+            SagaResult.RelayLag lag = sagaService.getRelayLag();
+            pendingCount.set(lag.pendingCount());
+            oldestAgeSeconds.set(lag.oldestAge(ZonedDateTime.now()).toSeconds());
+        } catch (Exception e) {
+            log.error("Failed to measure outbox relay lag: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 아웃박스를 삭제한다. 여러 노드가 같은 행을 지우지 않도록 리더만 삭제한다.
+     */
+    @Scheduled(fixedDelayString = "PT10M", initialDelayString = "PT5M")
+    public void purge() {
+        try {
+            clusterCoordinator.runAsLeader(PURGE_JOB_NAME, this::purgeOutboxes);
+        } catch (Exception e) {
+            log.error("Failed to purge published outboxes: {}", e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void relay(List<Integer> partitionNos) {
+        SagaCommand.Relay command = new SagaCommand.Relay(partitionNos, properties.batchSize(), properties.claimTimeout());
+
+        // 배치가 가득 찼다면 밀린 아웃박스가 더 있으므로, 다음 주기를 기다리지 않고 이어서 발행한다.
+        SagaResult.Relay result;
+        do {
+            try {
+                result = sagaService.relay(command);
+            } catch (Exception e) {
+                log.error("Failed to relay outboxes: (partitionNos={}, message={})", partitionNos, e.getMessage());
+                return;
+            }
+
+            publishedCounter.increment(result.published());
+            failedCounter.increment(result.failed());
+        } while (result.claimed() == properties.batchSize() && result.failed() == 0);
+    }
+
+    /**
+     * 한 번에 오래 잠그지 않도록 배치 단위로 나누어 삭제하고, 배치가 가득 찼다면 이어서 삭제한다.
+     */
+    private void purgeOutboxes() {
+        SagaCommand.Purge command = new SagaCommand.Purge(properties.retention(), properties.purgeBatchSize());
+
+        int deleted;
+        do {
+            deleted = sagaService.purge(command);
+            purgedCounter.increment(deleted);
+        } while (deleted == properties.purgeBatchSize());
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.loopers.config.activity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled       상품 조회 수를 메모리에 모아두었다가 한 문장으로 반영할지 여부
+ * @param maxEntries    모아두는 최대 (사용자, 상품) 수. 가득 차면 새로운 조회는 버린다.
+ * @param maxBatchSize  한 문장으로 반영하는 최대 행 수. 모아둔 수가 이만큼 차면 주기를 기다리지 않고 반영한다.
+ * @param flushInterval 모아둔 조회 수를 DB 에 반영하는 주기
+ */
+@ConfigurationProperties(prefix = "loopers.activity.view-aggregation")
+public record ViewAggregationProperties(
+        boolean enabled,
+        int maxEntries,
+        int maxBatchSize,
+        Duration flushInterval
+) {
+}
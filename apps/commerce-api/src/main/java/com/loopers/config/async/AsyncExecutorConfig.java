@@ -0,0 +1,65 @@
+package com.loopers.config.async;
+
+import com.loopers.support.concurrent.WorkloadExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 작업 종류마다 실행기를 따로 둔다. 리스너는 {@code @Async(AsyncExecutorConfig.IO)}처럼 실행기 이름으로 고른다.
+ * <ul>
+ *     <li>{@link #IO}: 메시지 발행, 외부 호출처럼 기다리기만 하는 작업. 제한 없이 가상 스레드로 실행한다.</li>
+ *     <li>{@link #DB}: DB 커넥션을 쓰는 작업. 동시 실행 수를 제한한다.</li>
+ *     <li>{@link #PAYMENT}: 결제 후속 처리. {@link #DB}와 같지만, 다른 작업이 몰려도 밀리지 않도록 따로 둔다.</li>
+ * </ul>
+ * 이름 없이 {@code @Async}만 붙이면 {@link #IO}에서 실행한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncExecutorConfig implements AsyncConfigurer {
+
+    public static final String IO = "ioExecutor";
+    public static final String DB = "dbExecutor";
+    public static final String PAYMENT = "paymentExecutor";
+
+    @Qualifier(IO)
+    private final ObjectProvider<Executor> ioExecutor;
+
+    @Bean(IO)
+    public WorkloadExecutor ioExecutor(MeterRegistry meterRegistry) {
+        return new WorkloadExecutor("async-io", 0, 0, meterRegistry);
+    }
+
+    @Bean(DB)
+    public WorkloadExecutor dbExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        AsyncExecutorProperties.Bound bound = properties.db();
+        return new WorkloadExecutor("async-db", bound.maxConcurrency(), bound.queueCapacity(), meterRegistry);
+    }
+
+    @Bean(PAYMENT)
+    public WorkloadExecutor paymentExecutor(AsyncExecutorProperties properties, MeterRegistry meterRegistry) {
+        AsyncExecutorProperties.Bound bound = properties.payment();
+        return new WorkloadExecutor("async-payment", bound.maxConcurrency(), bound.queueCapacity(), meterRegistry);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return ioExecutor.getObject();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("Failed to run async method: (method={}, message={})",
+                method.getName(), e.getMessage(), e);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.loopers.config.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * DB 커넥션을 쓰는 실행기의 동시 실행 수 제한. 합이 커넥션 풀 크기를 넘지 않게 둔다.
+ *
+ * @param db      좋아요 수, 주문 후속 처리 등 일반 DB 작업
+ * @param payment 결제 후속 처리. 다른 작업이 몰려도 결제 콜백이 밀리지 않도록 따로 둔다.
+ */
+@ConfigurationProperties(prefix = "loopers.async")
+public record AsyncExecutorProperties(
+        Bound db,
+        Bound payment
+) {
+
+    /**
+     * @param maxConcurrency 동시에 실행하는 최대 작업 수
+     * @param queueCapacity  자리를 기다리는 최대 작업 수. 넘으면 거절한다.
+     */
+    public record Bound(
+            int maxConcurrency,
+            int queueCapacity
+    ) {
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.loopers.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PG 에서 확인한 거래 중, 확정된(성공/실패) 거래만 잠시 보관한다.
+ *
+ * @param maximumSize      노드당 최대 보관 거래 수
+ * @param expireAfterWrite 거래를 보관하는 최대 시간
+ */
+@ConfigurationProperties(prefix = "loopers.cache.payment-transaction")
+public record PaymentTransactionCacheProperties(
+        long maximumSize,
+        Duration expireAfterWrite
+) {
+}
@@ -0,0 +1,35 @@
+package com.loopers.config.cache;
+
+import com.loopers.config.RedisConfig;
+import com.loopers.infrastructure.product.ProductDetailNearCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Objects;
+
+@Configuration
+public class ProductDetailCacheConfig {
+
+    /**
+     * 무효화 메시지는 마스터에서 발행되므로, 복제 지연 없이 받기 위해 마스터를 구독한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer productDetailInvalidationListenerContainer(
+            @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER) StringRedisTemplate masterRedisTemplate,
+            ProductDetailNearCache productDetailNearCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(Objects.requireNonNull(masterRedisTemplate.getConnectionFactory()));
+        container.addMessageListener(
+                productDetailNearCache,
+                new ChannelTopic(ProductDetailNearCache.INVALIDATION_CHANNEL)
+        );
+
+        return container;
+    }
+
+}
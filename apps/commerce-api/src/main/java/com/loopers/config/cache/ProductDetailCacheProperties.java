@@ -0,0 +1,12 @@
+package com.loopers.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "loopers.cache.product-detail")
+public record ProductDetailCacheProperties(
+        long maximumSize,
+        Duration expireAfterWrite
+) {
+}
@@ -0,0 +1,12 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled 재고와 포인트를 행 잠금 후 저장하지 않고, 조건부 UPDATE 한 문장으로 변경할지 여부
+ */
+@ConfigurationProperties(prefix = "loopers.guarded-update")
+public record GuardedUpdateProperties(
+        boolean enabled
+) {
+}
@@ -0,0 +1,20 @@
+package com.loopers.config.jpa.converter;
+
+import com.loopers.domain.saga.attribute.OutboxStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class OutboxStatusConverter implements AttributeConverter<OutboxStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(OutboxStatus attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public OutboxStatus convertToEntityAttribute(String dbData) {
+        return OutboxStatus.from(dbData);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.loopers.config.payment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PG 비동기 클라이언트의 연결 풀과 요청 설정.
+ * PG 작업마다 동시 호출 수는 {@code resilience4j.bulkhead.instances.payment-gateway--*}로 제한한다.
+ *
+ * @param baseUrl                PG API 주소
+ * @param maxConnections         연결 풀의 최대 연결 수
+ * @param maxConnectionsPerRoute PG 호스트 하나에 여는 최대 연결 수
+ * @param connectTimeout         연결을 맺는 최대 시간
+ * @param responseTimeout        응답을 기다리는 최대 시간
+ * @param connectionTtl          연결을 재사용하는 최대 시간. PG 앞단의 로드밸런서가 연결을 끊기 전에 새로 맺는다.
+ * @param hedgeDelay             조회 응답이 이 시간 안에 오지 않으면, 같은 조회를 한 번 더 보낸다. (응답 시간 p95 근처로 둔다)
+ */
+@ConfigurationProperties(prefix = "pg-simulator.api-client")
+public record PaymentGatewayClientProperties(
+        String baseUrl,
+        int maxConnections,
+        int maxConnectionsPerRoute,
+        Duration connectTimeout,
+        Duration responseTimeout,
+        Duration connectionTtl,
+        Duration hedgeDelay
+) {
+}
@@ -0,0 +1,23 @@
+package com.loopers.config.payment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제는 아이디로 {@code shardCount}개의 샤드로 나누고, 노드마다 맡은 샤드만 대사한다.
+ * PG 호출 속도는 {@code resilience4j.ratelimiter.instances.payment-gateway--reconcile}로 제한한다.
+ *
+ * @param shardCount  결제를 나누는 샤드 수. 노드 수보다 넉넉하게 두어야 노드가 늘었을 때 고르게 나누어진다.
+ * @param pageSize    한 번에 조회하여 대사하는 최대 결제 수. 페이지를 마칠 때마다 진행 위치를 기록한다.
+ * @param concurrency 동시에 대사하는 최대 결제 수
+ * @param timeout     결제 한 건을 대사하는 최대 시간. 넘기면 취소하고 다음 대사에서 다시 시도한다.
+ */
+@ConfigurationProperties(prefix = "loopers.payment.reconcile")
+public record PaymentReconcileProperties(
+        int shardCount,
+        int pageSize,
+        int concurrency,
+        Duration timeout
+) {
+}
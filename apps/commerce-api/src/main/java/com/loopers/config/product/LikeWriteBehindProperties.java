@@ -0,0 +1,18 @@
+package com.loopers.config.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled        좋아요 수를 상품 행을 잠그지 않고 Redis 에 쌓아두었다가 한 번에 반영할지 여부
+ * @param flushInterval  쌓인 변경량을 DB 에 반영하는 주기
+ * @param flushBatchSize 한 UPDATE 문으로 반영하는 최대 상품 수
+ */
+@ConfigurationProperties(prefix = "loopers.like.write-behind")
+public record LikeWriteBehindProperties(
+        boolean enabled,
+        Duration flushInterval,
+        int flushBatchSize
+) {
+}
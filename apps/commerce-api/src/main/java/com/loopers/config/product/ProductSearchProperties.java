@@ -0,0 +1,12 @@
+package com.loopers.config.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param fullText 상품명 검색을 {@code LIKE '%keyword%'} 대신 n-gram FULLTEXT 인덱스로 할지 여부
+ */
+@ConfigurationProperties(prefix = "loopers.product.search")
+public record ProductSearchProperties(
+        boolean fullText
+) {
+}
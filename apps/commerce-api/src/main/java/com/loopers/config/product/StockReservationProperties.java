@@ -0,0 +1,16 @@
+package com.loopers.config.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled            재고 행을 잠그지 않고 Redis 카운터로 예약할지 여부
+ * @param settleBatchSize    한 트랜잭션에서 정산하는 최대 차감분 수
+ * @param reconcileBatchSize 대사할 때 한 번에 조회하는 재고 수
+ */
+@ConfigurationProperties(prefix = "loopers.stock.reservation")
+public record StockReservationProperties(
+        boolean enabled,
+        int settleBatchSize,
+        int reconcileBatchSize
+) {
+}
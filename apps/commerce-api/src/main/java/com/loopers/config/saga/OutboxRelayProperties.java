@@ -0,0 +1,28 @@
+package com.loopers.config.saga;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param batchSize      한 번에 가져가서 발행하는 최대 아웃박스 수
+ * @param concurrency    노드마다 파티션을 나누어 맡는 릴레이 작업 수
+ * @param sendTimeout    한 배치의 확인 응답을 기다리는 최대 시간
+ * @param claimTimeout   발행 결과를 반영하지 못한 아웃박스를 다시 발행하기까지 기다리는 시간 ({@code sendTimeout}보다 길어야 한다)
+ * @param retention      발행한 아웃박스를 남겨두는 기간
+ * @param purgeBatchSize 한 트랜잭션에서 삭제하는 최대 아웃박스 수
+ * @param routes         이벤트 이름별로 발행할 토픽 ({@code loopers.kafka.topics}의 키)
+ */
+@ConfigurationProperties(prefix = "loopers.outbox.relay")
+public record OutboxRelayProperties(
+        int batchSize,
+        int concurrency,
+        Duration sendTimeout,
+        Duration claimTimeout,
+        Duration retention,
+        int purgeBatchSize,
+        Map<String, List<String>> routes
+) {
+}
@@ -2,6 +2,8 @@ package com.loopers.domain.activity;
 
 import lombok.*;
 
+import java.util.List;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ActivityCommand {
 
@@ -29,4 +31,23 @@ public final class ActivityCommand {
         private final Long productId;
     }
 
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class AddViews {
+        private final List<Item> items;
+
+        @Getter
+        @Builder
+        @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+        public static class Item {
+            private final Long userId;
+            private final Long productId;
+            /**
+             * 더할 조회 수
+             */
+            private final Long count;
+        }
+    }
+
 }
@@ -6,7 +6,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -75,4 +77,27 @@ public class ActivityService {
         return viewedProduct.getViewCount();
     }
 
+    /**
+     * 모아둔 조회 수를 한 문장으로 더한다.
+     */
+    @Transactional
+    public void addViews(ActivityCommand.AddViews command) {
+        if (CollectionUtils.isEmpty(command.getItems())) {
+            return;
+        }
+
+        // 다른 노드의 반영과 같은 순서로 행을 잠그도록, 유니크 인덱스 (상품 아이디, 사용자 아이디) 순으로 정렬한다.
+        List<ViewedProduct> viewedProducts = command.getItems().stream()
+                .sorted(Comparator.comparing(ActivityCommand.AddViews.Item::getProductId)
+                        .thenComparing(ActivityCommand.AddViews.Item::getUserId))
+                .map(item -> ViewedProduct.builder()
+                        .viewCount(item.getCount())
+                        .userId(item.getUserId())
+                        .productId(item.getProductId())
+                        .build())
+                .toList();
+
+        viewedProductRepository.addViewCounts(viewedProducts);
+    }
+
 }
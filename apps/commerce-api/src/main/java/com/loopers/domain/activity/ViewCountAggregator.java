@@ -0,0 +1,164 @@
+package com.loopers.domain.activity;
+
+import com.loopers.config.activity.ViewAggregationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 조회 수를 (사용자, 상품)마다 메모리에 모아두었다가, 주기적으로 또는 일정 수가 차면 한 문장으로 반영한다.
+ * <p>
+ * 조회마다 행을 읽고 쓰는 대신 변경량만 더해두므로, 같은 상품을 여러 번 조회해도 반영할 때는 한 행만 변경한다.
+ * 모아두는 수는 {@link ViewAggregationProperties#maxEntries()}로 제한하며, 가득 차면 새로운 (사용자, 상품)의 조회는 버린다.
+ * 노드가 정상 종료될 때는 남은 조회 수를 모두 반영하지만, 비정상 종료되면 반영하지 못한 조회 수는 유실된다.
+ * 비활성화되어 있으면 {@link ActivityService#view(ActivityCommand.View)}를 그대로 호출한다.
+ */
+@Slf4j
+@Component
+public class ViewCountAggregator {
+
+    private final ActivityService activityService;
+    private final ViewAggregationProperties properties;
+
+    private final Map<Key, Long> counts = new ConcurrentHashMap<>();
+    private final Semaphore flushSignal = new Semaphore(0);
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public ViewCountAggregator(
+            ActivityService activityService,
+            ViewAggregationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.activityService = activityService;
+        this.properties = properties;
+
+        this.droppedCounter = Counter.builder("activity.view.dropped").register(meterRegistry);
+        this.flushedCounter = Counter.builder("activity.view.flushed").register(meterRegistry);
+        Gauge.builder("activity.view.pending", counts, Map::size).register(meterRegistry);
+
+        this.worker = properties.enabled()
+                ? Thread.ofVirtual().name("view-count-aggregator").start(this::run)
+                : null;
+    }
+
+    public void view(ActivityCommand.View command) {
+        if (worker == null) {
+            activityService.view(command);
+            return;
+        }
+
+        Key key = new Key(command.getUserId(), command.getProductId());
+
+        // 가득 찼으면 이미 모아둔 (사용자, 상품)의 조회 수만 더한다.
+        if (counts.size() >= properties.maxEntries()) {
+            if (counts.computeIfPresent(key, (k, count) -> count + 1) == null) {
+                droppedCounter.increment();
+            }
+            flushSignal.release();
+            return;
+        }
+
+        counts.merge(key, 1L, Long::sum);
+
+        if (counts.size() >= properties.maxBatchSize() && flushSignal.availablePermits() == 0) {
+            flushSignal.release();
+        }
+    }
+
+    /**
+     * 모아둔 조회 수를 모두 반영한다.
+     */
+    public void flush() {
+        List<ActivityCommand.AddViews.Item> items = new ArrayList<>(Math.min(counts.size(), properties.maxBatchSize()));
+
+        // 키마다 원자적으로 꺼내므로, 꺼낸 뒤에 들어온 조회는 다음 반영 대상으로 남는다.
+        for (Key key : counts.keySet()) {
+            Long count = counts.remove(key);
+            if (count == null) {
+                continue;
+            }
+
+            items.add(ActivityCommand.AddViews.Item.builder()
+                    .userId(key.userId())
+                    .productId(key.productId())
+                    .count(count)
+                    .build());
+
+            if (items.size() >= properties.maxBatchSize()) {
+                addViews(items);
+                items = new ArrayList<>(properties.maxBatchSize());
+            }
+        }
+
+        addViews(items);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (worker == null) {
+            return;
+        }
+
+        // 처리 중인 쿼리가 중단되지 않도록 인터럽트하지 않고, 남은 조회 수를 모두 반영할 때까지 기다린다.
+        closed = true;
+        flushSignal.release();
+        try {
+            worker.join(Duration.ofSeconds(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void run() {
+        while (!closed) {
+            try {
+                flushSignal.tryAcquire(properties.flushInterval().toNanos(), TimeUnit.NANOSECONDS);
+                flushSignal.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            flush();
+        }
+
+        // 종료 직전에 들어온 조회 수도 버리지 않는다.
+        flush();
+    }
+
+    private void addViews(List<ActivityCommand.AddViews.Item> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        try {
+            activityService.addViews(ActivityCommand.AddViews.builder().items(items).build());
+            flushedCounter.increment(items.size());
+        } catch (Exception e) {
+            log.error("Failed to flush view counts: (size={}, message={})", items.size(), e.getMessage());
+
+            // 다음 반영 때 다시 시도한다. 그 사이에 들어온 조회 수와 합친다.
+            items.forEach(item -> counts.merge(new Key(item.getUserId(), item.getProductId()), item.getCount(), Long::sum));
+        }
+    }
+
+    private record Key(Long userId, Long productId) {
+    }
+
+}
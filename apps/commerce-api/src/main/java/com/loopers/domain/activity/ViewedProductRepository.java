@@ -1,5 +1,6 @@
 package com.loopers.domain.activity;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ViewedProductRepository {
@@ -8,4 +9,11 @@ public interface ViewedProductRepository {
 
     ViewedProduct save(ViewedProduct viewedProduct);
 
+    /**
+     * 여러 (사용자, 상품)의 조회 수를 한 문장으로 더한다. 아직 조회한 적이 없으면 주어진 조회 수로 저장한다.
+     *
+     * @param viewedProducts 더할 조회 수를 담은 사용자가 조회한 상품
+     */
+    void addViewCounts(List<ViewedProduct> viewedProducts);
+
 }
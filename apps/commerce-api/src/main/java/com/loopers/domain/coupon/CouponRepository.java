@@ -13,6 +13,18 @@ public interface CouponRepository {
 
     Optional<CouponStock> findStockForUpdate(Long couponId);
 
+    boolean existsStock(Long couponId);
+
+    /**
+     * 잠금 없이 한 문장으로 증가한다.
+     */
+    boolean addStockQuantity(Long couponId, int amount);
+
+    /**
+     * 수량이 충분할 때만 잠금 없이 한 문장으로 차감한다.
+     */
+    boolean deductStockQuantity(Long couponId, int amount);
+
     Coupon saveCoupon(Coupon coupon);
 
     CouponStock saveStock(CouponStock stock);
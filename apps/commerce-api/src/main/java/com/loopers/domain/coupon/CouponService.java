@@ -1,8 +1,10 @@
 package com.loopers.domain.coupon;
 
 import com.loopers.annotation.ReadOnlyTransactional;
+import com.loopers.config.jpa.GuardedUpdateProperties;
 import com.loopers.domain.coupon.attribute.DiscountPolicy;
 import com.loopers.domain.coupon.error.CouponErrorType;
+import com.loopers.domain.product.error.ProductErrorType;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import java.util.Objects;
 public class CouponService {
 
     private final CouponRepository couponRepository;
+    private final GuardedUpdateProperties guardedUpdateProperties;
 
     @ReadOnlyTransactional
     public int getDiscountAmount(CouponCommand.GetDiscountAmount command) {
@@ -100,6 +103,14 @@ public class CouponService {
             throw new BusinessException(CouponErrorType.NOT_ISSUABLE);
         }
 
+        if (guardedUpdateProperties.enabled()) {
+            CouponStock.validateAddAmount(command.getAmount());
+            if (!couponRepository.addStockQuantity(coupon.getId(), command.getAmount())) {
+                throw new BusinessException(CommonErrorType.NOT_FOUND, "쿠폰 재고를 찾을 수 없습니다.");
+            }
+            return;
+        }
+
         CouponStock stock = couponRepository.findStockForUpdate(coupon.getId())
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND, "쿠폰 재고를 찾을 수 없습니다."));
 
@@ -122,6 +133,19 @@ public class CouponService {
             throw new BusinessException(CouponErrorType.NOT_ISSUABLE);
         }
 
+        if (guardedUpdateProperties.enabled()) {
+            CouponStock.validateDeductAmount(command.getAmount());
+            if (!couponRepository.deductStockQuantity(coupon.getId(), command.getAmount())) {
+                // 실패한 경우에만 원인을 구분하기 위해 조회한다.
+                if (!couponRepository.existsStock(coupon.getId())) {
+                    throw new BusinessException(CommonErrorType.NOT_FOUND, "쿠폰 재고를 찾을 수 없습니다.");
+                }
+
+                throw new BusinessException(ProductErrorType.NOT_ENOUGH);
+            }
+            return;
+        }
+
         CouponStock stock = couponRepository.findStockForUpdate(coupon.getId())
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND, "쿠폰 재고를 찾을 수 없습니다."));
 
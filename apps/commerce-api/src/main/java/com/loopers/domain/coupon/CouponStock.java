@@ -55,19 +55,12 @@ public class CouponStock extends BaseEntity {
     }
 
     public void add(int amount) {
-        if (amount <= 0) {
-            throw new BusinessException(CommonErrorType.INVALID,
-                    "0 이하의 값으로 쿠폰 재고를 증가할 수 없습니다.");
-        }
-
+        validateAddAmount(amount);
         this.quantity += amount;
     }
 
     public void deduct(int amount) {
-        if (amount <= 0) {
-            throw new BusinessException(CommonErrorType.INVALID,
-                    "0 이하의 값으로 쿠폰 재고를 차감할 수 없습니다.");
-        }
+        validateDeductAmount(amount);
 
         int deductedQuantity = this.quantity - amount;
         if (deductedQuantity < 0) {
@@ -77,4 +70,24 @@ public class CouponStock extends BaseEntity {
         this.quantity = deductedQuantity;
     }
 
+    /**
+     * 엔티티를 조회하지 않고 조건부 UPDATE 로 증가할 때도 같은 기준으로 검증한다.
+     */
+    static void validateAddAmount(Integer amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 쿠폰 재고를 증가할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 엔티티를 조회하지 않고 조건부 UPDATE 로 차감할 때도 같은 기준으로 검증한다.
+     */
+    static void validateDeductAmount(Integer amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 쿠폰 재고를 차감할 수 없습니다.");
+        }
+    }
+
 }
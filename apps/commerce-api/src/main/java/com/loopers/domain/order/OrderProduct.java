@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import com.loopers.config.jpa.id.Tsid;
 import com.loopers.domain.BaseEntity;
 import com.loopers.support.AddedItem;
 import com.loopers.support.error.BusinessException;
@@ -35,7 +36,7 @@ public class OrderProduct extends BaseEntity implements AddedItem<Long, UUID> {
      * 아이디
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "order_product_id", nullable = false, updatable = false)
     private Long id;
 
@@ -0,0 +1,21 @@
+package com.loopers.domain.payment;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PG 응답을 기다리는 동안 호출한 스레드를 붙잡지 않고 PG 를 호출한다. 요청과 응답은 {@link PaymentGateway}에 둔다.
+ * <p>
+ * 결과는 HTTP 클라이언트의 I/O 스레드에서 완료되므로, 후속 작업에서 DB 에 접근하려면 별도 실행기로 넘겨서 이어간다.
+ */
+public interface AsyncPaymentGateway {
+
+    CompletableFuture<PaymentGateway.Response.Transact> transact(PaymentGateway.Request.Transact request);
+
+    /**
+     * 조회에 실패하면 빈 값으로 완료한다.
+     */
+    CompletableFuture<Optional<PaymentGateway.Response.GetTransactions>> findTransactions(UUID orderId);
+
+}
@@ -25,6 +25,7 @@ import java.util.UUID;
         name = "payments",
         indexes = {
                 @Index(columnList = "ref_user_id, ref_order_id"),
+                @Index(columnList = "method, status, payment_id"),
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
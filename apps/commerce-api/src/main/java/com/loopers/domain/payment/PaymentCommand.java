@@ -22,6 +22,26 @@ public final class PaymentCommand {
 
     // -------------------------------------------------------------------------------------------------
 
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class GetInconclusivePayments {
+        private final PaymentMethod method;
+        /**
+         * 결제 아이디를 {@code shardCount}로 나눈 나머지가 {@code shard}인 결제만 조회한다.
+         */
+        private final int shard;
+        private final int shardCount;
+        /**
+         * 이 아이디보다 큰 결제만 조회한다. 없으면 처음부터 조회한다.
+         */
+        @Nullable
+        private final Long lastPaymentId;
+        private final int size;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     @Getter
     @Builder
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -4,17 +4,13 @@ import com.loopers.domain.payment.attribute.CardNumber;
 import com.loopers.domain.payment.attribute.CardType;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * PG 와 주고받는 요청과 응답. 호출은 {@link AsyncPaymentGateway}로 한다.
+ */
 public interface PaymentGateway {
 
-    Response.Transact transact(Request.Transact request);
-
-    Optional<Response.GetTransactions> findTransactions(UUID orderId);
-
-    // -------------------------------------------------------------------------------------------------
-
     record Request() {
         public record Transact(
                 UUID orderId,
@@ -0,0 +1,23 @@
+package com.loopers.domain.payment;
+
+import java.util.Optional;
+
+/**
+ * 결제 대사의 진행 위치를 샤드마다 기록하여, 노드가 대사 중에 죽더라도 다음 대사가 멈춘 곳부터 이어서 진행하게 한다.
+ * 샤드를 맡은 노드가 바뀌어도 새 노드가 같은 위치부터 이어서 진행한다.
+ */
+public interface PaymentReconcileCheckpointRepository {
+
+    /**
+     * @return 마지막으로 대사를 마친 페이지의 마지막 결제 아이디
+     */
+    Optional<Long> find(int shard);
+
+    void save(int shard, Long lastPaymentId);
+
+    /**
+     * 끝까지 대사했으면 지워서, 다음 대사가 처음부터 진행하게 한다.
+     */
+    void clear(int shard);
+
+}
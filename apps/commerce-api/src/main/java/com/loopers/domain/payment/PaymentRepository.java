@@ -3,6 +3,7 @@ package com.loopers.domain.payment;
 import com.loopers.domain.payment.attempt.PaymentAttempt;
 import com.loopers.domain.payment.attribute.PaymentMethod;
 import com.loopers.domain.payment.attribute.PaymentStatus;
+import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,7 +19,20 @@ public interface PaymentRepository {
 
     Optional<Payment> findPaymentForUpdate(UUID orderId);
 
-    List<Payment> findInconclusivePayments(PaymentMethod method, List<PaymentStatus> statuses);
+    /**
+     * 아이디를 {@code shardCount}로 나눈 나머지가 {@code shard}인 결제 중에서,
+     * 아이디 순으로 {@code lastPaymentId}보다 큰 결제를 최대 {@code limit}건 조회한다.
+     */
+    List<Payment> findInconclusivePayments(
+            PaymentMethod method,
+            List<PaymentStatus> statuses,
+            int shard,
+            int shardCount,
+            @Nullable Long lastPaymentId,
+            int limit
+    );
+
+    long countInconclusivePayments(PaymentMethod method, List<PaymentStatus> statuses);
 
     Payment save(Payment payment);
 
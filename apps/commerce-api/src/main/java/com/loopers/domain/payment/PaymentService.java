@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -25,7 +26,9 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     @Delegate
     private final PaymentAttemptManager paymentAttemptManager;
-    private final PaymentGateway paymentGateway;
+    private final AsyncPaymentGateway paymentGateway;
+    private final PaymentReconcileCheckpointRepository reconcileCheckpointRepository;
+    private final PaymentTransactionCache transactionCache;
 
     private final ApplicationEventPublisher eventPublisher;
 
@@ -43,19 +46,48 @@ public class PaymentService {
     }
 
     @ReadOnlyTransactional
-    public PaymentResult.GetInconclusivePayments getInconclusivePayments(PaymentMethod method) {
-        List<PaymentStatus> statuses = Arrays.stream(PaymentStatus.values())
-                .filter(not(PaymentStatus::isConcluding))
-                .toList();
-        List<Payment> payments = paymentRepository.findInconclusivePayments(method, statuses);
+    public PaymentResult.GetInconclusivePayments getInconclusivePayments(PaymentCommand.GetInconclusivePayments command) {
+        List<Payment> payments = paymentRepository.findInconclusivePayments(
+                command.getMethod(),
+                inconclusiveStatuses(),
+                command.getShard(),
+                command.getShardCount(),
+                command.getLastPaymentId(),
+                command.getSize()
+        );
 
         return PaymentResult.GetInconclusivePayments.from(payments);
     }
 
     @ReadOnlyTransactional
+    public long countInconclusivePayments(PaymentMethod method) {
+        return paymentRepository.countInconclusivePayments(method, inconclusiveStatuses());
+    }
+
+    public Optional<Long> getReconcileCheckpoint(int shard) {
+        return reconcileCheckpointRepository.find(shard);
+    }
+
+    public void saveReconcileCheckpoint(int shard, Long lastPaymentId) {
+        reconcileCheckpointRepository.save(shard, lastPaymentId);
+    }
+
+    public void clearReconcileCheckpoint(int shard) {
+        reconcileCheckpointRepository.clear(shard);
+    }
+
+    /**
+     * PG 를 호출하는 동안 커넥션을 잡지 않도록, 트랜잭션 없이 조회한다.
+     * 확정된 거래는 보관하여, 곧이어 {@link #verify}로 확인할 때 PG 를 다시 호출하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<PaymentResult.GetTransactions> getTransactions(UUID orderId) {
         return paymentGateway.findTransactions(orderId)
-                .map(response -> PaymentResult.GetTransactions.from(response.transactions()));
+                .join()
+                .map(response -> {
+                    response.transactions().forEach(tx -> transactionCache.put(orderId, tx));
+                    return PaymentResult.GetTransactions.from(response.transactions());
+                });
     }
 
     @Transactional
@@ -113,20 +145,33 @@ public class PaymentService {
         return PaymentResult.Fail.from(payment);
     }
 
-    @Transactional
-    public PaymentResult.Conclude conclude(PaymentCommand.Conclude command) {
-        PaymentGateway.Response.GetTransactions.Transaction transaction = paymentGateway.findTransactions(command.getOrderId())
-                .map(PaymentGateway.Response.GetTransactions::transactions)
-                .stream()
-                .flatMap(Collection::stream)
-                .filter(tx -> tx.transactionKey().equals(command.getTransactionKey()))
-                .findFirst()
+    /**
+     * 결제 확정 1단계: 받은 거래 결과가 PG 의 거래와 일치하는지 확인한다.
+     * <p>
+     * PG 응답이 느려도 커넥션과 행 잠금을 잡고 있지 않도록, 트랜잭션 밖에서 확인한다.
+     * 확정된 거래는 잠시 보관하므로, 같은 거래를 다시 확인하면 PG 를 호출하지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void verify(PaymentCommand.Conclude command) {
+        PaymentGateway.Response.GetTransactions.Transaction transaction = transactionCache
+                .find(command.getOrderId(), command.getTransactionKey())
+                .or(() -> findTransaction(command.getOrderId(), command.getTransactionKey()))
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND, "거래 건을 찾을 수 없습니다."));
 
         PaymentGateway.Status status = PaymentGateway.Status.valueOf(command.getStatus());
         if (status != transaction.status()) {
             throw new BusinessException(CommonErrorType.CONFLICT, "거래 상태가 일치하지 않습니다.");
         }
+    }
+
+    /**
+     * 결제 확정 2단계: {@link #verify}로 확인한 거래 결과를 결제에 반영한다.
+     * <p>
+     * PG 를 호출하지 않으므로, 결제 행의 잠금은 상태를 바꾸는 동안만 잡는다.
+     */
+    @Transactional
+    public PaymentResult.Conclude conclude(PaymentCommand.Conclude command) {
+        PaymentGateway.Status status = PaymentGateway.Status.valueOf(command.getStatus());
 
         Payment payment = paymentRepository.findPaymentForUpdate(command.getOrderId())
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND, "결제 건을 찾을 수 없습니다."));
@@ -168,4 +213,25 @@ public class PaymentService {
         return PaymentResult.Conclude.from(payment);
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    private Optional<PaymentGateway.Response.GetTransactions.Transaction> findTransaction(UUID orderId, String transactionKey) {
+        Optional<PaymentGateway.Response.GetTransactions.Transaction> transaction = paymentGateway.findTransactions(orderId)
+                .join()
+                .map(PaymentGateway.Response.GetTransactions::transactions)
+                .stream()
+                .flatMap(Collection::stream)
+                .filter(tx -> tx.transactionKey().equals(transactionKey))
+                .findFirst();
+        transaction.ifPresent(tx -> transactionCache.put(orderId, tx));
+
+        return transaction;
+    }
+
+    private static List<PaymentStatus> inconclusiveStatuses() {
+        return Arrays.stream(PaymentStatus.values())
+                .filter(not(PaymentStatus::isConcluding))
+                .toList();
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.loopers.domain.payment;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * PG 에서 확인한 거래를 잠시 보관하여, 같은 거래를 곧바로 다시 확인할 때 PG 를 호출하지 않게 한다.
+ * <p>
+ * 확정된 거래는 상태가 다시 바뀌지 않으므로, 확정된 거래만 보관한다.
+ */
+public interface PaymentTransactionCache {
+
+    Optional<PaymentGateway.Response.GetTransactions.Transaction> find(UUID orderId, String transactionKey);
+
+    void put(UUID orderId, PaymentGateway.Response.GetTransactions.Transaction transaction);
+
+}
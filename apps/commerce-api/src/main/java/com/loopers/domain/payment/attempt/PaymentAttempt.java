@@ -1,6 +1,7 @@
 package com.loopers.domain.payment.attempt;
 
 import com.loopers.config.jpa.converter.AttemptStepConverter;
+import com.loopers.config.jpa.id.Tsid;
 import com.loopers.domain.BaseEntity;
 import com.loopers.domain.payment.attribute.AttemptStep;
 import com.loopers.support.error.BusinessException;
@@ -32,7 +33,7 @@ public class PaymentAttempt extends BaseEntity {
      * 아이디
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "payment_attempt_id", nullable = false, updatable = false)
     private Long id;
 
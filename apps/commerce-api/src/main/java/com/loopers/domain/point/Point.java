@@ -40,7 +40,7 @@ public class Point extends BaseEntity {
 
     // -------------------------------------------------------------------------------------------------
 
-    private static final long MAX_BALANCE = 100_000_000L;
+    static final long MAX_BALANCE = 100_000_000L;
 
     @Builder
     private Point(Long balance, Long userId) {
@@ -62,10 +62,7 @@ public class Point extends BaseEntity {
     }
 
     public void charge(long amount) {
-        if (amount <= 0) {
-            throw new BusinessException(CommonErrorType.INVALID,
-                    "0 이하의 값으로 포인트를 충전할 수 없습니다.");
-        }
+        validateChargeAmount(amount);
 
         long increaseBalance = this.balance + amount;
         if (increaseBalance > MAX_BALANCE) {
@@ -76,10 +73,7 @@ public class Point extends BaseEntity {
     }
 
     public void spend(long amount) {
-        if (amount <= 0) {
-            throw new BusinessException(CommonErrorType.INVALID,
-                    "0 이하의 값으로 포인트를 차감할 수 없습니다.");
-        }
+        validateSpendAmount(amount);
 
         long decreasedBalance = this.balance - amount;
         if (decreasedBalance < 0) {
@@ -89,4 +83,25 @@ public class Point extends BaseEntity {
         this.balance = decreasedBalance;
     }
 
+    /**
+     * 엔티티를 조회하지 않고 조건부 UPDATE 로 충전할 때도 같은 기준으로 검증한다.
+     * 최대 잔액은 UPDATE 의 조건으로 검사한다.
+     */
+    static void validateChargeAmount(Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 포인트를 충전할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 엔티티를 조회하지 않고 조건부 UPDATE 로 사용할 때도 같은 기준으로 검증한다.
+     */
+    static void validateSpendAmount(Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 포인트를 차감할 수 없습니다.");
+        }
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.loopers.domain.point;
 
 import com.loopers.config.jpa.converter.CauseConverter;
+import com.loopers.config.jpa.id.Tsid;
 import com.loopers.domain.BaseEntity;
 import com.loopers.domain.point.attribute.Cause;
 import com.loopers.support.error.BusinessException;
@@ -21,7 +22,7 @@ public class PointHistory extends BaseEntity {
      * 아이디
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
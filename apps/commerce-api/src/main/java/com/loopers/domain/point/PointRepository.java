@@ -11,6 +11,21 @@ public interface PointRepository {
 
     boolean existsPointByUserId(Long userId);
 
+    /**
+     * 충전 후 잔액이 {@code maxBalance} 이하일 때만 잠금 없이 한 문장으로 충전한다.
+     */
+    boolean chargeBalance(Long userId, long amount, long maxBalance);
+
+    /**
+     * 잔액이 충분할 때만 잠금 없이 한 문장으로 차감한다.
+     */
+    boolean spendBalance(Long userId, long amount);
+
+    /**
+     * 조건부 UPDATE 이후에, 영속성 컨텍스트에 남은 값 대신 DB 의 현재 값으로 조회한다.
+     */
+    Optional<Point> findOneRefreshed(Long userId);
+
     List<PointHistory> findPointHistoriesByUserId(Long userId);
 
     Point savePoint(Point point);
@@ -1,7 +1,9 @@
 package com.loopers.domain.point;
 
 import com.loopers.annotation.ReadOnlyTransactional;
+import com.loopers.config.jpa.GuardedUpdateProperties;
 import com.loopers.domain.point.attribute.Cause;
+import com.loopers.domain.point.error.PointErrorType;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import java.util.Optional;
 public class PointService {
 
     private final PointRepository pointRepository;
+    private final GuardedUpdateProperties guardedUpdateProperties;
 
     @ReadOnlyTransactional
     public Optional<PointResult.GetPoint> getPoint(Long userId) {
@@ -49,11 +52,27 @@ public class PointService {
         Long userId = command.getUserId();
         Long amount = command.getAmount();
 
-        Point point = pointRepository.findOneForUpdate(userId)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
-
-        point.charge(amount);
-        pointRepository.savePoint(point);
+        Point point;
+        if (guardedUpdateProperties.enabled()) {
+            Point.validateChargeAmount(amount);
+            if (!pointRepository.chargeBalance(userId, amount, Point.MAX_BALANCE)) {
+                // 실패한 경우에만 원인을 구분하기 위해 조회한다.
+                if (!pointRepository.existsPointByUserId(userId)) {
+                    throw new BusinessException(CommonErrorType.NOT_FOUND);
+                }
+
+                throw new BusinessException(PointErrorType.EXCESSIVE);
+            }
+
+            point = pointRepository.findOneRefreshed(userId)
+                    .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+        } else {
+            point = pointRepository.findOneForUpdate(userId)
+                    .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+
+            point.charge(amount);
+            pointRepository.savePoint(point);
+        }
 
         PointHistory history = PointHistory.builder()
                 .userId(userId)
@@ -70,11 +89,27 @@ public class PointService {
         Long userId = command.getUserId();
         Long amount = command.getAmount();
 
-        Point point = pointRepository.findOneForUpdate(userId)
-                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
-
-        point.spend(amount);
-        pointRepository.savePoint(point);
+        Point point;
+        if (guardedUpdateProperties.enabled()) {
+            Point.validateSpendAmount(amount);
+            if (!pointRepository.spendBalance(userId, amount)) {
+                // 실패한 경우에만 원인을 구분하기 위해 조회한다.
+                if (!pointRepository.existsPointByUserId(userId)) {
+                    throw new BusinessException(CommonErrorType.NOT_FOUND);
+                }
+
+                throw new BusinessException(PointErrorType.NOT_ENOUGH);
+            }
+
+            point = pointRepository.findOneRefreshed(userId)
+                    .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+        } else {
+            point = pointRepository.findOneForUpdate(userId)
+                    .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
+
+            point.spend(amount);
+            pointRepository.savePoint(point);
+        }
 
         PointHistory history = PointHistory.builder()
                 .userId(userId)
@@ -1,23 +1,40 @@
 package com.loopers.domain.product;
 
-import org.springframework.data.domain.Page;
+import com.loopers.support.cache.CacheAside;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductCacheRepository {
 
-    Page<ProductQueryResult.Products> searchProducts(ProductQueryCommand.SearchProducts command);
+    /**
+     * 검색 조건에 해당하는 상품 아이디 목록 중, 요청한 페이지 구간만 조회한다.
+     */
+    Optional<ProductQueryResult.ProductIds> findProductIds(ProductQueryCommand.SearchProducts command);
 
-    void saveProducts(
+    void saveProductIds(
             ProductQueryCommand.SearchProducts command,
-            Page<ProductQueryResult.Products> page
+            ProductQueryResult.ProductIds productIds
     );
 
     Optional<ProductQueryResult.ProductDetail> findDetail(Long productId);
 
+    /**
+     * 캐시에 없는 상품은 결과에서 제외된다.
+     */
+    Map<Long, ProductQueryResult.ProductDetail> findDetails(List<Long> productIds);
+
     void saveDetail(
             Long productId,
             ProductQueryResult.ProductDetail detail
     );
 
+    /**
+     * {@link ProductQueryResult.ProductDetail#EMPTY}는 존재하지 않는 상품으로 저장한다.
+     */
+    void saveDetails(Map<Long, ProductQueryResult.ProductDetail> details);
+
+    CacheAside.LoadLock detailLoadLock(Long productId);
+
 }
@@ -4,7 +4,9 @@ import com.loopers.domain.product.attribute.ProductSearchSortType;
 import lombok.*;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ProductCommand {
@@ -25,6 +27,30 @@ public final class ProductCommand {
 
     // -------------------------------------------------------------------------------------------------
 
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ScrollProducts {
+        @Nullable
+        private final String keyword;
+        @Nullable
+        private final Long brandId;
+        private final ProductSearchSortType sort;
+
+        /**
+         * 이전 응답의 nextCursor (첫 페이지이면 null)
+         */
+        @Nullable
+        private final String cursor;
+        private final Integer size;
+        /**
+         * 전체 개수를 함께 조회할지 여부
+         */
+        private final boolean withCount;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     @Getter
     @Builder
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,4 +83,48 @@ public final class ProductCommand {
         }
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ShardStock {
+        private final Long productOptionId;
+        private final Integer slotCount;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ApplyLikes {
+        /**
+         * 상품 아이디별 좋아요 수 변경량
+         */
+        private final Map<Long, Long> deltas;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class SettleStocks {
+        private final Integer batchSize;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ReconcileStocks {
+        private final Integer batchSize;
+        /**
+         * 직전 대사에서 발견한 차이. 같은 차이가 다시 발견된 옵션만 바로잡는다.
+         */
+        private final Collection<ProductResult.StockDrift> suspects;
+    }
+
 }
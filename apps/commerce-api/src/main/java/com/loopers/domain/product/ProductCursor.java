@@ -0,0 +1,69 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.attribute.ProductSearchSortType;
+import com.loopers.support.error.BusinessException;
+import com.loopers.support.error.CommonErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록의 마지막 위치(정렬 값 + 상품 아이디).
+ * <p>
+ * 클라이언트에는 불투명한 문자열로 전달하고, 다음 조회 시 인덱스의 해당 위치부터 바로 탐색한다.
+ */
+public record ProductCursor(
+        ProductSearchSortType sort,
+        Long productId,
+        String value
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(ProductSearchSortType sort, Long productId, Object value) {
+        return new ProductCursor(sort, productId, String.valueOf(value));
+    }
+
+    public static ProductCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER, 3);
+
+            ProductCursor cursor = new ProductCursor(
+                    ProductSearchSortType.valueOf(tokens[0]),
+                    Long.parseLong(tokens[1]),
+                    tokens[2]
+            );
+
+            // 정렬 값의 형식을 미리 검증한다.
+            switch (cursor.sort()) {
+                case LATEST -> cursor.createdAt();
+                case POPULAR -> cursor.likeCount();
+                case CHEAP -> cursor.basePrice();
+            }
+
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new BusinessException(CommonErrorType.INVALID, "올바르지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + productId + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime createdAt() {
+        return ZonedDateTime.parse(value);
+    }
+
+    public Long likeCount() {
+        return Long.parseLong(value);
+    }
+
+    public Integer basePrice() {
+        return Integer.parseInt(value);
+    }
+
+}
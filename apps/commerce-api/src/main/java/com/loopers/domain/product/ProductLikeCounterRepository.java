@@ -0,0 +1,25 @@
+package com.loopers.domain.product;
+
+import java.util.Optional;
+
+/**
+ * 좋아요 수 변경량을 상품 행을 잠그지 않고 쌓아두었다가, 주기적으로 DB 에 한 번에 반영한다. (write-behind)
+ * <p>
+ * 반영 중인 변경분은 DB 트랜잭션이 커밋된 뒤에 {@link #endFlush(String)}로 지우기 전까지 남아있으므로,
+ * 노드가 중간에 죽더라도 다음 주기에 같은 아이디로 다시 반영을 시도한다.
+ */
+public interface ProductLikeCounterRepository {
+
+    void increase(Long productId, long delta);
+
+    /**
+     * 끝나지 않은 반영분이 있으면 그것을, 없으면 지금까지 쌓인 변경량을 {@code flushId}로 옮겨서 반환한다.
+     */
+    Optional<ProductLikeFlush> beginFlush(String flushId);
+
+    /**
+     * DB 에 반영한 변경분을 지운다. 다른 노드가 이미 지웠다면 아무것도 하지 않는다.
+     */
+    void endFlush(String flushId);
+
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+/**
+ * DB 에 한 번에 반영할 좋아요 수 변경분.
+ *
+ * @param flushId 반영 단위의 아이디. 같은 변경분을 두 번 반영하지 않도록 인박스에 기록한다.
+ * @param deltas  상품 아이디별 좋아요 수 변경량
+ */
+public record ProductLikeFlush(
+        String flushId,
+        Map<Long, Long> deltas
+) {
+}
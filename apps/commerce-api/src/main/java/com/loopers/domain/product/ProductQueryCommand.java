@@ -18,4 +18,21 @@ public final class ProductQueryCommand {
         private final Integer size;
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ScrollProducts {
+        private final String keyword;
+        private final Long brandId;
+        private final ProductSearchSortType sort;
+
+        /**
+         * 첫 페이지이면 null
+         */
+        private final ProductCursor cursor;
+        private final Integer size;
+    }
+
 }
@@ -12,6 +12,35 @@ public record ProductQueryResult() {
             Long brandId,
             String brandName
     ) {
+        public static Products from(ProductDetail detail) {
+            return new Products(
+                    detail.productId(),
+                    detail.productName(),
+                    detail.basePrice(),
+                    detail.likeCount(),
+                    detail.brandId(),
+                    detail.brandName()
+            );
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    public record ProductIds(
+            List<Long> productIds,
+            Long totalItems
+    ) {
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    public record ScrolledProducts(
+            List<Products> items,
+            ProductCursor nextCursor
+    ) {
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
     }
 
     // -------------------------------------------------------------------------------------------------
@@ -54,4 +83,16 @@ public record ProductQueryResult() {
         }
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 슬롯으로 나누어진 재고의 요약.
+     */
+    public record StockSlots(
+            Long productOptionId,
+            Integer slotCount,
+            Integer quantity
+    ) {
+    }
+
 }
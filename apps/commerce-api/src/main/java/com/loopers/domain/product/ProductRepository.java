@@ -2,21 +2,121 @@ package com.loopers.domain.product;
 
 import org.springframework.data.domain.Page;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
 
     Page<ProductQueryResult.Products> searchProducts(ProductQueryCommand.SearchProducts command);
 
+    List<Long> searchProductIds(ProductQueryCommand.SearchProducts command, int limit);
+
+    List<ProductQueryResult.Products> findProducts(List<Long> productIds);
+
+    ProductQueryResult.ScrolledProducts scrollProducts(ProductQueryCommand.ScrollProducts command);
+
+    long countProducts(String keyword, Long brandId);
+
     Optional<ProductQueryResult.ProductDetail> findDetail(Long productId);
 
+    /**
+     * 존재하지 않는 상품은 결과에서 제외된다.
+     */
+    Map<Long, ProductQueryResult.ProductDetail> findDetails(List<Long> productIds);
+
     Optional<ProductQueryResult.ProductOptions> findOptions(List<Long> productOptionIds);
 
     Optional<Product> findProductForUpdate(Long productId);
 
+    /**
+     * 여러 상품의 좋아요 수를 잠금 없이 한 문장으로 변경한다. 좋아요 수는 0 미만으로 내려가지 않는다.
+     *
+     * @param deltas 상품 아이디별 좋아요 수 변경량
+     * @return 변경된 상품 수
+     */
+    int addLikeCounts(Map<Long, Long> deltas);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 DB 의 현재 좋아요 수를 조회한다.
+     */
+    Map<Long, Long> findLikeCounts(List<Long> productIds);
+
     List<ProductStock> findStocksForUpdate(List<Long> productOptionIds);
 
+    List<ProductStock> findStocks(List<Long> productOptionIds);
+
+    /**
+     * 상품 옵션 아이디 순으로 {@code lastProductOptionId} 다음부터 조회한다.
+     */
+    List<ProductStock> findStocksAfter(Long lastProductOptionId, int limit);
+
+    /**
+     * 수량이 충분할 때만 잠금 없이 한 문장으로 차감한다.
+     */
+    boolean deductStockQuantity(Long productOptionId, int amount);
+
+    /**
+     * 모든 옵션의 수량이 충분할 때만 잠금 없이 한 문장으로 차감한다.
+     *
+     * @param amounts 상품 옵션 아이디별 차감량
+     * @return 차감된 재고의 수. 요청한 옵션 수보다 적으면 호출한 트랜잭션을 롤백해야 한다.
+     */
+    int deductStockQuantities(Map<Long, Integer> amounts);
+
+    /**
+     * 잠금 없이 한 문장으로 증가한다.
+     *
+     * @param amounts 상품 옵션 아이디별 증가량
+     * @return 증가된 재고의 수
+     */
+    int addStockQuantities(Map<Long, Integer> amounts);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 DB 의 현재 수량을 조회한다.
+     */
+    Map<Long, Integer> findStockQuantities(List<Long> productOptionIds);
+
+    /**
+     * 슬롯으로 나누어진 옵션만 조회된다.
+     */
+    Map<Long, ProductQueryResult.StockSlots> findStockSlots(List<Long> productOptionIds);
+
+    List<ProductStockSlot> findStockSlotsForUpdate(Long productOptionId);
+
+    /**
+     * 슬롯의 수량이 충분할 때만 잠금 없이 한 문장으로 차감한다.
+     */
+    boolean deductStockSlotQuantity(Long productOptionId, int slotNo, int amount);
+
+    void addStockSlotQuantity(Long productOptionId, int slotNo, int amount);
+
+    List<ProductStockSlot> saveStockSlots(List<ProductStockSlot> slots);
+
+    void deleteStockSlots(Long productOptionId);
+
+    List<ProductStockDeduction> saveDeductions(List<ProductStockDeduction> deductions);
+
+    /**
+     * 다른 노드가 정산 중인 차감분과 정산에 실패한 차감분은 건너뛴다.
+     */
+    List<ProductStockDeduction> findDeductionsForSettlement(int limit);
+
+    void markDeductionsFailed(List<Long> deductionIds, ZonedDateTime failedAt);
+
+    /**
+     * 정산에 실패한 차감분을 모두 다시 정산 대상으로 돌려놓고, 돌려놓은 수를 반환한다.
+     */
+    int resetFailedDeductions();
+
+    /**
+     * 옵션별로 정산되지 않은 차감 수량의 합을 구한다. 차감분이 없는 옵션은 제외된다.
+     */
+    Map<Long, Integer> sumUnsettledDeductions(List<Long> productOptionIds);
+
+    void deleteDeductions(List<Long> deductionIds);
+
     Product saveProduct(Product product);
 
     List<ProductStock> saveStocks(List<ProductStock> stocks);
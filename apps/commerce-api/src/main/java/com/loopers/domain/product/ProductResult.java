@@ -1,6 +1,7 @@
 package com.loopers.domain.product;
 
 import lombok.*;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
@@ -53,6 +54,51 @@ public final class ProductResult {
 
     // -------------------------------------------------------------------------------------------------
 
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ScrollProducts {
+        @Nullable
+        private final String nextCursor;
+        private final Boolean hasNext;
+        /**
+         * 요청 시 withCount가 false이면 null
+         */
+        @Nullable
+        private final Long totalItems;
+        private final Integer size;
+        private final List<SearchProducts.Item> items;
+
+        public static ScrollProducts from(
+                ProductQueryResult.ScrolledProducts scrolled,
+                @Nullable
+                Long totalItems,
+                Integer size
+        ) {
+            return builder()
+                    .nextCursor(scrolled.hasNext() ? scrolled.nextCursor().encode() : null)
+                    .hasNext(scrolled.hasNext())
+                    .totalItems(totalItems)
+                    .size(size)
+                    .items(scrolled.items()
+                            .stream()
+                            .map(content -> SearchProducts.Item.builder()
+                                    .productId(content.productId())
+                                    .productName(content.productName())
+                                    .basePrice(content.basePrice())
+                                    .likeCount(content.likeCount())
+                                    .brandId(content.brandId())
+                                    .brandName(content.brandName())
+                                    .build()
+                            )
+                            .toList()
+                    )
+                    .build();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     public record GetProductDetail(
             Long productId,
             String productName,
@@ -127,4 +173,46 @@ public final class ProductResult {
         }
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * @param settled 재고에 반영한 차감분 수
+     * @param failed  재고가 부족하여 반영하지 못하고 정산 대상에서 뺀 차감분 수
+     */
+    public record SettleStocks(
+            int settled,
+            int failed
+    ) {
+        public static final SettleStocks EMPTY = new SettleStocks(0, 0);
+
+        public int processed() {
+            return settled + failed;
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * @param drifts         이번 대사에서 발견한 차이
+     * @param correctedCount DB 기준으로 바로잡은 카운터 수
+     */
+    public record ReconcileStocks(
+            List<StockDrift> drifts,
+            int correctedCount
+    ) {
+    }
+
+    /**
+     * 재고 카운터와 DB 사이의 차이.
+     *
+     * @param cached   Redis 카운터 값
+     * @param expected {@code product_stocks.quantity - 정산되지 않은 차감분}
+     */
+    public record StockDrift(
+            Long productOptionId,
+            Integer cached,
+            Integer expected
+    ) {
+    }
+
 }
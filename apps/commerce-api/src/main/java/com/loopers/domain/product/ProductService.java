@@ -1,31 +1,53 @@
 package com.loopers.domain.product;
 
 import com.loopers.annotation.ReadOnlyTransactional;
+import com.loopers.config.jpa.GuardedUpdateProperties;
+import com.loopers.config.product.LikeWriteBehindProperties;
+import com.loopers.config.product.StockReservationProperties;
+import com.loopers.domain.product.error.ProductErrorType;
 import com.loopers.domain.product.event.ProductEvent;
 import com.loopers.support.cache.CacheAside;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+    /**
+     * 검색 조건마다 캐싱하는 상품 아이디의 최대 개수 (20개씩 50페이지)
+     */
+    private static final int CACHED_SEARCH_RESULT_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final ProductCacheRepository productCacheRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockReservationProperties stockReservationProperties;
+    private final GuardedUpdateProperties guardedUpdateProperties;
+    private final ProductLikeCounterRepository productLikeCounterRepository;
+    private final LikeWriteBehindProperties likeWriteBehindProperties;
     private final ApplicationEventPublisher eventPublisher;
 
     @ReadOnlyTransactional
@@ -38,22 +60,50 @@ public class ProductService {
                 .size(command.getSize())
                 .build();
 
-        Page<ProductQueryResult.Products> page = productCacheRepository.searchProducts(queryCommand);
+        PageRequest pageRequest = PageRequest.of(command.getPage(), command.getSize());
 
-        // Cache Hit
-        if (page.hasContent()) {
+        // 캐싱하는 범위를 벗어난 페이지는 DB에서 바로 검색한다.
+        if (pageRequest.getOffset() + pageRequest.getPageSize() > CACHED_SEARCH_RESULT_SIZE) {
+            Page<ProductQueryResult.Products> page = productRepository.searchProducts(queryCommand);
             return ProductResult.SearchProducts.from(page);
         }
 
-        // Cache Miss
-        page = productRepository.searchProducts(queryCommand);
-        if (page.hasContent()) {
-            productCacheRepository.saveProducts(queryCommand, page);
-        }
+        ProductQueryResult.ProductIds productIds = productCacheRepository.findProductIds(queryCommand)
+                .orElseGet(() -> loadProductIds(queryCommand, pageRequest));
+
+        List<ProductQueryResult.Products> products = hydrateProducts(productIds.productIds());
+        Page<ProductQueryResult.Products> page = new PageImpl<>(products, pageRequest, productIds.totalItems());
 
         return ProductResult.SearchProducts.from(page);
     }
 
+    @ReadOnlyTransactional
+    public ProductResult.ScrollProducts scrollProducts(ProductCommand.ScrollProducts command) {
+        ProductCursor cursor = StringUtils.hasText(command.getCursor())
+                ? ProductCursor.decode(command.getCursor())
+                : null;
+
+        // 정렬 기준이 바뀌면 커서의 위치가 의미를 잃는다.
+        if (cursor != null && cursor.sort() != command.getSort()) {
+            throw new BusinessException(CommonErrorType.INVALID, "커서의 정렬 기준이 요청과 다릅니다.");
+        }
+
+        ProductQueryCommand.ScrollProducts queryCommand = ProductQueryCommand.ScrollProducts.builder()
+                .keyword(command.getKeyword())
+                .brandId(command.getBrandId())
+                .sort(command.getSort())
+                .cursor(cursor)
+                .size(command.getSize())
+                .build();
+
+        ProductQueryResult.ScrolledProducts scrolled = productRepository.scrollProducts(queryCommand);
+        Long totalItems = command.isWithCount()
+                ? productRepository.countProducts(command.getKeyword(), command.getBrandId())
+                : null;
+
+        return ProductResult.ScrollProducts.from(scrolled, totalItems, command.getSize());
+    }
+
     @ReadOnlyTransactional
     public Optional<ProductResult.GetProductDetail> getProductDetail(Long productId) {
         if (productId == null) {
@@ -65,10 +115,45 @@ public class ProductService {
                 .isNullObject(detail -> Objects.equals(detail, ProductQueryResult.ProductDetail.EMPTY))
                 .lookupFallback(() -> productRepository.findDetail(productId))
                 .saveCache(detail -> productCacheRepository.saveDetail(productId, detail))
+                // 인기 상품의 캐시가 만료될 때, 상세 조회 쿼리가 몰리지 않도록 적재를 하나로 합친다.
+                .coalesce("product.detail", productId)
+                .withLock(productCacheRepository.detailLoadLock(productId))
                 .getAsOptional()
                 .map(ProductResult.GetProductDetail::from);
     }
 
+    /**
+     * 여러 상품의 상세 정보를 요청한 순서대로 조회한다. 존재하지 않는 상품은 제외된다.
+     * <p>
+     * 캐시는 한 번의 왕복으로 조회하고, 캐시에 없는 상품만 하나의 쿼리로 조회하여 다시 캐시에 적재한다.
+     */
+    @ReadOnlyTransactional
+    public List<ProductResult.GetProductDetail> getProductDetails(List<Long> productIds) {
+        if (CollectionUtils.isEmpty(productIds)) {
+            return List.of();
+        }
+
+        Map<Long, ProductQueryResult.ProductDetail> details = new HashMap<>(productCacheRepository.findDetails(productIds));
+        List<Long> misses = productIds.stream()
+                .distinct()
+                .filter(productId -> !details.containsKey(productId))
+                .toList();
+
+        if (!misses.isEmpty()) {
+            Map<Long, ProductQueryResult.ProductDetail> loaded = new HashMap<>(productRepository.findDetails(misses));
+            // 존재하지 않는 상품도 캐시하여 캐시 관통을 방지한다.
+            misses.forEach(productId -> loaded.putIfAbsent(productId, ProductQueryResult.ProductDetail.EMPTY));
+            productCacheRepository.saveDetails(loaded);
+            details.putAll(loaded);
+        }
+
+        return productIds.stream()
+                .map(details::get)
+                .filter(detail -> !Objects.equals(detail, ProductQueryResult.ProductDetail.EMPTY))
+                .map(ProductResult.GetProductDetail::from)
+                .toList();
+    }
+
     @ReadOnlyTransactional
     public Optional<ProductResult.GetProductOptions> getProductOptions(List<Long> productOptionIds) {
         if (CollectionUtils.isEmpty(productOptionIds)) {
@@ -81,6 +166,12 @@ public class ProductService {
 
     @Transactional
     public void like(Long productId) {
+        // 상품 행을 잠그지 않고 변경량만 쌓아두며, 주기적으로 applyLikes 로 반영한다.
+        if (likeWriteBehindProperties.enabled()) {
+            productLikeCounterRepository.increase(productId, 1);
+            return;
+        }
+
         Product product = productRepository.findProductForUpdate(productId)
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
 
@@ -92,6 +183,11 @@ public class ProductService {
 
     @Transactional
     public void dislike(Long productId) {
+        if (likeWriteBehindProperties.enabled()) {
+            productLikeCounterRepository.increase(productId, -1);
+            return;
+        }
+
         Product product = productRepository.findProductForUpdate(productId)
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
 
@@ -101,6 +197,46 @@ public class ProductService {
         eventPublisher.publishEvent(ProductEvent.LikeChanged.from(product));
     }
 
+    /**
+     * 쌓인 좋아요 수 변경량을 반영 대상으로 옮긴다. 끝나지 않은 반영분이 있으면 그것을 다시 반환한다.
+     */
+    public Optional<ProductLikeFlush> beginLikeFlush() {
+        return productLikeCounterRepository.beginFlush(UUID.randomUUID().toString());
+    }
+
+    /**
+     * 여러 상품의 좋아요 수 변경량을 {@code flushBatchSize}개씩 한 문장으로 반영하고, 반영된 좋아요 수로 이벤트를 발행한다.
+     * 문장 하나가 너무 커지지 않도록 나누되, 변경분 전체를 한 트랜잭션으로 반영한다.
+     */
+    @Transactional
+    public void applyLikes(ProductCommand.ApplyLikes command) {
+        Map<Long, Long> deltas = command.getDeltas();
+        if (CollectionUtils.isEmpty(deltas)) {
+            return;
+        }
+
+        List<Long> productIds = List.copyOf(deltas.keySet());
+        int batchSize = likeWriteBehindProperties.flushBatchSize();
+        for (int from = 0; from < productIds.size(); from += batchSize) {
+            List<Long> batch = productIds.subList(from, Math.min(from + batchSize, productIds.size()));
+
+            Map<Long, Long> batchDeltas = new LinkedHashMap<>();
+            batch.forEach(productId -> batchDeltas.put(productId, deltas.get(productId)));
+            productRepository.addLikeCounts(batchDeltas);
+
+            productRepository.findLikeCounts(batch)
+                    .forEach((productId, likeCount) ->
+                            eventPublisher.publishEvent(new ProductEvent.LikeChanged(productId, likeCount)));
+        }
+    }
+
+    /**
+     * DB 에 반영한 좋아요 수 변경량을 지운다.
+     */
+    public void endLikeFlush(String flushId) {
+        productLikeCounterRepository.endFlush(flushId);
+    }
+
     @Transactional
     public void addStocks(ProductCommand.AddStocks command) {
         List<ProductCommand.AddStocks.Item> items = command.getItems();
@@ -112,6 +248,329 @@ public class ProductService {
             throw new BusinessException(CommonErrorType.INVALID, "중복된 상품 옵션 아이디가 있습니다.");
         }
 
+        // 슬롯으로 나누어진 옵션은 재고 행을 잠그지 않고 슬롯 하나에만 더한다.
+        Map<Long, ProductQueryResult.StockSlots> slotMap = productRepository.findStockSlots(items.stream()
+                .map(ProductCommand.AddStocks.Item::getProductOptionId)
+                .toList());
+        List<ProductCommand.AddStocks.Item> shardedItems = items.stream()
+                .filter(item -> slotMap.containsKey(item.getProductOptionId()))
+                .toList();
+        List<ProductCommand.AddStocks.Item> stockItems = items.stream()
+                .filter(item -> !slotMap.containsKey(item.getProductOptionId()))
+                .toList();
+
+        if (!stockItems.isEmpty()) {
+            if (guardedUpdateProperties.enabled()) {
+                addGuardedStocks(stockItems);
+            } else {
+                addLockedStocks(stockItems);
+            }
+        }
+
+        for (ProductCommand.AddStocks.Item item : shardedItems) {
+            ProductStock.validateAddAmount(item.getAmount());
+
+            ProductQueryResult.StockSlots slots = slotMap.get(item.getProductOptionId());
+            int slotNo = ThreadLocalRandom.current().nextInt(slots.slotCount());
+            productRepository.addStockSlotQuantity(item.getProductOptionId(), slotNo, item.getAmount());
+        }
+        publishSlotStockChanged(shardedItems.stream().map(ProductCommand.AddStocks.Item::getProductOptionId).toList());
+
+        if (stockReservationProperties.enabled()) {
+            Map<Long, Integer> amounts = items.stream().collect(toMap(
+                    ProductCommand.AddStocks.Item::getProductOptionId,
+                    ProductCommand.AddStocks.Item::getAmount
+            ));
+            // 커밋되기 전에 더하면, 롤백됐을 때 없는 재고를 팔게 된다.
+            // 커밋 직전의 세대를 기억해두어, 그 사이에 다시 적재되어 입고분이 이미 반영된 카운터에는 더하지 않는다.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private Map<Long, String> generations = Map.of();
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    generations = stockReservationRepository.findGenerations(List.copyOf(amounts.keySet()));
+                }
+
+                @Override
+                public void afterCommit() {
+                    stockReservationRepository.add(amounts, generations);
+                }
+            });
+        }
+    }
+
+    @Transactional
+    public void deductStocks(ProductCommand.DeductStocks command) {
+        List<ProductCommand.DeductStocks.Item> items = command.getItems();
+        if (CollectionUtils.isEmpty(items)) {
+            return;
+        }
+
+        if (items.stream().map(ProductCommand.DeductStocks.Item::getProductOptionId).distinct().count() != items.size()) {
+            throw new BusinessException(CommonErrorType.INVALID, "중복된 상품 옵션 아이디가 있습니다.");
+        }
+
+        if (stockReservationProperties.enabled()) {
+            try {
+                reserveStocks(items);
+                return;
+            } catch (BusinessException e) {
+                if (e.getErrorType() != ProductErrorType.RESERVATION_UNAVAILABLE) {
+                    throw e;
+                }
+
+                // Redis 에 닿지 못하면 주문을 실패시키지 않고 재고 행에서 바로 차감한다.
+                log.warn("Failed to reserve stocks, deducting from stock rows: {}", e.getMessage());
+                evictStockCountersAfterCommit(items.stream().map(ProductCommand.DeductStocks.Item::getProductOptionId).toList());
+            }
+        }
+
+        // 슬롯으로 나누어진 옵션은 재고 행을 잠그지 않고 슬롯 하나에서만 차감한다.
+        Map<Long, ProductQueryResult.StockSlots> slotMap = productRepository.findStockSlots(items.stream()
+                .map(ProductCommand.DeductStocks.Item::getProductOptionId)
+                .toList());
+        List<ProductCommand.DeductStocks.Item> shardedItems = items.stream()
+                .filter(item -> slotMap.containsKey(item.getProductOptionId()))
+                .toList();
+        List<ProductCommand.DeductStocks.Item> stockItems = items.stream()
+                .filter(item -> !slotMap.containsKey(item.getProductOptionId()))
+                .toList();
+
+        if (!stockItems.isEmpty()) {
+            if (guardedUpdateProperties.enabled()) {
+                deductGuardedStocks(stockItems);
+            } else {
+                deductLockedStocks(stockItems);
+            }
+        }
+
+        for (ProductCommand.DeductStocks.Item item : shardedItems) {
+            ProductStock.validateDeductAmount(item.getAmount());
+
+            ProductQueryResult.StockSlots slots = slotMap.get(item.getProductOptionId());
+            if (!deductStockSlots(item.getProductOptionId(), item.getAmount(), slots.slotCount())) {
+                throw new BusinessException(ProductErrorType.NOT_ENOUGH);
+            }
+        }
+        publishSlotStockChanged(shardedItems.stream().map(ProductCommand.DeductStocks.Item::getProductOptionId).toList());
+    }
+
+    /**
+     * 상품 옵션의 재고를 슬롯으로 나눈다. 슬롯 수가 1이면 다시 하나의 재고 행으로 합친다.
+     * <p>
+     * 주문이 몰리는 것으로 알려진 옵션에만 적용한다.
+     */
+    @Transactional
+    public void shardStock(ProductCommand.ShardStock command) {
+        if (command.getSlotCount() == null || command.getSlotCount() < 1) {
+            throw new BusinessException(CommonErrorType.INVALID, "슬롯 수는 1 이상이어야 합니다.");
+        }
+
+        Long productOptionId = command.getProductOptionId();
+        ProductStock stock = productRepository.findStocksForUpdate(List.of(productOptionId))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND, "상품 재고를 찾을 수 없습니다."));
+
+        // 슬롯을 잠가서 진행 중인 슬롯 차감이 끝난 뒤의 수량을 합친다.
+        stock.unshard(productRepository.findStockSlotsForUpdate(productOptionId));
+        productRepository.deleteStockSlots(productOptionId);
+
+        if (command.getSlotCount() > 1) {
+            productRepository.saveStockSlots(stock.shard(command.getSlotCount()));
+        }
+
+        productRepository.saveStocks(List.of(stock));
+    }
+
+    /**
+     * 정산되지 않은 차감분을 옵션별로 모아서 재고에 반영한다.
+     * <p>
+     * 반영하지 못한 차감분은 정산 실패로 표시하여 다음 배치부터 건너뛴다.
+     * 그대로 두면 아이디 순으로 가져오는 배치의 앞자리를 계속 차지하여, 쌓이는 만큼 다른 옵션의 정산이 멈춘다.
+     */
+    @Transactional
+    public ProductResult.SettleStocks settleStocks(ProductCommand.SettleStocks command) {
+        List<ProductStockDeduction> deductions = productRepository.findDeductionsForSettlement(command.getBatchSize());
+        if (deductions.isEmpty()) {
+            return ProductResult.SettleStocks.EMPTY;
+        }
+
+        // 옵션 아이디 순으로 갱신하여 다른 노드의 정산과 교착 상태에 빠지지 않는다.
+        Map<Long, List<ProductStockDeduction>> deductionMap = deductions.stream()
+                .collect(groupingBy(ProductStockDeduction::getProductOptionId, TreeMap::new, toList()));
+        Map<Long, ProductQueryResult.StockSlots> slotMap = productRepository.findStockSlots(List.copyOf(deductionMap.keySet()));
+
+        List<Long> settledIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        deductionMap.forEach((productOptionId, group) -> {
+            int amount = group.stream().mapToInt(ProductStockDeduction::getAmount).sum();
+            ProductQueryResult.StockSlots slots = slotMap.get(productOptionId);
+            boolean deducted = slots == null
+                    ? productRepository.deductStockQuantity(productOptionId, amount)
+                    : deductStockSlots(productOptionId, amount, slots.slotCount());
+
+            if (deducted) {
+                group.forEach(deduction -> settledIds.add(deduction.getId()));
+            } else {
+                // 카운터가 DB 보다 많이 팔았다. 차감분을 남겨두어 대사에서 드러나게 한다.
+                log.error("Failed to settle stock deductions: productOptionId={}, amount={}", productOptionId, amount);
+                group.forEach(deduction -> failedIds.add(deduction.getId()));
+            }
+        });
+
+        productRepository.deleteDeductions(settledIds);
+        productRepository.markDeductionsFailed(failedIds, ZonedDateTime.now());
+
+        return new ProductResult.SettleStocks(settledIds.size(), failedIds.size());
+    }
+
+    /**
+     * 정산에 실패한 차감분을 다시 정산 대상으로 돌려놓는다. 입고되어 재고가 충분해졌다면 다음 정산에서 반영된다.
+     *
+     * @return 돌려놓은 차감분 수
+     */
+    @Transactional
+    public int retryFailedSettlements() {
+        return productRepository.resetFailedDeductions();
+    }
+
+    /**
+     * 재고 카운터를 DB 기준({@code quantity - 정산되지 않은 차감분})과 비교한다.
+     * <p>
+     * 예약은 했지만 아직 커밋되지 않은 주문이 있으면 일시적으로 차이가 생기므로,
+     * 직전 대사와 같은 차이가 그대로 남아있는 카운터만 바로잡는다.
+     * 레플리카에서 읽으면 복제 지연만큼의 차이를 바로잡게 되므로, {@code ReadYourWrites} 블록 안에서 호출하여 메인에서 읽는다.
+     */
+    @ReadOnlyTransactional
+    public ProductResult.ReconcileStocks reconcileStocks(ProductCommand.ReconcileStocks command) {
+        Set<ProductResult.StockDrift> suspects = command.getSuspects() == null
+                ? Set.of()
+                : Set.copyOf(command.getSuspects());
+
+        List<ProductResult.StockDrift> drifts = new ArrayList<>();
+        int correctedCount = 0;
+        Long lastProductOptionId = 0L;
+
+        while (true) {
+            List<ProductStock> stocks = productRepository.findStocksAfter(lastProductOptionId, command.getBatchSize());
+            if (stocks.isEmpty()) {
+                break;
+            }
+
+            List<Long> productOptionIds = stocks.stream().map(ProductStock::getProductOptionId).toList();
+            Map<Long, Integer> unsettled = productRepository.sumUnsettledDeductions(productOptionIds);
+            Map<Long, ProductQueryResult.StockSlots> slotMap = productRepository.findStockSlots(productOptionIds);
+            Map<Long, Integer> cached = stockReservationRepository.findQuantities(productOptionIds);
+
+            for (ProductStock stock : stocks) {
+                Integer cachedQuantity = cached.get(stock.getProductOptionId());
+                // 적재되지 않은 카운터는 예약할 때 DB 에서 적재한다.
+                if (cachedQuantity == null) {
+                    continue;
+                }
+
+                int expected = totalQuantity(stock, slotMap) - unsettled.getOrDefault(stock.getProductOptionId(), 0);
+                if (cachedQuantity == expected) {
+                    continue;
+                }
+
+                ProductResult.StockDrift drift = new ProductResult.StockDrift(stock.getProductOptionId(), cachedQuantity, expected);
+                drifts.add(drift);
+
+                if (suspects.contains(drift)
+                        && stockReservationRepository.overwrite(drift.productOptionId(), drift.cached(), drift.expected())) {
+                    correctedCount++;
+                }
+            }
+
+            lastProductOptionId = productOptionIds.getLast();
+        }
+
+        return new ProductResult.ReconcileStocks(List.copyOf(drifts), correctedCount);
+    }
+
+    /**
+     * 재고 행을 잠그지 않고 Redis 카운터에서 예약한 뒤, 차감분만 기록한다.
+     * 차감분은 {@link #settleStocks}가 비동기로 재고에 반영한다.
+     */
+    private void reserveStocks(List<ProductCommand.DeductStocks.Item> items) {
+        List<ProductStockDeduction> deductions = items.stream()
+                .map(item -> ProductStockDeduction.builder()
+                        .productOptionId(item.getProductOptionId())
+                        .amount(item.getAmount())
+                        .build())
+                .toList();
+
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        deductions.forEach(deduction -> amounts.put(deduction.getProductOptionId(), deduction.getAmount()));
+
+        StockReservation reservation = stockReservationRepository.reserve(amounts);
+        if (reservation.status() == StockReservation.Status.NOT_LOADED) {
+            loadStockCounters(reservation.missingOptionIds());
+            reservation = stockReservationRepository.reserve(amounts);
+        }
+
+        switch (reservation.status()) {
+            case NOT_LOADED -> throw new BusinessException(CommonErrorType.NOT_FOUND, "상품 재고를 찾을 수 없습니다.");
+            case NOT_ENOUGH -> throw new BusinessException(ProductErrorType.NOT_ENOUGH);
+            case RESERVED -> {
+            }
+        }
+
+        // 주문이 롤백되면 예약한 수량을 되돌리고, 커밋되면 그 사이에 다시 적재된 카운터에서만 다시 뺀다.
+        // 커밋 여부를 알 수 없으면 아무것도 하지 않는다. (적게 파는 쪽으로 어긋나며, 대사가 바로잡는다)
+        Map<Long, String> generations = reservation.generations();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                switch (status) {
+                    case STATUS_COMMITTED -> stockReservationRepository.confirm(amounts, generations);
+                    case STATUS_ROLLED_BACK -> stockReservationRepository.release(amounts, generations);
+                    default -> log.warn("Unknown order transaction status for stock reservation: {}", amounts);
+                }
+            }
+        });
+
+        productRepository.saveDeductions(deductions);
+
+        reservation.quantities().forEach((productOptionId, quantity) ->
+                eventPublisher.publishEvent(ProductEvent.StockChanged.of(productOptionId, quantity)));
+    }
+
+    /**
+     * 카운터를 거치지 않고 차감한 옵션은 카운터가 DB 보다 많아지므로, 커밋한 뒤에 카운터를 지워서 DB 기준으로 다시 적재하게 한다.
+     * 그때도 Redis 에 닿지 못하면 대사가 바로잡는다.
+     */
+    private void evictStockCountersAfterCommit(List<Long> productOptionIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    stockReservationRepository.evict(productOptionIds);
+                } catch (Exception e) {
+                    log.warn("Failed to evict stock counters: (productOptionIds={}, message={})", productOptionIds, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 카운터가 없는 옵션을 DB 기준으로 적재한다.
+     */
+    private void loadStockCounters(List<Long> productOptionIds) {
+        List<ProductStock> stocks = productRepository.findStocks(productOptionIds);
+        Map<Long, Integer> unsettled = productRepository.sumUnsettledDeductions(productOptionIds);
+        Map<Long, ProductQueryResult.StockSlots> slotMap = productRepository.findStockSlots(productOptionIds);
+
+        Map<Long, Integer> quantities = stocks.stream().collect(toMap(
+                ProductStock::getProductOptionId,
+                stock -> totalQuantity(stock, slotMap) - unsettled.getOrDefault(stock.getProductOptionId(), 0)
+        ));
+        stockReservationRepository.loadIfAbsent(quantities);
+    }
+
+    private void addLockedStocks(List<ProductCommand.AddStocks.Item> items) {
         List<Long> productOptionIds = items.stream().map(ProductCommand.AddStocks.Item::getProductOptionId).toList();
         Map<Long, ProductStock> stockMap = productRepository.findStocksForUpdate(productOptionIds)
                 .stream().collect(toMap(ProductStock::getProductOptionId, Function.identity()));
@@ -129,17 +588,24 @@ public class ProductService {
         productRepository.saveStocks(List.copyOf(stockMap.values()));
     }
 
-    @Transactional
-    public void deductStocks(ProductCommand.DeductStocks command) {
-        List<ProductCommand.DeductStocks.Item> items = command.getItems();
-        if (CollectionUtils.isEmpty(items)) {
-            return;
+    /**
+     * 재고 행을 미리 잠그지 않고, 모든 옵션을 하나의 조건부 UPDATE 로 증가한다.
+     */
+    private void addGuardedStocks(List<ProductCommand.AddStocks.Item> items) {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        for (ProductCommand.AddStocks.Item item : items) {
+            ProductStock.validateAddAmount(item.getAmount());
+            amounts.put(item.getProductOptionId(), item.getAmount());
         }
 
-        if (items.stream().map(ProductCommand.DeductStocks.Item::getProductOptionId).distinct().count() != items.size()) {
-            throw new BusinessException(CommonErrorType.INVALID, "중복된 상품 옵션 아이디가 있습니다.");
+        if (productRepository.addStockQuantities(amounts) != amounts.size()) {
+            throw new BusinessException(CommonErrorType.NOT_FOUND, "상품 재고를 찾을 수 없습니다.");
         }
 
+        publishStockChanged(List.copyOf(amounts.keySet()));
+    }
+
+    private void deductLockedStocks(List<ProductCommand.DeductStocks.Item> items) {
         List<Long> productOptionIds = items.stream().map(ProductCommand.DeductStocks.Item::getProductOptionId).toList();
         Map<Long, ProductStock> stockMap = productRepository.findStocksForUpdate(productOptionIds)
                 .stream().collect(toMap(ProductStock::getProductOptionId, Function.identity()));
@@ -157,4 +623,136 @@ public class ProductService {
         productRepository.saveStocks(List.copyOf(stockMap.values()));
     }
 
+    /**
+     * 재고 행을 미리 잠그지 않고, 모든 옵션을 하나의 조건부 UPDATE 로 차감한다.
+     * 일부 옵션만 차감되었다면 예외를 던져서 트랜잭션과 함께 되돌린다.
+     */
+    private void deductGuardedStocks(List<ProductCommand.DeductStocks.Item> items) {
+        Map<Long, Integer> amounts = new LinkedHashMap<>();
+        for (ProductCommand.DeductStocks.Item item : items) {
+            ProductStock.validateDeductAmount(item.getAmount());
+            amounts.put(item.getProductOptionId(), item.getAmount());
+        }
+
+        List<Long> productOptionIds = List.copyOf(amounts.keySet());
+        if (productRepository.deductStockQuantities(amounts) != amounts.size()) {
+            // 실패한 경우에만 원인을 구분하기 위해 조회한다.
+            if (productRepository.findStockQuantities(productOptionIds).size() != productOptionIds.size()) {
+                throw new BusinessException(CommonErrorType.NOT_FOUND, "상품 재고를 찾을 수 없습니다.");
+            }
+
+            throw new BusinessException(ProductErrorType.NOT_ENOUGH);
+        }
+
+        publishStockChanged(productOptionIds);
+    }
+
+    /**
+     * 슬롯은 잠그지 않고 갱신하므로, 갱신하기 전에 읽은 합계로는 다른 주문의 차감분을 놓친다. 갱신한 뒤의 합계를 다시 읽어서 발행한다.
+     */
+    private void publishSlotStockChanged(List<Long> productOptionIds) {
+        if (productOptionIds.isEmpty()) {
+            return;
+        }
+
+        productRepository.findStockSlots(productOptionIds).forEach((productOptionId, slots) ->
+                eventPublisher.publishEvent(ProductEvent.StockChanged.of(productOptionId, slots.quantity())));
+    }
+
+    private void publishStockChanged(List<Long> productOptionIds) {
+        Map<Long, Integer> quantities = productRepository.findStockQuantities(productOptionIds);
+        for (Long productOptionId : productOptionIds) {
+            eventPublisher.publishEvent(ProductEvent.StockChanged.of(productOptionId, quantities.get(productOptionId)));
+        }
+    }
+
+    /**
+     * 임의의 슬롯 하나에서 조건부 UPDATE 로 차감을 시도한다.
+     * 그 슬롯에 충분한 수량이 없으면, 모든 슬롯을 슬롯 번호 순서로 잠그고 나누어 차감한다.
+     * <p>
+     * 실패한 UPDATE 가 잡은 슬롯 락은 트랜잭션이 끝날 때까지 유지되므로, 드물게 교착 상태가 감지되어
+     * 한쪽 트랜잭션이 롤백될 수 있다. 슬롯을 하나만 시도하는 것은 이 범위를 줄이기 위해서이다.
+     *
+     * @return 모든 슬롯을 합쳐도 수량이 부족하면 {@code false}
+     */
+    private boolean deductStockSlots(Long productOptionId, int amount, int slotCount) {
+        int slotNo = ThreadLocalRandom.current().nextInt(slotCount);
+        if (productRepository.deductStockSlotQuantity(productOptionId, slotNo, amount)) {
+            return true;
+        }
+
+        List<ProductStockSlot> slots = productRepository.findStockSlotsForUpdate(productOptionId);
+        if (slots.stream().mapToInt(ProductStockSlot::getQuantity).sum() < amount) {
+            return false;
+        }
+
+        int remaining = amount;
+        for (ProductStockSlot slot : slots) {
+            int deducted = Math.min(slot.getQuantity(), remaining);
+            slot.deduct(deducted);
+            remaining -= deducted;
+        }
+
+        productRepository.saveStockSlots(slots);
+        return true;
+    }
+
+    private static int totalQuantity(ProductStock stock, Map<Long, ProductQueryResult.StockSlots> slotMap) {
+        ProductQueryResult.StockSlots slots = slotMap.get(stock.getProductOptionId());
+        return stock.getQuantity() + (slots == null ? 0 : slots.quantity());
+    }
+
+    /**
+     * 검색 조건의 상품 아이디 목록을 앞에서부터 적재하고, 요청한 페이지 구간을 반환한다.
+     */
+    private ProductQueryResult.ProductIds loadProductIds(
+            ProductQueryCommand.SearchProducts queryCommand,
+            PageRequest pageRequest
+    ) {
+        List<Long> productIds = productRepository.searchProductIds(queryCommand, CACHED_SEARCH_RESULT_SIZE);
+        long totalItems = productIds.size() < CACHED_SEARCH_RESULT_SIZE
+                ? productIds.size()
+                : productRepository.countProducts(queryCommand.getKeyword(), queryCommand.getBrandId());
+
+        productCacheRepository.saveProductIds(queryCommand, new ProductQueryResult.ProductIds(productIds, totalItems));
+
+        int fromIndex = (int) Math.min(pageRequest.getOffset(), productIds.size());
+        int toIndex = Math.min(fromIndex + pageRequest.getPageSize(), productIds.size());
+        return new ProductQueryResult.ProductIds(productIds.subList(fromIndex, toIndex), totalItems);
+    }
+
+    /**
+     * 상품 상세 캐시에서 한 번에 채우고, 캐시에 없는 상품만 DB에서 조회한다.
+     */
+    private List<ProductQueryResult.Products> hydrateProducts(List<Long> productIds) {
+        if (CollectionUtils.isEmpty(productIds)) {
+            return List.of();
+        }
+
+        Map<Long, ProductQueryResult.ProductDetail> details = productCacheRepository.findDetails(productIds);
+        List<Long> misses = productIds.stream()
+                .filter(productId -> !details.containsKey(productId))
+                .toList();
+        Map<Long, ProductQueryResult.Products> loaded = misses.isEmpty()
+                ? Map.of()
+                : productRepository.findProducts(misses)
+                .stream()
+                .collect(toMap(ProductQueryResult.Products::productId, Function.identity()));
+
+        return productIds.stream()
+                .map(productId -> {
+                    ProductQueryResult.ProductDetail detail = details.get(productId);
+                    if (detail == null) {
+                        return loaded.get(productId);
+                    }
+
+                    // 삭제된 상품은 목록에서 제외한다.
+                    return Objects.equals(detail, ProductQueryResult.ProductDetail.EMPTY)
+                            ? null
+                            : ProductQueryResult.Products.from(detail);
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
 }
@@ -10,6 +10,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Entity
 @Table(name = "product_stocks")
@@ -55,19 +58,12 @@ public class ProductStock extends BaseEntity {
     }
 
     public void add(int amount) {
-        if (amount <= 0) {
-            throw new BusinessException(CommonErrorType.INVALID,
-                    "0 이하의 값으로 상품 재고를 증가할 수 없습니다.");
-        }
-
+        validateAddAmount(amount);
         this.quantity += amount;
     }
 
     public void deduct(int amount) {
-        if (amount <= 0) {
-            throw new BusinessException(CommonErrorType.INVALID,
-                    "0 이하의 값으로 상품 재고를 차감할 수 없습니다.");
-        }
+        validateDeductAmount(amount);
 
         int deductedQuantity = this.quantity - amount;
         if (deductedQuantity < 0) {
@@ -77,4 +73,59 @@ public class ProductStock extends BaseEntity {
         this.quantity = deductedQuantity;
     }
 
+    /**
+     * 엔티티를 조회하지 않고 조건부 UPDATE 로 증가할 때도 같은 기준으로 검증한다.
+     */
+    static void validateAddAmount(Integer amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 상품 재고를 증가할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 엔티티를 조회하지 않고 조건부 UPDATE 로 차감할 때도 같은 기준으로 검증한다.
+     */
+    static void validateDeductAmount(Integer amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 상품 재고를 차감할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 현재 수량을 슬롯에 고르게 나누어 옮긴다. 나누어 떨어지지 않는 수량은 앞 슬롯부터 하나씩 더 담는다.
+     */
+    public List<ProductStockSlot> shard(int slotCount) {
+        if (slotCount < 2) {
+            throw new BusinessException(CommonErrorType.INVALID, "슬롯은 2개 이상이어야 합니다.");
+        }
+
+        List<ProductStockSlot> slots = new ArrayList<>(slotCount);
+        for (int slotNo = 0; slotNo < slotCount; slotNo++) {
+            int slotQuantity = this.quantity / slotCount + (slotNo < this.quantity % slotCount ? 1 : 0);
+            slots.add(ProductStockSlot.builder()
+                    .slotNo(slotNo)
+                    .quantity(slotQuantity)
+                    .productOptionId(this.productOptionId)
+                    .build());
+        }
+
+        this.quantity = 0;
+        return slots;
+    }
+
+    /**
+     * 슬롯에 나누어 담긴 수량을 다시 합친다.
+     */
+    public void unshard(List<ProductStockSlot> slots) {
+        for (ProductStockSlot slot : slots) {
+            if (!slot.getProductOptionId().equals(this.productOptionId)) {
+                throw new BusinessException(CommonErrorType.INVALID, "다른 상품 옵션의 슬롯입니다.");
+            }
+
+            this.quantity += slot.getQuantity();
+        }
+    }
+
 }
@@ -0,0 +1,78 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.BusinessException;
+import com.loopers.support.error.CommonErrorType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Redis 에서 예약한 뒤 아직 {@link ProductStock}에 반영하지 않은 재고 차감분.
+ * <p>
+ * 주문 트랜잭션에서는 재고 행을 잠그지 않고 이 행만 추가하며,
+ * 정산 작업이 옵션별로 모아서 한 번에 반영한 뒤 삭제한다.
+ * 반영하지 못한 행은 {@link #failedAt}을 기록하여 정산 대상에서 빼둔다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "product_stock_deductions",
+        indexes = {
+                @Index(columnList = "ref_product_option_id"),
+                @Index(columnList = "failed_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockDeduction extends BaseEntity {
+
+    /**
+     * 아이디
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_stock_deduction_id", nullable = false, updatable = false)
+    private Long id;
+
+    /**
+     * 차감 수량
+     */
+    @Column(name = "amount", nullable = false, updatable = false)
+    private Integer amount;
+
+    /**
+     * 정산 실패 일시 (정산 대상이면 null)
+     */
+    @Column(name = "failed_at")
+    private ZonedDateTime failedAt;
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 상품 옵션 아이디
+     */
+    @Column(name = "ref_product_option_id", nullable = false, updatable = false)
+    private Long productOptionId;
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Builder
+    private ProductStockDeduction(Integer amount, Long productOptionId) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 이하의 값으로 상품 재고를 차감할 수 없습니다.");
+        }
+
+        if (productOptionId == null) {
+            throw new BusinessException(CommonErrorType.INVALID, "상품 옵션 아이디가 올바르지 않습니다.");
+        }
+
+        this.amount = amount;
+        this.productOptionId = productOptionId;
+    }
+
+}
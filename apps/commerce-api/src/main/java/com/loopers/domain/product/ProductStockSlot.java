@@ -0,0 +1,91 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.product.error.ProductErrorType;
+import com.loopers.support.error.BusinessException;
+import com.loopers.support.error.CommonErrorType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 상품 옵션의 재고를 여러 행으로 나누어 담는 슬롯.
+ * <p>
+ * 슬롯이 있는 옵션의 재고는 {@link ProductStock#getQuantity()}와 모든 슬롯 수량의 합이며,
+ * 차감할 때는 슬롯 하나만 갱신하므로 같은 옵션의 주문끼리 한 행을 두고 기다리지 않는다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "product_stock_slots",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"ref_product_option_id", "slot_no"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockSlot extends BaseEntity {
+
+    /**
+     * 아이디
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_stock_slot_id", nullable = false, updatable = false)
+    private Long id;
+
+    /**
+     * 슬롯 번호 (0부터 시작)
+     */
+    @Column(name = "slot_no", nullable = false, updatable = false)
+    private Integer slotNo;
+
+    /**
+     * 슬롯의 재고 수량
+     */
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 상품 옵션 아이디
+     */
+    @Column(name = "ref_product_option_id", nullable = false, updatable = false)
+    private Long productOptionId;
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Builder
+    private ProductStockSlot(Integer slotNo, Integer quantity, Long productOptionId) {
+        if (slotNo == null || slotNo < 0) {
+            throw new BusinessException(CommonErrorType.INVALID, "슬롯 번호는 0 이상이어야 합니다.");
+        }
+
+        if (quantity == null || quantity < 0) {
+            throw new BusinessException(CommonErrorType.INVALID, "상품 재고 수량은 0 이상이어야 합니다.");
+        }
+
+        if (productOptionId == null) {
+            throw new BusinessException(CommonErrorType.INVALID, "상품 옵션 아이디가 올바르지 않습니다.");
+        }
+
+        this.slotNo = slotNo;
+        this.quantity = quantity;
+        this.productOptionId = productOptionId;
+    }
+
+    public void deduct(int amount) {
+        if (amount < 0) {
+            throw new BusinessException(CommonErrorType.INVALID,
+                    "0 미만의 값으로 상품 재고를 차감할 수 없습니다.");
+        }
+
+        int deductedQuantity = this.quantity - amount;
+        if (deductedQuantity < 0) {
+            throw new BusinessException(ProductErrorType.NOT_ENOUGH);
+        }
+
+        this.quantity = deductedQuantity;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 재고 예약 결과.
+ *
+ * @param status            예약 결과
+ * @param quantities        예약에 성공했을 때, 옵션별 남은 수량
+ * @param generations       예약에 성공했을 때, 옵션별로 예약한 카운터의 세대
+ * @param missingOptionIds  재고 카운터가 아직 적재되지 않은 옵션
+ */
+public record StockReservation(
+        Status status,
+        Map<Long, Integer> quantities,
+        Map<Long, String> generations,
+        List<Long> missingOptionIds
+) {
+
+    public static StockReservation reserved(Map<Long, Integer> quantities, Map<Long, String> generations) {
+        return new StockReservation(Status.RESERVED, quantities, generations, List.of());
+    }
+
+    public static StockReservation notEnough() {
+        return new StockReservation(Status.NOT_ENOUGH, Map.of(), Map.of(), List.of());
+    }
+
+    public static StockReservation notLoaded(List<Long> missingOptionIds) {
+        return new StockReservation(Status.NOT_LOADED, Map.of(), Map.of(), missingOptionIds);
+    }
+
+    public enum Status {
+        RESERVED,
+        NOT_ENOUGH,
+        NOT_LOADED
+    }
+
+}
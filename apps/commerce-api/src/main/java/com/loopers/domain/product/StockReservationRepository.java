@@ -0,0 +1,66 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 옵션별 판매 가능 수량을 DB 보다 앞에서 관리하는 카운터.
+ * <p>
+ * 카운터 값은 항상 {@code product_stocks.quantity - 정산되지 않은 차감분}을 따라가며,
+ * 어긋나면 {@link ProductService#reconcileStocks}가 DB 기준으로 바로잡는다.
+ * <p>
+ * 카운터는 적재될 때마다 새 세대를 받는다. Redis 가 재시작되거나 카운터가 축출되어 다시 적재되면,
+ * 그 전에 예약했지만 아직 커밋되지 않은 주문은 새 카운터에 반영되어 있지 않으므로
+ * 예약할 때 받은 세대와 비교하여 되돌리거나 다시 차감한다. 판단이 어긋나면 항상 적게 파는 쪽으로 어긋난다.
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 모든 옵션의 수량이 충분할 때만 한 번에 차감한다.
+     *
+     * @throws com.loopers.support.error.BusinessException 카운터 저장소에 접근하지 못하면 {@link com.loopers.domain.product.error.ProductErrorType#RESERVATION_UNAVAILABLE}
+     */
+    StockReservation reserve(Map<Long, Integer> amounts);
+
+    /**
+     * 롤백된 주문이 예약한 수량을 되돌린다.
+     * 적재되지 않았거나 예약한 뒤에 다시 적재된 카운터는 그 예약을 본 적이 없으므로 건너뛴다.
+     */
+    void release(Map<Long, Integer> amounts, Map<Long, String> generations);
+
+    /**
+     * 커밋된 주문의 예약을 확정한다.
+     * 예약한 뒤에 다시 적재된 카운터는 커밋되지 않았던 차감분을 빼지 못했으므로, 그 카운터에서만 다시 뺀다.
+     */
+    void confirm(Map<Long, Integer> amounts, Map<Long, String> generations);
+
+    /**
+     * 입고된 수량을 더한다. 적재되지 않았거나 {@code generations}를 조회한 뒤에 다시 적재된 카운터는 건너뛴다.
+     */
+    void add(Map<Long, Integer> amounts, Map<Long, String> generations);
+
+    /**
+     * 카운터가 없는 옵션만 적재하고, 새 세대를 부여한다.
+     *
+     * @throws com.loopers.support.error.BusinessException 카운터 저장소에 접근하지 못하면 {@link com.loopers.domain.product.error.ProductErrorType#RESERVATION_UNAVAILABLE}
+     */
+    void loadIfAbsent(Map<Long, Integer> quantities);
+
+    /**
+     * 카운터를 지워서, 다음 예약에서 DB 기준으로 다시 적재하게 한다.
+     */
+    void evict(List<Long> productOptionIds);
+
+    /**
+     * 옵션별 카운터의 세대. 세대가 없으면 빈 문자열이다.
+     */
+    Map<Long, String> findGenerations(List<Long> productOptionIds);
+
+    Map<Long, Integer> findQuantities(List<Long> productOptionIds);
+
+    /**
+     * 카운터가 {@code expected}일 때만 {@code quantity}로 덮어쓴다.
+     */
+    boolean overwrite(Long productOptionId, Integer expected, Integer quantity);
+
+}
@@ -11,7 +11,8 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public enum ProductErrorType implements ErrorType {
 
-    NOT_ENOUGH(HttpStatus.UNPROCESSABLE_ENTITY, "재고가 부족합니다.");
+    NOT_ENOUGH(HttpStatus.UNPROCESSABLE_ENTITY, "재고가 부족합니다."),
+    RESERVATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "재고를 예약할 수 없습니다.");
 
     private final HttpStatus status;
     private final String code;
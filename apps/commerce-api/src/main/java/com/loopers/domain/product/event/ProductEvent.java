@@ -27,6 +27,10 @@ public interface ProductEvent {
             return new StockChanged(null, stock.getProductOptionId(), stock.getQuantity());
         }
 
+        public static StockChanged of(Long productOptionId, Integer quantity) {
+            return new StockChanged(null, productOptionId, quantity);
+        }
+
         public StockChanged withProductId(Long productId) {
             return new StockChanged(productId, productOptionId, quantity);
         }
@@ -0,0 +1,20 @@
+package com.loopers.domain.ranking;
+
+import org.threeten.extra.YearWeek;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+public interface RankingCacheRepository {
+
+    /**
+     * 발행된 주간 랭킹 페이지를 조회한다. 아직 발행되지 않았으면 비어있다.
+     */
+    Optional<RankingQueryResult.RankingPage> findWeeklyPage(YearWeek yearWeek, int page, int size);
+
+    /**
+     * 발행된 월간 랭킹 페이지를 조회한다. 아직 발행되지 않았으면 비어있다.
+     */
+    Optional<RankingQueryResult.RankingPage> findMonthlyPage(YearMonth yearMonth, int page, int size);
+
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.ranking;
 
+import java.util.List;
+
 public record RankingQueryResult() {
 
     public record SearchRanks(
@@ -8,4 +10,25 @@ public record RankingQueryResult() {
     ) {
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * commerce-batch 가 상품 정보까지 채워서 발행한 랭킹 페이지.
+     */
+    public record RankingPage(
+            Long totalItems,
+            List<Item> items
+    ) {
+        public record Item(
+                Long rank,
+                Long productId,
+                String productName,
+                Integer basePrice,
+                Long likeCount,
+                Long brandId,
+                String brandName
+        ) {
+        }
+    }
+
 }
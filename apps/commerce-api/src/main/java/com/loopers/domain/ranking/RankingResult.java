@@ -83,4 +83,49 @@ public record RankingResult() {
         }
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 상품 정보까지 채워진 주간/월간 랭킹 페이지.
+     */
+    public record SearchBoard(
+            Integer totalPages,
+            Long totalItems,
+            Integer page,
+            Integer size,
+            List<Item> items
+    ) {
+        public static SearchBoard from(RankingQueryResult.RankingPage rankingPage, Integer page, Integer size) {
+            return new SearchBoard(
+                    (int) Math.ceil((double) rankingPage.totalItems() / size),
+                    rankingPage.totalItems(),
+                    page,
+                    size,
+                    rankingPage.items()
+                            .stream()
+                            .map(item -> new Item(
+                                    item.productId(),
+                                    item.rank(),
+                                    item.productName(),
+                                    item.basePrice(),
+                                    item.likeCount(),
+                                    item.brandId(),
+                                    item.brandName()
+                            ))
+                            .toList()
+            );
+        }
+
+        public record Item(
+                Long productId,
+                Long rank,
+                String productName,
+                Integer basePrice,
+                Long likeCount,
+                Long brandId,
+                String brandName
+        ) {
+        }
+    }
+
 }
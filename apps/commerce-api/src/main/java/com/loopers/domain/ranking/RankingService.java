@@ -16,6 +16,7 @@ import java.util.Optional;
 public class RankingService {
 
     private final RankingRepository rankingRepository;
+    private final RankingCacheRepository rankingCacheRepository;
 
     @ReadOnlyTransactional
     public Optional<Long> findRank(RankingCommand.FindRank command) {
@@ -46,4 +47,20 @@ public class RankingService {
         return RankingResult.SearchMonthly.from(page, pageable);
     }
 
+    /**
+     * commerce-batch 가 발행한 주간 랭킹 페이지를 조회한다.
+     */
+    public Optional<RankingResult.SearchBoard> findWeeklyBoard(RankingCommand.SearchWeekly command) {
+        return rankingCacheRepository.findWeeklyPage(command.yearWeek(), command.page(), command.size())
+                .map(page -> RankingResult.SearchBoard.from(page, command.page(), command.size()));
+    }
+
+    /**
+     * commerce-batch 가 발행한 월간 랭킹 페이지를 조회한다.
+     */
+    public Optional<RankingResult.SearchBoard> findMonthlyBoard(RankingCommand.SearchMonthly command) {
+        return rankingCacheRepository.findMonthlyPage(command.yearMonth(), command.page(), command.size())
+                .map(page -> RankingResult.SearchBoard.from(page, command.page(), command.size()));
+    }
+
 }
@@ -1,6 +1,8 @@
 package com.loopers.domain.saga;
 
+import com.loopers.config.jpa.converter.OutboxStatusConverter;
 import com.loopers.domain.BaseEntity;
+import com.loopers.domain.saga.attribute.OutboxStatus;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import io.hypersistence.utils.hibernate.type.json.JsonStringType;
@@ -12,6 +14,8 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Type;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.Map;
 
@@ -19,11 +23,24 @@ import java.util.Map;
 @Entity
 @Table(
         name = "outboxes",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"event_key", "event_name"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"event_key", "event_name"}),
+        indexes = {
+                @Index(columnList = "status, partition_no, next_attempt_at"),
+                @Index(columnList = "status, published_at")
+        }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Outbox extends BaseEntity {
 
+    /**
+     * 릴레이가 나누어 가져가는 파티션 수.
+     * 같은 이벤트 키는 항상 같은 파티션에 속한다.
+     */
+    public static final int PARTITION_COUNT = 16;
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
     /**
      * 아이디
      */
@@ -51,6 +68,37 @@ public class Outbox extends BaseEntity {
     @Column(name = "payload", updatable = false)
     private Map<String, Object> payload;
 
+    /**
+     * 파티션 번호
+     */
+    @Column(name = "partition_no", nullable = false, updatable = false)
+    private Integer partitionNo;
+
+    /**
+     * 발행 상태
+     */
+    @Convert(converter = OutboxStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    /**
+     * 발행 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    /**
+     * 다음 발행 시도 일시
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    /**
+     * 발행 일시
+     */
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
     // -------------------------------------------------------------------------------------------------
 
     @Builder
@@ -66,6 +114,37 @@ public class Outbox extends BaseEntity {
         this.eventKey = eventKey;
         this.eventName = eventName;
         this.payload = payload == null ? null : Collections.unmodifiableMap(payload);
+        this.partitionNo = Math.floorMod(eventKey.hashCode(), PARTITION_COUNT);
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = ZonedDateTime.now();
+    }
+
+    /**
+     * 발행하는 동안 다른 노드가 가져가지 않도록 다음 시도 일시를 미룬다.
+     * 발행 결과를 반영하지 못하고 죽으면, 이 일시가 지난 뒤에 다시 발행된다.
+     */
+    public void claim(ZonedDateTime until) {
+        if (this.status == OutboxStatus.PUBLISHED) {
+            return;
+        }
+
+        this.nextAttemptAt = until;
+    }
+
+    /**
+     * 발행에 실패하면 지수적으로 간격을 늘려 다시 시도한다.
+     */
+    public void fail(ZonedDateTime now) {
+        if (this.status == OutboxStatus.PUBLISHED) {
+            return;
+        }
+
+        this.attempts++;
+
+        int exponent = Math.min(this.attempts - 1, 16);
+        Duration backoff = MIN_BACKOFF.multipliedBy(1L << exponent);
+        this.nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) < 0 ? backoff : MAX_BACKOFF);
     }
 
 }
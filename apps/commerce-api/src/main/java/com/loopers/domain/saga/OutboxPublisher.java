@@ -0,0 +1,13 @@
+package com.loopers.domain.saga;
+
+import java.util.List;
+import java.util.Set;
+
+public interface OutboxPublisher {
+
+    /**
+     * 아웃박스를 한 번에 발행하고, 브로커가 확인 응답한 아웃박스의 아이디를 반환한다.
+     */
+    Set<Long> publish(List<Outbox> outboxes);
+
+}
@@ -2,6 +2,9 @@ package com.loopers.domain.saga;
 
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.List;
+
 public record SagaCommand() {
 
     public record Inbound(
@@ -20,4 +23,27 @@ public record SagaCommand() {
     ) {
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * @param claimTimeout 발행하는 동안 다른 노드가 같은 아웃박스를 가져가지 않도록 미뤄두는 시간
+     */
+    public record Relay(
+            List<Integer> partitionNos,
+            int batchSize,
+            Duration claimTimeout
+    ) {
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * @param retention 발행한 아웃박스를 남겨두는 기간
+     */
+    public record Purge(
+            Duration retention,
+            int batchSize
+    ) {
+    }
+
 }
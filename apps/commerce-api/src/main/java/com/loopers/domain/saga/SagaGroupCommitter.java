@@ -0,0 +1,54 @@
+package com.loopers.domain.saga;
+
+import com.loopers.support.batch.GroupCommitter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 호출자의 트랜잭션 밖에서 발생한 인박스/아웃박스 저장을 모아서 한 번에 저장한다.
+ * <p>
+ * 호출자의 트랜잭션과 함께 커밋되어야 하는 경우에는 {@link SagaService}를 직접 사용한다.
+ */
+@Component
+public class SagaGroupCommitter {
+
+    /**
+     * 배치에 모을 최대 이벤트 수
+     */
+    private static final int MAX_BATCH_SIZE = 200;
+
+    /**
+     * 첫 이벤트가 들어온 뒤 배치를 모으는 최대 시간
+     */
+    private static final Duration MAX_DELAY = Duration.ofMillis(5);
+
+    private final GroupCommitter<SagaCommand.Inbound, SagaResult.Inbound> inbounds;
+    private final GroupCommitter<SagaCommand.Outbound, SagaResult.Outbound> outbounds;
+
+    public SagaGroupCommitter(SagaService sagaService, MeterRegistry meterRegistry) {
+        // 배치가 실패하면(동시 저장 경합, 잘못된 이벤트 등) 하나씩 저장하여 각 이벤트의 결과를 구한다.
+        this.inbounds = new GroupCommitter<>(
+                "saga.inbound", MAX_BATCH_SIZE, MAX_DELAY, sagaService::inboundAll, sagaService::inbound, meterRegistry);
+        this.outbounds = new GroupCommitter<>(
+                "saga.outbound", MAX_BATCH_SIZE, MAX_DELAY, sagaService::outboundAll, sagaService::outbound, meterRegistry);
+    }
+
+    public CompletableFuture<SagaResult.Inbound> inbound(SagaCommand.Inbound command) {
+        return inbounds.submit(command);
+    }
+
+    public CompletableFuture<SagaResult.Outbound> outbound(SagaCommand.Outbound command) {
+        return outbounds.submit(command);
+    }
+
+    @PreDestroy
+    public void close() {
+        inbounds.close();
+        outbounds.close();
+    }
+
+}
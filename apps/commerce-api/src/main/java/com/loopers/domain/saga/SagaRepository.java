@@ -1,9 +1,44 @@
 package com.loopers.domain.saga;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface SagaRepository {
 
     boolean save(Inbox inbox);
 
     boolean save(Outbox outbox);
 
+    /**
+     * 여러 인박스를 한 번에 저장하고, 인박스마다 새로 저장되었는지 여부를 같은 순서로 반환한다.
+     * 조회와 저장 사이에 다른 트랜잭션이 같은 이벤트를 저장하면 {@code CONFLICT} 예외가 발생한다.
+     */
+    List<Boolean> saveInboxes(List<Inbox> inboxes);
+
+    /**
+     * 여러 아웃박스를 한 번에 저장하고, 아웃박스마다 새로 저장되었는지 여부를 같은 순서로 반환한다.
+     * 조회와 저장 사이에 다른 트랜잭션이 같은 이벤트를 저장하면 {@code CONFLICT} 예외가 발생한다.
+     */
+    List<Boolean> saveOutboxes(List<Outbox> outboxes);
+
+    /**
+     * 발행할 차례가 된 아웃박스를 잠그고 가져온다.
+     * 다른 노드가 잠근 행은 기다리지 않고 건너뛴다.
+     */
+    List<Outbox> findRelayTargetsForUpdate(List<Integer> partitionNos, ZonedDateTime now, int limit);
+
+    List<Outbox> findOutboxes(List<Long> outboxIds);
+
+    void markPublished(List<Long> outboxIds, ZonedDateTime publishedAt);
+
+    /**
+     * 발행 일시가 {@code publishedBefore} 이전인 아웃박스를 오래된 순으로 최대 {@code limit}개 삭제하고, 삭제한 수를 반환한다.
+     */
+    int deletePublishedOutboxes(ZonedDateTime publishedBefore, int limit);
+
+    long countPendingOutboxes();
+
+    Optional<ZonedDateTime> findOldestPendingOutboxCreatedAt();
+
 }
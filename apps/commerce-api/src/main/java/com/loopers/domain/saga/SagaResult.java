@@ -2,6 +2,8 @@ package com.loopers.domain.saga;
 
 import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.Map;
 
 public record SagaResult() {
@@ -40,4 +42,25 @@ public record SagaResult() {
         }
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    public record Relay(
+            int claimed,
+            int published,
+            int failed
+    ) {
+        public static final Relay EMPTY = new Relay(0, 0, 0);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    public record RelayLag(
+            long pendingCount,
+            @Nullable ZonedDateTime oldestCreatedAt
+    ) {
+        public Duration oldestAge(ZonedDateTime now) {
+            return oldestCreatedAt == null ? Duration.ZERO : Duration.between(oldestCreatedAt, now);
+        }
+    }
+
 }
@@ -5,44 +5,139 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
 public class SagaService {
 
     private final SagaRepository sagaRepository;
+    private final OutboxPublisher outboxPublisher;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public SagaResult.Inbound inbound(SagaCommand.Inbound inbound) {
-        Inbox inbox = Inbox.builder()
-                .eventKey(inbound.eventKey())
-                .eventName(inbound.eventName())
-                .payload(serialize(inbound.payload()))
-                .build();
+        Inbox inbox = toInbox(inbound);
 
         boolean saved = sagaRepository.save(inbox);
 
         return SagaResult.Inbound.from(inbox, saved);
     }
 
+    /**
+     * 여러 인바운드 이벤트를 하나의 INSERT 문으로 저장한다.
+     */
+    @Transactional
+    public List<SagaResult.Inbound> inboundAll(List<SagaCommand.Inbound> inbounds) {
+        List<Inbox> inboxes = inbounds.stream().map(this::toInbox).toList();
+
+        List<Boolean> saved = sagaRepository.saveInboxes(inboxes);
+
+        return IntStream.range(0, inboxes.size())
+                .mapToObj(i -> SagaResult.Inbound.from(inboxes.get(i), saved.get(i)))
+                .toList();
+    }
+
     @Transactional
     public SagaResult.Outbound outbound(SagaCommand.Outbound outbound) {
-        Outbox outbox = Outbox.builder()
-                .eventKey(outbound.eventKey())
-                .eventName(outbound.eventName())
-                .payload(serialize(outbound.payload()))
-                .build();
+        Outbox outbox = toOutbox(outbound);
 
         boolean saved = sagaRepository.save(outbox);
 
         return SagaResult.Outbound.from(outbox, saved);
     }
 
+    /**
+     * 여러 아웃바운드 이벤트를 하나의 INSERT 문으로 저장한다.
+     */
+    @Transactional
+    public List<SagaResult.Outbound> outboundAll(List<SagaCommand.Outbound> outbounds) {
+        List<Outbox> outboxes = outbounds.stream().map(this::toOutbox).toList();
+
+        List<Boolean> saved = sagaRepository.saveOutboxes(outboxes);
+
+        return IntStream.range(0, outboxes.size())
+                .mapToObj(i -> SagaResult.Outbound.from(outboxes.get(i), saved.get(i)))
+                .toList();
+    }
+
+    /**
+     * 발행할 아웃박스를 잠그고 다음 시도 일시를 {@code claimTimeout}만큼 미룬 뒤 바로 커밋하고, 트랜잭션 밖에서 발행한다.
+     * 발행 결과는 짧은 트랜잭션으로 따로 반영하므로, 확인 응답을 기다리는 동안 행 잠금과 DB 커넥션을 붙잡지 않는다.
+     * 결과를 반영하기 전에 노드가 죽으면 {@code claimTimeout}이 지난 뒤 다른 노드가 다시 발행한다. (at-least-once)
+     */
+    public SagaResult.Relay relay(SagaCommand.Relay command) {
+        List<Outbox> outboxes = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            List<Outbox> targets = sagaRepository.findRelayTargetsForUpdate(command.partitionNos(), now, command.batchSize());
+            targets.forEach(outbox -> outbox.claim(now.plus(command.claimTimeout())));
+            return targets;
+        }));
+        if (outboxes.isEmpty()) {
+            return SagaResult.Relay.EMPTY;
+        }
+
+        Set<Long> publishedIds = outboxPublisher.publish(outboxes);
+
+        List<Long> failedIds = outboxes.stream()
+                .map(Outbox::getId)
+                .filter(outboxId -> !publishedIds.contains(outboxId))
+                .toList();
+        transactionTemplate.execute(status -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            sagaRepository.markPublished(List.copyOf(publishedIds), now);
+            if (!failedIds.isEmpty()) {
+                sagaRepository.findOutboxes(failedIds).forEach(outbox -> outbox.fail(now));
+            }
+            return null;
+        });
+
+        return new SagaResult.Relay(outboxes.size(), publishedIds.size(), failedIds.size());
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 아웃박스를 오래된 순으로 한 배치만큼 삭제한다.
+     */
+    @Transactional
+    public int purge(SagaCommand.Purge command) {
+        ZonedDateTime publishedBefore = ZonedDateTime.now().minus(command.retention());
+        return sagaRepository.deletePublishedOutboxes(publishedBefore, command.batchSize());
+    }
+
+    @Transactional(readOnly = true)
+    public SagaResult.RelayLag getRelayLag() {
+        return new SagaResult.RelayLag(
+                sagaRepository.countPendingOutboxes(),
+                sagaRepository.findOldestPendingOutboxCreatedAt().orElse(null)
+        );
+    }
+
     // -------------------------------------------------------------------------------------------------
 
+    private Inbox toInbox(SagaCommand.Inbound inbound) {
+        return Inbox.builder()
+                .eventKey(inbound.eventKey())
+                .eventName(inbound.eventName())
+                .payload(serialize(inbound.payload()))
+                .build();
+    }
+
+    private Outbox toOutbox(SagaCommand.Outbound outbound) {
+        return Outbox.builder()
+                .eventKey(outbound.eventKey())
+                .eventName(outbound.eventName())
+                .payload(serialize(outbound.payload()))
+                .build();
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private Map<String, Object> serialize(Object payload) {
         if (payload == null) {
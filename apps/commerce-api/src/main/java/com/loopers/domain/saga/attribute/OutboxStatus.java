@@ -0,0 +1,42 @@
+package com.loopers.domain.saga.attribute;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+
+    /**
+     * 발행 대기 (실패하여 재시도를 기다리는 경우 포함)
+     */
+    PENDING("pending"),
+
+    /**
+     * 발행 완료
+     */
+    PUBLISHED("published");
+
+    // -------------------------------------------------------------------------------------------------
+
+    @JsonValue
+    private final String code;
+
+    @JsonCreator
+    public static OutboxStatus from(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        for (OutboxStatus status : values()) {
+            if (status.code.equals(value)) {
+                return status;
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.loopers.domain.saga.event;
 
 import com.loopers.domain.saga.SagaCommand;
+import com.loopers.domain.saga.SagaGroupCommitter;
 import com.loopers.domain.saga.SagaService;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
@@ -11,36 +12,41 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.concurrent.CompletionException;
+
 @Primary
 @Component
 @RequiredArgsConstructor
 class SagaEventPublisher implements ApplicationEventPublisher {
 
     private final SagaService sagaService;
+    private final SagaGroupCommitter sagaGroupCommitter;
     private final ApplicationContext delegate;
 
     @Override
     public void publishEvent(@NonNull Object event) {
         if (event instanceof SagaEvent sagaEvent) {
-            Runnable runnable = () -> {
-                SagaCommand.Outbound command = new SagaCommand.Outbound(
-                        sagaEvent.eventKey(),
-                        sagaEvent.eventName(),
-                        sagaEvent
-                );
-                sagaService.outbound(command);
-            };
+            SagaCommand.Outbound command = new SagaCommand.Outbound(
+                    sagaEvent.eventKey(),
+                    sagaEvent.eventName(),
+                    sagaEvent
+            );
 
             if (TransactionSynchronizationManager.isSynchronizationActive()
                     && TransactionSynchronizationManager.isActualTransactionActive()) {
                 TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                     @Override
                     public void beforeCommit(boolean readOnly) {
-                        runnable.run();
+                        sagaService.outbound(command);
                     }
                 });
             } else {
-                runnable.run();
+                // 트랜잭션 밖에서 발행된 이벤트는 다른 이벤트와 모아서 한 번에 저장한다.
+                try {
+                    sagaGroupCommitter.outbound(command).join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
             }
         }
 
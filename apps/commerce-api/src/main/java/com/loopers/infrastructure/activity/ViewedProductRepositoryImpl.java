@@ -1,17 +1,25 @@
 package com.loopers.infrastructure.activity;
 
+import com.loopers.domain.BaseEntity;
 import com.loopers.domain.activity.ViewedProduct;
 import com.loopers.domain.activity.ViewedProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
 
 @Repository
 @RequiredArgsConstructor
 public class ViewedProductRepositoryImpl implements ViewedProductRepository {
 
     private final ViewedProductJpaRepository viewedProductJpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<ViewedProduct> findOne(Long userId, Long productId) {
@@ -23,4 +31,36 @@ public class ViewedProductRepositoryImpl implements ViewedProductRepository {
         return viewedProductJpaRepository.save(viewedProduct);
     }
 
+    /**
+     * {@code insert into ... values (...), (...) on conflict do update}로 여러 행을 한 번에 저장한다.
+     * MySQL 에서는 {@code ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)}로 변환된다.
+     */
+    @Override
+    public void addViewCounts(List<ViewedProduct> viewedProducts) {
+        if (viewedProducts.isEmpty()) {
+            return;
+        }
+
+        viewedProducts.forEach(BaseEntity::prePersist);
+
+        String values = IntStream.range(0, viewedProducts.size())
+                .mapToObj(i -> "(:userId%1$d, :productId%1$d, :viewCount%1$d, :createdAt%1$d, :updatedAt%1$d)".formatted(i))
+                .collect(joining(", "));
+        String jpql = "insert into ViewedProduct (userId, productId, viewCount, createdAt, updatedAt) values " + values
+                + " on conflict (userId, productId) do update"
+                + " set viewCount = viewCount + excluded.viewCount, updatedAt = excluded.updatedAt";
+
+        Query query = entityManager.createQuery(jpql);
+        for (int i = 0; i < viewedProducts.size(); i++) {
+            ViewedProduct viewedProduct = viewedProducts.get(i);
+            query.setParameter("userId" + i, viewedProduct.getUserId());
+            query.setParameter("productId" + i, viewedProduct.getProductId());
+            query.setParameter("viewCount" + i, viewedProduct.getViewCount());
+            query.setParameter("createdAt" + i, viewedProduct.getCreatedAt());
+            query.setParameter("updatedAt" + i, viewedProduct.getUpdatedAt());
+        }
+
+        query.executeUpdate();
+    }
+
 }
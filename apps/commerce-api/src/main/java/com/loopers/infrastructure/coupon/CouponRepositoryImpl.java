@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -53,6 +54,21 @@ public class CouponRepositoryImpl implements CouponRepository {
         return couponStockJpaRepository.findByCouponId(couponId);
     }
 
+    @Override
+    public boolean existsStock(Long couponId) {
+        return couponStockJpaRepository.existsByCouponId(couponId);
+    }
+
+    @Override
+    public boolean addStockQuantity(Long couponId, int amount) {
+        return couponStockJpaRepository.addQuantity(couponId, amount, ZonedDateTime.now()) == 1;
+    }
+
+    @Override
+    public boolean deductStockQuantity(Long couponId, int amount) {
+        return couponStockJpaRepository.deductQuantity(couponId, amount, ZonedDateTime.now()) == 1;
+    }
+
     @Override
     public Coupon saveCoupon(Coupon coupon) {
         return couponJpaRepository.save(coupon);
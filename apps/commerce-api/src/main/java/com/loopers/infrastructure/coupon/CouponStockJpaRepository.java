@@ -4,7 +4,11 @@ import com.loopers.domain.coupon.CouponStock;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.Optional;
 
 public interface CouponStockJpaRepository extends JpaRepository<CouponStock, Long> {
@@ -12,4 +16,34 @@ public interface CouponStockJpaRepository extends JpaRepository<CouponStock, Lon
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<CouponStock> findByCouponId(Long couponId);
 
+    boolean existsByCouponId(Long couponId);
+
+    @Modifying
+    @Query("""
+                update CouponStock s
+                set s.quantity = s.quantity + :amount, s.updatedAt = :updatedAt
+                where s.couponId = :couponId
+            """)
+    int addQuantity(
+            @Param("couponId") Long couponId,
+            @Param("amount") Integer amount,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
+    /**
+     * 수량이 충분할 때만 차감한다. 영향받은 행의 수로 성공 여부를 판단한다.
+     */
+    @Modifying
+    @Query("""
+                update CouponStock s
+                set s.quantity = s.quantity - :amount, s.updatedAt = :updatedAt
+                where s.couponId = :couponId
+                and s.quantity >= :amount
+            """)
+    int deductQuantity(
+            @Param("couponId") Long couponId,
+            @Param("amount") Integer amount,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
 }
@@ -5,6 +5,7 @@ import com.fasterxml.uuid.impl.TimeBasedEpochRandomGenerator;
 import com.loopers.domain.order.*;
 import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
@@ -23,6 +24,7 @@ public class OrderRepositoryImpl implements OrderRepository {
     private final OrderProductJpaRepository orderProductJpaRepository;
     private final OrderCouponJpaRepository orderCouponJpaRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Order> findOrderDetailById(UUID orderId) {
@@ -64,7 +66,16 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public Order save(Order order) {
-        Order savedOrder = orderJpaRepository.save(order);
+        // 아이디를 미리 발급하므로 save 는 새 주문도 merge 하면서 SELECT 를 먼저 보낸다.
+        // 영속 상태가 아닌 주문은 새로 만든 주문이므로 바로 persist 한다.
+        Order savedOrder = order;
+        if (!entityManager.contains(order)) {
+            entityManager.persist(order);
+        } else {
+            savedOrder = orderJpaRepository.save(order);
+        }
+
+        // 주문 상품과 쿠폰은 @Tsid 아이디를 쓰므로, flush 할 때 INSERT 가 배치로 묶인다.
         orderProductJpaRepository.saveAll(order.getProducts());
         orderCouponJpaRepository.saveAll(order.getCoupons());
 
@@ -0,0 +1,52 @@
+package com.loopers.infrastructure.payment.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.cache.PaymentTransactionCacheProperties;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.PaymentTransactionCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class PaymentTransactionCacheImpl implements PaymentTransactionCache {
+
+    private static final String CACHE_NAME = "payment.transaction";
+
+    private final Cache<Key, PaymentGateway.Response.GetTransactions.Transaction> cache;
+
+    public PaymentTransactionCacheImpl(PaymentTransactionCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<PaymentGateway.Response.GetTransactions.Transaction> find(UUID orderId, String transactionKey) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(orderId, transactionKey)));
+    }
+
+    @Override
+    public void put(UUID orderId, PaymentGateway.Response.GetTransactions.Transaction transaction) {
+        // 진행중인 거래는 상태가 바뀌므로 보관하지 않는다.
+        if (transaction.status() == PaymentGateway.Status.PENDING) {
+            return;
+        }
+
+        cache.put(new Key(orderId, transaction.transactionKey()), transaction);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private record Key(UUID orderId, String transactionKey) {
+    }
+
+}
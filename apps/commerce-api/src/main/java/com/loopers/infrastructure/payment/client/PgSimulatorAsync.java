@@ -0,0 +1,305 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.loopers.config.jackson.WrappedObjectMapper;
+import com.loopers.config.payment.PaymentGatewayClientProperties;
+import com.loopers.domain.payment.AsyncPaymentGateway;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.support.concurrent.Hedged;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 연결 풀을 둔 비동기 HTTP 클라이언트로 PG 를 호출한다.
+ * <p>
+ * PG 작업마다 벌크헤드를 따로 두어, 한 작업이 느려져도 다른 작업의 호출 자리까지 차지하지 않는다.
+ * 결제 요청은 실패하면 재시도하고, 여러 번 보내도 결과가 같은 거래 조회는 재시도 대신 {@link Hedged}로 보낸다.
+ */
+@Slf4j
+@Component
+public class PgSimulatorAsync implements AsyncPaymentGateway {
+
+    static final String HEADER_STORE_ID = "X-USER-ID";
+
+    private static final String TRANSACT = "payment-gateway--transact";
+    private static final String GET_TRANSACTIONS = "payment-gateway--get-transactions";
+    private static final int MAX_HEDGED_ATTEMPTS = 2;
+
+    private final PaymentGatewayClientProperties properties;
+    private final ServerProperties serverProperties;
+    private final WrappedObjectMapper wrappedObjectMapper;
+    private final String storeId;
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final RetryRegistry retryRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final CloseableHttpAsyncClient client;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("pg-simulator-async").factory());
+
+    public PgSimulatorAsync(
+            PaymentGatewayClientProperties properties,
+            ServerProperties serverProperties,
+            WrappedObjectMapper wrappedObjectMapper,
+            @Value("${pg-simulator.store-id}") String storeId,
+            BulkheadRegistry bulkheadRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            RetryRegistry retryRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.serverProperties = serverProperties;
+        this.wrappedObjectMapper = wrappedObjectMapper;
+        this.storeId = storeId;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.retryRegistry = retryRegistry;
+        this.meterRegistry = meterRegistry;
+
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.maxConnections())
+                .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(properties.connectTimeout().toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(properties.connectionTtl().toMillis()))
+                        .build())
+                .build();
+        this.client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofMilliseconds(properties.responseTimeout().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.connectionTtl().toMillis()))
+                .build();
+        this.client.start();
+    }
+
+    @PreDestroy
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<PaymentGateway.Response.Transact> transact(PaymentGateway.Request.Transact request) {
+        String callbackUrl = UriComponentsBuilder.newInstance()
+                .host(serverProperties.getAddress().getHostName())
+                .port(serverProperties.getPort())
+                .path("/callback/payments/{orderId}")
+                .buildAndExpand(request.orderId())
+                .toUriString();
+
+        PgSimulatorRequest.RequestTransaction body = new PgSimulatorRequest.RequestTransaction(
+                request.orderId(),
+                request.cardType(),
+                request.cardNumber().toFormattedString(),
+                request.amount(),
+                callbackUrl
+        );
+        SimpleHttpRequest httpRequest = SimpleRequestBuilder.post(properties.baseUrl() + "/api/v1/payments")
+                .setHeader(HEADER_STORE_ID, storeId)
+                .setBody(wrappedObjectMapper.writeValueAsString(body), ContentType.APPLICATION_JSON)
+                .build();
+
+        return decorate(TRANSACT, true, () -> send(httpRequest, new TypeReference<PgApiResponse<PgSimulatorResponse.Transact>>() {
+        }))
+                .thenApply(response -> new PaymentGateway.Response.Transact(
+                        response.data().transactionKey(),
+                        PaymentGateway.Status.valueOf(response.data().status()),
+                        response.data().reason()
+                ));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PaymentGateway.Response.GetTransactions>> findTransactions(UUID orderId) {
+        Supplier<CompletableFuture<PgApiResponse<PgSimulatorResponse.GetTransactions>>> request = () -> {
+            SimpleHttpRequest httpRequest = SimpleRequestBuilder.get(properties.baseUrl() + "/api/v1/payments")
+                    .setHeader(HEADER_STORE_ID, storeId)
+                    .addParameter("orderId", orderId.toString())
+                    .build();
+            return decorate(GET_TRANSACTIONS, false, () -> send(httpRequest,
+                    new TypeReference<PgApiResponse<PgSimulatorResponse.GetTransactions>>() {
+                    }));
+        };
+
+        return Hedged.call(GET_TRANSACTIONS, request, properties.hedgeDelay(), MAX_HEDGED_ATTEMPTS, scheduler, meterRegistry)
+                .thenApply(response -> Optional.ofNullable(response)
+                        .map(PgApiResponse::data)
+                        .map(data -> new PaymentGateway.Response.GetTransactions(
+                                UUID.fromString(data.orderId()),
+                                data.transactions().stream()
+                                        .map(tx -> new PaymentGateway.Response.GetTransactions.Transaction(
+                                                tx.transactionKey(),
+                                                PaymentGateway.Status.valueOf(tx.status()),
+                                                tx.reason()
+                                        ))
+                                        .toList()
+                        )))
+                .exceptionally(t -> {
+                    log.warn("Fallback for getting transactions for order: {}", orderId, t);
+                    return Optional.empty();
+                });
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * 벌크헤드 안에서 호출하고, 시간 제한과 서킷브레이커를 건다. (결제 요청은 재시도까지)
+     * <p>
+     * Resilience4j 는 단계마다 새 future 를 만들어 돌려주므로, 돌려받은 future 를 취소해도 {@link #send}까지 전해지지 않는다.
+     * 보내고 있는 시도를 기억해두었다가 시간 제한에 걸리거나 호출자가 취소하면 직접 취소하여, 주고받던 요청을 끊고 벌크헤드 자리를 돌려놓는다.
+     */
+    private <T> CompletableFuture<T> decorate(String name, boolean retry, Supplier<CompletableFuture<T>> call) {
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(name);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+        Supplier<CompletionStage<T>> attempt = () -> {
+            // 취소된 뒤에는 재시도하지 않는다.
+            if (result.isCancelled()) {
+                return CompletableFuture.failedFuture(new CancellationException());
+            }
+
+            CompletableFuture<T> sent = call.get();
+            inFlight.set(sent);
+            return sent;
+        };
+
+        Supplier<CompletionStage<T>> limited = timeLimiter.decorateCompletionStage(
+                scheduler, Bulkhead.decorateCompletionStage(bulkhead, attempt));
+        Supplier<CompletionStage<T>> decorated = () -> limited.get().whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                cancel(inFlight.get());
+            }
+        });
+        decorated = CircuitBreaker.decorateCompletionStage(circuitBreaker, decorated);
+        if (retry) {
+            decorated = Retry.decorateCompletionStage(retryRegistry.retry(name), scheduler, decorated);
+        }
+
+        decorated.get().whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(throwable);
+            }
+        });
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                cancel(inFlight.get());
+            }
+        });
+
+        return result;
+    }
+
+    private static void cancel(Future<?> future) {
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    private <T> CompletableFuture<T> send(SimpleHttpRequest request, TypeReference<T> typeRef) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<SimpleHttpResponse> exchange = client.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                try {
+                    result.complete(read(response, typeRef));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+
+        // 결과를 기다리지 않게 되면, 주고받던 요청도 취소하여 연결을 돌려놓는다.
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * 4xx 는 {@link HttpClientErrorException}으로 던져서, 서킷브레이커와 재시도의 {@code ignore-exceptions} 설정이 적용되게 한다.
+     */
+    private <T> T read(SimpleHttpResponse response, TypeReference<T> typeRef) {
+        int code = response.getCode();
+        byte[] body = response.getBodyBytes() == null ? new byte[0] : response.getBodyBytes();
+
+        if (code >= 400 && code < 500) {
+            throw HttpClientErrorException.create(HttpStatusCode.valueOf(code), response.getReasonPhrase(),
+                    HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+        }
+        if (code >= 500) {
+            throw HttpServerErrorException.create(HttpStatusCode.valueOf(code), response.getReasonPhrase(),
+                    HttpHeaders.EMPTY, body, StandardCharsets.UTF_8);
+        }
+
+        return wrappedObjectMapper.readValue(new String(body, StandardCharsets.UTF_8), typeRef);
+    }
+
+}
@@ -25,17 +25,4 @@ public class PgSimulatorResponse {
         }
     }
 
-    // -------------------------------------------------------------------------------------------------
-
-    public record GetTransaction(
-            String transactionKey,
-            String orderId,
-            String cardType,
-            String cardNo,
-            Long amount,
-            String status,
-            String reason
-    ) {
-    }
-
 }
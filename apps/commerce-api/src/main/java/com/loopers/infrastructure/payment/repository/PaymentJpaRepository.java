@@ -4,9 +4,11 @@ import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.attribute.PaymentMethod;
 import com.loopers.domain.payment.attribute.PaymentStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,7 +18,24 @@ public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByOrderId(UUID orderId);
 
-    List<Payment> findByMethodAndStatusIn(PaymentMethod method, List<PaymentStatus> statuses);
+    @Query("""
+            select p from Payment p
+             where p.method = :method
+               and p.status in :statuses
+               and mod(p.id, :shardCount) = :shard
+               and p.id > :paymentId
+             order by p.id
+            """)
+    List<Payment> findAllInconclusiveAfter(
+            @Param("method") PaymentMethod method,
+            @Param("statuses") List<PaymentStatus> statuses,
+            @Param("shard") long shard,
+            @Param("shardCount") long shardCount,
+            @Param("paymentId") Long paymentId,
+            Limit limit
+    );
+
+    long countByMethodAndStatusIn(PaymentMethod method, List<PaymentStatus> statuses);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select p from Payment p where p.id = :paymentId")
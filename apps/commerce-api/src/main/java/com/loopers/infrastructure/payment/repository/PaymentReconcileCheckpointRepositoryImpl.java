@@ -0,0 +1,37 @@
+package com.loopers.infrastructure.payment.repository;
+
+import com.loopers.config.RedisConfig;
+import com.loopers.domain.payment.PaymentReconcileCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentReconcileCheckpointRepositoryImpl implements PaymentReconcileCheckpointRepository {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "payment.reconcile.checkpoint:";
+
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate masterRedisTemplate;
+
+    @Override
+    public Optional<Long> find(int shard) {
+        return Optional.ofNullable(masterRedisTemplate.opsForValue().get(CHECKPOINT_KEY_PREFIX + shard))
+                .map(Long::valueOf);
+    }
+
+    @Override
+    public void save(int shard, Long lastPaymentId) {
+        masterRedisTemplate.opsForValue().set(CHECKPOINT_KEY_PREFIX + shard, String.valueOf(lastPaymentId));
+    }
+
+    @Override
+    public void clear(int shard) {
+        masterRedisTemplate.delete(CHECKPOINT_KEY_PREFIX + shard);
+    }
+
+}
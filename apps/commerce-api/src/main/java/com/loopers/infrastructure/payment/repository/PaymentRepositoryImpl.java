@@ -6,6 +6,7 @@ import com.loopers.domain.payment.attempt.PaymentAttempt;
 import com.loopers.domain.payment.attribute.PaymentMethod;
 import com.loopers.domain.payment.attribute.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -40,8 +41,21 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public List<Payment> findInconclusivePayments(PaymentMethod method, List<PaymentStatus> statuses) {
-        return paymentJpaRepository.findByMethodAndStatusIn(method, statuses);
+    public List<Payment> findInconclusivePayments(
+            PaymentMethod method,
+            List<PaymentStatus> statuses,
+            int shard,
+            int shardCount,
+            Long lastPaymentId,
+            int limit
+    ) {
+        return paymentJpaRepository.findAllInconclusiveAfter(
+                method, statuses, shard, shardCount, lastPaymentId == null ? 0L : lastPaymentId, Limit.of(limit));
+    }
+
+    @Override
+    public long countInconclusivePayments(PaymentMethod method, List<PaymentStatus> statuses) {
+        return paymentJpaRepository.countByMethodAndStatusIn(method, statuses);
     }
 
     @Override
@@ -4,8 +4,11 @@ import com.loopers.domain.point.Point;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.Optional;
 
 public interface PointJpaRepository extends JpaRepository<Point, Long> {
@@ -18,4 +21,37 @@ public interface PointJpaRepository extends JpaRepository<Point, Long> {
 
     boolean existsByUserId(Long userId);
 
+    /**
+     * 충전 후 잔액이 최대 잔액 이하일 때만 충전한다. 영향받은 행의 수로 성공 여부를 판단한다.
+     */
+    @Modifying
+    @Query("""
+                update Point p
+                set p.balance = p.balance + :amount, p.updatedAt = :updatedAt
+                where p.userId = :userId
+                and p.balance + :amount <= :maxBalance
+            """)
+    int chargeBalance(
+            @Param("userId") Long userId,
+            @Param("amount") Long amount,
+            @Param("maxBalance") Long maxBalance,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
+    /**
+     * 잔액이 충분할 때만 차감한다. 영향받은 행의 수로 성공 여부를 판단한다.
+     */
+    @Modifying
+    @Query("""
+                update Point p
+                set p.balance = p.balance - :amount, p.updatedAt = :updatedAt
+                where p.userId = :userId
+                and p.balance >= :amount
+            """)
+    int spendBalance(
+            @Param("userId") Long userId,
+            @Param("amount") Long amount,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
 }
@@ -3,9 +3,11 @@ package com.loopers.infrastructure.point;
 import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointHistory;
 import com.loopers.domain.point.PointRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,7 @@ public class PointRepositoryImpl implements PointRepository {
 
     private final PointJpaRepository pointJpaRepository;
     private final PointHistoryJpaRepository pointHistoryJpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Point> findOne(Long userId) {
@@ -31,6 +34,26 @@ public class PointRepositoryImpl implements PointRepository {
         return pointJpaRepository.existsByUserId(userId);
     }
 
+    @Override
+    public boolean chargeBalance(Long userId, long amount, long maxBalance) {
+        return pointJpaRepository.chargeBalance(userId, amount, maxBalance, ZonedDateTime.now()) == 1;
+    }
+
+    @Override
+    public boolean spendBalance(Long userId, long amount) {
+        return pointJpaRepository.spendBalance(userId, amount, ZonedDateTime.now()) == 1;
+    }
+
+    @Override
+    public Optional<Point> findOneRefreshed(Long userId) {
+        return pointJpaRepository.findByUserId(userId)
+                .map(point -> {
+                    // 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 이미 조회된 엔티티를 다시 읽는다.
+                    entityManager.refresh(point);
+                    return point;
+                });
+    }
+
     @Override
     public List<PointHistory> findPointHistoriesByUserId(Long userId) {
         return pointHistoryJpaRepository.findPointHistoriesByUserId(userId);
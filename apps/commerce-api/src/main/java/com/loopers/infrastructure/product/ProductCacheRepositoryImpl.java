@@ -2,91 +2,121 @@ package com.loopers.infrastructure.product;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.loopers.config.RedisCacheConfig;
+import com.loopers.config.RedisConfig;
 import com.loopers.config.jackson.WrappedObjectMapper;
 import com.loopers.domain.product.ProductCacheRepository;
 import com.loopers.domain.product.ProductQueryCommand;
 import com.loopers.domain.product.ProductQueryResult;
+import com.loopers.support.cache.CacheAside;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.time.Duration;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ProductCacheRepositoryImpl implements ProductCacheRepository {
 
+    private static final RedisScript<Long> DELETE_IF_OWNER = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 검색 결과 목록({@code KEYS[1]})과 전체 개수({@code KEYS[2]})를 한 번에 바꾸고, 정렬 기준별 키 목록({@code KEYS[3]})에 등록한다.
+     * 동시에 적재해도 목록이 겹쳐 쌓이지 않고, 읽는 쪽이 절반만 쓰인 목록을 보지 않는다.
+     * <p>
+     * ARGV: 만료 시간(ms), 전체 개수, 키 목록 만료 시간(ms), 상품 아이디...
+     */
+    private static final RedisScript<Long> SAVE_PRODUCT_IDS = RedisScript.of("""
+            redis.call('DEL', KEYS[1])
+            for i = 4, #ARGV, 1000 do
+              redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[1])
+            redis.call('SADD', KEYS[3], KEYS[1], KEYS[2])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            return #ARGV - 3
+            """, Long.class);
+
     private final StringRedisTemplate stringRedisTemplate;
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate masterRedisTemplate;
     private final WrappedObjectMapper wrappedObjectMapper;
+    private final ProductDetailNearCache productDetailNearCache;
 
+    @SuppressWarnings("unchecked")
     @Override
-    public Page<ProductQueryResult.Products> searchProducts(ProductQueryCommand.SearchProducts command) {
-        PageRequest pageRequest = PageRequest.of(command.getPage(), command.getSize());
-
-        // 2 페이지까지만 캐싱한다.
-        if (pageRequest.getPageNumber() > 2) {
-            return Page.empty(pageRequest);
-        }
-
-        String key = "product.page:" + Objects.hash(
-                command.getKeyword(),
-                command.getBrandId(),
-                command.getSort(),
-                command.getPage(),
-                command.getSize()
-        );
+    public Optional<ProductQueryResult.ProductIds> findProductIds(ProductQueryCommand.SearchProducts command) {
+        String key = searchKey(command);
+        long start = (long) command.getPage() * command.getSize();
+        long end = start + command.getSize() - 1;
 
-        String json = null;
+        List<Object> results;
         try {
-            json = stringRedisTemplate.opsForValue().getAndExpire(key, Duration.ofSeconds(1));
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                conn.lRange(key, start, end);
+                conn.get(totalKey(key));
+                return null;
+            });
         } catch (Exception e) {
             log.error(e.getMessage(), e);
+            return Optional.empty();
         }
 
-        if (!StringUtils.hasText(json)) {
-            return Page.empty(pageRequest);
-        }
+        List<String> productIds = (List<String>) results.get(0);
+        String totalItems = (String) results.get(1);
 
-        PageImpl<ProductQueryResult.Products> page = wrappedObjectMapper.readValue(json, new TypeReference<>() {
-        });
+        // 목록과 개수 중 하나라도 만료되었으면 다시 적재한다.
+        // 목록이 없으면 LRANGE 는 빈 목록을 반환하므로, 마지막 페이지 너머를 조회한 경우가 아니면 만료된 것으로 본다.
+        if (!StringUtils.hasText(totalItems)) {
+            return Optional.empty();
+        }
+        long total = Long.parseLong(totalItems);
+        if (CollectionUtils.isEmpty(productIds) && start < total) {
+            return Optional.empty();
+        }
 
-        return page == null ? Page.empty(pageRequest) : page;
+        return Optional.of(new ProductQueryResult.ProductIds(
+                productIds == null ? List.of() : productIds.stream().map(Long::valueOf).toList(),
+                total
+        ));
     }
 
     @Override
-    public void saveProducts(
-            ProductQueryCommand.SearchProducts command,
-            Page<ProductQueryResult.Products> page
-    ) {
-        PageRequest pageRequest = PageRequest.of(command.getPage(), command.getSize());
-
-        // 2 페이지까지만 캐싱한다.
-        if (pageRequest.getPageNumber() > 2) {
+    public void saveProductIds(ProductQueryCommand.SearchProducts command, ProductQueryResult.ProductIds productIds) {
+        if (CollectionUtils.isEmpty(productIds.productIds())) {
             return;
         }
 
-        String json = wrappedObjectMapper.writeValueAsString(page);
-        String key = "product.page:" + Objects.hash(
-                command.getKeyword(),
-                command.getBrandId(),
-                command.getSort(),
-                command.getPage(),
-                command.getSize()
-        );
+        String key = searchKey(command);
+        long ttl = RedisCacheConfig.jitter(Duration.ofMinutes(1)).toMillis();
+
+        // 정렬 기준별로 키를 모아두고, commerce-streamer 가 이벤트를 받으면 한 번에 삭제한다.
+        String registryKey = "product.search.keys:" + command.getSort();
+
+        List<String> args = new ArrayList<>(productIds.productIds().size() + 3);
+        args.add(String.valueOf(ttl));
+        args.add(String.valueOf(productIds.totalItems()));
+        args.add(String.valueOf(Duration.ofMinutes(10).toMillis()));
+        productIds.productIds().forEach(productId -> args.add(String.valueOf(productId)));
 
         try {
-            // 모든 검색 조건을 캐싱하는 대신, TTL를 짧게 줘서 과도한 메모리 점유를 방지한다.
-            stringRedisTemplate.opsForValue().set(key, json, Duration.ofSeconds(5));
+            masterRedisTemplate.execute(SAVE_PRODUCT_IDS, List.of(key, totalKey(key), registryKey), args.toArray());
         } catch (Exception e) {
             log.error(e.getMessage(), e);
         }
@@ -94,21 +124,55 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
 
     @Override
     public Optional<ProductQueryResult.ProductDetail> findDetail(Long productId) {
+        // 로컬 캐시(L1)를 먼저 조회하여 네트워크 왕복과 역직렬화를 생략한다.
+        Optional<ProductQueryResult.ProductDetail> nearCached = productDetailNearCache.get(productId);
+        if (nearCached.isPresent()) {
+            return nearCached;
+        }
+
         String key = "product.detail:" + productId;
         Map<String, String> cache = stringRedisTemplate.<String, String>opsForHash().entries(key);
 
-        if (CollectionUtils.isEmpty(cache)) {
-            return Optional.empty();
+        ProductQueryResult.ProductDetail detail = toDetail(productId, cache);
+        return Optional.ofNullable(detail);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<Long, ProductQueryResult.ProductDetail> findDetails(List<Long> productIds) {
+        Map<Long, ProductQueryResult.ProductDetail> details = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : productIds) {
+            productDetailNearCache.get(productId)
+                    .ifPresentOrElse(detail -> details.put(productId, detail), () -> misses.add(productId));
         }
 
-        // 캐시 관통을 방지한다.
-        if (cache.containsKey("__null__")) {
-            return Optional.of(ProductQueryResult.ProductDetail.EMPTY);
+        if (misses.isEmpty()) {
+            return details;
         }
 
-        ProductQueryResult.ProductDetail detail = wrappedObjectMapper.readMap(cache, new TypeReference<>() {
-        });
-        return Optional.ofNullable(detail);
+        // 로컬 캐시에 없는 상품만 한 번의 왕복으로 조회한다.
+        List<Object> results;
+        try {
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                misses.forEach(productId -> conn.hGetAll("product.detail:" + productId));
+                return null;
+            });
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return details;
+        }
+
+        for (int i = 0; i < misses.size(); i++) {
+            Long productId = misses.get(i);
+            ProductQueryResult.ProductDetail detail = toDetail(productId, (Map<String, String>) results.get(i));
+            if (detail != null) {
+                details.put(productId, detail);
+            }
+        }
+
+        return details;
     }
 
     @Override
@@ -120,12 +184,120 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
         if (detail == null) {
             stringRedisTemplate.opsForHash().putAll(key, Map.of("__null__", "null"));
             stringRedisTemplate.expire(key, ttl);
+            productDetailNearCache.put(productId, ProductQueryResult.ProductDetail.EMPTY);
             return;
         }
 
         Map<String, String> cache = wrappedObjectMapper.writeValueAsMap(detail);
         stringRedisTemplate.opsForHash().putAll(key, cache);
         stringRedisTemplate.expire(key, ttl);
+        productDetailNearCache.put(productId, detail);
+    }
+
+    @Override
+    public void saveDetails(Map<Long, ProductQueryResult.ProductDetail> details) {
+        if (CollectionUtils.isEmpty(details)) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                details.forEach((productId, detail) -> {
+                    String key = "product.detail:" + productId;
+                    // 캐시 관통을 방지한다.
+                    Map<String, String> cache = detail == ProductQueryResult.ProductDetail.EMPTY
+                            ? Map.of("__null__", "null")
+                            : wrappedObjectMapper.writeValueAsMap(detail);
+                    conn.hMSet(key, cache);
+                    conn.pExpire(key, RedisCacheConfig.jitter(Duration.ofMinutes(30)).toMillis());
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+
+        details.forEach(productDetailNearCache::put);
+    }
+
+    @Override
+    public CacheAside.LoadLock detailLoadLock(Long productId) {
+        return new RedisLoadLock(masterRedisTemplate, "product.detail.lock:" + productId);
+    }
+
+    private ProductQueryResult.ProductDetail toDetail(Long productId, Map<String, String> cache) {
+        if (CollectionUtils.isEmpty(cache)) {
+            return null;
+        }
+
+        // 캐시 관통을 방지한다.
+        if (cache.containsKey("__null__")) {
+            productDetailNearCache.put(productId, ProductQueryResult.ProductDetail.EMPTY);
+            return ProductQueryResult.ProductDetail.EMPTY;
+        }
+
+        ProductQueryResult.ProductDetail detail = wrappedObjectMapper.readMap(cache, new TypeReference<>() {
+        });
+        if (detail != null) {
+            productDetailNearCache.put(productId, detail);
+        }
+
+        return detail;
+    }
+
+    /**
+     * 검색 조건(정렬, 브랜드, 검색어)마다 상품 아이디 목록을 하나씩 둔다.
+     * 해시 대신 조건을 그대로 키에 담아 충돌을 막는다.
+     */
+    private static String searchKey(ProductQueryCommand.SearchProducts command) {
+        String brandId = command.getBrandId() == null ? "*" : String.valueOf(command.getBrandId());
+        String keyword = StringUtils.hasText(command.getKeyword())
+                ? command.getKeyword().toLowerCase(Locale.ROOT)
+                : "";
+
+        return "product.search:" + command.getSort() + ":" + brandId + ":" + keyword;
+    }
+
+    private static String totalKey(String searchKey) {
+        return searchKey + ":total";
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @RequiredArgsConstructor
+    private static class RedisLoadLock implements CacheAside.LoadLock {
+
+        /**
+         * 적재하는 노드가 죽더라도 락이 남지 않도록, 상세 조회 쿼리보다 넉넉한 시간으로 만료시킨다.
+         */
+        private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+
+        private final StringRedisTemplate redisTemplate;
+        private final String key;
+        private String token;
+
+        @Override
+        public boolean tryLock() {
+            token = UUID.randomUUID().toString();
+            try {
+                return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, LOCK_TTL));
+            } catch (Exception e) {
+                // Redis 장애 시에는 노드 내 합치기만으로 동작한다.
+                log.error(e.getMessage(), e);
+                return true;
+            }
+        }
+
+        @Override
+        public void unlock() {
+            try {
+                redisTemplate.execute(DELETE_IF_OWNER, List.of(key), token);
+            } catch (Exception e) {
+                log.error(e.getMessage(), e);
+            }
+        }
     }
 
 }
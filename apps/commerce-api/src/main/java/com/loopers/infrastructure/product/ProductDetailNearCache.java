@@ -0,0 +1,130 @@
+package com.loopers.infrastructure.product;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.cache.ProductDetailCacheProperties;
+import com.loopers.config.jackson.WrappedObjectMapper;
+import com.loopers.domain.product.ProductQueryResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 상세 캐시(Redis)의 앞단에 두는 노드 로컬 캐시.
+ * <p>
+ * 다른 노드나 commerce-streamer 에서 Redis 캐시를 변경하면 {@link #INVALIDATION_CHANNEL}로 메시지를 발행하고,
+ * 이를 구독하여 로컬 사본을 삭제하거나 좋아요 수만 갱신한다.
+ * 메시지가 유실되더라도 {@code expire-after-write} 이후에는 Redis 값으로 다시 채워진다.
+ */
+@Slf4j
+@Component
+public class ProductDetailNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "product.detail.invalidation";
+    private static final String CACHE_NAME = "product.detail.near";
+
+    private final Cache<Long, ProductQueryResult.ProductDetail> cache;
+    private final WrappedObjectMapper wrappedObjectMapper;
+    private final Counter evictedCounter;
+    private final Counter patchedCounter;
+
+    public ProductDetailNearCache(
+            ProductDetailCacheProperties properties,
+            WrappedObjectMapper wrappedObjectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        this.wrappedObjectMapper = wrappedObjectMapper;
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등을 노출한다.
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+        this.evictedCounter = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .tag("type", "evict")
+                .register(meterRegistry);
+        this.patchedCounter = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .tag("type", "patch")
+                .register(meterRegistry);
+    }
+
+    public Optional<ProductQueryResult.ProductDetail> get(Long productId) {
+        return Optional.ofNullable(cache.getIfPresent(productId));
+    }
+
+    public void put(Long productId, ProductQueryResult.ProductDetail detail) {
+        cache.put(productId, detail);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Invalidation invalidation;
+        try {
+            String json = new String(message.getBody(), StandardCharsets.UTF_8);
+            invalidation = wrappedObjectMapper.readValue(json, new TypeReference<>() {
+            });
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return;
+        }
+
+        if (!CollectionUtils.isEmpty(invalidation.evictedProductIds())) {
+            cache.invalidateAll(invalidation.evictedProductIds());
+            evictedCounter.increment(invalidation.evictedProductIds().size());
+        }
+
+        if (!CollectionUtils.isEmpty(invalidation.likeCounts())) {
+            invalidation.likeCounts().forEach((productId, likeCount) ->
+                    cache.asMap().computeIfPresent(productId, (id, detail) -> withLikeCount(detail, likeCount)));
+            patchedCounter.increment(invalidation.likeCounts().size());
+        }
+    }
+
+    private static ProductQueryResult.ProductDetail withLikeCount(ProductQueryResult.ProductDetail detail, Long likeCount) {
+        // 캐시 관통 방지용 객체는 그대로 둔다.
+        if (detail == ProductQueryResult.ProductDetail.EMPTY) {
+            return detail;
+        }
+
+        return new ProductQueryResult.ProductDetail(
+                detail.productId(),
+                detail.productName(),
+                detail.basePrice(),
+                likeCount,
+                detail.brandId(),
+                detail.brandName(),
+                detail.options()
+        );
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * commerce-streamer 의 {@code ProductCacheRepositoryImpl}이 발행하는 메시지.
+     */
+    record Invalidation(
+            List<Long> evictedProductIds,
+            Map<Long, Long> likeCounts
+    ) {
+    }
+
+}
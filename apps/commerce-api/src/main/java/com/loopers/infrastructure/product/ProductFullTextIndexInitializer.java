@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.product.ProductSearchProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품명 검색에 쓰는 n-gram FULLTEXT 인덱스가 없으면 만든다.
+ * <p>
+ * JPA 의 {@code @Index}로는 FULLTEXT 인덱스를 선언할 수 없으므로, 스키마를 자동으로 만드는 local, test 프로필에서만 애플리케이션이 뜰 때 확인한다.
+ * 그 밖의 환경은 노드마다 ALTER TABLE 을 실행하지 않도록, {@code docs/migration/product-fulltext-index.sql}로 미리 만든다.
+ * 인덱스는 {@code ngram_token_size}(기본 2) 글자 단위로 쪼개므로 한글처럼 띄어쓰기가 없는 상품명도 부분 일치로 찾을 수 있다.
+ * 기본 불용어 목록에는 {@code a}, {@code i} 같은 한 글자 단어가 있어 이를 포함하는 모든 토큰이 빠지므로, 불용어를 끄고 만든다.
+ */
+@Slf4j
+@Component
+@Profile({"local", "test"})
+@RequiredArgsConstructor
+public class ProductFullTextIndexInitializer {
+
+    static final String INDEX_NAME = "products_idx_name_fulltext";
+
+    private final ProductSearchProperties properties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        if (!properties.fullText()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Number count = (Number) entityManager
+                    .createNativeQuery("""
+                                SELECT COUNT(*)
+                                  FROM information_schema.statistics
+                                 WHERE table_schema = DATABASE()
+                                   AND table_name = 'products'
+                                   AND index_name = :indexName
+                            """)
+                    .setParameter("indexName", INDEX_NAME)
+                    .getSingleResult();
+            if (count.longValue() > 0) {
+                return;
+            }
+
+            // 불용어 설정은 인덱스를 만드는 세션의 값을 따른다.
+            // 커넥션은 풀로 돌아가 다른 요청이 쓰므로, 만든 뒤에는 세션 값을 되돌린다.
+            entityManager.createNativeQuery("SET SESSION innodb_ft_enable_stopword = OFF").executeUpdate();
+            try {
+                entityManager.createNativeQuery("ALTER TABLE products ADD FULLTEXT INDEX " + INDEX_NAME + " (product_name) WITH PARSER ngram")
+                        .executeUpdate();
+            } finally {
+                entityManager.createNativeQuery("SET SESSION innodb_ft_enable_stopword = DEFAULT").executeUpdate();
+            }
+            log.info("Created full-text index: {}", INDEX_NAME);
+        });
+    }
+
+}
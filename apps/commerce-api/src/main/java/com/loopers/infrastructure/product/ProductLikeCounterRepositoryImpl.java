@@ -0,0 +1,82 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.RedisConfig;
+import com.loopers.domain.product.ProductLikeCounterRepository;
+import com.loopers.domain.product.ProductLikeFlush;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductLikeCounterRepositoryImpl implements ProductLikeCounterRepository {
+
+    private static final String PENDING_KEY = "product.like.pending";
+    private static final String FLUSHING_KEY = "product.like.flushing";
+    private static final String FLUSH_ID_FIELD = "__flush_id__";
+
+    /**
+     * 반영 중인 변경분이 없을 때만 쌓인 변경분을 옮긴다. 옮긴 뒤의 증가분은 새 해시에 쌓인다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> BEGIN_FLUSH = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+              end
+              redis.call('RENAME', KEYS[1], KEYS[2])
+              redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    private static final RedisScript<Long> END_FLUSH = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate masterRedisTemplate;
+
+    @Override
+    public void increase(Long productId, long delta) {
+        masterRedisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(productId), delta);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<ProductLikeFlush> beginFlush(String flushId) {
+        List<Object> entries = masterRedisTemplate.execute(
+                BEGIN_FLUSH, List.of(PENDING_KEY, FLUSHING_KEY), FLUSH_ID_FIELD, flushId);
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String currentFlushId = null;
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = String.valueOf(entries.get(i));
+            String value = String.valueOf(entries.get(i + 1));
+
+            if (FLUSH_ID_FIELD.equals(field)) {
+                currentFlushId = value;
+            } else if (Long.parseLong(value) != 0) {
+                deltas.put(Long.valueOf(field), Long.valueOf(value));
+            }
+        }
+
+        return Optional.of(new ProductLikeFlush(currentFlushId, deltas));
+    }
+
+    @Override
+    public void endFlush(String flushId) {
+        masterRedisTemplate.execute(END_FLUSH, List.of(FLUSHING_KEY), FLUSH_ID_FIELD, flushId);
+    }
+
+}
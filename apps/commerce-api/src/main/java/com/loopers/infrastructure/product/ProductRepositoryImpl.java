@@ -1,15 +1,21 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.config.jpa.function.MySqlFunctionContributor;
+import com.loopers.config.product.ProductSearchProperties;
 import com.loopers.domain.brand.QBrand;
 import com.loopers.domain.product.*;
 import com.loopers.domain.product.attribute.ProductSearchSortType;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -17,18 +23,27 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    /**
+     * MySQL 의 기본 {@code ngram_token_size}. 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없다.
+     */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
     private final ProductJpaRepository productRepository;
     private final ProductOptionJpaRepository productOptionRepository;
     private final StockJpaRepository stockJpaRepository;
+    private final StockDeductionJpaRepository stockDeductionJpaRepository;
+    private final StockSlotJpaRepository stockSlotJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final ProductSearchProperties searchProperties;
 
     @Override
     public Page<ProductQueryResult.Products> searchProducts(ProductQueryCommand.SearchProducts command) {
@@ -83,12 +98,143 @@ public class ProductRepositoryImpl implements ProductRepository {
         return PageableExecutionUtils.getPage(products, pageRequest, countQuery::fetchOne);
     }
 
+    @Override
+    public List<Long> searchProductIds(ProductQueryCommand.SearchProducts command, int limit) {
+        QProduct p = QProduct.product;
+
+        // 정렬 인덱스만으로 처리되도록 아이디만 조회한다.
+        return queryFactory
+                .select(p.id)
+                .from(p)
+                .where(
+                        containKeywordByProductName(command.getKeyword()),
+                        command.getBrandId() == null ? null : p.brandId.eq(command.getBrandId())
+                )
+                .limit(limit)
+                .orderBy(productsSorter(command.getSort()), tieBreakSorter())
+                .fetch();
+    }
+
+    @Override
+    public List<ProductQueryResult.Products> findProducts(List<Long> productIds) {
+        QProduct p = QProduct.product;
+        QBrand b = QBrand.brand;
+
+        return queryFactory
+                .select(
+                        p.id
+                        , p.name
+                        , p.basePrice
+                        , p.likeCount
+                        , p.brandId
+                        , b.name
+                )
+                .from(p)
+                .leftJoin(b).on(b.id.eq(p.brandId))
+                .where(p.id.in(productIds))
+                .stream()
+                .map(row -> new ProductQueryResult.Products(
+                        row.get(p.id),
+                        row.get(p.name),
+                        row.get(p.basePrice),
+                        row.get(p.likeCount),
+                        row.get(p.brandId),
+                        row.get(b.name)
+                ))
+                .toList();
+    }
+
+    @Override
+    public ProductQueryResult.ScrolledProducts scrollProducts(ProductQueryCommand.ScrollProducts command) {
+        QProduct p = QProduct.product;
+        QBrand b = QBrand.brand;
+
+        ProductSearchSortType sortType = command.getSort();
+        int size = command.getSize();
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회한다.
+        List<Tuple> rows = queryFactory
+                .select(
+                        p.id
+                        , p.name
+                        , p.basePrice
+                        , p.likeCount
+                        , p.brandId
+                        , b.name
+                        , p.createdAt
+                )
+                .from(p)
+                .leftJoin(b).on(b.id.eq(p.brandId))
+                .where(
+                        containKeywordByProductName(command.getKeyword()),
+                        // 인덱스(ref_brand_id, ...)를 타도록 상품의 브랜드 아이디로 조건을 건다.
+                        command.getBrandId() == null ? null : p.brandId.eq(command.getBrandId()),
+                        seekAfter(command.getCursor())
+                )
+                .limit(size + 1L)
+                .orderBy(productsSorter(sortType), tieBreakSorter())
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> content = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProductQueryResult.Products> products = content.stream()
+                .map(row -> new ProductQueryResult.Products(
+                        row.get(p.id),
+                        row.get(p.name),
+                        row.get(p.basePrice),
+                        row.get(p.likeCount),
+                        row.get(p.brandId),
+                        row.get(b.name)
+                ))
+                .toList();
+
+        ProductCursor nextCursor = null;
+        if (hasNext) {
+            Tuple last = content.getLast();
+            Object sortValue = switch (sortType) {
+                case LATEST -> last.get(p.createdAt);
+                case POPULAR -> last.get(p.likeCount);
+                case CHEAP -> last.get(p.basePrice);
+            };
+            nextCursor = ProductCursor.of(sortType, last.get(p.id), sortValue);
+        }
+
+        return new ProductQueryResult.ScrolledProducts(products, nextCursor);
+    }
+
+    @Override
+    public long countProducts(String keyword, Long brandId) {
+        QProduct p = QProduct.product;
+
+        Long count = queryFactory
+                .select(p.count())
+                .from(p)
+                .where(
+                        containKeywordByProductName(keyword),
+                        brandId == null ? null : p.brandId.eq(brandId)
+                )
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
     @Override
     public Optional<ProductQueryResult.ProductDetail> findDetail(Long productId) {
+        return Optional.ofNullable(findDetails(List.of(productId)).get(productId));
+    }
+
+    @Override
+    public Map<Long, ProductQueryResult.ProductDetail> findDetails(List<Long> productIds) {
+        if (CollectionUtils.isEmpty(productIds)) {
+            return Map.of();
+        }
+
         QBrand b = QBrand.brand;
         QProduct p = QProduct.product;
         QProductOption po = QProductOption.productOption;
         QProductStock ps = QProductStock.productStock;
+        NumberExpression<Integer> stockQuantity = stockQuantity(ps, po);
 
         List<Tuple> rows = queryFactory
                 .select(
@@ -102,30 +248,28 @@ public class ProductRepositoryImpl implements ProductRepository {
                         , po.name
                         , po.additionalPrice
                         , po.productId
-                        , ps.quantity
+                        , stockQuantity
                 )
                 .from(p)
                 .leftJoin(b).on(b.id.eq(p.brandId))
                 .leftJoin(po).on(po.productId.eq(p.id))
                 .leftJoin(ps).on(ps.productOptionId.eq(po.id))
-                .where(p.id.eq(productId))
+                .where(productIds.size() == 1 ? p.id.eq(productIds.getFirst()) : p.id.in(productIds))
                 .fetch();
 
-        if (CollectionUtils.isEmpty(rows)) {
-            return Optional.empty();
-        }
-
-        ProductQueryResult.ProductDetail detail = new ProductQueryResult.ProductDetail(
-                rows.getFirst().get(p.id),
-                rows.getFirst().get(p.name),
-                rows.getFirst().get(p.basePrice),
-                rows.getFirst().get(p.likeCount),
-                rows.getFirst().get(p.brandId),
-                rows.getFirst().get(b.name),
-                new ArrayList<>()
-        );
-
+        Map<Long, ProductQueryResult.ProductDetail> details = new LinkedHashMap<>();
         for (Tuple row : rows) {
+            ProductQueryResult.ProductDetail detail = details.computeIfAbsent(row.get(p.id), productId ->
+                    new ProductQueryResult.ProductDetail(
+                            productId,
+                            row.get(p.name),
+                            row.get(p.basePrice),
+                            row.get(p.likeCount),
+                            row.get(p.brandId),
+                            row.get(b.name),
+                            new ArrayList<>()
+                    ));
+
             if (row.get(po.id) == null) {
                 continue;
             }
@@ -135,13 +279,13 @@ public class ProductRepositoryImpl implements ProductRepository {
                     row.get(po.name),
                     row.get(po.additionalPrice),
                     row.get(po.productId),
-                    row.get(ps.quantity)
+                    row.get(stockQuantity)
             );
 
             detail.options().add(item);
         }
 
-        return Optional.of(detail);
+        return details;
     }
 
     @Override
@@ -151,12 +295,13 @@ public class ProductRepositoryImpl implements ProductRepository {
         QProductStock ps = QProductStock.productStock;
 
         NumberExpression<Integer> salePrice = p.basePrice.add(po.additionalPrice).as("salePrice");
+        NumberExpression<Integer> stockQuantity = stockQuantity(ps, po);
 
         List<ProductQueryResult.ProductOptions.Item> items = queryFactory
                 .select(
                         po.id,
                         salePrice,
-                        ps.quantity,
+                        stockQuantity,
                         p.id
                 )
                 .from(po)
@@ -167,7 +312,7 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .map(row -> new ProductQueryResult.ProductOptions.Item(
                                 row.get(po.id),
                                 row.get(salePrice),
-                                row.get(ps.quantity),
+                                row.get(stockQuantity),
                                 row.get(p.id)
                         )
                 )
@@ -186,11 +331,212 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productRepository.findByIdForUpdate(productId);
     }
 
+    @Override
+    public int addLikeCounts(Map<Long, Long> deltas) {
+        if (CollectionUtils.isEmpty(deltas)) {
+            return 0;
+        }
+
+        QProduct p = QProduct.product;
+
+        // CASE product_id WHEN ? THEN GREATEST(like_count + ?, 0) ... END
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            NumberExpression<Long> added = p.likeCount.add(entry.getValue());
+            NumberExpression<Long> likeCount = new CaseBuilder().when(added.lt(0L)).then(0L).otherwise(added);
+
+            cases = cases == null
+                    ? new CaseBuilder().when(p.id.eq(entry.getKey())).then(likeCount)
+                    : cases.when(p.id.eq(entry.getKey())).then(likeCount);
+        }
+
+        return (int) queryFactory
+                .update(p)
+                .set(p.likeCount, cases.otherwise(p.likeCount))
+                .set(p.updatedAt, ZonedDateTime.now())
+                .where(p.id.in(deltas.keySet()))
+                .execute();
+    }
+
+    @Override
+    public Map<Long, Long> findLikeCounts(List<Long> productIds) {
+        if (CollectionUtils.isEmpty(productIds)) {
+            return Map.of();
+        }
+
+        QProduct p = QProduct.product;
+
+        return queryFactory
+                .select(p.id, p.likeCount)
+                .from(p)
+                .where(p.id.in(productIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(p.id), row -> row.get(p.likeCount)));
+    }
+
     @Override
     public List<ProductStock> findStocksForUpdate(List<Long> productOptionIds) {
         return stockJpaRepository.findByProductOptionIdIn(productOptionIds);
     }
 
+    @Override
+    public List<ProductStock> findStocks(List<Long> productOptionIds) {
+        return stockJpaRepository.findAllByProductOptionIds(productOptionIds);
+    }
+
+    @Override
+    public List<ProductStock> findStocksAfter(Long lastProductOptionId, int limit) {
+        return stockJpaRepository.findAllAfter(lastProductOptionId, Limit.of(limit));
+    }
+
+    @Override
+    public boolean deductStockQuantity(Long productOptionId, int amount) {
+        return stockJpaRepository.deductQuantity(productOptionId, amount, ZonedDateTime.now()) == 1;
+    }
+
+    @Override
+    public int deductStockQuantities(Map<Long, Integer> amounts) {
+        if (CollectionUtils.isEmpty(amounts)) {
+            return 0;
+        }
+
+        QProductStock ps = QProductStock.productStock;
+        NumberExpression<Integer> amount = amountByProductOptionId(ps, amounts);
+
+        // 옵션 아이디의 유니크 인덱스 순서로 행을 잠그므로, 여러 옵션을 담은 주문끼리 교착 상태에 빠지지 않는다.
+        return (int) queryFactory
+                .update(ps)
+                .set(ps.quantity, ps.quantity.subtract(amount))
+                .set(ps.updatedAt, ZonedDateTime.now())
+                .where(
+                        ps.productOptionId.in(amounts.keySet()),
+                        ps.quantity.goe(amount)
+                )
+                .execute();
+    }
+
+    @Override
+    public int addStockQuantities(Map<Long, Integer> amounts) {
+        if (CollectionUtils.isEmpty(amounts)) {
+            return 0;
+        }
+
+        QProductStock ps = QProductStock.productStock;
+
+        return (int) queryFactory
+                .update(ps)
+                .set(ps.quantity, ps.quantity.add(amountByProductOptionId(ps, amounts)))
+                .set(ps.updatedAt, ZonedDateTime.now())
+                .where(ps.productOptionId.in(amounts.keySet()))
+                .execute();
+    }
+
+    @Override
+    public Map<Long, Integer> findStockQuantities(List<Long> productOptionIds) {
+        if (CollectionUtils.isEmpty(productOptionIds)) {
+            return Map.of();
+        }
+
+        QProductStock ps = QProductStock.productStock;
+
+        return queryFactory
+                .select(ps.productOptionId, ps.quantity)
+                .from(ps)
+                .where(ps.productOptionId.in(productOptionIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(ps.productOptionId), row -> row.get(ps.quantity)));
+    }
+
+    @Override
+    public Map<Long, ProductQueryResult.StockSlots> findStockSlots(List<Long> productOptionIds) {
+        if (CollectionUtils.isEmpty(productOptionIds)) {
+            return Map.of();
+        }
+
+        return stockSlotJpaRepository.summarizeByProductOptionIds(productOptionIds)
+                .stream()
+                .map(row -> new ProductQueryResult.StockSlots(
+                        (Long) row[0],
+                        ((Number) row[1]).intValue(),
+                        ((Number) row[2]).intValue()
+                ))
+                .collect(Collectors.toMap(ProductQueryResult.StockSlots::productOptionId, Function.identity()));
+    }
+
+    @Override
+    public List<ProductStockSlot> findStockSlotsForUpdate(Long productOptionId) {
+        return stockSlotJpaRepository.findAllForUpdate(productOptionId);
+    }
+
+    @Override
+    public boolean deductStockSlotQuantity(Long productOptionId, int slotNo, int amount) {
+        return stockSlotJpaRepository.deductQuantity(productOptionId, slotNo, amount, ZonedDateTime.now()) == 1;
+    }
+
+    @Override
+    public void addStockSlotQuantity(Long productOptionId, int slotNo, int amount) {
+        stockSlotJpaRepository.addQuantity(productOptionId, slotNo, amount, ZonedDateTime.now());
+    }
+
+    @Override
+    public List<ProductStockSlot> saveStockSlots(List<ProductStockSlot> slots) {
+        return stockSlotJpaRepository.saveAll(slots);
+    }
+
+    @Override
+    public void deleteStockSlots(Long productOptionId) {
+        stockSlotJpaRepository.deleteByProductOptionId(productOptionId);
+    }
+
+    @Override
+    public List<ProductStockDeduction> saveDeductions(List<ProductStockDeduction> deductions) {
+        return stockDeductionJpaRepository.saveAll(deductions);
+    }
+
+    @Override
+    public List<ProductStockDeduction> findDeductionsForSettlement(int limit) {
+        return stockDeductionJpaRepository.findSettlementTargetsForUpdate(Limit.of(limit));
+    }
+
+    @Override
+    public void markDeductionsFailed(List<Long> deductionIds, ZonedDateTime failedAt) {
+        if (CollectionUtils.isEmpty(deductionIds)) {
+            return;
+        }
+
+        stockDeductionJpaRepository.updateFailedAt(deductionIds, failedAt);
+    }
+
+    @Override
+    public int resetFailedDeductions() {
+        return stockDeductionJpaRepository.resetFailedAt();
+    }
+
+    @Override
+    public Map<Long, Integer> sumUnsettledDeductions(List<Long> productOptionIds) {
+        if (CollectionUtils.isEmpty(productOptionIds)) {
+            return Map.of();
+        }
+
+        return stockDeductionJpaRepository.sumAmountsByProductOptionIds(productOptionIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        row -> (Long) row[0],
+                        row -> ((Number) row[1]).intValue()
+                ));
+    }
+
+    @Override
+    public void deleteDeductions(List<Long> deductionIds) {
+        if (CollectionUtils.isEmpty(deductionIds)) {
+            return;
+        }
+
+        stockDeductionJpaRepository.deleteByIds(deductionIds);
+    }
+
     @Override
     public Product saveProduct(Product product) {
         return productRepository.save(product);
@@ -203,9 +549,57 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     // -------------------------------------------------------------------------------------------------
 
-    private static BooleanExpression containKeywordByProductName(String keyword) {
+    /**
+     * 슬롯으로 나누어진 재고는 모든 슬롯의 수량을 더한다.
+     */
+    private static NumberExpression<Integer> stockQuantity(QProductStock ps, QProductOption po) {
+        QProductStockSlot pss = QProductStockSlot.productStockSlot;
+
+        return ps.quantity
+                .add(JPAExpressions
+                        .select(pss.quantity.sum().coalesce(0))
+                        .from(pss)
+                        .where(pss.productOptionId.eq(po.id)))
+                .as("stockQuantity");
+    }
+
+    /**
+     * 여러 옵션의 변경량을 한 문장에 담는다. {@code CASE ref_product_option_id WHEN ? THEN ? ... END}
+     */
+    private static NumberExpression<Integer> amountByProductOptionId(QProductStock ps, Map<Long, Integer> amounts) {
+        Iterator<Map.Entry<Long, Integer>> iterator = amounts.entrySet().iterator();
+        Map.Entry<Long, Integer> first = iterator.next();
+
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = new CaseBuilder()
+                .when(ps.productOptionId.eq(first.getKey()))
+                .then(first.getValue());
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Integer> entry = iterator.next();
+            cases = cases.when(ps.productOptionId.eq(entry.getKey())).then(entry.getValue());
+        }
+
+        return cases.otherwise(0);
+    }
+
+    private BooleanExpression containKeywordByProductName(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+
         QProduct p = QProduct.product;
-        return StringUtils.hasText(keyword) ? p.name.containsIgnoreCase(keyword) : null;
+        String trimmed = keyword.strip();
+        if (!searchProperties.fullText() || trimmed.codePointCount(0, trimmed.length()) < NGRAM_TOKEN_SIZE) {
+            return p.name.containsIgnoreCase(keyword);
+        }
+
+        // 검색어를 구(phrase)로 감싸서, n-gram 토큰이 이어서 나오는(부분 문자열로 포함하는) 상품명만 찾는다.
+        String phrase = '"' + trimmed.replace('"', ' ') + '"';
+        return Expressions.numberTemplate(
+                Double.class,
+                "function('" + MySqlFunctionContributor.MATCH_AGAINST + "', {0}, {1})",
+                p.name,
+                phrase
+        ).gt(0);
     }
 
     private static BooleanExpression matchByBrandId(Long brandId) {
@@ -213,6 +607,27 @@ public class ProductRepositoryImpl implements ProductRepository {
         return brandId == null ? null : b.id.eq(brandId);
     }
 
+    /**
+     * 정렬 기준과 같은 순서로 (정렬 값, 상품 아이디)를 비교하여, 커서 다음 위치부터 탐색한다.
+     */
+    private static BooleanExpression seekAfter(ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        QProduct p = QProduct.product;
+        Long lastId = cursor.productId();
+
+        return switch (cursor.sort()) {
+            case LATEST -> p.createdAt.lt(cursor.createdAt())
+                    .or(p.createdAt.eq(cursor.createdAt()).and(p.id.lt(lastId)));
+            case POPULAR -> p.likeCount.lt(cursor.likeCount())
+                    .or(p.likeCount.eq(cursor.likeCount()).and(p.id.lt(lastId)));
+            case CHEAP -> p.basePrice.gt(cursor.basePrice())
+                    .or(p.basePrice.eq(cursor.basePrice()).and(p.id.lt(lastId)));
+        };
+    }
+
     private static OrderSpecifier<? extends Comparable<?>> productsSorter(ProductSearchSortType sortType) {
         QProduct p = QProduct.product;
 
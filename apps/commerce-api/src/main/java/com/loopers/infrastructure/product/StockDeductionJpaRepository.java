@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockDeduction;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface StockDeductionJpaRepository extends JpaRepository<ProductStockDeduction, Long> {
+
+    /**
+     * {@code for update skip locked}: 여러 노드가 동시에 정산해도 같은 차감분을 중복으로 반영하지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "" + LockOptions.SKIP_LOCKED))
+    @Query("select d from ProductStockDeduction d where d.failedAt is null order by d.id")
+    List<ProductStockDeduction> findSettlementTargetsForUpdate(Limit limit);
+
+    @Modifying
+    @Query("update ProductStockDeduction d set d.failedAt = :failedAt, d.updatedAt = :failedAt where d.id in :ids")
+    int updateFailedAt(@Param("ids") List<Long> ids, @Param("failedAt") ZonedDateTime failedAt);
+
+    @Modifying
+    @Query("update ProductStockDeduction d set d.failedAt = null where d.failedAt is not null")
+    int resetFailedAt();
+
+    @Query("""
+                select d.productOptionId, sum(d.amount) from ProductStockDeduction d
+                where d.productOptionId in :productOptionIds
+                group by d.productOptionId
+            """)
+    List<Object[]> sumAmountsByProductOptionIds(@Param("productOptionIds") List<Long> productOptionIds);
+
+    @Modifying
+    @Query("delete from ProductStockDeduction d where d.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+}
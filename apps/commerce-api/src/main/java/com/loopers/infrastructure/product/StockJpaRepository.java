@@ -2,9 +2,14 @@ package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductStock;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 public interface StockJpaRepository extends JpaRepository<ProductStock, Long> {
@@ -12,4 +17,26 @@ public interface StockJpaRepository extends JpaRepository<ProductStock, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<ProductStock> findByProductOptionIdIn(List<Long> productOptionIds);
 
+    @Query("select s from ProductStock s where s.productOptionId in :productOptionIds")
+    List<ProductStock> findAllByProductOptionIds(@Param("productOptionIds") List<Long> productOptionIds);
+
+    @Query("select s from ProductStock s where s.productOptionId > :productOptionId order by s.productOptionId")
+    List<ProductStock> findAllAfter(@Param("productOptionId") Long productOptionId, Limit limit);
+
+    /**
+     * 수량이 충분할 때만 차감한다. 영향받은 행의 수로 성공 여부를 판단한다.
+     */
+    @Modifying
+    @Query("""
+                update ProductStock s
+                set s.quantity = s.quantity - :amount, s.updatedAt = :updatedAt
+                where s.productOptionId = :productOptionId
+                and s.quantity >= :amount
+            """)
+    int deductQuantity(
+            @Param("productOptionId") Long productOptionId,
+            @Param("amount") Integer amount,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
 }
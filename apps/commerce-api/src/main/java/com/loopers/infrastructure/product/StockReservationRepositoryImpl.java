@@ -0,0 +1,260 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.RedisConfig;
+import com.loopers.domain.product.StockReservation;
+import com.loopers.domain.product.StockReservationRepository;
+import com.loopers.domain.product.error.ProductErrorType;
+import com.loopers.support.error.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+public class StockReservationRepositoryImpl implements StockReservationRepository {
+
+    /**
+     * 모든 카운터를 먼저 검사한 뒤에 차감하므로, 장바구니 단위로 전부 예약되거나 전부 실패한다.
+     * 앞쪽 절반의 KEYS 는 카운터, 뒤쪽 절반은 카운터의 세대이며, 예약한 카운터의 세대를 함께 반환한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE = RedisScript.of("""
+            local n = #ARGV
+            local missing = {}
+            for i = 1, n do
+              if redis.call('EXISTS', KEYS[i]) == 0 then
+                table.insert(missing, tostring(i))
+              end
+            end
+            if #missing > 0 then
+              table.insert(missing, 1, 'NOT_LOADED')
+              return missing
+            end
+            for i = 1, n do
+              if tonumber(redis.call('GET', KEYS[i])) < tonumber(ARGV[i]) then
+                return { 'NOT_ENOUGH' }
+              end
+            end
+            local result = { 'RESERVED' }
+            for i = 1, n do
+              table.insert(result, tostring(redis.call('DECRBY', KEYS[i], ARGV[i])))
+            end
+            for i = 1, n do
+              table.insert(result, redis.call('GET', KEYS[n + i]) or '')
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 카운터가 있고 세대가 같을 때만 더한다. 세대가 다르면 다시 적재된 카운터이므로, 이미 DB 기준으로 맞춰져 있다.
+     */
+    private static final RedisScript<Long> INCREASE_IF_SAME_GENERATION = RedisScript.of("""
+            local n = #KEYS / 2
+            for i = 1, n do
+              if redis.call('EXISTS', KEYS[i]) == 1 and (redis.call('GET', KEYS[n + i]) or '') == ARGV[n + i] then
+                redis.call('INCRBY', KEYS[i], ARGV[i])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 카운터가 있고 세대가 다를 때만 뺀다. 예약과 커밋 사이에 다시 적재된 카운터는 커밋되지 않은 차감분을 보지 못했다.
+     */
+    private static final RedisScript<Long> DECREASE_IF_OTHER_GENERATION = RedisScript.of("""
+            local n = #KEYS / 2
+            for i = 1, n do
+              if redis.call('EXISTS', KEYS[i]) == 1 and (redis.call('GET', KEYS[n + i]) or '') ~= ARGV[n + i] then
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 카운터가 없을 때만 적재하고, 새 세대를 부여한다.
+     */
+    private static final RedisScript<Long> LOAD_IF_ABSENT = RedisScript.of("""
+            local n = #KEYS / 2
+            for i = 1, n do
+              if redis.call('SETNX', KEYS[i], ARGV[i]) == 1 then
+                redis.call('SET', KEYS[n + i], ARGV[n + i])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> COMPARE_AND_SET = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate masterRedisTemplate;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public StockReservation reserve(Map<Long, Integer> amounts) {
+        List<Long> productOptionIds = List.copyOf(amounts.keySet());
+        Object[] args = productOptionIds.stream().map(amounts::get).map(String::valueOf).toArray();
+
+        List<Object> result;
+        try {
+            result = masterRedisTemplate.execute(RESERVE, keysWithGenerations(productOptionIds), args);
+        } catch (DataAccessException e) {
+            throw new BusinessException(ProductErrorType.RESERVATION_UNAVAILABLE, e.getMessage());
+        }
+        String status = String.valueOf(result.getFirst());
+
+        return switch (status) {
+            case "RESERVED" -> {
+                int n = productOptionIds.size();
+                Map<Long, Integer> quantities = new LinkedHashMap<>();
+                Map<Long, String> generations = new LinkedHashMap<>();
+                for (int i = 0; i < n; i++) {
+                    quantities.put(productOptionIds.get(i), Integer.parseInt(String.valueOf(result.get(i + 1))));
+                    generations.put(productOptionIds.get(i), String.valueOf(result.get(n + i + 1)));
+                }
+                yield StockReservation.reserved(quantities, generations);
+            }
+            case "NOT_ENOUGH" -> StockReservation.notEnough();
+            case "NOT_LOADED" -> StockReservation.notLoaded(result.subList(1, result.size())
+                    .stream()
+                    // Lua 의 인덱스는 1부터 시작한다.
+                    .map(index -> productOptionIds.get(Integer.parseInt(String.valueOf(index)) - 1))
+                    .toList());
+            default -> throw new IllegalStateException("Unexpected reservation status: " + status);
+        };
+    }
+
+    @Override
+    public void release(Map<Long, Integer> amounts, Map<Long, String> generations) {
+        execute(INCREASE_IF_SAME_GENERATION, amounts, generations);
+    }
+
+    @Override
+    public void confirm(Map<Long, Integer> amounts, Map<Long, String> generations) {
+        execute(DECREASE_IF_OTHER_GENERATION, amounts, generations);
+    }
+
+    @Override
+    public void add(Map<Long, Integer> amounts, Map<Long, String> generations) {
+        execute(INCREASE_IF_SAME_GENERATION, amounts, generations);
+    }
+
+    @Override
+    public void loadIfAbsent(Map<Long, Integer> quantities) {
+        if (CollectionUtils.isEmpty(quantities)) {
+            return;
+        }
+
+        // 먼저 적재한 노드의 값을 덮어쓰지 않는다.
+        String generation = UUID.randomUUID().toString();
+        Map<Long, String> generations = new HashMap<>();
+        quantities.keySet().forEach(productOptionId -> generations.put(productOptionId, generation));
+        try {
+            execute(LOAD_IF_ABSENT, quantities, generations);
+        } catch (DataAccessException e) {
+            throw new BusinessException(ProductErrorType.RESERVATION_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(List<Long> productOptionIds) {
+        if (CollectionUtils.isEmpty(productOptionIds)) {
+            return;
+        }
+
+        // 세대 키는 남겨두어도, 다시 적재할 때 새 세대로 덮어쓴다.
+        masterRedisTemplate.delete(productOptionIds.stream().map(StockReservationRepositoryImpl::key).toList());
+    }
+
+    @Override
+    public Map<Long, String> findGenerations(List<Long> productOptionIds) {
+        if (CollectionUtils.isEmpty(productOptionIds)) {
+            return Map.of();
+        }
+
+        List<String> values = masterRedisTemplate.opsForValue()
+                .multiGet(productOptionIds.stream().map(StockReservationRepositoryImpl::generationKey).toList());
+
+        Map<Long, String> generations = new HashMap<>();
+        for (int i = 0; i < productOptionIds.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            generations.put(productOptionIds.get(i), value == null ? "" : value);
+        }
+
+        return generations;
+    }
+
+    @Override
+    public Map<Long, Integer> findQuantities(List<Long> productOptionIds) {
+        if (CollectionUtils.isEmpty(productOptionIds)) {
+            return Map.of();
+        }
+
+        List<String> values = masterRedisTemplate.opsForValue()
+                .multiGet(productOptionIds.stream().map(StockReservationRepositoryImpl::key).toList());
+
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (int i = 0; i < productOptionIds.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (value != null) {
+                quantities.put(productOptionIds.get(i), Integer.parseInt(value));
+            }
+        }
+
+        return quantities;
+    }
+
+    @Override
+    public boolean overwrite(Long productOptionId, Integer expected, Integer quantity) {
+        Long updated = masterRedisTemplate.execute(COMPARE_AND_SET, List.of(key(productOptionId)),
+                String.valueOf(expected), String.valueOf(quantity));
+        return Objects.equals(updated, 1L);
+    }
+
+    /**
+     * 앞쪽 절반의 KEYS/ARGV 는 카운터와 수량, 뒤쪽 절반은 세대 키와 세대로 넘긴다.
+     */
+    private void execute(RedisScript<Long> script, Map<Long, Integer> amounts, Map<Long, String> generations) {
+        if (CollectionUtils.isEmpty(amounts)) {
+            return;
+        }
+
+        List<Long> productOptionIds = List.copyOf(amounts.keySet());
+        List<Object> args = new ArrayList<>();
+        productOptionIds.forEach(productOptionId -> args.add(String.valueOf(amounts.get(productOptionId))));
+        productOptionIds.forEach(productOptionId -> args.add(generations.getOrDefault(productOptionId, "")));
+
+        masterRedisTemplate.execute(script, keysWithGenerations(productOptionIds), args.toArray());
+    }
+
+    private static List<String> keysWithGenerations(List<Long> productOptionIds) {
+        List<String> keys = new ArrayList<>(productOptionIds.size() * 2);
+        productOptionIds.forEach(productOptionId -> keys.add(key(productOptionId)));
+        productOptionIds.forEach(productOptionId -> keys.add(generationKey(productOptionId)));
+        return keys;
+    }
+
+    private static String key(Long productOptionId) {
+        return "product.stock:" + productOptionId;
+    }
+
+    /**
+     * 카운터를 적재할 때마다 바뀌는 값. 예약한 뒤에 카운터가 유실되어 다시 적재되었는지 알아보는 데 쓴다.
+     */
+    private static String generationKey(Long productOptionId) {
+        return "product.stock.generation:" + productOptionId;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface StockSlotJpaRepository extends JpaRepository<ProductStockSlot, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ProductStockSlot s where s.productOptionId = :productOptionId order by s.slotNo")
+    List<ProductStockSlot> findAllForUpdate(@Param("productOptionId") Long productOptionId);
+
+    @Query("""
+                select s.productOptionId, count(s), sum(s.quantity) from ProductStockSlot s
+                where s.productOptionId in :productOptionIds
+                group by s.productOptionId
+            """)
+    List<Object[]> summarizeByProductOptionIds(@Param("productOptionIds") List<Long> productOptionIds);
+
+    /**
+     * 슬롯의 수량이 충분할 때만 차감한다. 영향받은 행의 수로 성공 여부를 판단한다.
+     */
+    @Modifying
+    @Query("""
+                update ProductStockSlot s
+                set s.quantity = s.quantity - :amount, s.updatedAt = :updatedAt
+                where s.productOptionId = :productOptionId
+                and s.slotNo = :slotNo
+                and s.quantity >= :amount
+            """)
+    int deductQuantity(
+            @Param("productOptionId") Long productOptionId,
+            @Param("slotNo") Integer slotNo,
+            @Param("amount") Integer amount,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("""
+                update ProductStockSlot s
+                set s.quantity = s.quantity + :amount, s.updatedAt = :updatedAt
+                where s.productOptionId = :productOptionId
+                and s.slotNo = :slotNo
+            """)
+    int addQuantity(
+            @Param("productOptionId") Long productOptionId,
+            @Param("slotNo") Integer slotNo,
+            @Param("amount") Integer amount,
+            @Param("updatedAt") ZonedDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("delete from ProductStockSlot s where s.productOptionId = :productOptionId")
+    int deleteByProductOptionId(@Param("productOptionId") Long productOptionId);
+
+}
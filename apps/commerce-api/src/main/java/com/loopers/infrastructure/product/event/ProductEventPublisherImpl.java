@@ -1,39 +1,64 @@
 package com.loopers.infrastructure.product.event;
 
-import com.loopers.config.kafka.LoopersKafkaProperties;
-import com.loopers.domain.KafkaMessage;
 import com.loopers.domain.product.event.ProductEvent;
 import com.loopers.domain.product.event.ProductEventPublisher;
+import com.loopers.domain.saga.SagaCommand;
+import com.loopers.domain.saga.SagaGroupCommitter;
+import com.loopers.domain.saga.SagaService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 상품 이벤트를 아웃박스에 저장하고, 릴레이가 {@code loopers.outbox.relay.routes}에 따라 발행하게 한다.
+ * 아웃박스는 상품 아이디를 파티션 키로 쓰므로, 상품별 발행 순서는 그대로 유지된다.
+ * <p>
+ * 호출자의 트랜잭션이 있으면 함께 커밋되도록 바로 저장하고, 없으면(비동기 리스너 등) 다른 이벤트와 모아서 한 번에 저장한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ProductEventPublisherImpl implements ProductEventPublisher {
 
-    private final LoopersKafkaProperties properties;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private static final String LIKE_CHANGED = "product.like-changed";
+    private static final String STOCK_CHANGED = "product.stock-changed";
+    private static final String SALE = "product.sale";
+
+    private final SagaService sagaService;
+    private final SagaGroupCommitter sagaGroupCommitter;
 
     @Override
     public void publishEvent(ProductEvent.LikeChanged event) {
-        KafkaMessage<ProductEvent.LikeChanged> message = KafkaMessage.from(event);
-        String partitionKey = event.productId().toString();
-        kafkaTemplate.send(properties.getTopic(event), partitionKey, message);
+        outbound(UUID.randomUUID().toString(), LIKE_CHANGED, event);
     }
 
     @Override
     public void publishEvent(ProductEvent.StockChanged event) {
-        KafkaMessage<ProductEvent.StockChanged> message = KafkaMessage.from(event);
-        String partitionKey = event.productId().toString();
-        kafkaTemplate.send(properties.getTopic(event), partitionKey, message);
+        outbound(UUID.randomUUID().toString(), STOCK_CHANGED, event);
     }
 
     @Override
     public void publishEvent(ProductEvent.Sale event) {
-        KafkaMessage<ProductEvent.Sale> message = KafkaMessage.from(event);
-        String partitionKey = event.productId().toString();
-        kafkaTemplate.send(properties.getTopic(event), partitionKey, message);
+        // 같은 주문의 같은 상품은 한 번만 저장되어, 주문 완료 이벤트를 다시 처리해도 판매량이 두 번 집계되지 않는다.
+        outbound(event.orderId() + ":" + event.productId(), SALE, event);
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void outbound(String eventKey, String eventName, Object event) {
+        SagaCommand.Outbound command = new SagaCommand.Outbound(eventKey, eventName, event);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            sagaService.outbound(command);
+            return;
+        }
+
+        try {
+            sagaGroupCommitter.outbound(command).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
     }
 
 }
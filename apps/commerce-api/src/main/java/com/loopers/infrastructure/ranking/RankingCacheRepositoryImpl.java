@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.ranking;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.loopers.config.RankingBoardProperties;
+import com.loopers.config.jackson.WrappedObjectMapper;
+import com.loopers.domain.ranking.RankingCacheRepository;
+import com.loopers.domain.ranking.RankingQueryResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import org.threeten.extra.YearWeek;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * commerce-batch 의 {@code RankingBoardRepositoryImpl}이 발행한 랭킹 페이지를 읽는다.
+ * <p>
+ * 요청한 범위에 걸친 페이지와 메타 정보를 {@code HMGET} 한 번으로 조회하므로,
+ * 순위 조회와 상품 상세 조회를 따로 하지 않는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RankingCacheRepositoryImpl implements RankingCacheRepository {
+
+    private final RankingBoardProperties rankingBoardProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final WrappedObjectMapper wrappedObjectMapper;
+
+    @Override
+    public Optional<RankingQueryResult.RankingPage> findWeeklyPage(YearWeek yearWeek, int page, int size) {
+        return findPage("ranking.weekly:" + yearWeek, page, size);
+    }
+
+    @Override
+    public Optional<RankingQueryResult.RankingPage> findMonthlyPage(YearMonth yearMonth, int page, int size) {
+        return findPage("ranking.monthly:" + yearMonth, page, size);
+    }
+
+    private Optional<RankingQueryResult.RankingPage> findPage(String key, int page, int size) {
+        // page 1번을 offset 0으로 변환한다.
+        int publishedPageSize = rankingBoardProperties.pageSize();
+        long offset = (long) (page - 1) * size;
+        long firstPage = offset / publishedPageSize + 1;
+        long lastPage = (offset + size - 1) / publishedPageSize + 1;
+
+        List<String> fields = new ArrayList<>();
+        fields.add("meta");
+        for (long i = firstPage; i <= lastPage; i++) {
+            fields.add("page:" + i);
+        }
+
+        List<String> values;
+        try {
+            values = stringRedisTemplate.<String, String>opsForHash().multiGet(key, fields);
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            return Optional.empty();
+        }
+
+        // 아직 발행되지 않았다.
+        if (!StringUtils.hasText(values.getFirst())) {
+            return Optional.empty();
+        }
+
+        Meta meta = wrappedObjectMapper.readValue(values.getFirst(), new TypeReference<>() {
+        });
+        if (meta.pageSize() != publishedPageSize) {
+            return Optional.empty();
+        }
+
+        List<RankingQueryResult.RankingPage.Item> items = new ArrayList<>();
+        for (String value : values.subList(1, values.size())) {
+            // 마지막 페이지를 넘어서면 필드가 없다.
+            if (StringUtils.hasText(value)) {
+                items.addAll(wrappedObjectMapper.readValue(value, new TypeReference<List<RankingQueryResult.RankingPage.Item>>() {
+                }));
+            }
+        }
+
+        int from = (int) Math.min(offset - (firstPage - 1) * publishedPageSize, items.size());
+        int to = Math.min(from + size, items.size());
+
+        return Optional.of(new RankingQueryResult.RankingPage(meta.totalItems(), List.copyOf(items.subList(from, to))));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    record Meta(
+            int pageSize,
+            long totalItems
+    ) {
+    }
+
+}
@@ -73,7 +73,9 @@ public class RankingRepositoryImpl implements RankingRepository {
 
     @Override
     public Page<RankingQueryResult.SearchRanks> searchRanks(YearWeek yearWeek, Pageable pageable) {
-        Page<ProductRankingWeekly> page = productRankingWeeklyJpaRepository.findByYearWeek(yearWeek, pageable);
+        // page 1번을 offset 0으로 변환한다.
+        Pageable pageRequest = pageable.withPage(pageable.getPageNumber() - 1);
+        Page<ProductRankingWeekly> page = productRankingWeeklyJpaRepository.findByYearWeek(yearWeek, pageRequest);
 
         List<RankingQueryResult.SearchRanks> content = page.getContent()
                 .stream()
@@ -83,12 +85,14 @@ public class RankingRepositoryImpl implements RankingRepository {
                 ))
                 .toList();
 
-        return PageableExecutionUtils.getPage(content, pageable, page::getTotalElements);
+        return PageableExecutionUtils.getPage(content, pageRequest, page::getTotalElements);
     }
 
     @Override
     public Page<RankingQueryResult.SearchRanks> searchRanks(YearMonth yearMonth, Pageable pageable) {
-        Page<ProductRankingMonthly> page = productRankingMonthlyJpaRepository.findByYearMonth(yearMonth, pageable);
+        // page 1번을 offset 0으로 변환한다.
+        Pageable pageRequest = pageable.withPage(pageable.getPageNumber() - 1);
+        Page<ProductRankingMonthly> page = productRankingMonthlyJpaRepository.findByYearMonth(yearMonth, pageRequest);
 
         List<RankingQueryResult.SearchRanks> content = page.getContent()
                 .stream()
@@ -98,7 +102,7 @@ public class RankingRepositoryImpl implements RankingRepository {
                 ))
                 .toList();
 
-        return PageableExecutionUtils.getPage(content, pageable, page::getTotalElements);
+        return PageableExecutionUtils.getPage(content, pageRequest, page::getTotalElements);
     }
 
 }
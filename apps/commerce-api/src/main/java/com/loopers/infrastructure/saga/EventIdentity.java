@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.saga;
+
+/**
+ * 인박스와 아웃박스의 유니크 키
+ */
+public record EventIdentity(
+        String eventKey,
+        String eventName
+) {
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface InboxJpaRepository extends JpaRepository<Inbox, Long> {
 
@@ -24,4 +26,11 @@ public interface InboxJpaRepository extends JpaRepository<Inbox, Long> {
             @Param("updatedAt") ZonedDateTime updatedAt
     );
 
+    @Query("""
+                select new com.loopers.infrastructure.saga.EventIdentity(i.eventKey, i.eventName)
+                from Inbox i
+                where i.eventKey in :eventKeys
+            """)
+    List<EventIdentity> findEventIdentities(@Param("eventKeys") Collection<String> eventKeys);
+
 }
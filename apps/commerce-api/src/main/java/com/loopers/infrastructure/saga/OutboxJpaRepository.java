@@ -1,27 +1,93 @@
 package com.loopers.infrastructure.saga;
 
 import com.loopers.domain.saga.Outbox;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
+import com.loopers.domain.saga.attribute.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface OutboxJpaRepository extends JpaRepository<Outbox, Long> {
 
     @Modifying
     @Query("""
-                insert into Outbox (eventKey, eventName, payload, createdAt, updatedAt)
-                values (:eventKey, :eventName, :payload, :createdAt, :updatedAt)
+                insert into Outbox (eventKey, eventName, payload, partitionNo, status, attempts, nextAttemptAt, createdAt, updatedAt)
+                values (:eventKey, :eventName, :payload, :partitionNo, :status, 0, :createdAt, :createdAt, :updatedAt)
                 on conflict (eventKey, eventName) do nothing
             """)
     int insertIfNotExists(
             @Param("eventKey") String eventKey,
             @Param("eventName") String eventName,
             @Param("payload") String payload,
+            @Param("partitionNo") Integer partitionNo,
+            @Param("status") OutboxStatus status,
             @Param("createdAt") ZonedDateTime createdAt,
             @Param("updatedAt") ZonedDateTime updatedAt
     );
 
+    /**
+     * {@code for update skip locked}: 여러 노드가 동시에 릴레이해도 같은 행을 중복으로 가져가지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "" + LockOptions.SKIP_LOCKED))
+    @Query("""
+                select o from Outbox o
+                where o.status = :status
+                and o.partitionNo in :partitionNos
+                and o.nextAttemptAt <= :now
+                order by o.id
+            """)
+    List<Outbox> findRelayTargetsForUpdate(
+            @Param("status") OutboxStatus status,
+            @Param("partitionNos") List<Integer> partitionNos,
+            @Param("now") ZonedDateTime now,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("""
+                update Outbox o
+                set o.status = :status, o.publishedAt = :publishedAt, o.updatedAt = :publishedAt
+                where o.id in :outboxIds
+            """)
+    int updateStatus(
+            @Param("outboxIds") List<Long> outboxIds,
+            @Param("status") OutboxStatus status,
+            @Param("publishedAt") ZonedDateTime publishedAt
+    );
+
+    @Query("""
+                select o.id from Outbox o
+                where o.status = :status
+                and o.publishedAt < :publishedBefore
+                order by o.id
+            """)
+    List<Long> findIdsByStatusAndPublishedAtBefore(
+            @Param("status") OutboxStatus status,
+            @Param("publishedBefore") ZonedDateTime publishedBefore,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("delete from Outbox o where o.id in :outboxIds")
+    int deleteByIds(@Param("outboxIds") List<Long> outboxIds);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("select min(o.createdAt) from Outbox o where o.status = :status")
+    ZonedDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+
+    @Query("""
+                select new com.loopers.infrastructure.saga.EventIdentity(o.eventKey, o.eventName)
+                from Outbox o
+                where o.eventKey in :eventKeys
+            """)
+    List<EventIdentity> findEventIdentities(@Param("eventKeys") Collection<String> eventKeys);
+
 }
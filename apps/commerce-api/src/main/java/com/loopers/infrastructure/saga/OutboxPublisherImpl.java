@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.saga;
+
+import com.loopers.config.kafka.LoopersKafkaProperties;
+import com.loopers.config.saga.OutboxRelayProperties;
+import com.loopers.domain.KafkaMessage;
+import com.loopers.domain.saga.Outbox;
+import com.loopers.domain.saga.OutboxPublisher;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.stream.Collectors.toSet;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisherImpl implements OutboxPublisher {
+
+    private final LoopersKafkaProperties kafkaProperties;
+    private final OutboxRelayProperties relayProperties;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * 토픽을 찾지 못하는 경로가 있으면 그 아웃박스는 영원히 발행되지 못하고 재시도만 반복하므로, 기동할 때 막는다.
+     */
+    @PostConstruct
+    public void validateRoutes() {
+        List<String> unknown = relayProperties.routes().values().stream()
+                .flatMap(List::stream)
+                .filter(topicKey -> kafkaProperties.topics().get(topicKey) == null)
+                .distinct()
+                .toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException("Unknown topic keys in loopers.outbox.relay.routes: " + unknown);
+        }
+    }
+
+    @Override
+    public Set<Long> publish(List<Outbox> outboxes) {
+        // 전송은 기다리지 않고 모두 넘겨 프로듀서가 배치로 묶게 하고, 확인 응답은 마지막에 한 번에 기다린다.
+        Map<Long, List<CompletableFuture<?>>> futures = new LinkedHashMap<>();
+        for (Outbox outbox : outboxes) {
+            List<String> topicKeys = relayProperties.routes().getOrDefault(outbox.getEventName(), List.of());
+            List<CompletableFuture<?>> sends = topicKeys.stream()
+                    .map(kafkaProperties.topics()::get)
+                    .<CompletableFuture<?>>map(topic -> send(outbox, topic))
+                    .toList();
+            futures.put(outbox.getId(), sends);
+        }
+
+        CompletableFuture<?>[] all = futures.values().stream()
+                .flatMap(List::stream)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(all).get(relayProperties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 실패한 아웃박스만 골라 다음에 다시 발행한다.
+            log.warn("Failed to publish some outboxes: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return futures.entrySet().stream()
+                .filter(entry -> entry.getValue().stream()
+                        .allMatch(future -> future.isDone() && !future.isCompletedExceptionally()))
+                .map(Map.Entry::getKey)
+                .collect(toSet());
+    }
+
+    private CompletableFuture<?> send(Outbox outbox, String topic) {
+        // 재발행해도 같은 아이디를 사용하여 컨슈머가 중복을 걸러낼 수 있게 한다.
+        String eventId = UUID.nameUUIDFromBytes((outbox.getId() + ":" + topic).getBytes(StandardCharsets.UTF_8)).toString();
+        KafkaMessage<Map<String, Object>> message = new KafkaMessage<>(eventId, ZonedDateTime.now(), outbox.getPayload());
+
+        try {
+            return kafkaTemplate.send(topic, partitionKey(outbox), message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 상품에 관한 이벤트는 상품별로 순서를 보장하고, 그 외에는 이벤트 키로 분산한다.
+     */
+    private static String partitionKey(Outbox outbox) {
+        Object productId = outbox.getPayload() == null ? null : outbox.getPayload().get("productId");
+        return productId == null ? outbox.getEventKey() : productId.toString();
+    }
+
+}
@@ -2,15 +2,27 @@ package com.loopers.infrastructure.saga;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.BaseEntity;
 import com.loopers.domain.saga.Inbox;
 import com.loopers.domain.saga.Outbox;
 import com.loopers.domain.saga.SagaRepository;
+import com.loopers.domain.saga.attribute.OutboxStatus;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
-import java.util.Map;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,6 +31,7 @@ public class SagaRepositoryImpl implements SagaRepository {
     private final InboxJpaRepository inboxJpaRepository;
     private final OutboxJpaRepository outboxJpaRepository;
 
+    private final EntityManager entityManager;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -40,13 +53,165 @@ public class SagaRepositoryImpl implements SagaRepository {
                 outbox.getEventKey(),
                 outbox.getEventName(),
                 serialize(outbox.getPayload()),
+                outbox.getPartitionNo(),
+                outbox.getStatus(),
                 outbox.getCreatedAt(),
                 outbox.getUpdatedAt()
         ) == 1;
     }
 
+    @Override
+    public List<Boolean> saveInboxes(List<Inbox> inboxes) {
+        return saveAll(
+                inboxes,
+                inbox -> new EventIdentity(inbox.getEventKey(), inbox.getEventName()),
+                inboxJpaRepository::findEventIdentities,
+                targets -> insertAll(
+                        "Inbox",
+                        List.of("eventKey", "eventName", "payload", "createdAt", "updatedAt"),
+                        targets.stream()
+                                .map(inbox -> Arrays.<Object>asList(
+                                        inbox.getEventKey(),
+                                        inbox.getEventName(),
+                                        serialize(inbox.getPayload()),
+                                        inbox.getCreatedAt(),
+                                        inbox.getUpdatedAt()
+                                ))
+                                .toList()
+                )
+        );
+    }
+
+    @Override
+    public List<Boolean> saveOutboxes(List<Outbox> outboxes) {
+        return saveAll(
+                outboxes,
+                outbox -> new EventIdentity(outbox.getEventKey(), outbox.getEventName()),
+                outboxJpaRepository::findEventIdentities,
+                targets -> insertAll(
+                        "Outbox",
+                        List.of("eventKey", "eventName", "payload", "partitionNo", "status", "attempts", "nextAttemptAt", "createdAt", "updatedAt"),
+                        targets.stream()
+                                .map(outbox -> Arrays.<Object>asList(
+                                        outbox.getEventKey(),
+                                        outbox.getEventName(),
+                                        serialize(outbox.getPayload()),
+                                        outbox.getPartitionNo(),
+                                        outbox.getStatus(),
+                                        outbox.getAttempts(),
+                                        outbox.getCreatedAt(),
+                                        outbox.getCreatedAt(),
+                                        outbox.getUpdatedAt()
+                                ))
+                                .toList()
+                )
+        );
+    }
+
+    @Override
+    public List<Outbox> findRelayTargetsForUpdate(List<Integer> partitionNos, ZonedDateTime now, int limit) {
+        return outboxJpaRepository.findRelayTargetsForUpdate(OutboxStatus.PENDING, partitionNos, now, Limit.of(limit));
+    }
+
+    @Override
+    public List<Outbox> findOutboxes(List<Long> outboxIds) {
+        return outboxJpaRepository.findAllById(outboxIds);
+    }
+
+    @Override
+    public void markPublished(List<Long> outboxIds, ZonedDateTime publishedAt) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+
+        outboxJpaRepository.updateStatus(outboxIds, OutboxStatus.PUBLISHED, publishedAt);
+    }
+
+    @Override
+    public int deletePublishedOutboxes(ZonedDateTime publishedBefore, int limit) {
+        // MySQL 은 서브쿼리에 LIMIT 를 쓸 수 없으므로, 삭제할 아이디를 먼저 구한다.
+        List<Long> outboxIds = outboxJpaRepository.findIdsByStatusAndPublishedAtBefore(
+                OutboxStatus.PUBLISHED, publishedBefore, Limit.of(limit));
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+
+        return outboxJpaRepository.deleteByIds(outboxIds);
+    }
+
+    @Override
+    public long countPendingOutboxes() {
+        return outboxJpaRepository.countByStatus(OutboxStatus.PENDING);
+    }
+
+    @Override
+    public Optional<ZonedDateTime> findOldestPendingOutboxCreatedAt() {
+        return Optional.ofNullable(outboxJpaRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING));
+    }
+
     // -------------------------------------------------------------------------------------------------
 
+    private <E extends BaseEntity> List<Boolean> saveAll(
+            List<E> entities,
+            Function<E, EventIdentity> identityOf,
+            Function<Collection<String>, List<EventIdentity>> findExisting,
+            ToIntFunction<List<E>> insertAll
+    ) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        entities.forEach(BaseEntity::prePersist);
+
+        Set<String> eventKeys = entities.stream().map(identityOf).map(EventIdentity::eventKey).collect(toSet());
+        Set<EventIdentity> identities = new HashSet<>(findExisting.apply(eventKeys));
+
+        // 이미 저장된 이벤트와 같은 배치 안에서 중복된 이벤트는 제외하고, 나머지만 한 번에 저장한다.
+        List<Boolean> saved = new ArrayList<>(entities.size());
+        List<E> targets = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            boolean absent = identities.add(identityOf.apply(entity));
+            saved.add(absent);
+            if (absent) {
+                targets.add(entity);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            return saved;
+        }
+
+        // 조회한 뒤에 다른 트랜잭션이 같은 이벤트를 저장했다면, 어느 행이 저장되지 않았는지 알 수 없다.
+        int inserted = insertAll.applyAsInt(targets);
+        if (inserted != targets.size()) {
+            throw new BusinessException(CommonErrorType.CONFLICT, "동시에 저장된 이벤트가 있습니다.");
+        }
+
+        return saved;
+    }
+
+    /**
+     * {@code insert into ... values (...), (...) on conflict do nothing}으로 여러 행을 한 번에 저장한다.
+     */
+    private int insertAll(String entityName, List<String> attributes, List<List<Object>> rows) {
+        String values = IntStream.range(0, rows.size())
+                .mapToObj(i -> attributes.stream()
+                        .map(attribute -> ":" + attribute + i)
+                        .collect(joining(", ", "(", ")")))
+                .collect(joining(", "));
+        String jpql = "insert into " + entityName + " (" + String.join(", ", attributes) + ") values " + values
+                + " on conflict (eventKey, eventName) do nothing";
+
+        Query query = entityManager.createQuery(jpql);
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = 0; j < attributes.size(); j++) {
+                query.setParameter(attributes.get(j) + i, rows.get(i).get(j));
+            }
+        }
+
+        return query.executeUpdate();
+    }
+
     private String serialize(Map<String, Object> payload) {
         if (payload == null) {
             return null;
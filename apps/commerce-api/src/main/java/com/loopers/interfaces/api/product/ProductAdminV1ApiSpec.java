@@ -0,0 +1,25 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+
+@Tag(name = "Product Admin V1 API", description = "상품 운영 API V1")
+public interface ProductAdminV1ApiSpec {
+
+    @Operation(
+            summary = "상품 옵션 재고 슬롯 변경",
+            description = "주문이 몰리는 상품 옵션의 재고를 슬롯으로 나눕니다. 슬롯 수가 1이면 다시 하나의 재고로 합칩니다."
+    )
+    ApiResponse<Object> shardStock(
+            @Schema(name = "product option id", description = "상품 옵션의 ID") @Positive
+            Long productOptionId,
+
+            @RequestBody(description = "슬롯 수")
+            ProductRequest.ShardStock request
+    );
+
+}
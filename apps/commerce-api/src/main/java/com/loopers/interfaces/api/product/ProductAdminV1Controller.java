@@ -0,0 +1,37 @@
+package com.loopers.interfaces.api.product;
+
+import com.loopers.domain.product.ProductCommand;
+import com.loopers.domain.product.ProductService;
+import com.loopers.interfaces.api.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api-admin/v1/products")
+public class ProductAdminV1Controller implements ProductAdminV1ApiSpec {
+
+    private final ProductService productService;
+
+    @PutMapping("/options/{productOptionId}/stock-slots")
+    @Override
+    public ApiResponse<Object> shardStock(
+            @PathVariable
+            Long productOptionId,
+
+            @Valid
+            @RequestBody
+            ProductRequest.ShardStock request
+    ) {
+        ProductCommand.ShardStock command = ProductCommand.ShardStock.builder()
+                .productOptionId(productOptionId)
+                .slotCount(request.getSlotCount())
+                .build();
+
+        productService.shardStock(command);
+
+        return ApiResponse.success();
+    }
+
+}
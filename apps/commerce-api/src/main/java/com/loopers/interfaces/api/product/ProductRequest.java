@@ -28,4 +28,37 @@ public final class ProductRequest {
         private final Integer size;
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ScrollProducts {
+        @Nullable
+        private final String keyword;
+        @Positive
+        private final Long brandId;
+        @NotNull
+        private final ProductSearchSortType sort;
+
+        @Nullable
+        private final String cursor;
+        @NotNull
+        @Positive
+        private final Integer size;
+        @Nullable
+        private final Boolean withCount;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ShardStock {
+        @NotNull
+        @Positive
+        private final Integer slotCount;
+    }
+
 }
@@ -57,6 +57,43 @@ public final class ProductResponse {
 
     // -------------------------------------------------------------------------------------------------
 
+    @Getter
+    @Builder
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ScrollProducts {
+        @Nullable
+        private final String nextCursor;
+        private final Boolean hasNext;
+        @Nullable
+        private final Long totalItems;
+        private final Integer size;
+        private final List<SearchProducts.Item> items;
+
+        public static ScrollProducts from(ProductResult.ScrollProducts result) {
+            return builder()
+                    .nextCursor(result.getNextCursor())
+                    .hasNext(result.getHasNext())
+                    .totalItems(result.getTotalItems())
+                    .size(result.getSize())
+                    .items(result.getItems()
+                            .stream()
+                            .map(content -> SearchProducts.Item.builder()
+                                    .productId(content.getProductId())
+                                    .productName(content.getProductName())
+                                    .basePrice(content.getBasePrice())
+                                    .likeCount(content.getLikeCount())
+                                    .brandId(content.getBrandId())
+                                    .brandName(content.getBrandName())
+                                    .build()
+                            )
+                            .toList()
+                    )
+                    .build();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     @Getter
     @Builder
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
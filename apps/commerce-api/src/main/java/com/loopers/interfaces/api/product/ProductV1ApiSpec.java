@@ -20,6 +20,15 @@ public interface ProductV1ApiSpec {
             ProductRequest.SearchProducts request
     );
 
+    @Operation(
+            summary = "상품 목록 커서 조회",
+            description = "이전 응답의 nextCursor 다음 위치부터 상품 목록을 조회합니다. 전체 개수는 withCount가 true일 때만 조회합니다."
+    )
+    ApiResponse<ProductResponse.ScrollProducts> scrollProducts(
+            @Valid
+            ProductRequest.ScrollProducts request
+    );
+
     @Operation(
             summary = "상품 상세 조회",
             description = "상품 상세 정보를 조회합니다."
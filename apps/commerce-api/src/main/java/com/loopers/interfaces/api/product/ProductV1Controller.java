@@ -38,6 +38,26 @@ public class ProductV1Controller implements ProductV1ApiSpec {
         return ApiResponse.success(response);
     }
 
+    @GetMapping("/scroll")
+    @Override
+    public ApiResponse<ProductResponse.ScrollProducts> scrollProducts(
+            ProductRequest.ScrollProducts request
+    ) {
+        ProductCommand.ScrollProducts command = ProductCommand.ScrollProducts.builder()
+                .keyword(request.getKeyword())
+                .brandId(request.getBrandId())
+                .sort(request.getSort())
+                .cursor(request.getCursor())
+                .size(request.getSize())
+                .withCount(Boolean.TRUE.equals(request.getWithCount()))
+                .build();
+
+        ProductResult.ScrollProducts products = productService.scrollProducts(command);
+        ProductResponse.ScrollProducts response = ProductResponse.ScrollProducts.from(products);
+
+        return ApiResponse.success(response);
+    }
+
     @GetMapping("/{productId}")
     @Override
     public ApiResponse<ProductResponse.GetProductDetail> getProductDetail(
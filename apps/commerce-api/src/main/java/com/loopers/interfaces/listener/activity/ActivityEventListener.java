@@ -1,9 +1,10 @@
 package com.loopers.interfaces.listener.activity;
 
+import com.loopers.config.async.AsyncExecutorConfig;
 import com.loopers.domain.activity.ActivityCommand;
 import com.loopers.domain.activity.ActivityService;
+import com.loopers.domain.activity.ViewCountAggregator;
 import com.loopers.domain.activity.event.ActivityEvent;
-import com.loopers.domain.activity.event.ActivityEventPublisher;
 import com.loopers.domain.product.ProductService;
 import com.loopers.support.annotation.Inboxing;
 import lombok.RequiredArgsConstructor;
@@ -19,19 +20,18 @@ public class ActivityEventListener {
 
     private final ProductService productService;
     private final ActivityService activityService;
-    private final ActivityEventPublisher activityEventPublisher;
+    private final ViewCountAggregator viewCountAggregator;
 
     /**
      * {@link Async}: 기술적 이슈 + 좋아요와 함께 원자적 연산의 대상이라고 생각하지 않음.
      * <p>
      * {@link TransactionPhase#AFTER_COMMIT}: 좋아요가 성공해야 좋아요 수를 집계.
      */
-    @Async
+    @Async(AsyncExecutorConfig.DB)
     @Inboxing(idempotent = true)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void likeProduct(ActivityEvent.Like event) {
         productService.like(event.productId());
-        activityEventPublisher.publishEvent(event);
     }
 
     /**
@@ -39,20 +39,21 @@ public class ActivityEventListener {
      * <p>
      * {@link TransactionPhase#AFTER_COMMIT}: 좋아요 취소가 성공해야 좋아요 수를 집계.
      */
-    @Async
+    @Async(AsyncExecutorConfig.DB)
     @Inboxing(idempotent = true)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void dislikeProduct(ActivityEvent.Dislike event) {
         productService.dislike(event.productId());
-        activityEventPublisher.publishEvent(event);
     }
 
     /**
      * {@link Async}: 상품 조회 시 조회수 증가를 동기적으로 기다려야 할 필요 없음.
      * <p>
      * {@link EventListener}: 상품 조회는 트랜잭션과 상관이 없다.
+     * <p>
+     * 조회 수는 {@link ViewCountAggregator}에 모아두었다가 한 번에 반영한다.
      */
-    @Async
+    @Async(AsyncExecutorConfig.IO)
     @Inboxing(idempotent = true)
     @EventListener
     public void viewProduct(ActivityEvent.View event) {
@@ -60,9 +61,7 @@ public class ActivityEventListener {
                 .userId(event.userId())
                 .productId(event.productId())
                 .build();
-        activityService.view(activityCommand);
-
-        activityEventPublisher.publishEvent(event);
+        viewCountAggregator.view(activityCommand);
     }
 
 }
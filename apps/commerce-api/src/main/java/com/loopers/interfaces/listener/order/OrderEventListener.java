@@ -1,5 +1,6 @@
 package com.loopers.interfaces.listener.order;
 
+import com.loopers.config.async.AsyncExecutorConfig;
 import com.loopers.domain.order.ExternalOrderSender;
 import com.loopers.domain.order.OrderCommand;
 import com.loopers.domain.order.OrderResult;
@@ -38,7 +39,7 @@ public class OrderEventListener {
      * <p>
      * {@link TransactionPhase#AFTER_COMMIT}: 메인 트랜잭션이 성공해야만 수행하는 로직이다.
      */
-    @Async
+    @Async(AsyncExecutorConfig.DB)
     @Inboxing(idempotent = true)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void sendOrder(OrderEvent.Complete event) {
@@ -1,6 +1,7 @@
 package com.loopers.interfaces.listener.payment;
 
 import com.loopers.application.payment.PaymentFacade;
+import com.loopers.config.async.AsyncExecutorConfig;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.payment.PaymentCommand;
 import com.loopers.domain.payment.PaymentService;
@@ -22,7 +23,7 @@ public class PaymentEventListener {
     private final PaymentService paymentService;
     private final OrderService orderService;
 
-    @Async
+    @Async(AsyncExecutorConfig.PAYMENT)
     @Inboxing(idempotent = true)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void pay(PaymentEvent.Ready event) {
@@ -52,7 +53,7 @@ public class PaymentEventListener {
      * <p>
      * {@link EventListener}: 메인 트랜잭션이 롤백돼도, PG에서 받은 결과를 보관해야 한다.
      */
-    @Async
+    @Async(AsyncExecutorConfig.PAYMENT)
     @EventListener
     public void recordTransactionAsSuccess(PaymentGatewayEvent.Success event) {
         // Inbox
@@ -69,7 +70,7 @@ public class PaymentEventListener {
      * <p>
      * {@link EventListener}: 메인 트랜잭션이 롤백돼도, PG에서 받은 결과를 보관해야 한다.
      */
-    @Async
+    @Async(AsyncExecutorConfig.PAYMENT)
     @EventListener
     public void recordTransactionAsFailed(PaymentGatewayEvent.Failed event) {
         // Inbox
@@ -7,7 +7,6 @@ import com.loopers.domain.product.event.ProductEventPublisher;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -21,14 +20,18 @@ public class ProductEventListener {
     private final ProductService productService;
     private final ProductEventPublisher productEventPublisher;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /**
+     * {@link TransactionPhase#BEFORE_COMMIT}: 좋아요 수 변경과 아웃박스가 함께 커밋되어야, 커밋 직후 노드가 죽어도 이벤트가 유실되지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(ProductEvent.LikeChanged event) {
         productEventPublisher.publishEvent(event);
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /**
+     * {@link TransactionPhase#BEFORE_COMMIT}: 재고 변경과 아웃박스가 함께 커밋되어야, 커밋 직후 노드가 죽어도 이벤트가 유실되지 않는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handle(ProductEvent.StockChanged event) {
         ProductResult.GetProductOptions options = productService.getProductOptions(List.of(event.productOptionId()))
                 .orElseThrow(() -> new BusinessException(CommonErrorType.NOT_FOUND));
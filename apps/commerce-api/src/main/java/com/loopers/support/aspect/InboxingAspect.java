@@ -1,6 +1,7 @@
 package com.loopers.support.aspect;
 
 import com.loopers.domain.saga.SagaCommand;
+import com.loopers.domain.saga.SagaGroupCommitter;
 import com.loopers.domain.saga.SagaResult;
 import com.loopers.domain.saga.SagaService;
 import com.loopers.domain.saga.event.SagaEvent;
@@ -10,10 +11,10 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletionException;
 
 @Aspect
 @Component
@@ -21,9 +22,7 @@ import org.springframework.stereotype.Component;
 public class InboxingAspect {
 
     private final SagaService sagaService;
-
-    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
-    private final TaskExecutor taskExecutor;
+    private final SagaGroupCommitter sagaGroupCommitter;
 
     @Around(value = "inboxingPointcut(inboxing, event)", argNames = "pjp, inboxing, event")
     public Object handleAdvice(ProceedingJoinPoint pjp, Inboxing inboxing, SagaEvent event) throws Throwable {
@@ -35,11 +34,11 @@ public class InboxingAspect {
 
         // 비동기와 멱등성 보장은 공존할 수 없다.
         if (inboxing.async() && !inboxing.idempotent()) {
-            taskExecutor.execute(() -> sagaService.inbound(command));
+            sagaGroupCommitter.inbound(command);
             return pjp.proceed();
         }
 
-        SagaResult.Inbound inbound = sagaService.inbound(command);
+        SagaResult.Inbound inbound = inbound(command);
 
         // 멱등적 연산을 위해, 이미 저장된 이벤트라면 메인 로직을 실행하지 않는다.
         if (inboxing.idempotent() && !inbound.saved()) {
@@ -50,6 +49,22 @@ public class InboxingAspect {
         return pjp.proceed();
     }
 
+    /**
+     * 호출자의 트랜잭션이 있으면 함께 커밋되도록 바로 저장하고,
+     * 없으면(비동기 리스너 등) 다른 이벤트와 모아서 한 번에 저장한다.
+     */
+    private SagaResult.Inbound inbound(SagaCommand.Inbound command) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return sagaService.inbound(command);
+        }
+
+        try {
+            return sagaGroupCommitter.inbound(command).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
     @Pointcut("@annotation(inboxing) && execution(void *..*.*(..)) && args(event)")
     private void inboxingPointcut(Inboxing inboxing, SagaEvent event) {
     }
@@ -0,0 +1,181 @@
+package com.loopers.support.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 여러 스레드의 쓰기 요청을 잠시 모아 한 번에 처리한다. (group commit)
+ * <p>
+ * 첫 요청이 들어오면 {@code maxDelay} 동안 또는 {@code maxBatchSize}개가 찰 때까지 기다렸다가,
+ * {@code flusher}를 한 번 호출하고 각 요청에 해당하는 결과를 돌려준다.
+ * 처리하는 동안 들어온 요청은 다음 배치로 모이므로, 부하가 클수록 배치가 커진다.
+ *
+ * <pre>{@code
+ * GroupCommitter<Row, Boolean> committer = new GroupCommitter<>(
+ *         "rows", 100, Duration.ofMillis(5), rows -> repository.saveAll(rows), meterRegistry);
+ * boolean saved = committer.submit(row).join();
+ * }</pre>
+ *
+ * 배치 처리에 실패하면 {@code fallback}으로 요청을 하나씩 다시 처리하여, 실패를 원인이 된 요청에만 전파한다.
+ *
+ * @param <T> 요청 타입
+ * @param <R> 결과 타입 ({@code flusher}는 요청과 같은 순서, 같은 개수로 결과를 반환해야 한다.)
+ */
+@Slf4j
+public class GroupCommitter<T, R> implements AutoCloseable {
+
+    /**
+     * 요청이 없을 때 종료 여부를 확인하는 간격
+     */
+    private static final Duration IDLE_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final String name;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final Function<List<T>, List<R>> flusher;
+    private final Function<T, R> fallback;
+
+    private final BlockingQueue<Pending<T, R>> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Thread worker;
+    private volatile boolean closed;
+
+    public GroupCommitter(
+            String name,
+            int maxBatchSize,
+            Duration maxDelay,
+            Function<List<T>, List<R>> flusher,
+            MeterRegistry meterRegistry
+    ) {
+        this(name, maxBatchSize, maxDelay, flusher, null, meterRegistry);
+    }
+
+    public GroupCommitter(
+            String name,
+            int maxBatchSize,
+            Duration maxDelay,
+            Function<List<T>, List<R>> flusher,
+            Function<T, R> fallback,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.flusher = flusher;
+        this.fallback = fallback;
+        this.batchSizeSummary = DistributionSummary.builder("group.commit.batch.size")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.worker = Thread.ofVirtual().name("group-commit-" + name).start(this::run);
+    }
+
+    public CompletableFuture<R> submit(T item) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Group committer is closed: " + name));
+        }
+
+        Pending<T, R> pending = new Pending<>(item, new CompletableFuture<>());
+        queue.add(pending);
+
+        // 종료와 경합하여 아무도 처리하지 않을 요청이라면 바로 실패시킨다.
+        if (closed && !worker.isAlive() && queue.remove(pending)) {
+            pending.future().completeExceptionally(new IllegalStateException("Group committer is closed: " + name));
+        }
+
+        return pending.future();
+    }
+
+    @Override
+    public void close() {
+        // 처리 중인 쿼리가 중단되지 않도록 인터럽트하지 않고, 남은 요청을 모두 처리할 때까지 기다린다.
+        closed = true;
+        try {
+            worker.join(Duration.ofSeconds(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void run() {
+        while (!closed) {
+            List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+            try {
+                Pending<T, R> first = queue.poll(IDLE_POLL_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelay.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending<T, R> pending = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (pending == null) {
+                        break;
+                    }
+                    batch.add(pending);
+                }
+            } catch (InterruptedException e) {
+                // 모아둔 요청을 마저 처리하고 빠져나간다.
+                flush(batch);
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            flush(batch);
+        }
+
+        // 종료 직전에 들어온 요청도 버리지 않는다.
+        List<Pending<T, R>> remains = new ArrayList<>();
+        queue.drainTo(remains);
+        for (int from = 0; from < remains.size(); from += maxBatchSize) {
+            flush(remains.subList(from, Math.min(from + maxBatchSize, remains.size())));
+        }
+    }
+
+    private void flush(List<Pending<T, R>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        batchSizeSummary.record(batch.size());
+
+        try {
+            List<R> results = flusher.apply(batch.stream().map(Pending::item).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (Throwable e) {
+            if (fallback == null) {
+                log.error("Failed to flush group commit: (name={}, size={}, message={})", name, batch.size(), e.getMessage());
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+                return;
+            }
+
+            log.warn("Falling back to one by one: (name={}, size={}, message={})", name, batch.size(), e.getMessage());
+            for (Pending<T, R> pending : batch) {
+                try {
+                    pending.future().complete(fallback.apply(pending.item()));
+                } catch (Throwable ex) {
+                    pending.future().completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    private record Pending<T, R>(T item, CompletableFuture<R> future) {
+    }
+
+}
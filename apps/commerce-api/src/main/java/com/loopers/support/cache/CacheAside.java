@@ -1,15 +1,32 @@
 package com.loopers.support.cache;
 
+import io.micrometer.core.instrument.Metrics;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public final class CacheAside {
 
+    /**
+     * 같은 키를 적재 중인 요청들의 공유 결과. (JVM 내부)
+     */
+    private static final ConcurrentMap<String, CompletableFuture<Object>> IN_FLIGHTS = new ConcurrentHashMap<>();
+
+    private static final int LOCK_WAIT_ATTEMPTS = 20;
+    private static final Duration LOCK_WAIT_INTERVAL = Duration.ofMillis(50);
+
+    private CacheAside() {
+    }
+
     public static <T> LookupCache<T> lookupCache(OptionalSupplier<T> cacheGetter) {
         return lookupCache(cacheGetter.unwrap());
     }
@@ -63,21 +80,134 @@ public final class CacheAside {
         public T get() {
             T cache = prev.prev.prev.cacheGetter.get();
             if (cache != null) {
-                // 캐시 관통을 방지한다.
-                boolean isNullObject = prev.prev.isNullObject.test(cache);
-                if (isNullObject) {
-                    return null;
-                }
+                return unwrapNullObject(cache);
+            }
 
-                return cache;
+            return loadAndSave();
+        }
+
+        /**
+         * 캐시 미스 시, 같은 키에 대한 적재를 하나로 합친다(single-flight).
+         * 먼저 도착한 요청만 fallback을 실행하고, 나머지는 그 결과를 공유한다.
+         *
+         * @param name 메트릭 태그로 쓰이는 캐시 이름
+         * @param key  캐시 키
+         */
+        public Coalesce<T> coalesce(String name, Object key) {
+            return new Coalesce<>(this, name, name + ":" + key, null);
+        }
+
+        private T unwrapNullObject(T cache) {
+            // 캐시 관통을 방지한다.
+            boolean isNullObject = prev.prev.isNullObject.test(cache);
+            if (isNullObject) {
+                return null;
             }
 
+            return cache;
+        }
+
+        private T loadAndSave() {
             T fallbackData = prev.fallbackGetter.get();
             saveCache.accept(fallbackData);
             return fallbackData;
         }
     }
 
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Coalesce<T> {
+        private final SaveCache<T> prev;
+        private final String name;
+        private final String key;
+        private final LoadLock loadLock;
+
+        /**
+         * 여러 노드에 걸쳐 적재를 하나로 합치기 위한 분산 락을 지정한다.
+         * 락을 얻지 못한 요청은 잠시 캐시를 다시 조회하며 기다리고, 끝내 채워지지 않으면 직접 적재한다.
+         */
+        public Coalesce<T> withLock(LoadLock loadLock) {
+            return new Coalesce<>(prev, name, key, loadLock);
+        }
+
+        public Optional<T> getAsOptional() {
+            return Optional.ofNullable(get());
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get() {
+            T cache = prev.prev.prev.prev.cacheGetter.get();
+            if (cache != null) {
+                return prev.unwrapNullObject(cache);
+            }
+
+            CompletableFuture<Object> mine = new CompletableFuture<>();
+            CompletableFuture<Object> inFlight = IN_FLIGHTS.putIfAbsent(key, mine);
+
+            // 이미 적재 중인 요청이 있으면 그 결과를 기다린다.
+            if (inFlight != null) {
+                Metrics.counter("cache.aside.coalesced", "cache", name, "type", "in_flight").increment();
+                try {
+                    return (T) inFlight.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+
+            try {
+                T loaded = loadLocked();
+                mine.complete(loaded);
+                return loaded;
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                IN_FLIGHTS.remove(key, mine);
+            }
+        }
+
+        private T loadLocked() {
+            if (loadLock == null) {
+                return prev.loadAndSave();
+            }
+
+            if (loadLock.tryLock()) {
+                try {
+                    // 락을 얻는 사이에 다른 노드가 채웠을 수 있다.
+                    T cache = prev.prev.prev.prev.cacheGetter.get();
+                    if (cache != null) {
+                        return prev.unwrapNullObject(cache);
+                    }
+
+                    return prev.loadAndSave();
+                } finally {
+                    loadLock.unlock();
+                }
+            }
+
+            // 다른 노드가 적재 중이면, 캐시가 채워질 때까지 잠시 기다린다.
+            for (int i = 0; i < LOCK_WAIT_ATTEMPTS; i++) {
+                try {
+                    Thread.sleep(LOCK_WAIT_INTERVAL);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                T cache = prev.prev.prev.prev.cacheGetter.get();
+                if (cache != null) {
+                    Metrics.counter("cache.aside.coalesced", "cache", name, "type", "lock_wait").increment();
+                    return prev.unwrapNullObject(cache);
+                }
+            }
+
+            Metrics.counter("cache.aside.lock.timeouts", "cache", name).increment();
+            return prev.loadAndSave();
+        }
+    }
+
     // -------------------------------------------------------------------------------------------------
 
     public interface OptionalSupplier<T> extends Supplier<Optional<T>> {
@@ -86,4 +216,13 @@ public final class CacheAside {
         }
     }
 
+    /**
+     * 캐시 적재 권한을 노드 간에 하나로 제한하는 락.
+     */
+    public interface LoadLock {
+        boolean tryLock();
+
+        void unlock();
+    }
+
 }
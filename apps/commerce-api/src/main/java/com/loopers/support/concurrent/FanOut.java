@@ -0,0 +1,151 @@
+package com.loopers.support.concurrent;
+
+import com.loopers.config.jpa.replication.ReadYourWrites;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 서로 의존하지 않는 조회를 가상 스레드에서 동시에 실행하고, 모두 끝날 때까지 기다린다. (structured concurrency)
+ * <p>
+ * 한 분기라도 실패하면 나머지 분기를 인터럽트하여 취소하고, {@link #join()}에서 처음 실패한 예외를 그대로 던진다.
+ * 블록을 벗어나면 끝나지 않은 분기를 취소하고 종료를 기다리므로, 호출자보다 오래 살아남는 스레드가 없다.
+ *
+ * <pre>{@code
+ * try (FanOut fanOut = FanOut.open("order.create", meterRegistry)) {
+ *     FanOut.Branch<User> user = fanOut.fork("user", () -> userService.getUser(userName).orElseThrow());
+ *     FanOut.Branch<Options> options = fanOut.fork("options", () -> productService.getProductOptions(ids).orElseThrow());
+ *     fanOut.join();
+ *     ...
+ * }
+ * }</pre>
+ *
+ * 분기는 호출자의 트랜잭션과 스레드 로컬을 이어받지 않으므로, 각자 트랜잭션을 여는 조회에만 사용한다.
+ * 다만 호출자가 {@link ReadYourWrites} 블록 안에 있으면, 분기의 조회도 메인에서 하도록 이어받는다.
+ * 분기마다 걸린 시간을 {@code fanout.branch} 타이머로 기록한다.
+ */
+public final class FanOut implements AutoCloseable {
+
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Branch<?>> branches = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private FanOut(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static FanOut open(String name, MeterRegistry meterRegistry) {
+        return new FanOut(name, meterRegistry);
+    }
+
+    public <T> Branch<T> fork(String branchName, Supplier<T> task) {
+        Branch<T> branch = new Branch<>();
+        branches.add(branch);
+
+        boolean readYourWrites = ReadYourWrites.isActive();
+        branch.future = executor.submit(() -> {
+            long start = System.nanoTime();
+            String outcome = "success";
+            try {
+                return readYourWrites ? ReadYourWrites.call(task) : task.get();
+            } catch (RuntimeException | Error e) {
+                // 다른 분기가 먼저 실패한 뒤에 끝난 분기는 취소된 것으로 본다.
+                if (failure.compareAndSet(null, e)) {
+                    outcome = "failure";
+                    cancelAll();
+                } else {
+                    outcome = "cancelled";
+                }
+                throw e;
+            } finally {
+                Timer.builder("fanout.branch")
+                        .tag("name", name)
+                        .tag("branch", branchName)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+
+        // 다른 분기가 이미 실패했으면 시작하지 않는다.
+        if (failure.get() != null) {
+            branch.future.cancel(true);
+        }
+
+        return branch;
+    }
+
+    /**
+     * 모든 분기가 끝날 때까지 기다리고, 실패한 분기가 있으면 처음 실패한 예외를 던진다.
+     */
+    public void join() {
+        try {
+            for (Branch<?> branch : branches) {
+                try {
+                    branch.future.get();
+                } catch (ExecutionException | CancellationException e) {
+                    // 처음 실패한 예외를 아래에서 던진다.
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fan-out is interrupted: " + name, e);
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause != null) {
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        branches.forEach(branch -> {
+            if (branch.future != null) {
+                branch.future.cancel(true);
+            }
+        });
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    public static final class Branch<T> {
+
+        private volatile Future<T> future;
+
+        private Branch() {
+        }
+
+        /**
+         * {@link FanOut#join()}이 성공한 뒤에만 호출한다.
+         */
+        public T get() {
+            if (future == null || future.state() != Future.State.SUCCESS) {
+                throw new IllegalStateException("Branch is not completed successfully.");
+            }
+
+            return future.resultNow();
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.loopers.support.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 같은 요청을 {@code delay}가 지나도록 응답이 없으면 한 번 더 보내고, 먼저 성공한 응답을 쓴다. (hedged request)
+ * <p>
+ * 느린 일부 요청이 전체 응답 시간의 꼬리를 늘리는 것을 줄이기 위해 쓰며, 여러 번 보내도 결과가 같은 조회에만 사용한다.
+ * 한 요청이 성공하면 나머지 요청은 취소하고, 모든 요청이 실패하면 마지막 실패로 끝난다.
+ * 추가로 보낸 요청 수를 {@code hedged.requests} 카운터로 기록한다.
+ *
+ * <pre>{@code
+ * CompletableFuture<Response> response = Hedged.call("pg.get-transactions", () -> client.get(orderId),
+ *         Duration.ofMillis(200), 2, scheduler, meterRegistry);
+ * }</pre>
+ */
+public final class Hedged {
+
+    private Hedged() {
+    }
+
+    /**
+     * @param maxAttempts   처음 요청을 포함한 최대 요청 수
+     * @param meterRegistry {@code hedged.requests} 카운터를 기록할 레지스트리
+     */
+    public static <T> CompletableFuture<T> call(
+            String name,
+            Supplier<CompletableFuture<T>> request,
+            Duration delay,
+            int maxAttempts,
+            ScheduledExecutorService scheduler,
+            MeterRegistry meterRegistry
+    ) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        List<ScheduledFuture<?>> timers = new CopyOnWriteArrayList<>();
+        AtomicInteger pending = new AtomicInteger(maxAttempts);
+        Counter hedgedCounter = Counter.builder("hedged.requests")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        Runnable send = () -> {
+            if (result.isDone()) {
+                return;
+            }
+
+            CompletableFuture<T> attempt;
+            try {
+                attempt = request.get();
+            } catch (RuntimeException e) {
+                attempt = CompletableFuture.failedFuture(e);
+            }
+            attempts.add(attempt);
+
+            attempt.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    result.complete(value);
+                } else if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        };
+
+        send.run();
+        for (int i = 1; i < maxAttempts; i++) {
+            timers.add(scheduler.schedule(() -> {
+                if (!result.isDone()) {
+                    hedgedCounter.increment();
+                    send.run();
+                }
+            }, delay.toMillis() * i, TimeUnit.MILLISECONDS));
+        }
+
+        // 끝나면 보내지 않은 요청은 보내지 않고, 응답을 기다리는 요청은 취소한다.
+        result.whenComplete((value, throwable) -> {
+            timers.forEach(timer -> timer.cancel(false));
+            attempts.forEach(attempt -> attempt.cancel(true));
+        });
+
+        return result;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.loopers.support.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업마다 가상 스레드를 띄워 실행하는 실행기. 이름마다 따로 두어, 한 종류의 작업이 몰려도 다른 종류의 작업을 밀어내지 않게 한다.
+ * <p>
+ * {@code maxConcurrency}를 두면 동시에 실행하는 작업 수를 세마포어로 제한하고(DB 커넥션을 쓰는 작업 등),
+ * 자리를 기다리는 작업이 {@code queueCapacity}만큼 쌓이면 더 받지 않고 {@link TaskRejectedException}을 던진다.
+ * {@code maxConcurrency}가 0 이면 제한 없이 바로 실행한다(I/O 를 기다리는 작업 등).
+ * <p>
+ * 실행기마다 다음 지표를 {@code name} 태그로 기록한다.
+ * <ul>
+ *     <li>{@code executor.queued}: 자리를 기다리는 작업 수</li>
+ *     <li>{@code executor.active}: 실행 중인 작업 수</li>
+ *     <li>{@code executor.rejected}: 거절한 작업 수</li>
+ *     <li>{@code executor.idle}: 받은 뒤 실행하기까지 기다린 시간</li>
+ *     <li>{@code executor.execution}: 실행에 걸린 시간</li>
+ * </ul>
+ */
+@Slf4j
+public class WorkloadExecutor implements AsyncTaskExecutor {
+
+    private final String name;
+    private final int queueCapacity;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Counter rejectedCounter;
+    private final Timer idleTimer;
+    private final Timer executionTimer;
+
+    public WorkloadExecutor(String name, int maxConcurrency, int queueCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+
+        Gauge.builder("executor.queued", queued, AtomicInteger::get).tag("name", name).register(meterRegistry);
+        Gauge.builder("executor.active", active, AtomicInteger::get).tag("name", name).register(meterRegistry);
+        this.rejectedCounter = Counter.builder("executor.rejected").tag("name", name).register(meterRegistry);
+        this.idleTimer = Timer.builder("executor.idle").tag("name", name).register(meterRegistry);
+        this.executionTimer = Timer.builder("executor.execution").tag("name", name).register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (permits != null && queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            rejectedCounter.increment();
+            throw new TaskRejectedException("Executor is full: " + name);
+        }
+
+        long submittedAt = System.nanoTime();
+        threadFactory.newThread(() -> run(task, submittedAt)).start();
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void run(Runnable task, long submittedAt) {
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Task is interrupted while waiting: (executor={})", name);
+                return;
+            } finally {
+                queued.decrementAndGet();
+            }
+        }
+
+        idleTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        active.incrementAndGet();
+        try {
+            executionTimer.record(task);
+        } finally {
+            active.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+}
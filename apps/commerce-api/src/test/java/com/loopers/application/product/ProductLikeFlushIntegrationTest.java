@@ -0,0 +1,122 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductLikeFlush;
+import com.loopers.domain.product.ProductService;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "loopers.like.write-behind.enabled=true",
+        "loopers.like.write-behind.flush-batch-size=2",
+})
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ProductLikeFlushIntegrationTest {
+
+    private final ProductFacade sut;
+    private final ProductService productService;
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("좋아요 수 변경분을 반영할 때:")
+    @Nested
+    class ApplyLikeFlush {
+
+        @DisplayName("동시에 좋아요를 표시/취소하면, 쌓인 변경량을 한 번에 반영한다.")
+        @Test
+        void applyAccumulatedDeltasAtOnce_whenUsersLikeAndDislikeConcurrently() {
+            // given
+            Product product = persistProduct();
+
+            assertThatConcurrence()
+                    .withThreadCount(30)
+                    .isExecutedBy(() -> productService.like(product.getId()))
+                    .isDone()
+                    .hasErrorCount(0);
+            productService.dislike(product.getId());
+
+            // when
+            Optional<ProductLikeFlush> flush = productService.beginLikeFlush();
+            assertThat(flush).isPresent();
+            sut.applyLikeFlush(flush.get());
+            productService.endLikeFlush(flush.get().flushId());
+
+            // then
+            assertThat(entityManager.find(Product.class, product.getId()).getLikeCount()).isEqualTo(29L);
+            assertThat(productService.beginLikeFlush()).isEmpty();
+        }
+
+        @DisplayName("변경분을 지우기 전에 다시 반영하면, 같은 변경분을 두 번 반영하지 않는다.")
+        @Test
+        void skipAppliedFlush_whenSameFlushIsAppliedAgain() {
+            // given
+            Product product = persistProduct();
+            productService.like(product.getId());
+
+            ProductLikeFlush flush = productService.beginLikeFlush().orElseThrow();
+            sut.applyLikeFlush(flush);
+
+            // when
+            ProductLikeFlush retried = productService.beginLikeFlush().orElseThrow();
+            sut.applyLikeFlush(retried);
+
+            // then
+            assertThat(retried.flushId()).isEqualTo(flush.flushId());
+            assertThat(entityManager.find(Product.class, product.getId()).getLikeCount()).isEqualTo(1L);
+        }
+
+        @DisplayName("변경된 상품이 배치 크기보다 많으면, 나누어 모두 반영한다.")
+        @Test
+        void applyAllDeltasInBatches_whenMoreProductsThanBatchSizeChanged() {
+            // given
+            List<Product> products = IntStream.range(0, 5).mapToObj(i -> persistProduct()).toList();
+            products.forEach(product -> productService.like(product.getId()));
+
+            // when
+            ProductLikeFlush flush = productService.beginLikeFlush().orElseThrow();
+            sut.applyLikeFlush(flush);
+
+            // then
+            assertThat(products).allSatisfy(product ->
+                    assertThat(entityManager.find(Product.class, product.getId()).getLikeCount()).isEqualTo(1L));
+        }
+
+    }
+
+    private Product persistProduct() {
+        Product product = Product.builder()
+                .name("Nike Shoes")
+                .basePrice(120_000)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(product));
+
+        return product;
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.loopers.config.jpa;
+
+import com.loopers.config.jpa.replication.ReadYourWrites;
+import com.loopers.testcontainers.MySqlReplicaTestContainer;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "datasource.mysql-jpa.replication.health-check-interval=100ms")
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ReplicationRoutingIntegrationTest {
+
+    private static final int MAIN_SERVER_ID = 1;
+    private static final int REPLICA_SERVER_ID = 2;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        registry.add("datasource.mysql-jpa.replication.replicas[0].jdbc-url", MySqlReplicaTestContainer::jdbcUrl);
+    }
+
+    @BeforeEach
+    void setUp() {
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> serverId(readOnly()) == REPLICA_SERVER_ID);
+    }
+
+    @DisplayName("커넥션을 가져올 때:")
+    @Nested
+    class Route {
+
+        @DisplayName("읽기 전용 트랜잭션이면, 레플리카에서 조회한다.")
+        @Test
+        void routeToReplica_whenTransactionIsReadOnly() {
+            // when
+            int actual = serverId(readOnly());
+
+            // then
+            assertThat(actual).isEqualTo(REPLICA_SERVER_ID);
+        }
+
+        @DisplayName("쓰기 트랜잭션이면, 메인에서 조회한다.")
+        @Test
+        void routeToMain_whenTransactionIsReadWrite() {
+            // when
+            int actual = serverId(new TransactionTemplate(transactionManager));
+
+            // then
+            assertThat(actual).isEqualTo(MAIN_SERVER_ID);
+        }
+
+        @DisplayName("ReadYourWrites 블록 안이면, 읽기 전용 트랜잭션도 메인에서 조회한다.")
+        @Test
+        void routeToMain_whenReadYourWritesIsActive() {
+            // when
+            int actual = ReadYourWrites.call(() -> serverId(readOnly()));
+
+            // then
+            assertThat(actual).isEqualTo(MAIN_SERVER_ID);
+        }
+
+    }
+
+    private TransactionTemplate readOnly() {
+        // @ReadOnlyTransactional 과 같은 정의
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        return transactionTemplate;
+    }
+
+    private int serverId(TransactionTemplate transactionTemplate) {
+        Number serverId = transactionTemplate.execute(status -> (Number) entityManager
+                .createNativeQuery("SELECT @@server_id")
+                .getSingleResult());
+        return serverId.intValue();
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.loopers.config.jpa.id;
+
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatException;
+
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class IdNodeAllocatorIntegrationTest {
+
+    /**
+     * 임대 후 1.5초 동안 아이디를 발급한다.
+     */
+    private static final IdGeneratorProperties PROPERTIES =
+            new IdGeneratorProperties(null, Duration.ofSeconds(2), Duration.ofMillis(500));
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    private final List<IdNodeAllocator> allocators = new ArrayList<>();
+    private IdGenerator original;
+
+    @BeforeEach
+    void setUp() {
+        original = IdGenerators.current();
+    }
+
+    @AfterEach
+    void tearDown() {
+        allocators.forEach(IdNodeAllocator::release);
+        IdGenerators.use(original);
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("노드 아이디를 임대할 때:")
+    @Nested
+    class Lease {
+
+        @DisplayName("여러 노드가 임대하면, 서로 다른 노드 아이디를 받아서 아이디에 담는다.")
+        @Test
+        void leaseDistinctNodeIds() {
+            // given
+            IdNodeAllocator first = create();
+            IdNodeAllocator second = create();
+
+            // when
+            first.lease();
+            long firstId = IdGenerators.current().nextId();
+            second.lease();
+            long secondId = IdGenerators.current().nextId();
+
+            // then
+            assertThat(nodeIdOf(firstId)).isNotEqualTo(nodeIdOf(secondId));
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("임대를 연장할 때:")
+    @Nested
+    class Renew {
+
+        @DisplayName("연장에 성공하면, 처음 임대한 시점으로부터 임대 기간이 지나도 같은 노드 아이디로 발급한다.")
+        @Test
+        void keepNodeId_whenRenewed() throws InterruptedException {
+            // given
+            IdNodeAllocator sut = create();
+            sut.lease();
+            long leasedNodeId = nodeIdOf(IdGenerators.current().nextId());
+            Thread.sleep(Duration.ofSeconds(1));
+
+            // when
+            sut.renew();
+            Thread.sleep(Duration.ofSeconds(1));
+
+            // then
+            assertThat(nodeIdOf(IdGenerators.current().nextId())).isEqualTo(leasedNodeId);
+        }
+
+        @DisplayName("다른 노드가 임대를 가져갔으면, 다른 노드 아이디를 새로 임대하여 발급한다.")
+        @Test
+        void leaseAnotherNodeId_whenLeaseIsLost() {
+            // given
+            IdNodeAllocator sut = create();
+            sut.lease();
+            long lostNodeId = nodeIdOf(IdGenerators.current().nextId());
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                    .createNativeQuery("UPDATE id_node_leases SET owner = 'other' WHERE node_id = :nodeId")
+                    .setParameter("nodeId", lostNodeId)
+                    .executeUpdate());
+
+            // when
+            sut.renew();
+
+            // then
+            assertThat(nodeIdOf(IdGenerators.current().nextId())).isNotEqualTo(lostNodeId);
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("임대 기간이 지날 때:")
+    @Nested
+    class Expire {
+
+        @DisplayName("임대 기간에서 여유 시간을 뺀 만큼 연장하지 못하면, 아이디 발급을 거절한다.")
+        @Test
+        void throwException_whenLeaseIsNotRenewedInTime() throws InterruptedException {
+            // given
+            IdNodeAllocator sut = create();
+            sut.lease();
+
+            // when
+            Thread.sleep(Duration.ofSeconds(2));
+
+            // then
+            assertThatException()
+                    .isThrownBy(() -> IdGenerators.current().nextId())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @DisplayName("거절하던 중에 연장하면, 다시 발급한다.")
+        @Test
+        void resumeIssuing_whenRenewedAfterExpiry() throws InterruptedException {
+            // given
+            IdNodeAllocator sut = create();
+            sut.lease();
+            Thread.sleep(Duration.ofSeconds(2));
+
+            // when
+            sut.renew();
+
+            // then
+            assertThat(IdGenerators.current().nextId()).isPositive();
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private IdNodeAllocator create() {
+        IdNodeAllocator allocator = new IdNodeAllocator(PROPERTIES, entityManager, transactionManager);
+        allocators.add(allocator);
+        return allocator;
+    }
+
+    private static long nodeIdOf(long id) {
+        return id >>> TsidFactory.SEQUENCE_BITS & TsidFactory.MAX_NODE_ID;
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.loopers.domain;
+
+import com.loopers.domain.attribute.TimeRange;
+import com.loopers.domain.coupon.*;
+import com.loopers.domain.coupon.attribute.DiscountPolicy;
+import com.loopers.domain.coupon.attribute.DiscountRule;
+import com.loopers.domain.point.*;
+import com.loopers.domain.point.error.PointErrorType;
+import com.loopers.domain.product.*;
+import com.loopers.domain.product.error.ProductErrorType;
+import com.loopers.support.error.BusinessException;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Period;
+import java.util.List;
+
+import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 행 잠금 없이 조건부 UPDATE 로 재고와 포인트를 변경할 때, 경합 상황에서도 잠금 경로와 같은 결과를 내는지 검증한다.
+ */
+@SpringBootTest(properties = "loopers.guarded-update.enabled=true")
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class GuardedUpdateIntegrationTest {
+
+    private final ProductService productService;
+    private final CouponService couponService;
+    private final PointService pointService;
+
+    @MockitoSpyBean
+    private final ProductRepository productRepository;
+    @MockitoSpyBean
+    private final CouponRepository couponRepository;
+    @MockitoSpyBean
+    private final PointRepository pointRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("상품 재고를 출고할 때:")
+    @Nested
+    class DeductProductStocks {
+
+        @DisplayName("동시에 같은 상품 옵션을 출고하면, 재고를 잠그지 않고 부족한 요청만 BusinessException이 발생한다.")
+        @Test
+        void throwException_withInsufficientStock_whenSameProductOptionIsShippedConcurrently() {
+            // given
+            int threadCount = 10;
+            ProductStock stock = persistStock(70);
+
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder()
+                            .productOptionId(stock.getProductOptionId())
+                            .amount(10)
+                            .build()))
+                    .build();
+
+            // when & then
+            assertThatConcurrence()
+                    .withThreadCount(threadCount)
+                    .isExecutedBy(() -> productService.deductStocks(command))
+                    .isDone()
+                    .hasErrorCount(3)
+                    .isThrownBy(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ProductErrorType.NOT_ENOUGH);
+
+            verify(productRepository, never()).findStocksForUpdate(anyList());
+            verify(productRepository, never()).saveStocks(anyList());
+            assertThat(entityManager.find(ProductStock.class, stock.getId()).getQuantity()).isZero();
+        }
+
+        @DisplayName("여러 상품 옵션 중 하나라도 재고가 부족하면, 어떤 옵션의 재고도 차감하지 않는다.")
+        @Test
+        void deductNothing_whenAnyProductOptionIsNotEnough() {
+            // given
+            ProductStock stock1 = persistStock(100);
+            ProductStock stock2 = persistStock(5);
+
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(
+                            ProductCommand.DeductStocks.Item.builder().productOptionId(stock1.getProductOptionId()).amount(10).build(),
+                            ProductCommand.DeductStocks.Item.builder().productOptionId(stock2.getProductOptionId()).amount(10).build()
+                    ))
+                    .build();
+
+            // when & then
+            assertThatException()
+                    .isThrownBy(() -> productService.deductStocks(command))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ProductErrorType.NOT_ENOUGH);
+
+            assertThat(entityManager.find(ProductStock.class, stock1.getId()).getQuantity()).isEqualTo(100);
+            assertThat(entityManager.find(ProductStock.class, stock2.getId()).getQuantity()).isEqualTo(5);
+        }
+
+        @DisplayName("여러 상품 옵션의 재고가 충분하면, 한 번에 차감한다.")
+        @Test
+        void deductAllStocksAtOnce_whenAllProductOptionsAreEnough() {
+            // given
+            ProductStock stock1 = persistStock(100);
+            ProductStock stock2 = persistStock(50);
+
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(
+                            ProductCommand.DeductStocks.Item.builder().productOptionId(stock1.getProductOptionId()).amount(30).build(),
+                            ProductCommand.DeductStocks.Item.builder().productOptionId(stock2.getProductOptionId()).amount(50).build()
+                    ))
+                    .build();
+
+            // when
+            productService.deductStocks(command);
+
+            // then
+            assertThat(entityManager.find(ProductStock.class, stock1.getId()).getQuantity()).isEqualTo(70);
+            assertThat(entityManager.find(ProductStock.class, stock2.getId()).getQuantity()).isZero();
+        }
+
+    }
+
+    @DisplayName("쿠폰 재고를 차감할 때:")
+    @Nested
+    class DeductCouponStocks {
+
+        @DisplayName("동시에 같은 쿠폰을 차감하면, 재고를 잠그지 않고 부족한 요청만 BusinessException이 발생한다.")
+        @Test
+        void throwException_withInsufficientStock_whenSameCouponIsIssuedConcurrently() {
+            // given
+            int threadCount = 10;
+
+            Coupon coupon = Coupon.builder()
+                    .name("Happy Birthday!")
+                    .discountPolicy(DiscountPolicy.builder()
+                            .discountRule(DiscountRule.FIXED_RATE)
+                            .discountValue(BigDecimal.valueOf(0.1))
+                            .maxDiscountAmount(30_000)
+                            .build()
+                    )
+                    .validityPeriod(Period.ofMonths(1))
+                    .issuedRange(TimeRange.WHENEVER)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(coupon));
+
+            CouponStock stock = CouponStock.builder()
+                    .quantity(7)
+                    .couponId(coupon.getId())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(stock));
+
+            CouponCommand.DeductStocks command = CouponCommand.DeductStocks.builder()
+                    .couponId(coupon.getId())
+                    .amount(1)
+                    .build();
+
+            // when & then
+            assertThatConcurrence()
+                    .withThreadCount(threadCount)
+                    .isExecutedBy(() -> couponService.deductStocks(command))
+                    .isDone()
+                    .hasErrorCount(3)
+                    .isThrownBy(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ProductErrorType.NOT_ENOUGH);
+
+            verify(couponRepository, never()).findStockForUpdate(anyLong());
+            assertThat(entityManager.find(CouponStock.class, stock.getId()).getQuantity()).isZero();
+        }
+
+    }
+
+    @DisplayName("포인트를 사용할 때:")
+    @Nested
+    class SpendPoint {
+
+        @DisplayName("사용자가 동시에 포인트를 사용하면, 잔액을 잠그지 않고 부족한 요청만 BusinessException이 발생한다.")
+        @Test
+        void throwException_withInsufficientBalance_whenUserSpendsPointConcurrently() {
+            // given
+            int threadCount = 10;
+
+            Point point = Point.builder()
+                    .balance(700L)
+                    .userId(1L)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(point));
+
+            PointCommand.Spend command = PointCommand.Spend.builder()
+                    .userId(point.getUserId())
+                    .amount(100L)
+                    .build();
+
+            // when & then
+            assertThatConcurrence()
+                    .withThreadCount(threadCount)
+                    .isExecutedBy(() -> pointService.spend(command))
+                    .isDone()
+                    .hasErrorCount(3)
+                    .isThrownBy(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", PointErrorType.NOT_ENOUGH);
+
+            verify(pointRepository, never()).findOneForUpdate(anyLong());
+            verify(pointRepository, never()).savePoint(any(Point.class));
+            assertThat(entityManager.find(Point.class, point.getId()).getBalance()).isZero();
+        }
+
+        @DisplayName("충전 후 잔액이 최대 잔액을 넘으면, BusinessException이 발생한다.")
+        @Test
+        void throwException_whenChargedBalanceExceedsMaxBalance() {
+            // given
+            Point point = Point.builder()
+                    .balance(99_999_999L)
+                    .userId(1L)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(point));
+
+            PointCommand.Charge command = PointCommand.Charge.builder()
+                    .userId(point.getUserId())
+                    .amount(2L)
+                    .build();
+
+            // when & then
+            assertThatException()
+                    .isThrownBy(() -> pointService.charge(command))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", PointErrorType.EXCESSIVE);
+        }
+
+        @DisplayName("잔액이 충분하면, 차감된 잔액을 반환한다.")
+        @Test
+        void returnSpentBalance_whenBalanceIsEnough() {
+            // given
+            Point point = Point.builder()
+                    .balance(1_000L)
+                    .userId(1L)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(point));
+
+            PointCommand.Spend command = PointCommand.Spend.builder()
+                    .userId(point.getUserId())
+                    .amount(300L)
+                    .build();
+
+            // when
+            PointResult.Spend result = pointService.spend(command);
+
+            // then
+            assertThat(result.getPointId()).isEqualTo(point.getId());
+            assertThat(result.getBalance()).isEqualTo(700L);
+        }
+
+    }
+
+    private ProductStock persistStock(int quantity) {
+        Product product = Product.builder()
+                .name("Nike Shoes")
+                .basePrice(120_000)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(product));
+
+        ProductOption option = ProductOption.builder()
+                .name("Small")
+                .additionalPrice(0)
+                .productId(product.getId())
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(option));
+
+        ProductStock stock = ProductStock.builder()
+                .quantity(quantity)
+                .productOptionId(option.getId())
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(stock));
+
+        return stock;
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.stream.IntStream;
 
 import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.instancio.Select.root;
 
 @SpringBootTest
@@ -266,4 +267,41 @@ class ActivityServiceIntegrationTest {
 
     }
 
+    @DisplayName("모아둔 조회 수를 반영할 때:")
+    @Nested
+    class AddViews {
+
+        @DisplayName("조회한 적 있는 상품은 조회 수를 더하고, 처음 조회한 상품은 주어진 조회 수로 저장한다.")
+        @Test
+        void addViewCountsOrInsert_withAggregatedViews() {
+            // given
+            ViewedProduct viewed = ViewedProduct.builder()
+                    .viewCount(3L)
+                    .userId(1L)
+                    .productId(10L)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(viewed));
+
+            ActivityCommand.AddViews command = ActivityCommand.AddViews.builder()
+                    .items(List.of(
+                            ActivityCommand.AddViews.Item.builder().userId(1L).productId(10L).count(5L).build(),
+                            ActivityCommand.AddViews.Item.builder().userId(2L).productId(10L).count(2L).build()
+                    ))
+                    .build();
+
+            // when
+            sut.addViews(command);
+
+            // then
+            List<ViewedProduct> viewedProducts = entityManager
+                    .createQuery("SELECT vp FROM ViewedProduct vp WHERE vp.productId = :productId ORDER BY vp.userId", ViewedProduct.class)
+                    .setParameter("productId", 10L)
+                    .getResultList();
+            assertThat(viewedProducts)
+                    .extracting(ViewedProduct::getUserId, ViewedProduct::getViewCount)
+                    .containsExactly(tuple(1L, 8L), tuple(2L, 2L));
+        }
+
+    }
+
 }
@@ -0,0 +1,78 @@
+package com.loopers.domain.activity;
+
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "loopers.activity.view-aggregation.enabled=true",
+        "loopers.activity.view-aggregation.flush-interval=1h",
+})
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ViewCountAggregatorIntegrationTest {
+
+    private final ViewCountAggregator sut;
+
+    @MockitoSpyBean
+    private final ViewedProductRepository viewedProductRepository;
+
+    private final EntityManager entityManager;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("상품을 조회할 때:")
+    @Nested
+    class View {
+
+        @DisplayName("동시에 같은 상품을 조회하면, 모아둔 조회 수를 한 번에 반영한다.")
+        @Test
+        void addAggregatedViewCountAtOnce_whenSameProductIsViewedConcurrently() {
+            // given
+            int threadCount = 30;
+            ActivityCommand.View command = ActivityCommand.View.builder()
+                    .userId(1L)
+                    .productId(10L)
+                    .build();
+
+            // when
+            assertThatConcurrence()
+                    .withThreadCount(threadCount)
+                    .isExecutedBy(() -> sut.view(command))
+                    .isDone()
+                    .hasNoError();
+            sut.flush();
+
+            // then
+            verify(viewedProductRepository, never()).findOne(any(), any());
+
+            List<ViewedProduct> viewedProducts = entityManager
+                    .createQuery("SELECT vp FROM ViewedProduct vp", ViewedProduct.class)
+                    .getResultList();
+            assertThat(viewedProducts).singleElement()
+                    .extracting(ViewedProduct::getViewCount)
+                    .isEqualTo((long) threadCount);
+        }
+
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.payment;
 
+import com.loopers.domain.payment.attribute.CardNumber;
+import com.loopers.domain.payment.attribute.CardType;
 import com.loopers.domain.payment.attribute.PaymentMethod;
 import com.loopers.domain.payment.attribute.PaymentStatus;
 import com.loopers.utils.DatabaseCleanUp;
@@ -12,6 +14,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.Select.root;
@@ -23,6 +30,7 @@ class PaymentServiceIntegrationTest {
 
     private final PaymentService paymentService;
 
+    private final TransactionTemplate transactionTemplate;
     private final EntityManager entityManager;
     private final DatabaseCleanUp databaseCleanUp;
 
@@ -65,4 +73,63 @@ class PaymentServiceIntegrationTest {
 
     }
 
+    @DisplayName("확정되지 않은 결제를 조회할 때:")
+    @Nested
+    class GetInconclusivePayments {
+
+        @DisplayName("마지막 결제 아이디를 넘기면, 그 다음 결제부터 아이디 순으로 한 페이지씩 조회한다.")
+        @Test
+        void returnNextPage_afterLastPaymentId() {
+            // given
+            Payment p1 = cardPayment(PaymentStatus.READY);
+            Payment p2 = cardPayment(PaymentStatus.PENDING);
+            Payment p3 = cardPayment(PaymentStatus.PAID);
+            Payment p4 = cardPayment(PaymentStatus.READY);
+            transactionTemplate.executeWithoutResult(status ->
+                    Stream.of(p1, p2, p3, p4).forEach(entityManager::persist));
+
+            PaymentCommand.GetInconclusivePayments first = PaymentCommand.GetInconclusivePayments.builder()
+                    .method(PaymentMethod.CARD)
+                    .shard(0)
+                    .shardCount(1)
+                    .lastPaymentId(null)
+                    .size(2)
+                    .build();
+
+            // when
+            List<PaymentResult.GetInconclusivePayments.Item> firstPage = paymentService.getInconclusivePayments(first).getItems();
+
+            PaymentCommand.GetInconclusivePayments next = PaymentCommand.GetInconclusivePayments.builder()
+                    .method(PaymentMethod.CARD)
+                    .shard(0)
+                    .shardCount(1)
+                    .lastPaymentId(firstPage.getLast().getPaymentId())
+                    .size(2)
+                    .build();
+            List<PaymentResult.GetInconclusivePayments.Item> nextPage = paymentService.getInconclusivePayments(next).getItems();
+
+            // then
+            assertThat(firstPage)
+                    .extracting(PaymentResult.GetInconclusivePayments.Item::getPaymentId)
+                    .containsExactly(p1.getId(), p2.getId());
+            assertThat(nextPage)
+                    .extracting(PaymentResult.GetInconclusivePayments.Item::getPaymentId)
+                    .containsExactly(p4.getId());
+            assertThat(paymentService.countInconclusivePayments(PaymentMethod.CARD)).isEqualTo(3);
+        }
+
+        private Payment cardPayment(PaymentStatus status) {
+            return Payment.builder()
+                    .amount(10_000L)
+                    .status(status)
+                    .method(PaymentMethod.CARD)
+                    .cardType(Instancio.create(CardType.class))
+                    .cardNumber(new CardNumber("0000000000000000"))
+                    .userId(1L)
+                    .orderId(UUID.randomUUID())
+                    .build();
+        }
+
+    }
+
 }
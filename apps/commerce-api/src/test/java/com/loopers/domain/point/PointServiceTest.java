@@ -1,5 +1,6 @@
 package com.loopers.domain.point;
 
+import com.loopers.config.jpa.GuardedUpdateProperties;
 import com.loopers.domain.point.error.PointErrorType;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
@@ -31,6 +32,8 @@ class PointServiceTest {
 
     @Mock
     private PointRepository pointRepository;
+    @Mock
+    private GuardedUpdateProperties guardedUpdateProperties;
 
     @DisplayName("포인트를 조회할 때:")
     @Nested
@@ -4,9 +4,11 @@ import com.loopers.domain.activity.LikedProduct;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.attribute.ProductSearchSortType;
 import com.loopers.domain.product.error.ProductErrorType;
+import com.loopers.infrastructure.product.ProductDetailNearCache;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.instancio.Instancio;
@@ -19,6 +21,7 @@ import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -47,10 +50,14 @@ class ProductServiceIntegrationTest {
     private final TransactionTemplate transactionTemplate;
     private final EntityManager entityManager;
     private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+    private final ProductDetailNearCache productDetailNearCache;
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+        productDetailNearCache.invalidateAll();
     }
 
     @DisplayName("상품 목록을 검색할 때:")
@@ -212,6 +219,143 @@ class ProductServiceIntegrationTest {
                     .returns("Barricade", ProductResult.SearchProducts.Item::getProductName);
         }
 
+        @DisplayName("띄어쓰기 없는 한글 상품명도, 검색어를 포함하면 검색한다.")
+        @EnumSource(value = ProductSearchSortType.class, names = "CHEAP")
+        @ParameterizedTest
+        void searchKoreanProducts_containingKeyword(ProductSearchSortType sortType) {
+            // given
+            Product p1 = Product.builder().name("나이키에어맥스").basePrice(150_000).build();
+            Product p2 = Product.builder().name("에어조던").basePrice(200_000).build();
+            Product p3 = Product.builder().name("맥북파우치").basePrice(30_000).build();
+            transactionTemplate.executeWithoutResult(status ->
+                    Stream.of(p1, p2, p3).forEach(entityManager::persist));
+
+            ProductCommand.SearchProducts command = ProductCommand.SearchProducts.builder()
+                    .keyword("에어맥")
+                    .brandId(null)
+                    .sort(sortType)
+                    .page(0)
+                    .size(10)
+                    .build();
+            ProductCommand.SearchProducts shortCommand = ProductCommand.SearchProducts.builder()
+                    .keyword("맥")
+                    .brandId(null)
+                    .sort(sortType)
+                    .page(0)
+                    .size(10)
+                    .build();
+
+            // when
+            ProductResult.SearchProducts result = sut.searchProducts(command);
+            ProductResult.SearchProducts shortResult = sut.searchProducts(shortCommand);
+
+            // then
+            assertThat(result.getTotalItems()).isEqualTo(1);
+            assertThat(result.getItems()).singleElement()
+                    .returns("나이키에어맥스", ProductResult.SearchProducts.Item::getProductName);
+            assertThat(shortResult.getTotalItems()).isEqualTo(2);
+            assertThat(shortResult.getItems())
+                    .extracting(ProductResult.SearchProducts.Item::getProductName)
+                    .containsExactly("맥북파우치", "나이키에어맥스");
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("상품 목록을 커서로 조회할 때:")
+    @Nested
+    class ScrollProducts {
+
+        @BeforeEach
+        void setUp() {
+            List<Product> products = LongStream.rangeClosed(1, 5)
+                    .mapToObj(i -> Instancio.of(Product.class)
+                            .ignore(field(Product::getId))
+                            .set(field(Product::getName), "Product-" + i)
+                            .set(field(Product::getBasePrice), (int) (i % 2) * 1000 + 1000)
+                            .set(field(Product::getLikeCount), i % 2 * 10)
+                            .ignore(field(Product::getBrandId))
+                            .ignore(field(Product::getCreatedAt))
+                            .ignore(field(Product::getUpdatedAt))
+                            .ignore(field(Product::getDeletedAt))
+                            .create())
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> products.forEach(entityManager::persist));
+        }
+
+        @DisplayName("커서를 따라가면, 페이지 번호로 조회한 것과 같은 순서로 모든 상품을 조회한다.")
+        @EnumSource(ProductSearchSortType.class)
+        @ParameterizedTest
+        void scrollAllProducts_inSameOrderAsSearch(ProductSearchSortType sortType) {
+            // given
+            ProductCommand.SearchProducts searchCommand = ProductCommand.SearchProducts.builder()
+                    .sort(sortType)
+                    .page(0)
+                    .size(10)
+                    .build();
+            List<Long> expected = productRepository.searchProducts(ProductQueryCommand.SearchProducts.builder()
+                            .sort(searchCommand.getSort())
+                            .page(searchCommand.getPage())
+                            .size(searchCommand.getSize())
+                            .build())
+                    .map(ProductQueryResult.Products::productId)
+                    .toList();
+
+            // when
+            List<Long> actual = new ArrayList<>();
+            String cursor = null;
+            do {
+                ProductResult.ScrollProducts result = sut.scrollProducts(ProductCommand.ScrollProducts.builder()
+                        .sort(sortType)
+                        .cursor(cursor)
+                        .size(2)
+                        .build());
+                result.getItems().forEach(item -> actual.add(item.getProductId()));
+                cursor = result.getNextCursor();
+            } while (cursor != null);
+
+            // then
+            assertThat(actual).hasSize(5).containsExactlyElementsOf(expected);
+        }
+
+        @DisplayName("전체 개수를 요청하지 않으면, 개수를 조회하지 않는다.")
+        @Test
+        void skipCount_withoutCountRequested() {
+            // given
+            ProductCommand.ScrollProducts command = ProductCommand.ScrollProducts.builder()
+                    .sort(ProductSearchSortType.LATEST)
+                    .size(2)
+                    .withCount(false)
+                    .build();
+
+            // when
+            ProductResult.ScrollProducts result = sut.scrollProducts(command);
+
+            // then
+            assertThat(result.getTotalItems()).isNull();
+            assertThat(result.getHasNext()).isTrue();
+            verify(productRepository, times(0)).countProducts(null, null);
+        }
+
+        @DisplayName("커서의 정렬 기준이 요청과 다르면, BusinessException이 발생한다.")
+        @Test
+        void throwException_whenCursorSortDiffers() {
+            // given
+            String cursor = ProductCursor.of(ProductSearchSortType.POPULAR, 1L, 10L).encode();
+            ProductCommand.ScrollProducts command = ProductCommand.ScrollProducts.builder()
+                    .sort(ProductSearchSortType.CHEAP)
+                    .cursor(cursor)
+                    .size(2)
+                    .build();
+
+            // when & then
+            assertThatException()
+                    .isThrownBy(() -> sut.scrollProducts(command))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", CommonErrorType.INVALID);
+        }
+
     }
 
     // -------------------------------------------------------------------------------------------------
@@ -297,6 +441,49 @@ class ProductServiceIntegrationTest {
 
     // -------------------------------------------------------------------------------------------------
 
+    @DisplayName("여러 상품 상세를 한 번에 조회할 때:")
+    @Nested
+    class GetProductDetails {
+
+        @DisplayName("요청한 순서대로 반환하고, 존재하지 않는 상품은 제외한다.")
+        @Test
+        void returnDetailsInRequestedOrder_excludingNonExistingProducts() {
+            // given
+            Product product1 = Product.builder().name("Nike Shoes").basePrice(120_000).build();
+            Product product2 = Product.builder().name("Adidas Shoes").basePrice(110_000).build();
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.persist(product1);
+                entityManager.persist(product2);
+            });
+
+            ProductOption option = ProductOption.builder()
+                    .name("Small")
+                    .additionalPrice(0)
+                    .productId(product2.getId())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(option));
+
+            // 캐시에 적재된 상품과 적재되지 않은 상품을 섞는다.
+            sut.getProductDetail(product1.getId());
+            Long nonExistingProductId = product2.getId() + 1000;
+
+            // when
+            List<ProductResult.GetProductDetail> details = sut.getProductDetails(
+                    List.of(product2.getId(), nonExistingProductId, product1.getId()));
+
+            // then
+            assertThat(details)
+                    .extracting(ProductResult.GetProductDetail::productId)
+                    .containsExactly(product2.getId(), product1.getId());
+            assertThat(details.getFirst().options())
+                    .extracting(ProductResult.GetProductDetail.Option::productOptionId)
+                    .containsExactly(option.getId());
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     @DisplayName("입고할 때:")
     @Nested
     class AddStocks {
@@ -609,6 +796,102 @@ class ProductServiceIntegrationTest {
             assertThat(foundStock.getQuantity()).isEqualTo(stock.getQuantity() - (amountToDeduct * threadCount));
         }
 
+        @DisplayName("재고를 슬롯으로 나눈 상품 옵션을 출고하면, 한 슬롯이 부족해도 모든 슬롯을 합쳐서 차감한다.")
+        @Test
+        void deductAcrossSlots_whenSingleSlotIsNotEnough() {
+            // given
+            Product product = Product.builder()
+                    .name("Nike Shoes")
+                    .basePrice(120_000)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(product));
+
+            ProductOption option = ProductOption.builder()
+                    .name("Small")
+                    .additionalPrice(0)
+                    .productId(product.getId())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(option));
+
+            ProductStock stock = ProductStock.builder()
+                    .quantity(70)
+                    .productOptionId(option.getId())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(stock));
+
+            sut.shardStock(ProductCommand.ShardStock.builder().productOptionId(option.getId()).slotCount(4).build());
+
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(option.getId()).amount(30).build()))
+                    .build();
+
+            // when
+            sut.deductStocks(command);
+            sut.deductStocks(command);
+
+            // then
+            assertThat(entityManager.find(ProductStock.class, stock.getId()).getQuantity()).isZero();
+            assertThat(sumStockSlotQuantity(option.getId())).isEqualTo(10L);
+            assertThatException()
+                    .isThrownBy(() -> sut.deductStocks(command))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ProductErrorType.NOT_ENOUGH);
+        }
+
+        @DisplayName("재고를 슬롯으로 나눈 상품 옵션을 동시에 출고하면, 재고 행을 잠그지 않고 모든 요청을 받는다.")
+        @Test
+        void acceptAllRequestsWithoutLockingStock_whenShardedProductOptionIsShippedConcurrently() {
+            // given
+            int threadCount = 10;
+
+            Product product = Product.builder()
+                    .name("Nike Shoes")
+                    .basePrice(120_000)
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(product));
+
+            ProductOption option = ProductOption.builder()
+                    .name("Small")
+                    .additionalPrice(0)
+                    .productId(product.getId())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(option));
+
+            ProductStock stock = ProductStock.builder()
+                    .quantity(1_000)
+                    .productOptionId(option.getId())
+                    .build();
+            transactionTemplate.executeWithoutResult(status -> entityManager.persist(stock));
+
+            sut.shardStock(ProductCommand.ShardStock.builder().productOptionId(option.getId()).slotCount(8).build());
+
+            int amountToDeduct = 10;
+
+            List<ProductCommand.DeductStocks.Item> items = List.of(
+                    ProductCommand.DeductStocks.Item.builder().productOptionId(option.getId()).amount(amountToDeduct).build()
+            );
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder().items(items).build();
+
+            // when & then
+            assertThatConcurrence()
+                    .withThreadCount(threadCount)
+                    .isExecutedBy(() -> sut.deductStocks(command))
+                    .isDone()
+                    .hasNoError();
+
+            // 슬롯으로 나눌 때 한 번만 재고 행을 잠근다.
+            verify(productRepository, times(1)).findStocksForUpdate(anyList());
+            assertThat(sumStockSlotQuantity(option.getId())).isEqualTo(1_000L - (amountToDeduct * threadCount));
+        }
+
+        private Long sumStockSlotQuantity(Long productOptionId) {
+            return entityManager.createQuery(
+                            "select coalesce(sum(s.quantity), 0) from ProductStockSlot s where s.productOptionId = :productOptionId",
+                            Long.class)
+                    .setParameter("productOptionId", productOptionId)
+                    .getSingleResult();
+        }
+
     }
 
 }
@@ -1,10 +1,16 @@
 package com.loopers.domain.product;
 
+import com.loopers.config.jpa.GuardedUpdateProperties;
+import com.loopers.config.product.LikeWriteBehindProperties;
+import com.loopers.config.product.StockReservationProperties;
 import com.loopers.domain.product.attribute.ProductSearchSortType;
+import com.loopers.domain.product.event.ProductEvent;
 import com.loopers.domain.product.error.ProductErrorType;
 import com.loopers.support.error.BusinessException;
 import com.loopers.support.error.CommonErrorType;
 import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,18 +20,23 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.IntStream;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatException;
 import static org.instancio.Select.field;
-import static org.instancio.Select.root;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -40,14 +51,26 @@ class ProductServiceTest {
     private ProductRepository productRepository;
     @Mock
     private ProductCacheRepository productCacheRepository;
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+    @Mock
+    private StockReservationProperties stockReservationProperties;
+    @Mock
+    private GuardedUpdateProperties guardedUpdateProperties;
+    @Mock
+    private ProductLikeCounterRepository productLikeCounterRepository;
+    @Mock
+    private LikeWriteBehindProperties likeWriteBehindProperties;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("상품 목록을 검색할 때:")
     @Nested
     class SearchProducts {
 
-        @DisplayName("캐시가 있으면, 캐시를 반환한다.")
+        @DisplayName("캐시된 아이디 목록이 있으면, 상품 상세 캐시로 채워서 반환한다.")
         @Test
-        void returnCache_whenCacheHit() {
+        void hydrateFromDetailCache_whenProductIdsAreCached() {
             // given
             ProductCommand.SearchProducts command = ProductCommand.SearchProducts.builder()
                     .keyword("nike")
@@ -57,139 +80,108 @@ class ProductServiceTest {
                     .size(10)
                     .build();
 
-            List<ProductQueryResult.Products> content = IntStream.range(0, command.getSize())
-                    .mapToObj(i -> new ProductQueryResult.Products(
-                                    Instancio.of(Long.class).generate(root(),
-                                            gen -> gen.longs().range(1L, 100_000L)).create() * (i + 1),
-                                    Instancio.of(String.class).generate(root(),
-                                            gen -> gen.string().mixedCase().alphaNumeric().prefix(command.getKeyword()).maxLength(30)).create(),
-                                    i + 10_000,
-                                    Instancio.create(Long.class),
-                                    command.getBrandId(),
-                                    Instancio.create(String.class)
-                            )
-                    )
+            List<ProductQueryResult.ProductDetail> details = LongStream.rangeClosed(1, command.getSize())
+                    .mapToObj(productId -> new ProductQueryResult.ProductDetail(
+                            productId,
+                            command.getKeyword() + productId,
+                            10_000,
+                            productId * 10,
+                            command.getBrandId(),
+                            Instancio.create(String.class),
+                            List.of()
+                    ))
                     .toList();
-            long totalItems = Instancio.of(Long.class).generate(root(),
-                    gen -> gen.longs().range((long) content.size(), content.size() * 100L)).create();
+            List<Long> productIds = details.stream().map(ProductQueryResult.ProductDetail::productId).toList();
+            long totalItems = 123L;
 
-            given(productCacheRepository.searchProducts(any(ProductQueryCommand.SearchProducts.class)))
-                    .willReturn(new PageImpl<>(content, PageRequest.of(command.getPage(), command.getSize()), totalItems));
+            given(productCacheRepository.findProductIds(any(ProductQueryCommand.SearchProducts.class)))
+                    .willReturn(Optional.of(new ProductQueryResult.ProductIds(productIds, totalItems)));
+            given(productCacheRepository.findDetails(productIds))
+                    .willReturn(details.stream().collect(toMap(ProductQueryResult.ProductDetail::productId, Function.identity())));
 
             // when
             ProductResult.SearchProducts result = sut.searchProducts(command);
 
             // then
-            long totalPages = totalItems == 0 ? 1 : (long) Math.ceil((double) totalItems / command.getSize());
             assertThat(result).isNotNull();
-            assertThat(result.getTotalPages()).isEqualTo(totalPages);
+            assertThat(result.getTotalPages()).isEqualTo((int) Math.ceil((double) totalItems / command.getSize()));
             assertThat(result.getTotalItems()).isEqualTo(totalItems);
             assertThat(result.getPage()).isEqualTo(command.getPage());
             assertThat(result.getSize()).isEqualTo(command.getSize());
-            assertThat(result.getItems()).hasSize(content.size());
+            assertThat(result.getItems())
+                    .extracting(ProductResult.SearchProducts.Item::getProductId)
+                    .containsExactlyElementsOf(productIds);
 
-            verify(productCacheRepository, times(1)).searchProducts(any(ProductQueryCommand.SearchProducts.class));
+            verify(productRepository, never()).searchProductIds(any(ProductQueryCommand.SearchProducts.class), anyInt());
+            verify(productRepository, never()).findProducts(anyList());
             verify(productRepository, never()).searchProducts(any(ProductQueryCommand.SearchProducts.class));
         }
 
-        @DisplayName("캐시가 없으면, DB에서 검색하되 값이 없으면 캐시에 저장하지 않는다.")
+        @DisplayName("캐시된 아이디 목록이 없으면, DB에서 아이디 목록을 검색하여 캐시에 저장하고 상세 캐시에 없는 상품만 DB에서 조회한다.")
         @Test
-        void searchOnDatabaseAndDoNothing_withoutResult_whenCacheMissed() {
+        void searchIdsOnDatabaseAndSaveToCache_whenProductIdsAreNotCached() {
             // given
             ProductCommand.SearchProducts command = ProductCommand.SearchProducts.builder()
                     .keyword("nike")
                     .brandId(10L)
-                    .sort(ProductSearchSortType.LATEST)
-                    .page(0)
-                    .size(10)
+                    .sort(ProductSearchSortType.POPULAR)
+                    .page(1)
+                    .size(2)
                     .build();
 
-            List<ProductQueryResult.Products> content = IntStream.range(0, command.getSize())
-                    .mapToObj(i -> new ProductQueryResult.Products(
-                                    Instancio.of(Long.class).generate(root(),
-                                            gen -> gen.longs().range(1L, 100_000L)).create() * (i + 1),
-                                    Instancio.of(String.class).generate(root(),
-                                            gen -> gen.string().mixedCase().alphaNumeric().prefix(command.getKeyword()).maxLength(30)).create(),
-                                    i + 10_000,
-                                    Instancio.create(Long.class),
-                                    command.getBrandId(),
-                                    Instancio.create(String.class)
-                            )
-                    )
-                    .toList();
-            long totalItems = Instancio.of(Long.class).generate(root(),
-                    gen -> gen.longs().range((long) content.size(), content.size() * 100L)).create();
+            List<Long> productIds = List.of(5L, 4L, 3L, 2L, 1L);
+            ProductQueryResult.ProductDetail cached = new ProductQueryResult.ProductDetail(
+                    3L, "nike-3", 1000, 30L, command.getBrandId(), "brand", List.of());
+            ProductQueryResult.Products loaded = new ProductQueryResult.Products(
+                    2L, "nike-2", 1000, 20L, command.getBrandId(), "brand");
 
-            given(productCacheRepository.searchProducts(any(ProductQueryCommand.SearchProducts.class)))
-                    .willReturn(Page.empty(PageRequest.of(command.getPage(), command.getSize())));
-            given(productRepository.searchProducts(any(ProductQueryCommand.SearchProducts.class)))
-                    .willReturn(Page.empty(PageRequest.of(command.getPage(), command.getSize())));
+            given(productCacheRepository.findProductIds(any(ProductQueryCommand.SearchProducts.class)))
+                    .willReturn(Optional.empty());
+            given(productRepository.searchProductIds(any(ProductQueryCommand.SearchProducts.class), anyInt()))
+                    .willReturn(productIds);
+            given(productCacheRepository.findDetails(List.of(3L, 2L)))
+                    .willReturn(Map.of(3L, cached));
+            given(productRepository.findProducts(List.of(2L)))
+                    .willReturn(List.of(loaded));
 
             // when
             ProductResult.SearchProducts result = sut.searchProducts(command);
 
             // then
-            long totalPages = totalItems == 0 ? 1 : (long) Math.ceil((double) totalItems / command.getSize());
-            assertThat(result).isNotNull();
-            assertThat(result.getTotalPages()).isZero();
-            assertThat(result.getTotalItems()).isZero();
-            assertThat(result.getPage()).isEqualTo(command.getPage());
-            assertThat(result.getSize()).isEqualTo(command.getSize());
-            assertThat(result.getItems()).isEmpty();
-
-            verify(productCacheRepository, times(1)).searchProducts(any(ProductQueryCommand.SearchProducts.class));
-            verify(productCacheRepository, never()).saveProducts(any(ProductQueryCommand.SearchProducts.class), any(Page.class));
-            verify(productRepository, times(1)).searchProducts(any(ProductQueryCommand.SearchProducts.class));
+            assertThat(result.getTotalItems()).isEqualTo(productIds.size());
+            assertThat(result.getItems())
+                    .extracting(ProductResult.SearchProducts.Item::getProductName)
+                    .containsExactly("nike-3", "nike-2");
+
+            verify(productCacheRepository, times(1)).saveProductIds(
+                    any(ProductQueryCommand.SearchProducts.class),
+                    eq(new ProductQueryResult.ProductIds(productIds, (long) productIds.size()))
+            );
+            verify(productRepository, never()).countProducts(any(), any());
         }
 
-        @DisplayName("캐시가 없으면, DB에서 검색하고 값을 캐시에 저장한다.")
+        @DisplayName("캐싱하는 범위를 벗어난 페이지이면, DB에서 바로 검색한다.")
         @Test
-        void searchOnDatabaseAndSaveToCache_withResult_whenCacheMissed() {
+        void searchOnDatabase_whenPageIsOutOfCachedRange() {
             // given
             ProductCommand.SearchProducts command = ProductCommand.SearchProducts.builder()
-                    .keyword("nike")
-                    .brandId(10L)
-                    .sort(ProductSearchSortType.LATEST)
-                    .page(0)
-                    .size(10)
+                    .sort(ProductSearchSortType.CHEAP)
+                    .page(100)
+                    .size(20)
                     .build();
 
-            List<ProductQueryResult.Products> content = IntStream.range(0, command.getSize())
-                    .mapToObj(i -> new ProductQueryResult.Products(
-                                    Instancio.of(Long.class).generate(root(),
-                                            gen -> gen.longs().range(1L, 100_000L)).create() * (i + 1),
-                                    Instancio.of(String.class).generate(root(),
-                                            gen -> gen.string().mixedCase().alphaNumeric().prefix(command.getKeyword()).maxLength(30)).create(),
-                                    i + 10_000,
-                                    Instancio.create(Long.class),
-                                    command.getBrandId(),
-                                    Instancio.create(String.class)
-                            )
-                    )
-                    .toList();
-            long totalItems = Instancio.of(Long.class).generate(root(),
-                    gen -> gen.longs().range((long) content.size(), content.size() * 100L)).create();
-
-            given(productCacheRepository.searchProducts(any(ProductQueryCommand.SearchProducts.class)))
-                    .willReturn(Page.empty(PageRequest.of(command.getPage(), command.getSize())));
             given(productRepository.searchProducts(any(ProductQueryCommand.SearchProducts.class)))
-                    .willReturn(new PageImpl<>(content, PageRequest.of(command.getPage(), command.getSize()), totalItems));
+                    .willReturn(Page.empty(PageRequest.of(command.getPage(), command.getSize())));
 
             // when
             ProductResult.SearchProducts result = sut.searchProducts(command);
 
             // then
-            long totalPages = totalItems == 0 ? 1 : (long) Math.ceil((double) totalItems / command.getSize());
-            assertThat(result).isNotNull();
-            assertThat(result.getTotalPages()).isEqualTo(totalPages);
-            assertThat(result.getTotalItems()).isEqualTo(totalItems);
-            assertThat(result.getPage()).isEqualTo(command.getPage());
-            assertThat(result.getSize()).isEqualTo(command.getSize());
-            assertThat(result.getItems()).hasSize(content.size());
+            assertThat(result.getItems()).isEmpty();
 
-            verify(productCacheRepository, times(1)).searchProducts(any(ProductQueryCommand.SearchProducts.class));
-            verify(productCacheRepository, times(1)).saveProducts(any(ProductQueryCommand.SearchProducts.class), any(Page.class));
             verify(productRepository, times(1)).searchProducts(any(ProductQueryCommand.SearchProducts.class));
+            verify(productCacheRepository, never()).findProductIds(any(ProductQueryCommand.SearchProducts.class));
+            verify(productCacheRepository, never()).saveProductIds(any(), any());
         }
 
     }
@@ -509,6 +501,189 @@ class ProductServiceTest {
             verify(productRepository, times(1)).saveStocks(anyList());
         }
 
+        @DisplayName("재고를 슬롯으로 나눈 상품 옵션을 출고하면, 차감한 뒤에 다시 읽은 슬롯 합계로 재고 변경을 발행한다.")
+        @Test
+        void publishSlotSumReadAfterDeduction_whenStockIsSharded() {
+            // given
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build()))
+                    .build();
+
+            // 읽은 뒤에 다른 주문이 30 을 더 차감했다.
+            given(productRepository.findStockSlots(List.of(1L)))
+                    .willReturn(Map.of(1L, new ProductQueryResult.StockSlots(1L, 4, 100)))
+                    .willReturn(Map.of(1L, new ProductQueryResult.StockSlots(1L, 4, 60)));
+            given(productRepository.deductStockSlotQuantity(eq(1L), anyInt(), eq(10))).willReturn(true);
+
+            // when
+            sut.deductStocks(command);
+
+            // then
+            verify(productRepository, never()).findStocksForUpdate(anyList());
+            verify(eventPublisher).publishEvent(ProductEvent.StockChanged.of(1L, 60));
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("재고 예약이 켜진 상태로 출고할 때:")
+    @Nested
+    class ReserveStocks {
+
+        @BeforeEach
+        void setUp() {
+            given(stockReservationProperties.enabled()).willReturn(true);
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @DisplayName("카운터에서 예약되면, 재고 행을 잠그지 않고 차감분만 기록한다.")
+        @Test
+        void saveDeductionsWithoutLock_whenReserved() {
+            // given
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(
+                            ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build(),
+                            ProductCommand.DeductStocks.Item.builder().productOptionId(2L).amount(20).build()
+                    ))
+                    .build();
+
+            given(stockReservationRepository.reserve(Map.of(1L, 10, 2L, 20)))
+                    .willReturn(StockReservation.reserved(Map.of(1L, 40, 2L, 80), Map.of(1L, "g1", 2L, "g1")));
+
+            // when
+            sut.deductStocks(command);
+
+            // then
+            verify(productRepository, never()).findStocksForUpdate(anyList());
+            verify(productRepository).saveDeductions(argThat(deductions -> deductions.size() == 2));
+            verify(eventPublisher).publishEvent(ProductEvent.StockChanged.of(1L, 40));
+            verify(eventPublisher).publishEvent(ProductEvent.StockChanged.of(2L, 80));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        }
+
+        @DisplayName("카운터가 적재되지 않았으면, DB 기준으로 적재한 뒤 다시 예약한다.")
+        @Test
+        void loadCountersAndRetry_whenCountersAreNotLoaded() {
+            // given
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build()))
+                    .build();
+
+            given(stockReservationRepository.reserve(Map.of(1L, 10)))
+                    .willReturn(StockReservation.notLoaded(List.of(1L)))
+                    .willReturn(StockReservation.reserved(Map.of(1L, 35), Map.of(1L, "g1")));
+            given(productRepository.findStocks(List.of(1L)))
+                    .willReturn(List.of(ProductStock.builder().productOptionId(1L).quantity(50).build()));
+            given(productRepository.sumUnsettledDeductions(List.of(1L)))
+                    .willReturn(Map.of(1L, 5));
+
+            // when
+            sut.deductStocks(command);
+
+            // then
+            verify(stockReservationRepository).loadIfAbsent(Map.of(1L, 45));
+            verify(stockReservationRepository, times(2)).reserve(Map.of(1L, 10));
+            verify(productRepository).saveDeductions(anyList());
+        }
+
+        @DisplayName("주문이 롤백되면 예약할 때의 세대로 되돌리고, 커밋 여부를 알 수 없으면 되돌리지 않는다.")
+        @Test
+        void releaseWithGeneration_onlyWhenRolledBack() {
+            // given
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build()))
+                    .build();
+
+            given(stockReservationRepository.reserve(Map.of(1L, 10)))
+                    .willReturn(StockReservation.reserved(Map.of(1L, 40), Map.of(1L, "g1")));
+
+            // when
+            sut.deductStocks(command);
+            sut.deductStocks(command);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_UNKNOWN);
+
+            // then
+            verify(stockReservationRepository, times(1)).release(Map.of(1L, 10), Map.of(1L, "g1"));
+            verify(stockReservationRepository, never()).confirm(anyMap(), anyMap());
+        }
+
+        @DisplayName("주문이 커밋되면, 예약할 때의 세대로 예약을 확정한다.")
+        @Test
+        void confirmWithGeneration_whenCommitted() {
+            // given
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build()))
+                    .build();
+
+            given(stockReservationRepository.reserve(Map.of(1L, 10)))
+                    .willReturn(StockReservation.reserved(Map.of(1L, 40), Map.of(1L, "g1")));
+
+            // when
+            sut.deductStocks(command);
+            TransactionSynchronizationManager.getSynchronizations().getFirst()
+                    .afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+            // then
+            verify(stockReservationRepository, times(1)).confirm(Map.of(1L, 10), Map.of(1L, "g1"));
+            verify(stockReservationRepository, never()).release(anyMap(), anyMap());
+        }
+
+        @DisplayName("카운터의 수량이 부족하면, BusinessException이 발생하고 차감분을 기록하지 않는다.")
+        @Test
+        void throwException_whenCounterIsNotEnough() {
+            // given
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build()))
+                    .build();
+
+            given(stockReservationRepository.reserve(Map.of(1L, 10)))
+                    .willReturn(StockReservation.notEnough());
+
+            // when & then
+            assertThatException()
+                    .isThrownBy(() -> sut.deductStocks(command))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ProductErrorType.NOT_ENOUGH);
+
+            verify(productRepository, never()).saveDeductions(anyList());
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        }
+
+        @DisplayName("카운터에 접근하지 못하면, 재고 행을 잠그고 차감한 뒤 커밋되면 카운터를 지운다.")
+        @Test
+        void deductWithLockAndEvictCounters_whenReservationIsUnavailable() {
+            // given
+            ProductStock stock = Instancio.of(ProductStock.class)
+                    .set(field(ProductStock::getProductOptionId), 1L)
+                    .set(field(ProductStock::getQuantity), 50)
+                    .create();
+            ProductCommand.DeductStocks command = ProductCommand.DeductStocks.builder()
+                    .items(List.of(ProductCommand.DeductStocks.Item.builder().productOptionId(1L).amount(10).build()))
+                    .build();
+
+            given(stockReservationRepository.reserve(Map.of(1L, 10)))
+                    .willThrow(new BusinessException(ProductErrorType.RESERVATION_UNAVAILABLE));
+            given(productRepository.findStocksForUpdate(List.of(1L))).willReturn(List.of(stock));
+
+            // when
+            sut.deductStocks(command);
+            TransactionSynchronizationManager.getSynchronizations().getFirst().afterCommit();
+
+            // then
+            assertThat(stock.getQuantity()).isEqualTo(40);
+            verify(productRepository).saveStocks(List.of(stock));
+            verify(productRepository, never()).saveDeductions(anyList());
+            verify(stockReservationRepository).evict(List.of(1L));
+        }
+
     }
 
 }
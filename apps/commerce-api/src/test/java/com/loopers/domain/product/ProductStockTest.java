@@ -6,13 +6,16 @@ import com.loopers.support.error.CommonErrorType;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatException;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.instancio.Select.field;
 
 class ProductStockTest {
@@ -194,4 +197,59 @@ class ProductStockTest {
 
     }
 
+    @DisplayName("재고를 슬롯으로 나눌 때:")
+    @Nested
+    class Shard {
+
+        @DisplayName("슬롯 수가 2 미만이면, BusinessException이 발생한다.")
+        @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1})
+        @ParameterizedTest
+        void throwException_whenSlotCountIsLessThanTwo(int slotCount) {
+            // given
+            ProductStock stock = Instancio.of(ProductStock.class)
+                    .set(field(ProductStock::getQuantity), 100)
+                    .create();
+
+            // when & then
+            assertThatException()
+                    .isThrownBy(() -> stock.shard(slotCount))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", CommonErrorType.INVALID);
+        }
+
+        @DisplayName("수량을 슬롯에 고르게 나누고, 나머지는 앞 슬롯부터 담는다.")
+        @Test
+        void distributeQuantityEvenly_withRemainderToLeadingSlots() {
+            // given
+            ProductStock stock = Instancio.of(ProductStock.class)
+                    .set(field(ProductStock::getQuantity), 10)
+                    .create();
+
+            // when
+            List<ProductStockSlot> slots = stock.shard(4);
+
+            // then
+            assertThat(slots).extracting(ProductStockSlot::getSlotNo).containsExactly(0, 1, 2, 3);
+            assertThat(slots).extracting(ProductStockSlot::getQuantity).containsExactly(3, 3, 2, 2);
+            assertThat(stock.getQuantity()).isZero();
+        }
+
+        @DisplayName("나눈 슬롯을 다시 합치면, 원래 수량으로 돌아간다.")
+        @Test
+        void restoreQuantity_whenSlotsAreUnsharded() {
+            // given
+            ProductStock stock = Instancio.of(ProductStock.class)
+                    .set(field(ProductStock::getQuantity), 10)
+                    .create();
+            List<ProductStockSlot> slots = stock.shard(3);
+
+            // when
+            stock.unshard(slots);
+
+            // then
+            assertThat(stock.getQuantity()).isEqualTo(10);
+        }
+
+    }
+
 }
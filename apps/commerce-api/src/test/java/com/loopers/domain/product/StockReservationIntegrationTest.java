@@ -0,0 +1,241 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.error.ProductErrorType;
+import com.loopers.support.error.BusinessException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 카운터 예약, 비동기 정산, 대사가 실제 Redis 와 MySQL 에서 함께 맞물리는지 검증한다.
+ */
+@SpringBootTest(properties = "loopers.stock.reservation.enabled=true")
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class StockReservationIntegrationTest {
+
+    private final ProductService sut;
+    private final StockReservationRepository stockReservationRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("예약한 재고를 정산할 때:")
+    @Nested
+    class Settle {
+
+        @DisplayName("동시에 예약하면 부족한 요청만 실패하고, 정산하면 카운터와 DB 가 같아진다.")
+        @Test
+        void matchCounterAndDatabase_afterConcurrentReservationsAreSettled() {
+            // given
+            ProductStock stock = persistStock(70);
+
+            assertThatConcurrence()
+                    .withThreadCount(10)
+                    .isExecutedBy(() -> sut.deductStocks(deductCommand(stock.getProductOptionId(), 10)))
+                    .isDone()
+                    .hasErrorCount(3)
+                    .isThrownBy(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorType", ProductErrorType.NOT_ENOUGH);
+
+            // when
+            ProductResult.SettleStocks result = sut.settleStocks(settleCommand(100));
+
+            // then
+            assertThat(result.settled()).isEqualTo(7);
+            assertThat(entityManager.find(ProductStock.class, stock.getId()).getQuantity()).isZero();
+            assertThat(stockReservationRepository.findQuantities(List.of(stock.getProductOptionId())))
+                    .containsEntry(stock.getProductOptionId(), 0);
+            assertThat(reconcile().drifts()).isEmpty();
+        }
+
+        @DisplayName("재고가 부족하여 정산하지 못한 차감분은 건너뛰고, 뒤에 쌓인 다른 옵션의 차감분을 정산한다.")
+        @Test
+        void skipFailedDeductions_andSettleOthers() {
+            // given
+            ProductStock insufficient = persistStock(1);
+            ProductStock enough = persistStock(10);
+            persistDeduction(insufficient.getProductOptionId(), 5);
+            persistDeduction(enough.getProductOptionId(), 1);
+
+            // when
+            ProductResult.SettleStocks first = sut.settleStocks(settleCommand(1));
+            ProductResult.SettleStocks second = sut.settleStocks(settleCommand(1));
+
+            // then
+            assertThat(first).isEqualTo(new ProductResult.SettleStocks(0, 1));
+            assertThat(second).isEqualTo(new ProductResult.SettleStocks(1, 0));
+            assertThat(entityManager.find(ProductStock.class, insufficient.getId()).getQuantity()).isEqualTo(1);
+            assertThat(entityManager.find(ProductStock.class, enough.getId()).getQuantity()).isEqualTo(9);
+            assertThat(sut.retryFailedSettlements()).isEqualTo(1);
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("카운터가 유실되어 다시 적재될 때:")
+    @Nested
+    class Reload {
+
+        @DisplayName("적재하기 전에 예약한 주문이 커밋되면, 그 차감분을 새 카운터에서 뺀다.")
+        @Test
+        void deductInFlightReservation_whenItCommitsAfterReload() {
+            // given
+            ProductStock stock = persistStock(10);
+            Long productOptionId = stock.getProductOptionId();
+
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                sut.deductStocks(deductCommand(productOptionId, 3));
+                reloadCounterAndDeduct(productOptionId, 2);
+            });
+
+            // then
+            assertThat(stockReservationRepository.findQuantities(List.of(productOptionId)))
+                    .containsEntry(productOptionId, 5);
+            sut.settleStocks(settleCommand(100));
+            assertThat(entityManager.find(ProductStock.class, stock.getId()).getQuantity()).isEqualTo(5);
+            assertThat(reconcile().drifts()).isEmpty();
+        }
+
+        @DisplayName("적재하기 전에 예약한 주문이 롤백되면, 새 카운터에 되돌리지 않는다.")
+        @Test
+        void notReleaseInFlightReservation_whenItRollsBackAfterReload() {
+            // given
+            ProductStock stock = persistStock(10);
+            Long productOptionId = stock.getProductOptionId();
+
+            // when
+            transactionTemplate.executeWithoutResult(status -> {
+                sut.deductStocks(deductCommand(productOptionId, 3));
+                reloadCounterAndDeduct(productOptionId, 2);
+                status.setRollbackOnly();
+            });
+
+            // then
+            assertThat(stockReservationRepository.findQuantities(List.of(productOptionId)))
+                    .containsEntry(productOptionId, 8);
+            assertThat(reconcile().drifts()).isEmpty();
+        }
+
+        /**
+         * 카운터를 지우고, 다른 트랜잭션에서 예약하여 DB 기준으로 다시 적재되게 한다.
+         */
+        private void reloadCounterAndDeduct(Long productOptionId, int amount) {
+            redisCleanUp.truncateAll();
+            CompletableFuture.runAsync(() -> sut.deductStocks(deductCommand(productOptionId, amount))).join();
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("카운터를 대사할 때:")
+    @Nested
+    class Reconcile {
+
+        @DisplayName("같은 차이가 두 번 연속 발견된 카운터만 DB 기준으로 바로잡는다.")
+        @Test
+        void correctCounter_whenSameDriftIsFoundTwice() {
+            // given
+            ProductStock stock = persistStock(10);
+            Long productOptionId = stock.getProductOptionId();
+            sut.deductStocks(deductCommand(productOptionId, 1));
+            stockReservationRepository.overwrite(productOptionId, 9, 4);
+
+            // when
+            ProductResult.ReconcileStocks first = reconcile();
+            ProductResult.ReconcileStocks second = sut.reconcileStocks(ProductCommand.ReconcileStocks.builder()
+                    .batchSize(100)
+                    .suspects(first.drifts())
+                    .build());
+
+            // then
+            assertThat(first.drifts()).containsExactly(new ProductResult.StockDrift(productOptionId, 4, 9));
+            assertThat(first.correctedCount()).isZero();
+            assertThat(second.correctedCount()).isEqualTo(1);
+            assertThat(stockReservationRepository.findQuantities(List.of(productOptionId)))
+                    .containsEntry(productOptionId, 9);
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private ProductResult.ReconcileStocks reconcile() {
+        return sut.reconcileStocks(ProductCommand.ReconcileStocks.builder()
+                .batchSize(100)
+                .suspects(List.of())
+                .build());
+    }
+
+    private static ProductCommand.DeductStocks deductCommand(Long productOptionId, int amount) {
+        return ProductCommand.DeductStocks.builder()
+                .items(List.of(ProductCommand.DeductStocks.Item.builder()
+                        .productOptionId(productOptionId)
+                        .amount(amount)
+                        .build()))
+                .build();
+    }
+
+    private static ProductCommand.SettleStocks settleCommand(int batchSize) {
+        return ProductCommand.SettleStocks.builder()
+                .batchSize(batchSize)
+                .build();
+    }
+
+    private void persistDeduction(Long productOptionId, int amount) {
+        ProductStockDeduction deduction = ProductStockDeduction.builder()
+                .productOptionId(productOptionId)
+                .amount(amount)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(deduction));
+    }
+
+    private ProductStock persistStock(int quantity) {
+        Product product = Product.builder()
+                .name("Nike Shoes")
+                .basePrice(120_000)
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(product));
+
+        ProductOption option = ProductOption.builder()
+                .name("Small")
+                .additionalPrice(0)
+                .productId(product.getId())
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(option));
+
+        ProductStock stock = ProductStock.builder()
+                .quantity(quantity)
+                .productOptionId(option.getId())
+                .build();
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(stock));
+
+        return stock;
+    }
+
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestConstructor;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -257,6 +258,39 @@ class SagaServiceIntegrationTest {
 
     // -------------------------------------------------------------------------------------------------
 
+    @DisplayName("여러 인바운드 이벤트를 한 번에 저장할 때:")
+    @Nested
+    class InboundAll {
+
+        @DisplayName("이미 저장되었거나 배치 안에서 중복된 이벤트는, 저장되지 않았다고 반환한다.")
+        @Test
+        void returnSavedPerEvent_withDuplicatedEvents() {
+            // given
+            String savedKey = UUID.randomUUID().toString();
+            String newKey = UUID.randomUUID().toString();
+            sut.inbound(new SagaCommand.Inbound(savedKey, "domain.eventName", null));
+
+            List<SagaCommand.Inbound> commands = List.of(
+                    new SagaCommand.Inbound(savedKey, "domain.eventName", null),
+                    new SagaCommand.Inbound(newKey, "domain.eventName", Map.of("foo", 1)),
+                    new SagaCommand.Inbound(newKey, "domain.eventName", Map.of("foo", 2)),
+                    new SagaCommand.Inbound(savedKey, "domain.otherEventName", null)
+            );
+
+            // when
+            List<SagaResult.Inbound> results = sut.inboundAll(commands);
+
+            // then
+            assertThat(results).extracting(SagaResult.Inbound::saved).containsExactly(false, true, false, true);
+
+            Long count = entityManager.createQuery("select count(i) from Inbox i", Long.class).getSingleResult();
+            assertThat(count).isEqualTo(3);
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     private record DummyEvent(Integer id, String name) {
     }
 
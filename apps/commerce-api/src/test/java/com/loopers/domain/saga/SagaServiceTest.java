@@ -1,7 +1,9 @@
 package com.loopers.domain.saga;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.saga.attribute.OutboxStatus;
 import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,13 +12,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.instancio.Select.field;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 @MockitoSettings
 class SagaServiceTest {
@@ -26,8 +35,12 @@ class SagaServiceTest {
 
     @Mock
     private SagaRepository sagaRepository;
+    @Mock
+    private OutboxPublisher outboxPublisher;
     @Spy
     private ObjectMapper objectMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @DisplayName("인바운드 이벤트가 발생했을 때:")
     @Nested
@@ -231,6 +244,90 @@ class SagaServiceTest {
 
     // -------------------------------------------------------------------------------------------------
 
+    @DisplayName("아웃박스를 릴레이할 때:")
+    @Nested
+    class Relay {
+
+        @BeforeEach
+        void setUp() {
+            when(transactionTemplate.execute(any()))
+                    .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        }
+
+        @DisplayName("가져간 아웃박스는 발행하기 전에 다음 시도 일시를 미뤄서, 다른 노드가 가져가지 않게 한다.")
+        @Test
+        void deferNextAttempt_beforePublishing() {
+            // given
+            Outbox outbox = pendingOutbox(1L);
+            when(sagaRepository.findRelayTargetsForUpdate(anyList(), any(), anyInt())).thenReturn(List.of(outbox));
+            ZonedDateTime[] nextAttemptAt = new ZonedDateTime[1];
+            when(outboxPublisher.publish(anyList())).thenAnswer(invocation -> {
+                nextAttemptAt[0] = outbox.getNextAttemptAt();
+                return Set.of(1L);
+            });
+
+            // when
+            ZonedDateTime now = ZonedDateTime.now();
+            sut.relay(new SagaCommand.Relay(List.of(0), 10, Duration.ofMinutes(1)));
+
+            // then
+            assertThat(nextAttemptAt[0]).isAfterOrEqualTo(now.plusMinutes(1));
+            verify(transactionTemplate, times(2)).execute(any());
+        }
+
+        @DisplayName("발행에 성공한 아웃박스만 발행 완료로 표시하고, 실패한 아웃박스는 다음 시도를 미룬다.")
+        @Test
+        void markPublishedAndBackOffFailed() {
+            // given
+            Outbox published = pendingOutbox(1L);
+            Outbox failed = pendingOutbox(2L);
+            when(sagaRepository.findRelayTargetsForUpdate(anyList(), any(), anyInt()))
+                    .thenReturn(List.of(published, failed));
+            when(outboxPublisher.publish(anyList())).thenReturn(Set.of(1L));
+            when(sagaRepository.findOutboxes(List.of(2L))).thenReturn(List.of(failed));
+
+            // when
+            ZonedDateTime now = ZonedDateTime.now();
+            SagaResult.Relay result = sut.relay(new SagaCommand.Relay(List.of(0, 1), 10, Duration.ofMinutes(1)));
+
+            // then
+            assertThat(result.claimed()).isEqualTo(2);
+            assertThat(result.published()).isEqualTo(1);
+            assertThat(result.failed()).isEqualTo(1);
+
+            verify(sagaRepository, times(1)).markPublished(eq(List.of(1L)), any());
+            assertThat(failed.getAttempts()).isEqualTo(1);
+            assertThat(failed.getNextAttemptAt()).isAfter(now);
+            assertThat(published.getAttempts()).isZero();
+        }
+
+        @DisplayName("발행할 아웃박스가 없으면, 발행하지 않는다.")
+        @Test
+        void doNothing_whenNoOutboxIsPending() {
+            // given
+            when(sagaRepository.findRelayTargetsForUpdate(anyList(), any(), anyInt())).thenReturn(List.of());
+
+            // when
+            SagaResult.Relay result = sut.relay(new SagaCommand.Relay(List.of(0), 10, Duration.ofMinutes(1)));
+
+            // then
+            assertThat(result).isEqualTo(SagaResult.Relay.EMPTY);
+            verify(outboxPublisher, never()).publish(anyList());
+        }
+
+        private Outbox pendingOutbox(Long outboxId) {
+            return Instancio.of(Outbox.class)
+                    .set(field(Outbox::getId), outboxId)
+                    .set(field(Outbox::getStatus), OutboxStatus.PENDING)
+                    .set(field(Outbox::getAttempts), 0)
+                    .set(field(Outbox::getNextAttemptAt), ZonedDateTime.now().minusSeconds(1))
+                    .create();
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
     private record DummyEvent(Long id, String name) {
     }
 
@@ -0,0 +1,59 @@
+package com.loopers.infrastructure.payment.cache;
+
+import com.loopers.config.cache.PaymentTransactionCacheProperties;
+import com.loopers.domain.payment.PaymentGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentTransactionCacheImplTest {
+
+    private final PaymentTransactionCacheImpl sut = new PaymentTransactionCacheImpl(
+            new PaymentTransactionCacheProperties(100, Duration.ofMinutes(1)),
+            new SimpleMeterRegistry()
+    );
+
+    @DisplayName("거래를 보관할 때:")
+    @Nested
+    class Put {
+
+        @DisplayName("확정된 거래는 보관하여, 같은 주문의 같은 거래로 찾을 수 있다.")
+        @Test
+        void keepTransaction_whenTransactionIsConcluded() {
+            // given
+            UUID orderId = UUID.randomUUID();
+            PaymentGateway.Response.GetTransactions.Transaction transaction =
+                    new PaymentGateway.Response.GetTransactions.Transaction("tx-1", PaymentGateway.Status.SUCCESS, null);
+
+            // when
+            sut.put(orderId, transaction);
+
+            // then
+            assertThat(sut.find(orderId, "tx-1")).contains(transaction);
+            assertThat(sut.find(UUID.randomUUID(), "tx-1")).isEmpty();
+        }
+
+        @DisplayName("진행중인 거래는 상태가 바뀔 수 있으므로, 보관하지 않는다.")
+        @Test
+        void skipTransaction_whenTransactionIsPending() {
+            // given
+            UUID orderId = UUID.randomUUID();
+            PaymentGateway.Response.GetTransactions.Transaction transaction =
+                    new PaymentGateway.Response.GetTransactions.Transaction("tx-1", PaymentGateway.Status.PENDING, null);
+
+            // when
+            sut.put(orderId, transaction);
+
+            // then
+            assertThat(sut.find(orderId, "tx-1")).isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.attribute.CardNumber;
+import com.loopers.domain.payment.attribute.CardType;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.RequiredArgsConstructor;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@code application.yml}에 설정한 서킷브레이커와 재시도가 PG 응답에 따라 어떻게 동작하는지 검증한다.
+ */
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class PgSimulatorAsyncIntegrationTest {
+
+    private static final String TRANSACT = "payment-gateway--transact";
+
+    private static final MockWebServer server = new MockWebServer();
+
+    private final PgSimulatorAsync sut;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+
+    private CircuitBreaker circuitBreaker;
+    private int requestCount;
+
+    @DynamicPropertySource
+    static void paymentGateway(DynamicPropertyRegistry registry) {
+        registry.add("pg-simulator.api-client.base-url", () -> "http://" + server.getHostName() + ":" + server.getPort());
+    }
+
+    @AfterAll
+    static void shutdown() throws IOException {
+        server.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(TRANSACT);
+        circuitBreaker.reset();
+        requestCount = server.getRequestCount();
+    }
+
+    @DisplayName("서킷브레이커를 사용할 때:")
+    @Nested
+    class UseCircuitBreaker {
+
+        @DisplayName("최소 요청 수보다 적으면, 실패가 있어도 서킷브레이커가 열리지 않는다.")
+        @Test
+        void circuitBreakerWillNotOpen_ifThereAreFewerThanMinimumNumberOfCalls() {
+            // given
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(transactResponse("tx-1"));
+
+            // when
+            PaymentGateway.Response.Transact response = sut.transact(transactRequest()).join();
+
+            // then
+            assertThat(response.transactionKey()).isEqualTo("tx-1");
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+            assertThat(server.getRequestCount() - requestCount).isEqualTo(2);
+        }
+
+        @DisplayName("재시도까지 5xx 로 실패하여 최소 요청 수를 채우면, 서킷브레이커가 열리고 그 뒤의 요청은 PG 로 보내지 않는다.")
+        @Test
+        void circuitBreakerOpens_whenRetriesFailWithServerError() {
+            // given
+            int maxAttempts = retryRegistry.retry(TRANSACT).getRetryConfig().getMaxAttempts();
+            for (int i = 0; i < maxAttempts; i++) {
+                server.enqueue(new MockResponse().setResponseCode(500));
+            }
+
+            // when
+            assertThatThrownBy(() -> sut.transact(transactRequest()).join())
+                    .hasCauseInstanceOf(HttpServerErrorException.class);
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThatThrownBy(() -> sut.transact(transactRequest()).join())
+                    .hasCauseInstanceOf(CallNotPermittedException.class);
+            assertThat(server.getRequestCount() - requestCount).isEqualTo(maxAttempts);
+        }
+
+        @DisplayName("서킷브레이커가 열리는 것부터 다시 닫힐 때까지의 과정을 검증한다.")
+        @Test
+        void validateCircuitBreakerFromOpeningToClosingAgain() throws InterruptedException {
+            // given
+            List<CircuitBreaker.StateTransition> transitions = new CopyOnWriteArrayList<>();
+            circuitBreaker.getEventPublisher().onStateTransition(e -> transitions.add(e.getStateTransition()));
+
+            int maxAttempts = retryRegistry.retry(TRANSACT).getRetryConfig().getMaxAttempts();
+            for (int i = 0; i < maxAttempts; i++) {
+                server.enqueue(new MockResponse().setResponseCode(500));
+            }
+            assertThatThrownBy(() -> sut.transact(transactRequest()).join())
+                    .hasCauseInstanceOf(HttpServerErrorException.class);
+
+            // when
+            TimeUnit.SECONDS.sleep(1); // wait-duration-in-open-state
+            int permittedCalls = circuitBreaker.getCircuitBreakerConfig().getPermittedNumberOfCallsInHalfOpenState();
+            for (int i = 0; i < permittedCalls; i++) {
+                server.enqueue(transactResponse("tx-" + i));
+                sut.transact(transactRequest()).join();
+            }
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(transitions).containsExactly(
+                    CircuitBreaker.StateTransition.CLOSED_TO_OPEN,
+                    CircuitBreaker.StateTransition.OPEN_TO_HALF_OPEN,
+                    CircuitBreaker.StateTransition.HALF_OPEN_TO_CLOSED
+            );
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("PG 가 4xx 로 응답할 때:")
+    @Nested
+    class ClientError {
+
+        @DisplayName("재시도하지 않고, 서킷브레이커의 실패로도 기록하지 않는다.")
+        @Test
+        void notRetryAndNotRecord_whenClientErrorOccurs() {
+            // given
+            Retry retry = retryRegistry.retry(TRANSACT);
+            long failedWithoutRetry = retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt();
+            int maxAttempts = retry.getRetryConfig().getMaxAttempts();
+            for (int i = 0; i < maxAttempts; i++) {
+                server.enqueue(new MockResponse().setResponseCode(400));
+            }
+
+            // when
+            for (int i = 0; i < maxAttempts; i++) {
+                assertThatThrownBy(() -> sut.transact(transactRequest()).join())
+                        .hasCauseInstanceOf(HttpClientErrorException.class);
+            }
+
+            // then
+            assertThat(server.getRequestCount() - requestCount).isEqualTo(maxAttempts);
+            assertThat(retry.getMetrics().getNumberOfFailedCallsWithoutRetryAttempt())
+                    .isEqualTo(failedWithoutRetry + maxAttempts);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+            assertThat(circuitBreaker.getMetrics().getNumberOfNotPermittedCalls()).isZero();
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static PaymentGateway.Request.Transact transactRequest() {
+        return new PaymentGateway.Request.Transact(
+                UUID.randomUUID(), CardType.SAMSUNG, new CardNumber("0000000000000000"), 10_000L);
+    }
+
+    private static MockResponse transactResponse(String transactionKey) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        {"meta":{"result":"SUCCESS"},"data":{"transactionKey":"%s","status":"SUCCESS","reason":null}}
+                        """.formatted(transactionKey));
+    }
+
+}
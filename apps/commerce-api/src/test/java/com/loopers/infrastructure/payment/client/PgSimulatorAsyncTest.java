@@ -0,0 +1,257 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.loopers.config.jackson.WrappedObjectMapper;
+import com.loopers.config.payment.PaymentGatewayClientProperties;
+import com.loopers.domain.payment.PaymentGateway;
+import com.loopers.domain.payment.attribute.CardNumber;
+import com.loopers.domain.payment.attribute.CardType;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 실제 HTTP 로 응답하는 가짜 PG 에 대고, 벌크헤드와 서킷브레이커, 재시도, 헤지, 취소가 요청에 어떻게 나타나는지 검증한다.
+ */
+class PgSimulatorAsyncTest {
+
+    private static final String TRANSACT = "payment-gateway--transact";
+    private static final String GET_TRANSACTIONS = "payment-gateway--get-transactions";
+    private static final int MAX_CONCURRENT_CALLS = 2;
+
+    private final MockWebServer server = new MockWebServer();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(MAX_CONCURRENT_CALLS)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+
+    private PgSimulatorAsync sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (sut != null) {
+            sut.close();
+        }
+        server.shutdown();
+    }
+
+    @DisplayName("결제를 요청할 때:")
+    @Nested
+    class Transact {
+
+        @DisplayName("PG 가 5xx 로 실패하면, 최대 시도 수 안에서 다시 보낸다.")
+        @Test
+        void retry_whenServerFails() {
+            // given
+            sut = create(3, 10);
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(transactResponse("tx-1"));
+
+            // when
+            PaymentGateway.Response.Transact response = sut.transact(transactRequest()).join();
+
+            // then
+            assertThat(response.transactionKey()).isEqualTo("tx-1");
+            assertThat(response.status()).isEqualTo(PaymentGateway.Status.SUCCESS);
+            assertThat(server.getRequestCount()).isEqualTo(3);
+        }
+
+        @DisplayName("실패가 최소 요청 수만큼 쌓이면 서킷브레이커가 열리고, 그 뒤의 요청은 PG 로 보내지 않는다.")
+        @Test
+        void notSend_whenCircuitBreakerIsOpen() {
+            // given
+            sut = create(1, 2);
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(new MockResponse().setResponseCode(500));
+            assertThatThrownBy(() -> sut.transact(transactRequest()).join()).isInstanceOf(CompletionException.class);
+            assertThatThrownBy(() -> sut.transact(transactRequest()).join()).isInstanceOf(CompletionException.class);
+
+            // when
+            CompletableFuture<PaymentGateway.Response.Transact> result = sut.transact(transactRequest());
+
+            // then
+            assertThatThrownBy(result::join).hasCauseInstanceOf(CallNotPermittedException.class);
+            assertThat(server.getRequestCount()).isEqualTo(2);
+        }
+
+        @DisplayName("벌크헤드 자리가 모두 차 있으면, 기다리지 않고 PG 로 보내지 않은 채 거절한다.")
+        @Test
+        void reject_whenBulkheadIsFull() {
+            // given
+            sut = create(1, 10);
+            for (int i = 0; i < MAX_CONCURRENT_CALLS; i++) {
+                server.enqueue(transactResponse("tx-" + i).setHeadersDelay(500, TimeUnit.MILLISECONDS));
+            }
+            CompletableFuture<?> first = sut.transact(transactRequest());
+            CompletableFuture<?> second = sut.transact(transactRequest());
+
+            // when
+            CompletableFuture<PaymentGateway.Response.Transact> rejected = sut.transact(transactRequest());
+
+            // then
+            assertThatThrownBy(rejected::join).hasCauseInstanceOf(BulkheadFullException.class);
+            CompletableFuture.allOf(first, second).join();
+            assertThat(server.getRequestCount()).isEqualTo(MAX_CONCURRENT_CALLS);
+        }
+
+        @DisplayName("호출자가 취소하면, 주고받던 요청도 끊어서 응답을 기다리지 않고 벌크헤드 자리를 돌려놓는다.")
+        @Test
+        void releaseBulkhead_whenCallerCancels() {
+            // given
+            sut = create(1, 10);
+            server.enqueue(transactResponse("tx-1").setHeadersDelay(3, TimeUnit.SECONDS));
+            CompletableFuture<PaymentGateway.Response.Transact> result = sut.transact(transactRequest());
+            await().atMost(Duration.ofSeconds(1)).until(() -> server.getRequestCount() == 1);
+
+            // when
+            result.cancel(true);
+
+            // then
+            await().atMost(Duration.ofSeconds(1)).until(() ->
+                    bulkheadRegistry.bulkhead(TRANSACT).getMetrics().getAvailableConcurrentCalls() == MAX_CONCURRENT_CALLS);
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("거래를 조회할 때:")
+    @Nested
+    class FindTransactions {
+
+        @DisplayName("지연 시간 안에 응답하지 않으면 한 번 더 보내서 먼저 온 응답을 쓰고, 느린 요청은 끊는다.")
+        @Test
+        void useHedgedResponseAndCancelSlowRequest_whenFirstRequestIsSlow() {
+            // given
+            sut = create(1, 10);
+            UUID orderId = UUID.randomUUID();
+            server.enqueue(getTransactionsResponse(orderId, "slow").setHeadersDelay(3, TimeUnit.SECONDS));
+            server.enqueue(getTransactionsResponse(orderId, "hedged"));
+
+            // when
+            Optional<PaymentGateway.Response.GetTransactions> response = sut.findTransactions(orderId).join();
+
+            // then
+            assertThat(response).hasValueSatisfying(transactions -> assertThat(transactions.transactions())
+                    .extracting(PaymentGateway.Response.GetTransactions.Transaction::transactionKey)
+                    .containsExactly("hedged"));
+            assertThat(server.getRequestCount()).isEqualTo(2);
+            await().atMost(Duration.ofSeconds(1)).until(() ->
+                    bulkheadRegistry.bulkhead(GET_TRANSACTIONS).getMetrics().getAvailableConcurrentCalls() == MAX_CONCURRENT_CALLS);
+        }
+
+        @DisplayName("모든 요청이 실패하면, 빈 값으로 끝난다.")
+        @Test
+        void returnEmpty_whenAllRequestsFail() {
+            // given
+            sut = create(1, 10);
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(new MockResponse().setResponseCode(500));
+
+            // when
+            Optional<PaymentGateway.Response.GetTransactions> response = sut.findTransactions(UUID.randomUUID()).join();
+
+            // then
+            assertThat(response).isEmpty();
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    /**
+     * @param maxAttempts          결제 요청의 최대 시도 수 (처음 요청 포함)
+     * @param minimumNumberOfCalls 서킷브레이커가 실패율을 계산하기 시작하는 최소 요청 수
+     */
+    private PgSimulatorAsync create(int maxAttempts, int minimumNumberOfCalls) {
+        PaymentGatewayClientProperties properties = new PaymentGatewayClientProperties(
+                "http://" + server.getHostName() + ":" + server.getPort(),
+                10,
+                10,
+                Duration.ofMillis(500),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(30),
+                Duration.ofMillis(100)
+        );
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.setAddress(InetAddress.getLoopbackAddress());
+        serverProperties.setPort(8080);
+
+        return new PgSimulatorAsync(
+                properties,
+                serverProperties,
+                new WrappedObjectMapper(),
+                "commerce-api",
+                bulkheadRegistry,
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(minimumNumberOfCalls)
+                        .minimumNumberOfCalls(minimumNumberOfCalls)
+                        .failureRateThreshold(50)
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofSeconds(5))
+                        .build()),
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(maxAttempts)
+                        .waitDuration(Duration.ofMillis(10))
+                        .build()),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private static PaymentGateway.Request.Transact transactRequest() {
+        return new PaymentGateway.Request.Transact(
+                UUID.randomUUID(), CardType.SAMSUNG, new CardNumber("0000000000000000"), 10_000L);
+    }
+
+    private static MockResponse transactResponse(String transactionKey) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        {"meta":{"result":"SUCCESS"},"data":{"transactionKey":"%s","status":"SUCCESS","reason":null}}
+                        """.formatted(transactionKey));
+    }
+
+    private static MockResponse getTransactionsResponse(UUID orderId, String transactionKey) {
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        {"meta":{"result":"SUCCESS"},"data":{"orderId":"%s","transactions":[{"transactionKey":"%s","status":"SUCCESS","reason":null}]}}
+                        """.formatted(orderId, transactionKey));
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.cache.ProductDetailCacheProperties;
+import com.loopers.config.jackson.WrappedObjectMapper;
+import com.loopers.domain.product.ProductQueryResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductDetailNearCacheTest {
+
+    private ProductDetailNearCache sut;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new ProductDetailNearCache(
+                new ProductDetailCacheProperties(100, Duration.ofMinutes(1)),
+                new WrappedObjectMapper(),
+                meterRegistry
+        );
+    }
+
+    @DisplayName("무효화 메시지를 받을 때:")
+    @Nested
+    class OnMessage {
+
+        @DisplayName("삭제 대상 상품이면, 로컬 캐시에서 삭제한다.")
+        @Test
+        void evictDetail_whenProductIsEvicted() {
+            // given
+            sut.put(1L, detail(1L, 10L));
+            sut.put(2L, detail(2L, 20L));
+
+            // when
+            sut.onMessage(message("""
+                    {"evictedProductIds":[1],"likeCounts":{}}
+                    """), null);
+
+            // then
+            assertThat(sut.get(1L)).isEmpty();
+            assertThat(sut.get(2L)).isPresent();
+            assertThat(meterRegistry.get("cache.invalidations").tag("type", "evict").counter().count()).isEqualTo(1);
+        }
+
+        @DisplayName("좋아요 수가 변경된 상품이면, 로컬 캐시의 좋아요 수만 갱신한다.")
+        @Test
+        void patchLikeCount_whenLikeCountIsChanged() {
+            // given
+            sut.put(1L, detail(1L, 10L));
+
+            // when
+            sut.onMessage(message("""
+                    {"evictedProductIds":[],"likeCounts":{"1":11,"3":30}}
+                    """), null);
+
+            // then
+            assertThat(sut.get(1L)).hasValueSatisfying(detail -> {
+                assertThat(detail.likeCount()).isEqualTo(11L);
+                assertThat(detail.productName()).isEqualTo("product-1");
+            });
+            assertThat(sut.get(3L)).isEmpty();
+        }
+
+        @DisplayName("캐시 관통 방지용 객체는, 좋아요 수를 갱신하지 않는다.")
+        @Test
+        void keepNullObject_whenLikeCountIsChanged() {
+            // given
+            sut.put(1L, ProductQueryResult.ProductDetail.EMPTY);
+
+            // when
+            sut.onMessage(message("""
+                    {"evictedProductIds":[],"likeCounts":{"1":11}}
+                    """), null);
+
+            // then
+            assertThat(sut.get(1L)).containsSame(ProductQueryResult.ProductDetail.EMPTY);
+        }
+
+    }
+
+    private static ProductQueryResult.ProductDetail detail(Long productId, Long likeCount) {
+        return new ProductQueryResult.ProductDetail(
+                productId, "product-" + productId, 1000, likeCount, 1L, "brand", List.of());
+    }
+
+    private static DefaultMessage message(String json) {
+        return new DefaultMessage(
+                ProductDetailNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                json.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+}
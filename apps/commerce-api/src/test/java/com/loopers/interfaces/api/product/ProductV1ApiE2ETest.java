@@ -11,6 +11,7 @@ import com.loopers.domain.user.attribute.Gender;
 import com.loopers.interfaces.api.ApiHeader;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import lombok.RequiredArgsConstructor;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.AfterEach;
@@ -46,10 +47,12 @@ class ProductV1ApiE2ETest {
     private final TransactionTemplate transactionTemplate;
     private final TestEntityManager testEntityManager;
     private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("GET " + BASE_ENDPOINT)
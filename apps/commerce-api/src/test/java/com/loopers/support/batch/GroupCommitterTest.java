@@ -0,0 +1,102 @@
+package com.loopers.support.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("요청을 모아서 처리할 때:")
+    @Nested
+    class Submit {
+
+        @DisplayName("동시에 들어온 요청은, 요청 수보다 적은 횟수로 나누어 처리하고 각자의 결과를 돌려받는다.")
+        @Test
+        void flushInBatches_whenConcurrentRequests() {
+            // given
+            AtomicInteger flushCount = new AtomicInteger();
+            try (GroupCommitter<Integer, Integer> sut = new GroupCommitter<>("test", 50, Duration.ofMillis(20), items -> {
+                flushCount.incrementAndGet();
+                return items.stream().map(item -> item * 2).toList();
+            }, meterRegistry)) {
+                AtomicInteger sequence = new AtomicInteger();
+
+                // when
+                assertThatConcurrence()
+                        .withThreadCount(100)
+                        .isExecutedBy(() -> {
+                            int item = sequence.incrementAndGet();
+                            assertThat(sut.submit(item).join()).isEqualTo(item * 2);
+                        })
+                        .isDone()
+                        .hasNoError();
+            }
+
+            // then
+            assertThat(flushCount.get()).isLessThan(100);
+        }
+
+        @DisplayName("배치 처리에 실패하면, 하나씩 다시 처리하여 실패한 요청에만 예외를 전파한다.")
+        @Test
+        void propagateFailureOnlyToCause_whenBatchFails() {
+            // given
+            try (GroupCommitter<Integer, Integer> sut = new GroupCommitter<>(
+                    "test",
+                    10,
+                    Duration.ofMillis(50),
+                    items -> {
+                        throw new IllegalStateException("batch failed");
+                    },
+                    item -> {
+                        if (item < 0) {
+                            throw new IllegalArgumentException("negative");
+                        }
+                        return item;
+                    },
+                    meterRegistry
+            )) {
+                // when
+                CompletableFuture<Integer> succeeded = sut.submit(1);
+                CompletableFuture<Integer> failed = sut.submit(-1);
+
+                // then
+                assertThat(succeeded.join()).isEqualTo(1);
+                assertThatThrownBy(failed::join)
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(IllegalArgumentException.class);
+            }
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("종료할 때, 남아 있는 요청을 모두 처리한다.")
+    @Test
+    void flushRemains_whenClosed() {
+        // given
+        GroupCommitter<Integer, Integer> sut = new GroupCommitter<>("test", 10, Duration.ofMillis(100), items -> items, meterRegistry);
+        List<CompletableFuture<Integer>> futures = List.of(sut.submit(1), sut.submit(2), sut.submit(3));
+
+        // when
+        sut.close();
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThat(future).isCompleted());
+    }
+
+}
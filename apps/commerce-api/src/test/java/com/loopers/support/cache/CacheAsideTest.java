@@ -0,0 +1,101 @@
+package com.loopers.support.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.loopers.test.assertion.ConcurrentAssertion.assertThatConcurrence;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheAsideTest {
+
+    @DisplayName("적재를 합쳐서 조회할 때:")
+    @Nested
+    class Coalesce {
+
+        @DisplayName("동시에 캐시 미스가 발생하면, fallback은 한 번만 실행된다.")
+        @Test
+        void loadOnce_whenConcurrentCacheMisses() {
+            // given
+            AtomicReference<String> cache = new AtomicReference<>();
+            AtomicInteger fallbackCount = new AtomicInteger();
+
+            // when
+            assertThatConcurrence()
+                    .withThreadCount(100)
+                    .isExecutedBy(() -> {
+                        String value = CacheAside
+                                .lookupCache(cache::get)
+                                .isNullObject(v -> Objects.equals(v, "__null__"))
+                                .lookupFallback(() -> {
+                                    fallbackCount.incrementAndGet();
+                                    sleep(200);
+                                    return "loaded";
+                                })
+                                .saveCache(cache::set)
+                                .coalesce("test", 1L)
+                                .get();
+
+                        assertThat(value).isEqualTo("loaded");
+                    })
+                    .isDone()
+                    .hasNoError();
+
+            // then
+            assertThat(fallbackCount).hasValue(1);
+        }
+
+        @DisplayName("다른 노드가 락을 점유 중이면, 캐시가 채워질 때까지 기다린다.")
+        @Test
+        void waitForCache_whenLockIsHeldByOthers() {
+            // given
+            AtomicReference<String> cache = new AtomicReference<>();
+            AtomicInteger fallbackCount = new AtomicInteger();
+            CacheAside.LoadLock heldByOthers = new CacheAside.LoadLock() {
+                @Override
+                public boolean tryLock() {
+                    return false;
+                }
+
+                @Override
+                public void unlock() {
+                }
+            };
+            Thread.ofVirtual().start(() -> {
+                sleep(100);
+                cache.set("loaded-by-others");
+            });
+
+            // when
+            String value = CacheAside
+                    .lookupCache(cache::get)
+                    .isNullObject(v -> Objects.equals(v, "__null__"))
+                    .lookupFallback(() -> {
+                        fallbackCount.incrementAndGet();
+                        return "loaded";
+                    })
+                    .saveCache(cache::set)
+                    .coalesce("test", 2L)
+                    .withLock(heldByOthers)
+                    .get();
+
+            // then
+            assertThat(value).isEqualTo("loaded-by-others");
+            assertThat(fallbackCount).hasValue(0);
+        }
+
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
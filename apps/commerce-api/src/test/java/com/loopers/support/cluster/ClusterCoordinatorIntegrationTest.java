@@ -0,0 +1,149 @@
+package com.loopers.support.cluster;
+
+import com.loopers.config.ClusterProperties;
+import com.loopers.config.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 테스트 프로필은 클러스터를 끄므로, 켠 노드를 직접 만들어서 실제 Redis 로 임대와 샤드 분배를 검증한다.
+ */
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class ClusterCoordinatorIntegrationTest {
+
+    private static final Duration MEMBER_TTL = Duration.ofMillis(600);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final int SHARD_COUNT = 4;
+
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCleanUp redisCleanUp;
+
+    private final List<ClusterCoordinator> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ClusterCoordinator::stop);
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("노드가 들어오고 나갈 때:")
+    @Nested
+    class Membership {
+
+        @DisplayName("혼자 있으면, 리더가 되고 모든 샤드를 맡는다.")
+        @Test
+        void becomeLeaderAndOwnAllShards_whenAlone() {
+            // given
+            ClusterCoordinator node = join(new SimpleMeterRegistry());
+
+            // when & then
+            await().atMost(TIMEOUT).until(node::isLeader);
+            assertThat(node.ownedShards(SHARD_COUNT)).containsExactly(0, 1, 2, 3);
+        }
+
+        @DisplayName("노드가 들어오면, 리더는 하나만 두고 샤드는 겹치지 않게 나누어 맡는다.")
+        @Test
+        void keepSingleLeaderAndSplitShards_whenNodeJoins() {
+            // given
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ClusterCoordinator first = join(meterRegistry);
+            await().atMost(TIMEOUT).until(first::isLeader);
+
+            // when
+            ClusterCoordinator second = join(new SimpleMeterRegistry());
+            await().atMost(TIMEOUT).until(() -> first.ownedShards(SHARD_COUNT).size() == 2
+                    && second.ownedShards(SHARD_COUNT).size() == 2);
+
+            // then
+            assertThat(Stream.concat(first.ownedShards(SHARD_COUNT).stream(), second.ownedShards(SHARD_COUNT).stream()))
+                    .containsExactlyInAnyOrder(0, 1, 2, 3);
+            assertThat(first.isLeader()).isTrue();
+            assertThat(second.isLeader()).isFalse();
+            assertThat(meterRegistry.get("cluster.members").gauge().value()).isEqualTo(2);
+
+            AtomicInteger ran = new AtomicInteger();
+            first.runAsLeader("test.leader", ran::incrementAndGet);
+            second.runAsLeader("test.leader", ran::incrementAndGet);
+            assertThat(ran).hasValue(1);
+        }
+
+        @DisplayName("리더가 나가면, 남은 노드가 만료를 기다리지 않고 리더를 넘겨받고 모든 샤드를 맡는다.")
+        @Test
+        void takeOverLeadershipAndAllShards_whenLeaderLeaves() {
+            // given
+            ClusterCoordinator leader = join(new SimpleMeterRegistry());
+            await().atMost(TIMEOUT).until(leader::isLeader);
+            ClusterCoordinator follower = join(new SimpleMeterRegistry());
+            await().atMost(TIMEOUT).until(() -> follower.ownedShards(SHARD_COUNT).size() == 2);
+
+            // when
+            leader.stop();
+
+            // then
+            await().atMost(TIMEOUT).until(() -> follower.isLeader()
+                    && follower.ownedShards(SHARD_COUNT).size() == SHARD_COUNT);
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @DisplayName("한 번만 실행할 때:")
+    @Nested
+    class RunOnce {
+
+        @DisplayName("같은 실행 키로는 먼저 잡은 한 노드만 실행하고, 다른 실행 키는 다시 실행한다.")
+        @Test
+        void runOnlyOnFirstNode_withSameRunKey() {
+            // given
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ClusterCoordinator first = join(meterRegistry);
+            ClusterCoordinator second = join(new SimpleMeterRegistry());
+            AtomicInteger ran = new AtomicInteger();
+
+            // when
+            boolean firstRan = first.runOnce("test.once", "2026-10-18", Duration.ofMinutes(1), ran::incrementAndGet);
+            boolean secondRan = second.runOnce("test.once", "2026-10-18", Duration.ofMinutes(1), ran::incrementAndGet);
+            boolean nextRan = second.runOnce("test.once", "2026-10-19", Duration.ofMinutes(1), ran::incrementAndGet);
+
+            // then
+            assertThat(firstRan).isTrue();
+            assertThat(secondRan).isFalse();
+            assertThat(nextRan).isTrue();
+            assertThat(ran).hasValue(2);
+            assertThat(meterRegistry.get("cluster.job.run").tag("job", "test.once").timer().count()).isEqualTo(1);
+        }
+
+    }
+
+    private ClusterCoordinator join(MeterRegistry meterRegistry) {
+        ClusterCoordinator node = new ClusterCoordinator(
+                new ClusterProperties(true, "test", MEMBER_TTL), redisTemplate, meterRegistry);
+        node.start();
+        nodes.add(node);
+        return node;
+    }
+
+}
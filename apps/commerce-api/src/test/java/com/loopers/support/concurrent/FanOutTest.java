@@ -0,0 +1,92 @@
+package com.loopers.support.concurrent;
+
+import com.loopers.support.error.BusinessException;
+import com.loopers.support.error.CommonErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutTest {
+
+    @DisplayName("분기를 동시에 실행할 때:")
+    @Nested
+    class Join {
+
+        @DisplayName("모든 분기가 성공하면, 분기마다 결과를 돌려받고 걸린 시간은 가장 느린 분기만큼이다.")
+        @Test
+        void returnResultsOfAllBranches_whenAllBranchesSucceed() {
+            // given
+            long start = System.nanoTime();
+
+            // when
+            try (FanOut sut = FanOut.open("test", new SimpleMeterRegistry())) {
+                FanOut.Branch<Integer> first = sut.fork("first", () -> sleepAndGet(200, 1));
+                FanOut.Branch<Integer> second = sut.fork("second", () -> sleepAndGet(200, 2));
+                sut.join();
+
+                // then
+                assertThat(first.get()).isEqualTo(1);
+                assertThat(second.get()).isEqualTo(2);
+            }
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(400));
+        }
+
+        @DisplayName("한 분기가 실패하면, 나머지 분기를 취소하고 실패한 예외를 그대로 던진다.")
+        @Test
+        void cancelOtherBranchesAndThrowCause_whenAnyBranchFails() throws InterruptedException {
+            // given
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicBoolean interrupted = new AtomicBoolean();
+
+            // when & then
+            try (FanOut sut = FanOut.open("test", new SimpleMeterRegistry())) {
+                sut.fork("slow", () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException e) {
+                        interrupted.set(true);
+                    }
+                    return null;
+                });
+                sut.fork("failing", () -> {
+                    awaitQuietly(started);
+                    throw new BusinessException(CommonErrorType.NOT_FOUND);
+                });
+
+                assertThatThrownBy(sut::join)
+                        .isInstanceOf(BusinessException.class)
+                        .hasFieldOrPropertyWithValue("errorType", CommonErrorType.NOT_FOUND);
+            }
+            assertThat(interrupted).isTrue();
+        }
+
+    }
+
+    private static Integer sleepAndGet(long millis, Integer value) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.loopers.support.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class HedgedTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @DisplayName("요청을 보낼 때:")
+    @Nested
+    class Call {
+
+        @DisplayName("지연 시간 안에 응답하면, 요청을 한 번만 보낸다.")
+        @Test
+        void sendOnce_whenFirstRequestRespondsInTime() {
+            // given
+            AtomicInteger sent = new AtomicInteger();
+
+            // when
+            String result = Hedged.call("test", () -> {
+                sent.incrementAndGet();
+                return CompletableFuture.completedFuture("first");
+            }, Duration.ofMillis(100), 2, scheduler, meterRegistry).join();
+
+            // then
+            assertThat(result).isEqualTo("first");
+            assertThat(sent).hasValue(1);
+        }
+
+        @DisplayName("지연 시간 안에 응답하지 않으면, 한 번 더 보내고 먼저 온 응답을 쓰며 느린 요청은 취소한다.")
+        @Test
+        void useFasterResponseAndCancelSlowRequest_whenFirstRequestIsSlow() {
+            // given
+            List<CompletableFuture<String>> requests = new CopyOnWriteArrayList<>();
+            CompletableFuture<String> slow = new CompletableFuture<>();
+
+            // when
+            String result = Hedged.call("test", () -> {
+                CompletableFuture<String> request = requests.isEmpty()
+                        ? slow
+                        : CompletableFuture.completedFuture("hedged");
+                requests.add(request);
+                return request;
+            }, Duration.ofMillis(50), 2, scheduler, meterRegistry).join();
+
+            // then
+            assertThat(result).isEqualTo("hedged");
+            assertThat(requests).hasSize(2);
+            assertThat(meterRegistry.counter("hedged.requests", "name", "test").count()).isEqualTo(1);
+            await().atMost(Duration.ofSeconds(1)).until(slow::isCancelled);
+        }
+
+        @DisplayName("모든 요청이 실패하면, 실패로 끝난다.")
+        @Test
+        void fail_whenAllRequestsFail() {
+            // given
+            AtomicInteger sent = new AtomicInteger();
+
+            // when
+            CompletableFuture<String> result = Hedged.call("test", () -> {
+                sent.incrementAndGet();
+                return CompletableFuture.failedFuture(new IllegalStateException("failed"));
+            }, Duration.ofMillis(50), 2, scheduler, meterRegistry);
+
+            // then
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(sent).hasValue(2);
+        }
+
+    }
+
+}
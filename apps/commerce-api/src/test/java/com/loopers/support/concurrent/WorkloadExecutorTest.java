@@ -0,0 +1,89 @@
+package com.loopers.support.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class WorkloadExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("동시 실행 수를 제한한 실행기로 실행할 때:")
+    @Nested
+    class Bounded {
+
+        @DisplayName("동시에 실행하는 작업은 최대 동시 실행 수를 넘지 않는다.")
+        @Test
+        void notExceedMaxConcurrency() throws InterruptedException {
+            // given
+            WorkloadExecutor sut = new WorkloadExecutor("test", 2, 100, meterRegistry);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(10);
+
+            // when
+            for (int i = 0; i < 10; i++) {
+                sut.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleepQuietly(20);
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            // then
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+            await().atMost(Duration.ofSeconds(1))
+                    .until(() -> meterRegistry.get("executor.execution").tag("name", "test").timer().count() == 10);
+        }
+
+        @DisplayName("기다리는 작업이 대기열 크기만큼 쌓이면, 더 받지 않고 거절한다.")
+        @Test
+        void rejectTask_whenQueueIsFull() {
+            // given
+            WorkloadExecutor sut = new WorkloadExecutor("test", 1, 1, meterRegistry);
+            CountDownLatch release = new CountDownLatch(1);
+            sut.execute(() -> awaitQuietly(release));
+            await().atMost(Duration.ofSeconds(1))
+                    .until(() -> meterRegistry.get("executor.active").tag("name", "test").gauge().value() == 1);
+            sut.execute(() -> awaitQuietly(release));
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(() -> awaitQuietly(release)))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(meterRegistry.get("executor.rejected").tag("name", "test").counter().count()).isEqualTo(1);
+
+            release.countDown();
+        }
+
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -137,12 +137,13 @@ SELECT
 FROM t;
 
 -- point_histories
-INSERT INTO point_histories (cause, amount, created_at, deleted_at, ref_user_id, updated_at)
+INSERT INTO point_histories (id, cause, amount, created_at, deleted_at, ref_user_id, updated_at)
 WITH RECURSIVE t AS (
     SELECT 1 AS n
     UNION ALL SELECT n+1 FROM t WHERE n < @NUM_POINT_HIST
 )
 SELECT
+    n,                                -- 아이디는 애플리케이션에서 발급하므로 직접 채운다.
     (n MOD 4),                        -- 0~3
     (CASE WHEN n MOD 2 = 0 THEN 500 ELSE -300 END),
     NOW(6), NULL,
@@ -289,7 +290,7 @@ FROM t;
 SET @MAX_PO_ID := (SELECT MAX(product_option_id) FROM product_options);
 
 -- 주문 키 시퀀스
-INSERT INTO order_products (price, quantity, created_at, deleted_at,
+INSERT INTO order_products (order_product_id, price, quantity, created_at, deleted_at,
                             ref_product_option_id, updated_at, ref_order_id)
 WITH RECURSIVE ord AS (
     SELECT 1 AS rn
@@ -300,6 +301,7 @@ WITH RECURSIVE ord AS (
                    UNION ALL SELECT i+1 FROM items WHERE i < @ORDER_ITEMS_PER_ORDER
                )
 SELECT
+    (o.rn - 1) * @ORDER_ITEMS_PER_ORDER + i.i, -- 아이디는 애플리케이션에서 발급하므로 직접 채운다.
     5000 + (o.rn * i * 37 MOD 200000),     -- 대략적 가격
     1 + ((o.rn + i) MOD 3),                -- 1~3개
     NOW(6), NULL,
@@ -333,7 +335,8 @@ FROM orders o;
 -- user_coupons에서 앞쪽 일부만 사용해 매핑
 INSERT INTO order_coupons (created_at, deleted_at, order_coupon_id, ref_user_coupon_id, updated_at, ref_order_id)
 SELECT
-    NOW(6), NULL, NULL,
+    NOW(6), NULL,
+    ROW_NUMBER() OVER (),              -- 아이디는 애플리케이션에서 발급하므로 직접 채운다.
     uc.user_coupon_id,
     NOW(6),
     o.order_id
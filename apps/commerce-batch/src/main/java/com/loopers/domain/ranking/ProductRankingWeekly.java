@@ -68,10 +68,17 @@ public class ProductRankingWeekly extends BaseEntity {
             throw new IllegalArgumentException("상품 아이디가 올바르지 않습니다.");
         }
 
-        LocalDate dateAtMonday = standardDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        this.yearWeek = YearWeek.from(dateAtMonday);
+        this.yearWeek = yearWeekOf(standardDate);
         this.rank = rank;
         this.productId = productId;
     }
 
+    /**
+     * 기준 일자가 속한 주차를 구한다.
+     */
+    public static YearWeek yearWeekOf(LocalDate standardDate) {
+        LocalDate dateAtMonday = standardDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return YearWeek.from(dateAtMonday);
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.loopers.domain.ranking;
+
+import org.threeten.extra.YearWeek;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 정보까지 채워서 미리 만들어두는 주간/월간 랭킹 페이지.
+ * <p>
+ * commerce-api 는 상품 상세를 다시 조회하지 않고 {@link #key()}의 페이지를 그대로 응답한다.
+ */
+public record RankingBoard(
+        String key,
+        int pageSize,
+        Duration ttl,
+        List<Item> items
+) {
+
+    public RankingBoard {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("페이지 크기가 올바르지 않습니다.");
+        }
+
+        items = List.copyOf(items);
+    }
+
+    public static RankingBoard weekly(YearWeek yearWeek, int pageSize, List<Item> items) {
+        // 다음 주 집계가 실패하더라도 지난 주 랭킹은 조회할 수 있도록 넉넉하게 둔다.
+        return new RankingBoard("ranking.weekly:" + yearWeek, pageSize, Duration.ofDays(14), items);
+    }
+
+    public static RankingBoard monthly(YearMonth yearMonth, int pageSize, List<Item> items) {
+        return new RankingBoard("ranking.monthly:" + yearMonth, pageSize, Duration.ofDays(62), items);
+    }
+
+    /**
+     * 순위 순서대로 {@link #pageSize()}씩 나눈다.
+     */
+    public List<List<Item>> pages() {
+        List<List<Item>> pages = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += pageSize) {
+            pages.add(items.subList(from, Math.min(from + pageSize, items.size())));
+        }
+
+        return pages;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    public record Item(
+            Long rank,
+            Long productId,
+            String productName,
+            Integer basePrice,
+            Long likeCount,
+            Long brandId,
+            String brandName
+    ) {
+        public static Item of(Long rank, Product product) {
+            return new Item(
+                    rank,
+                    product.productId(),
+                    product.productName(),
+                    product.basePrice(),
+                    product.likeCount(),
+                    product.brandId(),
+                    product.brandName()
+            );
+        }
+    }
+
+    /**
+     * 랭킹 페이지에 담을 상품 정보.
+     */
+    public record Product(
+            Long productId,
+            String productName,
+            Integer basePrice,
+            Long likeCount,
+            Long brandId,
+            String brandName
+    ) {
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.loopers.domain.ranking;
+
+public interface RankingBoardRepository {
+
+    /**
+     * 새 버전의 페이지를 모두 적재한 뒤에 기존 버전과 한 번에 교체한다.
+     */
+    void publish(RankingBoard board);
+
+}
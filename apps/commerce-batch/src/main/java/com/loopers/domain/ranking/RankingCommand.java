@@ -36,4 +36,18 @@ public record RankingCommand() {
     ) {
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    public record PublishWeekly(
+            LocalDate date
+    ) {
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    public record PublishMonthly(
+            LocalDate date
+    ) {
+    }
+
 }
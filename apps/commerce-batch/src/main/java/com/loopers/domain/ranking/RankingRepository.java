@@ -1,12 +1,22 @@
 package com.loopers.domain.ranking;
 
+import org.threeten.extra.YearWeek;
+
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 
 public interface RankingRepository {
 
     List<ProductRankingDaily> findDailyRanking(LocalDate startDate, LocalDate endDate);
 
+    List<ProductRankingWeekly> findWeeklyRanking(YearWeek yearWeek);
+
+    List<ProductRankingMonthly> findMonthlyRanking(YearMonth yearMonth);
+
+    Map<Long, RankingBoard.Product> findProducts(List<Long> productIds);
+
     boolean merge(ProductRankingDaily ranking);
 
     boolean merge(ProductRankingWeekly ranking);
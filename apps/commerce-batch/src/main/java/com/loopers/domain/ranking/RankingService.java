@@ -1,11 +1,15 @@
 package com.loopers.domain.ranking;
 
 import com.loopers.annotation.ReadOnlyTransactional;
+import com.loopers.config.RankingBoardProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.threeten.extra.YearWeek;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +18,8 @@ import java.util.Map;
 public class RankingService {
 
     private final RankingRepository rankingRepository;
+    private final RankingBoardRepository rankingBoardRepository;
+    private final RankingBoardProperties rankingBoardProperties;
 
     @ReadOnlyTransactional
     public RankingResult.GetDaily getDaily(RankingCommand.GetDaily command) {
@@ -76,4 +82,53 @@ public class RankingService {
         }
     }
 
+    /**
+     * 커밋된 주간 랭킹에 상품 정보를 채워서 페이지 단위로 발행한다.
+     */
+    @ReadOnlyTransactional
+    public void publishWeekly(RankingCommand.PublishWeekly command) {
+        YearWeek yearWeek = ProductRankingWeekly.yearWeekOf(command.date());
+        List<ProductRankingWeekly> rankings = rankingRepository.findWeeklyRanking(yearWeek);
+
+        List<RankingBoard.Item> items = hydrate(rankings.stream()
+                .map(ranking -> Map.entry(ranking.getProductId(), ranking.getRank()))
+                .toList());
+
+        rankingBoardRepository.publish(RankingBoard.weekly(yearWeek, rankingBoardProperties.pageSize(), items));
+    }
+
+    /**
+     * 커밋된 월간 랭킹에 상품 정보를 채워서 페이지 단위로 발행한다.
+     */
+    @ReadOnlyTransactional
+    public void publishMonthly(RankingCommand.PublishMonthly command) {
+        YearMonth yearMonth = YearMonth.from(command.date());
+        List<ProductRankingMonthly> rankings = rankingRepository.findMonthlyRanking(yearMonth);
+
+        List<RankingBoard.Item> items = hydrate(rankings.stream()
+                .map(ranking -> Map.entry(ranking.getProductId(), ranking.getRank()))
+                .toList());
+
+        rankingBoardRepository.publish(RankingBoard.monthly(yearMonth, rankingBoardProperties.pageSize(), items));
+    }
+
+    /**
+     * 순위 순서를 유지하면서 상품 정보를 채운다. 삭제된 상품은 제외한다.
+     */
+    private List<RankingBoard.Item> hydrate(List<Map.Entry<Long, Integer>> ranks) {
+        Map<Long, RankingBoard.Product> products = rankingRepository.findProducts(ranks.stream()
+                .map(Map.Entry::getKey)
+                .toList());
+
+        List<RankingBoard.Item> items = new ArrayList<>(ranks.size());
+        for (Map.Entry<Long, Integer> rank : ranks) {
+            RankingBoard.Product product = products.get(rank.getKey());
+            if (product != null) {
+                items.add(RankingBoard.Item.of(rank.getValue().longValue(), product));
+            }
+        }
+
+        return items;
+    }
+
 }
@@ -10,9 +10,13 @@ import org.threeten.extra.YearWeek;
 
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 public interface ProductRankingMonthlyJpaRepository extends JpaRepository<ProductRankingMonthly, Long> {
 
+    @Query("select p from ProductRankingMonthly p where p.yearMonth = ?1 order by p.rank, p.id")
+    List<ProductRankingMonthly> findByYearMonth(YearMonth yearMonth);
+
     @Modifying
     @Query("""
                 insert into ProductRankingMonthly (yearMonth, productId, rank, createdAt, updatedAt)
@@ -8,9 +8,13 @@ import org.springframework.data.repository.query.Param;
 import org.threeten.extra.YearWeek;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 public interface ProductRankingWeeklyJpaRepository extends JpaRepository<ProductRankingWeekly, Long> {
 
+    @Query("select p from ProductRankingWeekly p where p.yearWeek = ?1 order by p.rank, p.id")
+    List<ProductRankingWeekly> findByYearWeek(YearWeek yearWeek);
+
     @Modifying
     @Query("""
                 insert into ProductRankingWeekly (yearWeek, productId, rank, createdAt, updatedAt)
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.RedisConfig;
+import com.loopers.config.jackson.WrappedObjectMapper;
+import com.loopers.domain.ranking.RankingBoard;
+import com.loopers.domain.ranking.RankingBoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 랭킹 페이지를 해시 하나에 담는다.
+ * <ul>
+ *     <li>{@code meta}: 페이지 크기, 전체 개수</li>
+ *     <li>{@code page:{n}}: n번째 페이지(1부터 시작)의 상품 목록</li>
+ * </ul>
+ * commerce-api 의 {@code RankingCacheRepositoryImpl}은 {@code HMGET} 한 번으로 요청한 페이지를 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingBoardRepositoryImpl implements RankingBoardRepository {
+
+    /**
+     * 적재 도중 잡이 중단되더라도 임시 키가 남지 않도록 한다.
+     */
+    private static final Duration STAGING_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 임시 키를 실제 키로 교체하면서 만료 시간을 함께 지정한다.
+     * 조회하는 쪽은 이전 버전 또는 새 버전의 페이지 중 하나만 보게 된다.
+     */
+    private static final RedisScript<Long> SWAP = RedisScript.of("""
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            return redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            """, Long.class);
+
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate masterRedisTemplate;
+    private final WrappedObjectMapper wrappedObjectMapper;
+
+    @Override
+    public void publish(RankingBoard board) {
+        List<List<RankingBoard.Item>> pages = board.pages();
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("meta", wrappedObjectMapper.writeValueAsString(new Meta(board.pageSize(), board.items().size())));
+        for (int i = 0; i < pages.size(); i++) {
+            fields.put("page:" + (i + 1), wrappedObjectMapper.writeValueAsString(pages.get(i)));
+        }
+
+        String stagingKey = board.key() + ":staging:" + UUID.randomUUID();
+        masterRedisTemplate.opsForHash().putAll(stagingKey, fields);
+        masterRedisTemplate.expire(stagingKey, STAGING_TTL);
+
+        masterRedisTemplate.execute(SWAP, List.of(stagingKey, board.key()), String.valueOf(board.ttl().toMillis()));
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    record Meta(
+            int pageSize,
+            long totalItems
+    ) {
+    }
+
+}
@@ -3,12 +3,22 @@ package com.loopers.infrastructure.ranking;
 import com.loopers.domain.ranking.ProductRankingDaily;
 import com.loopers.domain.ranking.ProductRankingMonthly;
 import com.loopers.domain.ranking.ProductRankingWeekly;
+import com.loopers.domain.ranking.RankingBoard;
 import com.loopers.domain.ranking.RankingRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+import org.threeten.extra.YearWeek;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -18,11 +28,53 @@ public class RankingRepositoryImpl implements RankingRepository {
     private final ProductRankingWeeklyJpaRepository productRankingWeeklyJpaRepository;
     private final ProductRankingMonthlyJpaRepository productRankingMonthlyJpaRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public List<ProductRankingDaily> findDailyRanking(LocalDate startDate, LocalDate endDate) {
         return productRankingDailyJpaRepository.findByDateBetween(startDate, endDate);
     }
 
+    @Override
+    public List<ProductRankingWeekly> findWeeklyRanking(YearWeek yearWeek) {
+        return productRankingWeeklyJpaRepository.findByYearWeek(yearWeek);
+    }
+
+    @Override
+    public List<ProductRankingMonthly> findMonthlyRanking(YearMonth yearMonth) {
+        return productRankingMonthlyJpaRepository.findByYearMonth(yearMonth);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map<Long, RankingBoard.Product> findProducts(List<Long> productIds) {
+        if (CollectionUtils.isEmpty(productIds)) {
+            return Map.of();
+        }
+
+        // 상품 엔티티는 commerce-api 가 소유하므로, 페이지에 필요한 컬럼만 직접 조회한다.
+        List<Tuple> rows = entityManager.createNativeQuery("""
+                        select p.product_id, p.product_name, p.base_price, p.like_count, b.brand_id, b.brand_name
+                        from products p
+                        left join brands b on b.brand_id = p.ref_brand_id
+                        where p.product_id in (:productIds)
+                        """, Tuple.class)
+                .setParameter("productIds", productIds)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new RankingBoard.Product(
+                        row.get("product_id", Number.class).longValue(),
+                        row.get("product_name", String.class),
+                        row.get("base_price", Number.class).intValue(),
+                        row.get("like_count", Number.class).longValue(),
+                        row.get("brand_id") == null ? null : row.get("brand_id", Number.class).longValue(),
+                        row.get("brand_name", String.class)
+                ))
+                .collect(Collectors.toMap(RankingBoard.Product::productId, Function.identity()));
+    }
+
     @Override
     public boolean merge(ProductRankingDaily ranking) {
         ranking.prePersist();
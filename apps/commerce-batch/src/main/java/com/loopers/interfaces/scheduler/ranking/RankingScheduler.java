@@ -1,7 +1,9 @@
 package com.loopers.interfaces.scheduler.ranking;
 
 import com.loopers.job.ranking.ProductRankingJobConfig;
+import com.loopers.support.cluster.ClusterCoordinator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
@@ -10,24 +12,42 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RankingScheduler {
 
+    private static final String JOB_NAME = "ranking.launch";
+
     private final JobLauncher jobLauncher;
+    private final ClusterCoordinator clusterCoordinator;
 
     @Qualifier(ProductRankingJobConfig.JOB_NAME)
     private final Job job;
 
+    /**
+     * 배치 서버가 여러 대여도, 날짜마다 먼저 잡은 한 대만 집계한다.
+     */
     @Scheduled(cron = "5 0 0 * * *", zone = "Asia/Seoul")
-    public void launchRankingJob() throws Exception {
+    public void launchRankingJob() {
         LocalDate yesterday = LocalDate.now().minusDays(1);
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLocalDate("date", yesterday)
-                .toJobParameters();
-        jobLauncher.run(job, jobParameters);
+        boolean launched = clusterCoordinator.runOnce(JOB_NAME, yesterday.toString(), Duration.ofHours(1), () -> {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLocalDate("date", yesterday)
+                    .toJobParameters();
+            try {
+                jobLauncher.run(job, jobParameters);
+            } catch (Exception e) {
+                log.error("Failed to launch ranking job: (date={}, message={})", yesterday, e.getMessage());
+            }
+        });
+
+        if (!launched) {
+            log.info("Ranking job is launched by another node: (date={})", yesterday);
+        }
     }
 
 }
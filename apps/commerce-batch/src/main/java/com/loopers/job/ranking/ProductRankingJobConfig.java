@@ -33,6 +33,8 @@ public class ProductRankingJobConfig {
     private static final String DAILY_RANKING_STEP_NAME = "daily_ranking_step";
     private static final String WEEKLY_RANKING_STEP_NAME = "weekly_ranking_step";
     private static final String MONTHLY_RANKING_STEP_NAME = "monthly_ranking_step";
+    private static final String WEEKLY_RANKING_PUBLISH_STEP_NAME = "weekly_ranking_publish_step";
+    private static final String MONTHLY_RANKING_PUBLISH_STEP_NAME = "monthly_ranking_publish_step";
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
@@ -43,6 +45,8 @@ public class ProductRankingJobConfig {
     private final DailyRankingAggregationTasklet dailyRankingAggregationTasklet;
     private final WeeklyRankingAggregationTasklet weeklyRankingAggregationTasklet;
     private final MonthlyRankingAggregationTasklet monthlyRankingAggregationTasklet;
+    private final WeeklyRankingPublishTasklet weeklyRankingPublishTasklet;
+    private final MonthlyRankingPublishTasklet monthlyRankingPublishTasklet;
 
     @Bean(name = JOB_NAME)
     Job productRankingJob() {
@@ -81,11 +85,26 @@ public class ProductRankingJobConfig {
                 .build();
     }
 
+    @Bean(name = WEEKLY_RANKING_PUBLISH_STEP_NAME)
+    Step weeklyRankingPublishStep() {
+        return new StepBuilder(WEEKLY_RANKING_PUBLISH_STEP_NAME, jobRepository)
+                .tasklet(weeklyRankingPublishTasklet, transactionManager)
+                .build();
+    }
+
+    @Bean(name = MONTHLY_RANKING_PUBLISH_STEP_NAME)
+    Step monthlyRankingPublishStep() {
+        return new StepBuilder(MONTHLY_RANKING_PUBLISH_STEP_NAME, jobRepository)
+                .tasklet(monthlyRankingPublishTasklet, transactionManager)
+                .build();
+    }
+
     @Bean
     Flow weeklyRankingFlow() {
         return new FlowBuilder<Flow>("weeklyRankingFlow")
                 .start(weeklyDecider())
-                .on("RUN").to(weeklyRankingStep())
+                // 집계 스텝이 커밋된 뒤에 페이지를 발행한다.
+                .on("RUN").to(weeklyRankingStep()).next(weeklyRankingPublishStep())
                 .from(weeklyDecider())
                 .on("SKIP").end()
                 .build();
@@ -95,7 +114,7 @@ public class ProductRankingJobConfig {
     Flow monthlyRankingFlow() {
         return new FlowBuilder<Flow>("monthlyRankingFlow")
                 .start(monthlyDecider())
-                .on("RUN").to(monthlyRankingStep())
+                .on("RUN").to(monthlyRankingStep()).next(monthlyRankingPublishStep())
                 .from(monthlyDecider())
                 .on("SKIP").end()
                 .build();
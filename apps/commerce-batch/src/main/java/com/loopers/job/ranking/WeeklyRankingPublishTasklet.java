@@ -0,0 +1,43 @@
+package com.loopers.job.ranking;
+
+import com.loopers.domain.ranking.RankingCommand;
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 주간 집계가 커밋된 뒤에, 지난 주 랭킹을 기준일이 속한 ISO 주차의 키({@code ranking.weekly:{yyyy-Www}})로 발행한다.
+ * <p>
+ * {@link ProductRankingJobConfig.WeeklyDecider}에 따라 월요일에만 실행되며,
+ * 다음 주 발행이 실패해도 직전 주차의 랭킹을 계속 조회할 수 있도록 2주 동안 보관한다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class WeeklyRankingPublishTasklet implements Tasklet {
+
+    private final RankingService rankingService;
+
+    @Value("#{jobParameters['date'] ?: null}")
+    private LocalDate date;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        rankingService.publishWeekly(new RankingCommand.PublishWeekly(date));
+
+        log.info("Weekly ranking board published: {}", date);
+
+        return RepeatStatus.FINISHED;
+    }
+
+}
@@ -6,6 +6,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class AuditFacade {
@@ -14,10 +17,13 @@ public class AuditFacade {
 
     @Transactional
     public void audit(AuditInput.Audit input) {
+        // Idempotent: 배치 전체의 중복 여부를 한 번에 확인한다.
+        List<String> eventIds = input.items().stream().map(AuditInput.Audit.Item::eventId).toList();
+        Set<String> unhandledEventIds = auditService.handleAll(new AuditCommand.HandleAll(input.topicName(), eventIds));
+
         input.items()
                 .stream()
-                // Idempotent
-                .filter(item -> auditService.handle(new AuditCommand.Handle(item.eventId(), input.topicName())))
+                .filter(item -> unhandledEventIds.contains(item.eventId()))
                 .map(item -> new AuditCommand.Audit(
                         item.eventId(),
                         item.eventKey(),
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,10 +20,13 @@ public class MetricFacade {
 
     @Transactional
     public void aggregateProduct(MetricInput.AggregateProduct input) {
+        // Idempotent: 배치 전체의 중복 여부를 한 번에 확인한다.
+        List<String> eventIds = input.items().stream().map(MetricInput.AggregateProduct.Item::eventId).toList();
+        Set<String> unhandledEventIds = auditService.handleAll(new AuditCommand.HandleAll(input.topicName(), eventIds));
+
         List<MetricCommand.Aggregate.Item> unhandled = input.items()
                 .stream()
-                // Idempotent
-                .filter(item -> auditService.handle(new AuditCommand.Handle(item.eventId(), input.topicName())))
+                .filter(item -> unhandledEventIds.contains(item.eventId()))
                 .map(item -> new MetricCommand.Aggregate.Item(
                         item.date(),
                         item.productId(),
@@ -1,5 +1,7 @@
 package com.loopers.domain.audit;
 
+import java.util.List;
+
 public record AuditCommand() {
 
     public record Audit(
@@ -18,4 +20,12 @@ public record AuditCommand() {
     ) {
     }
 
+    // -------------------------------------------------------------------------------------------------
+
+    public record HandleAll(
+            String topicName,
+            List<String> eventIds
+    ) {
+    }
+
 }
@@ -1,9 +1,17 @@
 package com.loopers.domain.audit;
 
+import java.util.List;
+import java.util.Set;
+
 public interface AuditRepository {
 
     boolean saveIfAbsent(EventLog eventLog);
 
     boolean saveIfAbsent(EventHandled eventHandled);
 
+    /**
+     * 처리 이력을 한 번에 저장하고, 새로 저장된 이벤트 아이디를 반환한다.
+     */
+    Set<String> saveAllIfAbsent(List<EventHandled> eventsHandled);
+
 }
@@ -4,6 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class AuditService {
@@ -32,4 +35,20 @@ public class AuditService {
         return auditRepository.saveIfAbsent(eventHandled);
     }
 
+    /**
+     * 배치 전체의 중복 여부를 한 번에 확인하고, 처음 처리하는 이벤트 아이디를 반환한다.
+     */
+    @Transactional
+    public Set<String> handleAll(AuditCommand.HandleAll command) {
+        List<EventHandled> eventsHandled = command.eventIds()
+                .stream()
+                .map(eventId -> EventHandled.builder()
+                        .id(eventId)
+                        .topicName(command.topicName())
+                        .build())
+                .toList();
+
+        return auditRepository.saveAllIfAbsent(eventsHandled);
+    }
+
 }
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
 
+import static java.util.stream.Collectors.joining;
+
 @Getter
 @RequiredArgsConstructor
 public enum MetricWeight {
@@ -19,4 +21,18 @@ public enum MetricWeight {
         return Arrays.stream(values()).mapToDouble(MetricWeight::getValue).toArray();
     }
 
+    /**
+     * 가중치를 적용한 점수
+     */
+    public static double score(long viewCount, long likeCount, long saleQuantity) {
+        return viewCount * VIEW.value + likeCount * LIKE.value + saleQuantity * SALE.value;
+    }
+
+    /**
+     * 가중치가 바뀌었는지 확인하기 위한 값
+     */
+    public static String signature() {
+        return Arrays.stream(values()).map(weight -> weight.name() + "=" + weight.value).collect(joining(","));
+    }
+
 }
@@ -9,4 +9,10 @@ public interface ProductCacheRepository {
 
     void evictProductDetails(List<Long> productIds);
 
+    /**
+     * 좋아요 수로 정렬된 상품 검색 결과(아이디 목록)를 모두 삭제한다.
+     * 모든 컨슈머를 통틀어 정해진 간격에 한 번만 삭제하고, 그 사이의 호출은 건너뛴다.
+     */
+    void evictPopularSearchResults();
+
 }
@@ -23,6 +23,9 @@ public class ProductService {
                 .map(item -> Map.entry(item.productId(), item.likeCount()))
                 .toList();
         productCacheRepository.replaceLikeCountsIfAbsent(entries);
+
+        // 인기순 검색 결과는 순서가 바뀌었을 수 있으므로 다시 적재하도록 한다. (좋아요마다 지우지 않도록 간격을 둔다)
+        productCacheRepository.evictPopularSearchResults();
     }
 
     public void removeDetails(ProductCommand.RemoveDetails command) {
@@ -3,8 +3,17 @@ package com.loopers.infrastructure.audit;
 import com.loopers.domain.audit.AuditRepository;
 import com.loopers.domain.audit.EventHandled;
 import com.loopers.domain.audit.EventLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
 
 @Repository
 @RequiredArgsConstructor
@@ -12,6 +21,8 @@ public class AuditRepositoryImpl implements AuditRepository {
 
     private final EventLogJpaRepository eventLogJpaRepository;
     private final EventHandledJpaRepository eventHandledJpaRepository;
+    private final RecentlyHandledEvents recentlyHandledEvents;
+    private final EntityManager entityManager;
 
     @Override
     public boolean saveIfAbsent(EventLog eventLog) {
@@ -37,4 +48,80 @@ public class AuditRepositoryImpl implements AuditRepository {
         ) == 1;
     }
 
+    @Override
+    public Set<String> saveAllIfAbsent(List<EventHandled> eventsHandled) {
+        // 1. 최근에 처리한 이벤트와 배치 안에서 중복된 이벤트를 메모리에서 걸러낸다.
+        Map<String, EventHandled> candidates = new LinkedHashMap<>();
+        for (EventHandled eventHandled : eventsHandled) {
+            if (!recentlyHandledEvents.contains(eventHandled.getId())) {
+                candidates.putIfAbsent(eventHandled.getId(), eventHandled);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        // 2. 이미 처리된 이벤트를 한 번에 조회하여 제외한다.
+        eventHandledJpaRepository.findIdsByIdIn(candidates.keySet()).forEach(candidates::remove);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        // 3. 나머지를 하나의 INSERT 문으로 저장한다.
+        List<EventHandled> targets = List.copyOf(candidates.values());
+        targets.forEach(EventHandled::prePersist);
+        int inserted = insertAll(targets);
+
+        // 조회한 뒤에 다른 컨슈머가 같은 이벤트를 저장했다면 어느 이벤트인지 알 수 없으므로, 배치를 되돌리고 다시 받는다.
+        if (inserted != targets.size()) {
+            throw new IllegalStateException("동시에 처리된 이벤트가 있습니다: (expected=%d, inserted=%d)"
+                    .formatted(targets.size(), inserted));
+        }
+
+        Set<String> handledEventIds = Collections.unmodifiableSet(candidates.keySet());
+        rememberAfterCommit(handledEventIds);
+
+        return handledEventIds;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private int insertAll(List<EventHandled> eventsHandled) {
+        String values = IntStream.range(0, eventsHandled.size())
+                .mapToObj(i -> "(:eventId%d, :topicName%d, :createdAt%d, :updatedAt%d)".formatted(i, i, i, i))
+                .collect(joining(", "));
+        Query query = entityManager.createQuery("""
+                insert into EventHandled (id, topicName, createdAt, updatedAt)
+                values %s
+                on conflict (id) do nothing
+                """.formatted(values));
+
+        for (int i = 0; i < eventsHandled.size(); i++) {
+            EventHandled eventHandled = eventsHandled.get(i);
+            query.setParameter("eventId" + i, eventHandled.getId());
+            query.setParameter("topicName" + i, eventHandled.getTopicName());
+            query.setParameter("createdAt" + i, eventHandled.getCreatedAt());
+            query.setParameter("updatedAt" + i, eventHandled.getUpdatedAt());
+        }
+
+        return query.executeUpdate();
+    }
+
+    /**
+     * 롤백되면 다시 처리해야 하므로, 커밋된 뒤에만 최근 처리 목록에 추가한다.
+     */
+    private void rememberAfterCommit(Collection<String> handledEventIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentlyHandledEvents.addAll(handledEventIds);
+            }
+        });
+    }
+
 }
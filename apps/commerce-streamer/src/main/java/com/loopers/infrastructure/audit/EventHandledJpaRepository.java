@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface EventHandledJpaRepository extends JpaRepository<EventHandled, String> {
 
@@ -23,4 +25,7 @@ public interface EventHandledJpaRepository extends JpaRepository<EventHandled, S
             @Param("updatedAt") ZonedDateTime updatedAt
     );
 
+    @Query("select e.id from EventHandled e where e.id in :eventIds")
+    List<String> findIdsByIdIn(@Param("eventIds") Collection<String> eventIds);
+
 }
@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.audit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근에 처리한 이벤트 아이디를 크기 제한을 두고 보관한다. (LRU)
+ * <p>
+ * 리밸런싱이나 재전송으로 같은 배치가 다시 들어왔을 때 DB를 거치지 않고 걸러내기 위한 용도이며,
+ * 여기에 없다고 해서 처리하지 않은 이벤트라는 뜻은 아니다.
+ */
+@Component
+class RecentlyHandledEvents {
+
+    static final int MAX_SIZE = 100_000;
+
+    private final Map<String, Boolean> eventIds = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    public synchronized boolean contains(String eventId) {
+        return eventIds.get(eventId) != null;
+    }
+
+    public synchronized void addAll(Collection<String> handledEventIds) {
+        handledEventIds.forEach(eventId -> eventIds.put(eventId, Boolean.TRUE));
+    }
+
+}
@@ -6,18 +6,15 @@ import com.loopers.domain.metric.attribute.MetricWeight;
 import com.loopers.support.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.zset.Aggregate;
-import org.springframework.data.redis.connection.zset.Weights;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.groupingBy;
 
@@ -28,47 +25,85 @@ public class MetricRepositoryImpl implements MetricRepository {
 
     private static final long RETENTION_DAYS = 3;
 
+    /**
+     * 지표별 점수를 올리고, 가중치를 곱한 변화량만큼 종합 점수도 올린다.
+     * <p>
+     * 종합 점수를 만든 가중치와 현재 가중치가 다르면(처음 만들거나 가중치가 바뀐 경우) 종합 점수를 다시 계산한다.
+     * 종합 점수가 어긋났을 때는 가중치 키를 삭제하면 다음 배치에서 다시 계산된다.
+     * <p>
+     * KEYS: views, likes, sales, all, weights
+     * <br>
+     * ARGV: 가중치 서명, 만료 시각(epoch second), 조회/좋아요/판매 가중치, (멤버, 조회 수, 좋아요 수, 판매 수, 종합 점수)...
+     */
+    private static final RedisScript<Long> INCREASE = RedisScript.of("""
+            for i = 6, #ARGV, 5 do
+              redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i])
+              redis.call('ZINCRBY', KEYS[2], ARGV[i + 2], ARGV[i])
+              redis.call('ZINCRBY', KEYS[3], ARGV[i + 3], ARGV[i])
+            end
+
+            local rebuilt = 0
+            if redis.call('GET', KEYS[5]) == ARGV[1] then
+              for i = 6, #ARGV, 5 do
+                redis.call('ZINCRBY', KEYS[4], ARGV[i + 4], ARGV[i])
+              end
+            else
+              redis.call('ZUNIONSTORE', KEYS[4], 3, KEYS[1], KEYS[2], KEYS[3], 'WEIGHTS', ARGV[3], ARGV[4], ARGV[5])
+              redis.call('SET', KEYS[5], ARGV[1])
+              rebuilt = 1
+            end
+
+            for _, key in ipairs(KEYS) do
+              redis.call('EXPIREAT', key, ARGV[2])
+            end
+            return rebuilt
+            """, Long.class);
+
     private final StringRedisTemplate stringRedisTemplate;
 
     @Override
     public void increase(List<Metric> metrics) {
         Map<LocalDate, List<Metric>> dateMap = metrics.stream().collect(groupingBy(Metric::getDate));
 
-        stringRedisTemplate.executePipelined((RedisConnection connection) -> {
-            dateMap.forEach((date, items) -> {
-                String day = date.format(DateTimeFormatter.BASIC_ISO_DATE);
-                String views = "metric.product.view:" + day;
-                String likes = "metric.product.like:" + day;
-                String sales = "metric.product.sale:" + day;
-
-                for (Metric item : items) {
-                    String padded = StringUtils.padStart(item.getProductId().toString(), 19, '0');
-                    String member = StringUtils.invert9sComplement(padded);
-                    ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
-
-                    // Save with non-weighted score.
-                    zSet.incrementScore(views, member, item.getViewCount());
-                    zSet.incrementScore(likes, member, item.getLikeCount());
-                    zSet.incrementScore(sales, member, item.getSaleQuantity());
-                }
-
-                // Save with weighted score: overwrite for each call.
-                String all = "metric.product.all:" + day;
-                Weights weights = Weights.of(MetricWeight.toArray());
-                stringRedisTemplate.opsForZSet().unionAndStore(views, List.of(likes, sales), all, Aggregate.SUM, weights);
-
-                // Top 1000
-                stringRedisTemplate.opsForZSet().removeRange(all, 0, -1001);
-
-                Instant ttl = ZonedDateTime.of(date.plusDays(RETENTION_DAYS), LocalTime.MIN, ZoneId.systemDefault()).toInstant();
-                Stream.of(views, likes, sales, all).forEach(key -> stringRedisTemplate.expireAt(key, ttl));
-
-                log.info("Increase {} metrics on '{}', '{}', '{}', '{}'", items.size(), views, likes, sales, all);
-            });
-
-            return null;
+        String[] weights = {
+                String.valueOf(MetricWeight.VIEW.getValue()),
+                String.valueOf(MetricWeight.LIKE.getValue()),
+                String.valueOf(MetricWeight.SALE.getValue()),
+        };
+
+        dateMap.forEach((date, items) -> {
+            String day = date.format(DateTimeFormatter.BASIC_ISO_DATE);
+            String views = "metric.product.view:" + day;
+            String likes = "metric.product.like:" + day;
+            String sales = "metric.product.sale:" + day;
+            String all = "metric.product.all:" + day;
+            String weightsKey = "metric.product.all.weights:" + day;
+
+            Instant ttl = ZonedDateTime.of(date.plusDays(RETENTION_DAYS), LocalTime.MIN, ZoneId.systemDefault()).toInstant();
+
+            List<String> args = new ArrayList<>(5 + items.size() * 5);
+            args.add(MetricWeight.signature());
+            args.add(String.valueOf(ttl.getEpochSecond()));
+            args.addAll(List.of(weights));
+
+            for (Metric item : items) {
+                String padded = StringUtils.padStart(item.getProductId().toString(), 19, '0');
+                String member = StringUtils.invert9sComplement(padded);
+
+                args.add(member);
+                args.add(String.valueOf(item.getViewCount()));
+                args.add(String.valueOf(item.getLikeCount()));
+                args.add(String.valueOf(item.getSaleQuantity()));
+                // 가중치를 미리 곱해서 종합 점수에 바로 더한다.
+                args.add(String.valueOf(MetricWeight.score(item.getViewCount(), item.getLikeCount(), item.getSaleQuantity())));
+            }
+
+            Long rebuilt = stringRedisTemplate.execute(
+                    INCREASE, List.of(views, likes, sales, all, weightsKey), args.toArray());
+
+            log.info("Increase {} metrics on '{}', '{}', '{}', '{}' (rebuilt={})",
+                    items.size(), views, likes, sales, all, rebuilt != null && rebuilt == 1);
         });
-
     }
 
 }
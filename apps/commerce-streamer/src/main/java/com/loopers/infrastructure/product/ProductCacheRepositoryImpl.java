@@ -1,17 +1,27 @@
 package com.loopers.infrastructure.product;
 
+import com.loopers.config.RedisConfig;
+import com.loopers.config.jackson.WrappedObjectMapper;
 import com.loopers.domain.product.ProductCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Repository
@@ -27,7 +37,43 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
             return -1
             """;
 
+    /**
+     * commerce-api 가 정렬 기준별로 모아둔 검색 결과 키들({@code KEYS[2..]})을 삭제하고, 목록({@code KEYS[1]})에서 뺀다.
+     * 삭제할 키를 모두 {@code KEYS}로 받아야 Redis 가 스크립트가 건드리는 키를 알 수 있다.
+     */
+    private static final RedisScript<Long> DELETE_REGISTERED_KEYS = RedisScript.of("""
+            if #KEYS < 2 then
+              return 0
+            end
+            redis.call('DEL', unpack(KEYS, 2, #KEYS))
+            redis.call('SREM', KEYS[1], unpack(KEYS, 2, #KEYS))
+            return #KEYS - 1
+            """, Long.class);
+
+    /**
+     * 스크립트 한 번에 넘기는 최대 키 수
+     */
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    /**
+     * 인기순 검색 결과를 삭제하는 최소 간격. 좋아요가 몰려도 검색 결과를 이보다 자주 다시 적재하지 않는다.
+     */
+    private static final Duration POPULAR_EVICTION_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * 컨슈머가 여러 개여도 간격을 함께 지키도록, 마지막으로 삭제한 표시를 Redis 에 둔다.
+     */
+    private static final String POPULAR_EVICTION_LOCK_KEY = "product.search.eviction:POPULAR";
+
+    /**
+     * commerce-api 노드들이 구독하는 로컬 캐시 무효화 채널.
+     */
+    private static final String INVALIDATION_CHANNEL = "product.detail.invalidation";
+
     private final RedisTemplate<String, Object> objectRedisTemplate;
+    @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER)
+    private final StringRedisTemplate masterRedisTemplate;
+    private final WrappedObjectMapper wrappedObjectMapper;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -55,6 +101,11 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
 
             return null;
         });
+
+        // 로컬 캐시에 사본이 있는 노드는 좋아요 수만 갱신한다.
+        Map<Long, Long> likeCounts = new LinkedHashMap<>();
+        entries.forEach(entry -> likeCounts.put(entry.getKey(), entry.getValue()));
+        publishInvalidation(new Invalidation(List.of(), likeCounts));
     }
 
     @SuppressWarnings("unchecked")
@@ -72,6 +123,60 @@ public class ProductCacheRepositoryImpl implements ProductCacheRepository {
 
             return null;
         });
+
+        publishInvalidation(new Invalidation(productIds, Map.of()));
+    }
+
+    @Override
+    public void evictPopularSearchResults() {
+        try {
+            // 간격 안에 바뀐 순서는 다음 삭제나 검색 결과의 TTL(1분)이 지나면 반영된다.
+            Boolean acquired = masterRedisTemplate.opsForValue()
+                    .setIfAbsent(POPULAR_EVICTION_LOCK_KEY, "1", POPULAR_EVICTION_INTERVAL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+
+            String registryKey = "product.search.keys:POPULAR";
+            Set<String> registered = masterRedisTemplate.opsForSet().members(registryKey);
+            if (CollectionUtils.isEmpty(registered)) {
+                return;
+            }
+
+            // 읽은 뒤에 등록된 키는 목록에 남겨서, 다음 이벤트에 삭제한다.
+            List<String> keys = List.copyOf(registered);
+            for (int i = 0; i < keys.size(); i += DELETE_CHUNK_SIZE) {
+                List<String> chunk = new ArrayList<>(DELETE_CHUNK_SIZE + 1);
+                chunk.add(registryKey);
+                chunk.addAll(keys.subList(i, Math.min(i + DELETE_CHUNK_SIZE, keys.size())));
+                masterRedisTemplate.execute(DELETE_REGISTERED_KEYS, chunk);
+            }
+        } catch (Exception e) {
+            // 검색 결과는 짧은 TTL로 만료되므로, 삭제 실패가 소비를 막지 않도록 한다.
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    private void publishInvalidation(Invalidation invalidation) {
+        if (invalidation.evictedProductIds().isEmpty() && invalidation.likeCounts().isEmpty()) {
+            return;
+        }
+
+        try {
+            String message = wrappedObjectMapper.writeValueAsString(invalidation);
+            masterRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 로컬 캐시는 짧은 TTL로 만료되므로, 발행 실패가 소비를 막지 않도록 한다.
+            log.error(e.getMessage(), e);
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private record Invalidation(
+            List<Long> evictedProductIds,
+            Map<Long, Long> likeCounts
+    ) {
     }
 
 }
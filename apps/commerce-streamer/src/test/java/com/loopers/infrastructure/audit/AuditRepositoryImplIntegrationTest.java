@@ -0,0 +1,115 @@
+package com.loopers.infrastructure.audit;
+
+import com.loopers.domain.audit.EventHandled;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RequiredArgsConstructor
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class AuditRepositoryImplIntegrationTest {
+
+    private static final String TOPIC_NAME = "common.audit.v1";
+
+    private final AuditRepositoryImpl sut;
+    private final EventHandledJpaRepository eventHandledJpaRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("처리 이력을 한 번에 저장할 때:")
+    @Nested
+    class SaveAllIfAbsent {
+
+        @DisplayName("배치 안에서 중복되거나 이미 저장된 이벤트가 섞여 있으면, 새 이벤트만 한 번씩 저장한다.")
+        @Test
+        void saveEachEventOnce_whenBatchHasDuplicatesAndStoredEvents() {
+            // given
+            String stored = UUID.randomUUID().toString();
+            String first = UUID.randomUUID().toString();
+            String second = UUID.randomUUID().toString();
+
+            // 최근 처리 목록을 거치지 않고 DB 에만 저장하여, 조회로 걸러내는지 확인한다.
+            transactionTemplate.executeWithoutResult(status -> sut.saveIfAbsent(eventHandled(stored)));
+
+            // when
+            Set<String> actual = transactionTemplate.execute(status -> sut.saveAllIfAbsent(List.of(
+                    eventHandled(stored),
+                    eventHandled(first),
+                    eventHandled(first),
+                    eventHandled(second)
+            )));
+
+            // then
+            assertThat(actual).containsExactlyInAnyOrder(first, second);
+            assertThat(eventHandledJpaRepository.findIdsByIdIn(List.of(stored, first, second)))
+                    .containsExactlyInAnyOrder(stored, first, second);
+        }
+
+        @DisplayName("같은 배치가 다시 들어오면, 아무것도 저장하지 않는다.")
+        @Test
+        void saveNothing_whenSameBatchIsRedelivered() {
+            // given
+            List<String> eventIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+            Set<String> handled = transactionTemplate.execute(status ->
+                    sut.saveAllIfAbsent(eventIds.stream().map(AuditRepositoryImplIntegrationTest::eventHandled).toList()));
+
+            // when
+            Set<String> redelivered = transactionTemplate.execute(status ->
+                    sut.saveAllIfAbsent(eventIds.stream().map(AuditRepositoryImplIntegrationTest::eventHandled).toList()));
+
+            // then
+            assertThat(handled).containsExactlyInAnyOrderElementsOf(eventIds);
+            assertThat(redelivered).isEmpty();
+            assertThat(eventHandledJpaRepository.count()).isEqualTo(eventIds.size());
+        }
+
+        @DisplayName("롤백된 배치는 최근 처리 목록에 남기지 않아서, 다시 들어오면 저장한다.")
+        @Test
+        void saveAgain_whenPreviousBatchIsRolledBack() {
+            // given
+            List<String> eventIds = List.of(UUID.randomUUID().toString());
+            transactionTemplate.executeWithoutResult(status -> {
+                sut.saveAllIfAbsent(eventIds.stream().map(AuditRepositoryImplIntegrationTest::eventHandled).toList());
+                status.setRollbackOnly();
+            });
+
+            // when
+            Set<String> actual = transactionTemplate.execute(status ->
+                    sut.saveAllIfAbsent(eventIds.stream().map(AuditRepositoryImplIntegrationTest::eventHandled).toList()));
+
+            // then
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(eventIds);
+            assertThat(eventHandledJpaRepository.count()).isEqualTo(eventIds.size());
+        }
+
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static EventHandled eventHandled(String eventId) {
+        return EventHandled.builder()
+                .id(eventId)
+                .topicName(TOPIC_NAME)
+                .build();
+    }
+
+}
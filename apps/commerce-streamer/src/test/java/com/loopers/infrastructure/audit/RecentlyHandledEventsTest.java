@@ -0,0 +1,56 @@
+package com.loopers.infrastructure.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentlyHandledEventsTest {
+
+    @DisplayName("처리한 이벤트를 추가할 때:")
+    @Nested
+    class AddAll {
+
+        @DisplayName("최대 크기를 넘으면, 가장 오래 확인하지 않은 이벤트부터 지우고 최근 이벤트는 처리한 것으로 남긴다.")
+        @Test
+        void evictLeastRecentlyUsed_whenMaxSizeIsExceeded() {
+            // given
+            RecentlyHandledEvents sut = new RecentlyHandledEvents();
+            sut.addAll(IntStream.range(0, RecentlyHandledEvents.MAX_SIZE).mapToObj(String::valueOf).toList());
+
+            // 가장 먼저 추가한 이벤트를 다시 확인하여 최근에 쓴 것으로 만든다.
+            assertThat(sut.contains("0")).isTrue();
+
+            // when
+            sut.addAll(List.of("new-1", "new-2"));
+
+            // then
+            assertThat(sut.contains("1")).isFalse();
+            assertThat(sut.contains("2")).isFalse();
+            assertThat(sut.contains("0")).isTrue();
+            assertThat(sut.contains("3")).isTrue();
+            assertThat(sut.contains("new-1")).isTrue();
+            assertThat(sut.contains("new-2")).isTrue();
+        }
+
+        @DisplayName("추가하지 않은 이벤트는, 처리한 것으로 보지 않는다.")
+        @Test
+        void notContain_whenEventIsNotAdded() {
+            // given
+            RecentlyHandledEvents sut = new RecentlyHandledEvents();
+            sut.addAll(List.of("handled"));
+
+            // when
+            boolean actual = sut.contains("unknown");
+
+            // then
+            assertThat(actual).isFalse();
+        }
+
+    }
+
+}
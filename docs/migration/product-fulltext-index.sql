@@ -0,0 +1,19 @@
+-- 상품명 검색에 쓰는 n-gram FULLTEXT 인덱스를 만든다.
+--
+-- 한 번만 실행한 뒤, 그 환경의 프로필에서 loopers.product.search.full-text 를 켠다. (dev, qa, prd 는 기본값이 false)
+-- local, test 프로필에서는 ProductFullTextIndexInitializer 가 애플리케이션이 뜰 때 만든다.
+--
+-- * JPA 의 @Index 로는 FULLTEXT 인덱스를 선언할 수 없어서 따로 관리한다.
+-- * 인덱스는 ngram_token_size(기본 2) 글자 단위로 쪼개므로, 띄어쓰기가 없는 한글 상품명도 부분 일치로 찾을 수 있다.
+-- * 기본 불용어 목록의 한 글자 단어(a, i 등)를 포함하는 토큰이 모두 빠지므로, 불용어를 끄고 만든다.
+--   불용어 설정은 인덱스를 만드는 세션의 값을 따르며, 만든 뒤에는 세션 값을 되돌린다.
+-- * 테이블에 FTS_DOC_ID 가 없으면 처음 만들 때 테이블을 다시 쓴다. 그동안 쓰기가 막히므로(LOCK = SHARED) 트래픽이 적을 때 실행한다.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE products
+    ADD FULLTEXT INDEX products_idx_name_fulltext (product_name) WITH PARSER ngram,
+    ALGORITHM = INPLACE,
+    LOCK = SHARED;
+
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
@@ -7,12 +7,15 @@
 #k6 run --out web-dashboard search-products.js
 
 # 브랜드, 범위, 정렬, 반복 횟수 조정
+# 상품명 검색(FULLTEXT n-gram vs LIKE)을 비교할 때는 initial-dummy-data.sql(상품 100만 건)을 넣고
+# loopers.product.search.full-text 를 바꿔가며 같은 KEYWORD 로 측정한다. (상품명: '상품 0000001' ~ '상품 1000000')
 #BASE_URL="http://localhost:8080" \
 #BRAND_ID=17 \
 #PAGES=200 \
 #START_PAGE=0 \
 #SIZE=20 \
 #SORT=POPULAR \
+#KEYWORD=00123 \
 #REPEAT=5 \
 #SLEEP_SEC=0.05 \
 k6 run \
@@ -0,0 +1,69 @@
+import http from 'k6/http';
+import {check, sleep} from 'k6';
+import {URLSearchParams} from 'https://jslib.k6.io/url/1.0.0/index.js';
+
+// ======== 환경 변수(기본값 포함) ========
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BRAND_ID = Number(__ENV.BRAND_ID || 25);    // 1 ~ 50
+const PAGES = Number(__ENV.PAGES || 100);         // 몇 페이지까지 측정할지
+const SIZE = Number(__ENV.SIZE || 20);            // 페이지 크기
+const SORT = __ENV.SORT || 'POPULAR';             // LATEST | POPULAR | CHEAP
+const KEYWORD = __ENV.KEYWORD || '';              // 없으면 전체
+const REPEAT = Number(__ENV.REPEAT || 2);         // 전체 페이지를 몇 번 반복 측정할지(평균용)
+const SLEEP_SEC = Number(__ENV.SLEEP_SEC || 0.1); // 요청 간 간격(부하 조절)
+
+// ======== 옵션 ========
+// 커서는 이전 응답에서만 얻을 수 있으므로, 한 VU가 페이지를 순서대로 넘기며 측정한다.
+// search-products.js(OFFSET)와 같은 조건으로 돌려서 페이지별 레이턴시를 비교한다.
+export const options = {
+    vus: 1,
+    iterations: REPEAT,
+};
+
+// ======== 유틸 ========
+function buildUrl({brandId, cursor, size, sort, keyword}) {
+    const params = new URLSearchParams();
+    params.set('brandId', String(brandId));
+    params.set('size', String(size));
+    params.set('sort', sort);
+    if (cursor) params.set('cursor', cursor);
+    if (keyword && keyword.length > 0) params.set('keyword', keyword);
+
+    return `${BASE_URL}/api/v1/products/scroll?${params.toString()}`;
+}
+
+// ======== 테스트 본문 ========
+export default function () {
+    let cursor = null;
+
+    for (let page = 0; page < PAGES; page++) {
+        const url = buildUrl({
+            brandId: BRAND_ID,
+            cursor,
+            size: SIZE,
+            sort: SORT,
+            keyword: KEYWORD,
+        });
+
+        const res = http.get(url, {
+            tags: {
+                name: `page=${page},size=${SIZE}`,
+                page: page,
+                brandId: BRAND_ID,
+                sort: SORT
+            }
+        });
+
+        check(res, {
+            'status is 200': (r) => r.status === 200,
+        });
+
+        const data = res.json('data');
+        if (!data || !data.hasNext) {
+            break;
+        }
+        cursor = data.nextCursor;
+
+        sleep(SLEEP_SEC);
+    }
+}
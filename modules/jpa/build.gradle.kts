@@ -11,6 +11,9 @@ dependencies {
     api("io.hypersistence:hypersistence-utils-hibernate-63")
     runtimeOnly("com.fasterxml.jackson.module:jackson-module-jakarta-xmlbind-annotations")
 
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+
     // P6Spy
     implementation("com.github.gavlyukovskiy:p6spy-spring-boot-starter")
 
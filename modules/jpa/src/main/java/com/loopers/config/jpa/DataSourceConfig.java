@@ -1,14 +1,25 @@
 package com.loopers.config.jpa;
 
+import com.loopers.config.jpa.replication.ReplicaSelector;
+import com.loopers.config.jpa.replication.ReplicationProperties;
+import com.loopers.config.jpa.replication.ReplicationRoutingDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
 
 @Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
 class DataSourceConfig {
 
     @Bean
@@ -18,9 +29,31 @@ class DataSourceConfig {
     }
 
     @Bean
-    @Primary
     HikariDataSource mysqlMainDataSource(@Qualifier("mysqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
 
+    @Bean
+    ReplicaSelector replicaSelector(
+            ReplicationProperties properties,
+            @Qualifier("mysqlMainHikariConfig") HikariConfig mainConfig,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        // 액추에이터가 없는 애플리케이션(commerce-batch)은 레지스트리 빈이 없으므로 전역 레지스트리에 기록한다.
+        return new ReplicaSelector(properties, mainConfig, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 읽기 전용 트랜잭션은 레플리카로, 나머지는 메인으로 보낸다.
+     * 레플리카를 설정하지 않으면 모든 쿼리를 메인으로 보낸다.
+     */
+    @Bean
+    @Primary
+    DataSource mysqlRoutingDataSource(
+            @Qualifier("mysqlMainDataSource") DataSource mainDataSource,
+            ReplicaSelector replicaSelector
+    ) {
+        return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(mainDataSource, replicaSelector));
+    }
+
 }
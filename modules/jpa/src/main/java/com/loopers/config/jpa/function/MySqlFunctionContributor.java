@@ -0,0 +1,27 @@
+package com.loopers.config.jpa.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * HQL 에서 쓸 수 있도록 MySQL 전용 함수를 등록한다.
+ * <ul>
+ *     <li>{@code match_against(column, query)}: {@code MATCH (column) AGAINST (query IN BOOLEAN MODE)}.
+ *     FULLTEXT 인덱스가 있는 컬럼에만 쓸 수 있으며, 일치하지 않으면 0을 돌려준다.</li>
+ * </ul>
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match (?1) against (?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.loopers.config.jpa.id;
+
+/**
+ * 엔티티의 아이디를 DB 왕복 없이 애플리케이션에서 발급한다.
+ *
+ * @see IdGenerators
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    long nextId();
+
+}
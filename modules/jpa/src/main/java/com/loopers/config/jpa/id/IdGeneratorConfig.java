@@ -0,0 +1,22 @@
+package com.loopers.config.jpa.id;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+class IdGeneratorConfig {
+
+    @Bean
+    IdNodeAllocator idNodeAllocator(
+            IdGeneratorProperties properties,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        return new IdNodeAllocator(properties, entityManager, transactionManager);
+    }
+
+}
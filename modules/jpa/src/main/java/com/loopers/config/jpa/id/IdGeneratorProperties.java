@@ -0,0 +1,18 @@
+package com.loopers.config.jpa.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param nodeId            고정할 노드 아이디. 없으면 DB 에서 비어 있는 노드 아이디를 임대한다.
+ * @param leaseTtl          노드 아이디 임대 기간. 이 기간의 1/3 마다 연장한다.
+ * @param leaseSafetyMargin 마지막 연장 후 임대 기간에서 이만큼 뺀 시간이 지나면 아이디 발급을 거절한다. 서버 간 시계 차이보다 크게 둔다.
+ */
+@ConfigurationProperties(prefix = "loopers.jpa.id")
+public record IdGeneratorProperties(
+        Integer nodeId,
+        Duration leaseTtl,
+        Duration leaseSafetyMargin
+) {
+}
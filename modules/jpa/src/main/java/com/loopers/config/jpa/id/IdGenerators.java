@@ -0,0 +1,47 @@
+package com.loopers.config.jpa.id;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Tsid}가 붙은 아이디에 사용할 {@link IdGenerator}를 보관한다.
+ * <p>
+ * Hibernate 가 아이디 생성기를 스프링 빈이 아닌 객체로 만들기 때문에, 전역으로 보관하고 교체한다.
+ * 노드 아이디를 할당받기 전에는 다른 노드와 아이디가 겹칠 수 있으므로, 처음 등록될 때까지 기다린다.
+ */
+public final class IdGenerators {
+
+    private static final Duration REGISTRATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final CountDownLatch registered = new CountDownLatch(1);
+
+    private static volatile IdGenerator current;
+
+    private IdGenerators() {
+    }
+
+    public static IdGenerator current() {
+        IdGenerator generator = current;
+        if (generator != null) {
+            return generator;
+        }
+
+        try {
+            if (!registered.await(REGISTRATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("No id node has been allocated within " + REGISTRATION_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an id node to be allocated.", e);
+        }
+
+        return current;
+    }
+
+    public static void use(IdGenerator generator) {
+        current = generator;
+        registered.countDown();
+    }
+
+}
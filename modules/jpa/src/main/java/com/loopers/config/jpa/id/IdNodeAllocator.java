@@ -0,0 +1,192 @@
+package com.loopers.config.jpa.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드마다 서로 다른 노드 아이디를 할당하여 {@link IdGenerators}에 등록한다.
+ * <p>
+ * 노드 아이디가 설정되어 있으면 그대로 쓰고, 없으면 {@code id_node_leases}에서 만료된(또는 한 번도 쓰이지 않은) 노드 아이디를 임대한다.
+ * 임대는 주기적으로 연장하며, 연장에 실패하면(다른 노드가 가져갔거나 행이 사라졌으면) 새 노드 아이디를 임대하여 교체한다.
+ * 만료일시는 애플리케이션 서버의 시계로 계산하므로, 서버 간 시계 차이보다 임대 기간을 충분히 길게 둔다.
+ * <p>
+ * 마지막으로 임대(또는 연장)한 뒤 임대 기간에서 여유 시간을 뺀 만큼이 지나면, 다른 노드가 같은 노드 아이디를 가져갔을 수 있으므로
+ * 임대를 연장하거나 새로 임대할 때까지 아이디 발급을 거절한다.
+ */
+@Slf4j
+public class IdNodeAllocator {
+
+    private final IdGeneratorProperties properties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("id-node-lease").factory());
+
+    private volatile Integer nodeId;
+
+    /**
+     * 이 시점({@link System#nanoTime()})이 지나면 임대가 만료되었을 수 있다.
+     */
+    private volatile long validUntil;
+
+    public IdNodeAllocator(
+            IdGeneratorProperties properties,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.properties = properties;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void allocate() {
+        if (properties.nodeId() != null) {
+            IdGenerators.use(new TsidFactory(properties.nodeId()));
+            log.info("Using fixed id node: {}", properties.nodeId());
+            return;
+        }
+        if (!properties.leaseTtl().minus(properties.leaseSafetyMargin()).isPositive()) {
+            throw new IllegalStateException("Lease safety margin must be shorter than lease ttl: " + properties);
+        }
+
+        lease();
+
+        long period = properties.leaseTtl().toMillis() / 3;
+        renewer.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void release() {
+        renewer.shutdownNow();
+
+        Integer leased = nodeId;
+        if (leased == null) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> entityManager
+                    .createQuery("delete from IdNodeLease l where l.nodeId = :nodeId and l.owner = :owner")
+                    .setParameter("nodeId", leased)
+                    .setParameter("owner", owner)
+                    .executeUpdate());
+        } catch (Exception e) {
+            log.warn("Failed to release id node: (nodeId={}, message={})", leased, e.getMessage());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    void lease() {
+        // 노드끼리 같은 번호부터 경합하지 않도록, 임의의 번호부터 차례로 시도한다.
+        int offset = ThreadLocalRandom.current().nextInt(TsidFactory.MAX_NODE_ID + 1);
+        for (int i = 0; i <= TsidFactory.MAX_NODE_ID; i++) {
+            int candidate = (offset + i) % (TsidFactory.MAX_NODE_ID + 1);
+            long leasedAt = System.nanoTime();
+            if (tryLease(candidate)) {
+                nodeId = candidate;
+                validUntil = leasedAt + validFor();
+                IdGenerators.use(leased(new TsidFactory(candidate)));
+                log.info("Leased id node: {}", candidate);
+                return;
+            }
+        }
+
+        throw new IllegalStateException("No id node is available.");
+    }
+
+    private boolean tryLease(int candidate) {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime expiresAt = now.plus(properties.leaseTtl());
+
+        Integer leased = transactionTemplate.execute(status -> {
+            int taken = entityManager
+                    .createQuery("""
+                                update IdNodeLease l
+                                   set l.owner = :owner, l.expiresAt = :expiresAt
+                                 where l.nodeId = :nodeId
+                                   and l.expiresAt < :now
+                            """)
+                    .setParameter("owner", owner)
+                    .setParameter("expiresAt", expiresAt)
+                    .setParameter("nodeId", candidate)
+                    .setParameter("now", now)
+                    .executeUpdate();
+            if (taken == 1) {
+                return taken;
+            }
+
+            return entityManager
+                    .createQuery("""
+                                insert into IdNodeLease (nodeId, owner, expiresAt)
+                                values (:nodeId, :owner, :expiresAt)
+                                on conflict (nodeId) do nothing
+                            """)
+                    .setParameter("nodeId", candidate)
+                    .setParameter("owner", owner)
+                    .setParameter("expiresAt", expiresAt)
+                    .executeUpdate();
+        });
+
+        return leased != null && leased == 1;
+    }
+
+    void renew() {
+        Integer leased = nodeId;
+        long renewedAt = System.nanoTime();
+        try {
+            Integer renewed = transactionTemplate.execute(status -> entityManager
+                    .createQuery("""
+                                update IdNodeLease l
+                                   set l.expiresAt = :expiresAt
+                                 where l.nodeId = :nodeId
+                                   and l.owner = :owner
+                            """)
+                    .setParameter("expiresAt", ZonedDateTime.now().plus(properties.leaseTtl()))
+                    .setParameter("nodeId", leased)
+                    .setParameter("owner", owner)
+                    .executeUpdate());
+
+            if (renewed == null || renewed == 0) {
+                // 다른 노드가 이미 가져갔을 수 있으므로, 새로 임대할 때까지 발급하지 않는다.
+                validUntil = renewedAt;
+                log.warn("Lost id node lease, leasing another: (nodeId={})", leased);
+                lease();
+                return;
+            }
+
+            validUntil = renewedAt + validFor();
+        } catch (Exception e) {
+            // 다음 주기에 다시 연장한다. 임대 기간 안에 연장하지 못하면 그때부터 발급을 거절한다.
+            log.error("Failed to renew id node lease: (nodeId={}, message={})", leased, e.getMessage());
+        }
+    }
+
+    private long validFor() {
+        return properties.leaseTtl().minus(properties.leaseSafetyMargin()).toNanos();
+    }
+
+    private IdGenerator leased(TsidFactory factory) {
+        return () -> {
+            if (System.nanoTime() - validUntil > 0) {
+                throw new IllegalStateException("Id node lease may have expired: (nodeId=" + factory.getNodeId() + ")");
+            }
+
+            return factory.nextId();
+        };
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.loopers.config.jpa.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간 순으로 정렬되는 64비트 아이디를 애플리케이션에서 발급한다.
+ * 쓰기가 많은 엔티티에 {@code @GeneratedValue(strategy = GenerationType.IDENTITY)} 대신 사용한다.
+ *
+ * @see TsidFactory
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
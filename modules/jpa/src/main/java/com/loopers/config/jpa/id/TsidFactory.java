@@ -0,0 +1,60 @@
+package com.loopers.config.jpa.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 정렬되는 64비트 아이디를 발급한다. (Snowflake/TSID)
+ *
+ * <pre>
+ * | 0 | 밀리초 (41 bits) | 노드 아이디 (10 bits) | 시퀀스 (12 bits) |
+ * </pre>
+ *
+ * 같은 밀리초에 시퀀스가 가득 차거나 시계가 뒤로 가면, 이전 값에서 1씩 더해가며 미래의 밀리초를 앞당겨 쓴다.
+ * 따라서 한 노드 안에서는 항상 증가하는 값을 잠금 없이 발급한다.
+ * 노드 아이디가 같은 노드가 동시에 둘 이상 떠 있으면 아이디가 충돌하므로, {@link IdNodeAllocator}로 노드 아이디를 나누어 갖는다.
+ */
+public final class TsidFactory implements IdGenerator {
+
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    /**
+     * 2025-01-01T00:00:00Z 부터 약 69년 동안 발급할 수 있다.
+     */
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private final int nodeId;
+
+    /**
+     * (밀리초 << {@link #SEQUENCE_BITS}) | 시퀀스
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public TsidFactory(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+
+        this.nodeId = nodeId;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public long nextId() {
+        long next = state.updateAndGet(prev -> {
+            long now = System.currentTimeMillis() - EPOCH;
+            return now > prev >>> SEQUENCE_BITS ? now << SEQUENCE_BITS : prev + 1;
+        });
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+
+        return millis << (NODE_BITS + SEQUENCE_BITS) | (long) nodeId << SEQUENCE_BITS | sequence;
+    }
+
+}
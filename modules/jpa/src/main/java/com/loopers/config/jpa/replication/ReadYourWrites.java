@@ -0,0 +1,47 @@
+package com.loopers.config.jpa.replication;
+
+import java.util.function.Supplier;
+
+/**
+ * 블록 안의 읽기 전용 트랜잭션도 레플리카가 아닌 메인에서 조회하게 한다.
+ * <p>
+ * 방금 쓴 데이터를 곧바로 다시 읽어야 해서 복제 지연을 허용할 수 없는 조회에 사용한다.
+ * 현재 스레드에만 적용되므로, 다른 스레드에서 조회한다면 그 스레드에서도 블록을 열어야 한다.
+ *
+ * <pre>{@code
+ * OrderResult.GetOrderDetail order = ReadYourWrites.call(() -> orderService.getOrderDetail(command));
+ * }</pre>
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private ReadYourWrites() {
+    }
+
+    public static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+
+    public static <T> T call(Supplier<T> task) {
+        DEPTH.set(DEPTH.get() + 1);
+        try {
+            return task.get();
+        } finally {
+            int depth = DEPTH.get() - 1;
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+}
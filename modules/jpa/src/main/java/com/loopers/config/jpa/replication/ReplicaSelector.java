@@ -0,0 +1,180 @@
+package com.loopers.config.jpa.replication;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 레플리카마다 커넥션 풀을 두고, 주기적으로 복제 상태를 확인하여 사용할 수 있는 레플리카를 돌아가며 고른다.
+ * <p>
+ * 복제 상태는 {@code SHOW REPLICA STATUS}의 {@code Seconds_Behind_Source}로 확인한다. (계정에 {@code REPLICATION CLIENT} 권한이 필요하다.)
+ * 연결할 수 없거나, 복제가 멈췄거나, 허용한 지연보다 뒤처진 레플리카는 다음 확인에서 회복될 때까지 고르지 않는다.
+ * 복제 설정이 없는 서버(예: 로컬에서 메인을 레플리카로 지정)는 지연이 없는 것으로 본다.
+ * <p>
+ * 레플리카마다 {@code datasource.replica.lag}(초), {@code datasource.replica.available} 게이지를 기록하고,
+ * 커넥션 풀 지표는 풀 이름({@code mysql-replica-N-pool})으로 구분하여 {@code hikaricp.*}로 기록한다.
+ */
+@Slf4j
+public class ReplicaSelector {
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("replica-health-check").factory());
+
+    public ReplicaSelector(ReplicationProperties properties, HikariConfig mainConfig, MeterRegistry meterRegistry) {
+        this.maxLagSeconds = properties.maxLag().toSeconds();
+
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            replicas.add(new Replica("mysql-replica-" + i + "-pool", properties.replicas().get(i), mainConfig, meterRegistry));
+        }
+        this.replicas = List.copyOf(replicas);
+
+        if (this.replicas.isEmpty()) {
+            return;
+        }
+
+        // 처음 확인하기 전에는 모든 레플리카를 사용할 수 없는 것으로 보고 메인으로 보낸다.
+        long period = properties.healthCheckInterval().toMillis();
+        checker.scheduleWithFixedDelay(this::check, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 사용할 레플리카의 라우팅 키. 사용할 수 있는 레플리카가 없으면 비어 있다.
+     */
+    public Optional<String> select() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(maxLagSeconds)) {
+                return Optional.of(replica.name);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    Map<String, DataSource> dataSources() {
+        Map<String, DataSource> dataSources = new HashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    @PreDestroy
+    public void close() {
+        checker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private void check() {
+        replicas.forEach(Replica::check);
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+
+        private Replica(
+                String name,
+                ReplicationProperties.Replica properties,
+                HikariConfig mainConfig,
+                MeterRegistry meterRegistry
+        ) {
+            HikariConfig config = new HikariConfig();
+            mainConfig.copyStateTo(config);
+            config.setPoolName(name);
+            config.setJdbcUrl(properties.jdbcUrl());
+            config.setReadOnly(true);
+            // 레플리카 장애로 애플리케이션이 뜨지 못하면 안 되므로, 풀은 연결하지 못해도 만들어 둔다.
+            config.setInitializationFailTimeout(-1);
+            config.setMetricRegistry(meterRegistry);
+            if (properties.username() != null) {
+                config.setUsername(properties.username());
+            }
+            if (properties.password() != null) {
+                config.setPassword(properties.password());
+            }
+            if (properties.maximumPoolSize() != null) {
+                config.setMaximumPoolSize(properties.maximumPoolSize());
+                config.setMinimumIdle(Math.min(config.getMinimumIdle(), properties.maximumPoolSize()));
+            }
+
+            this.name = name;
+            this.dataSource = new HikariDataSource(config);
+
+            Gauge.builder("datasource.replica.lag", this, replica -> replica.lagSeconds)
+                    .tag("pool", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", this, replica -> replica.healthy ? 1 : 0)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+
+        private boolean isAvailable(long maxLagSeconds) {
+            return healthy && lagSeconds <= maxLagSeconds;
+        }
+
+        private void check() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!resultSet.next()) {
+                    update(true, 0);
+                    return;
+                }
+
+                long lag = resultSet.getLong("Seconds_Behind_Source");
+                if (resultSet.wasNull()) {
+                    // 복제 스레드가 멈춰 있다.
+                    update(false, -1);
+                    return;
+                }
+
+                update(true, lag);
+            } catch (SQLException e) {
+                if (healthy) {
+                    log.warn("Replica is unavailable: (pool={}, message={})", name, e.getMessage());
+                }
+                update(false, -1);
+            }
+        }
+
+        private void update(boolean healthy, long lagSeconds) {
+            if (!this.healthy && healthy) {
+                log.info("Replica is available: (pool={}, lag={}s)", name, lagSeconds);
+            }
+            this.healthy = healthy;
+            this.lagSeconds = lagSeconds;
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.loopers.config.jpa.replication;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param replicas            읽기 전용 트랜잭션을 보낼 레플리카. 비어 있으면 모든 쿼리를 메인으로 보낸다.
+ * @param healthCheckInterval 레플리카 상태(복제 지연)를 확인하는 주기
+ * @param maxLag              허용하는 최대 복제 지연. 이보다 뒤처진 레플리카에는 보내지 않는다.
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.replication")
+public record ReplicationProperties(
+        List<Replica> replicas,
+        Duration healthCheckInterval,
+        Duration maxLag
+) {
+
+    public ReplicationProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+    }
+
+    /**
+     * 비어 있는 값은 메인의 설정을 그대로 쓴다.
+     *
+     * @param jdbcUrl         레플리카 주소
+     * @param username        레플리카 계정
+     * @param password        레플리카 비밀번호
+     * @param maximumPoolSize 레플리카 커넥션 풀 크기
+     */
+    public record Replica(
+            String jdbcUrl,
+            String username,
+            String password,
+            Integer maximumPoolSize
+    ) {
+    }
+
+}
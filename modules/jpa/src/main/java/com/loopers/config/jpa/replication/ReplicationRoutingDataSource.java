@@ -0,0 +1,47 @@
+package com.loopers.config.jpa.replication;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션({@code @ReadOnlyTransactional}, {@code @Transactional(readOnly = true)})의 커넥션을 레플리카에서 가져온다.
+ * <p>
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션을 시작한 뒤에야 정해지므로,
+ * 실제 커넥션을 첫 쿼리까지 미루는 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용한다.
+ * 다음의 경우에는 메인으로 보낸다.
+ * <ul>
+ *     <li>쓰기 트랜잭션이거나, 쓰기 트랜잭션에 참여한 읽기 전용 트랜잭션</li>
+ *     <li>{@link ReadYourWrites} 블록 안의 조회</li>
+ *     <li>사용할 수 있는 레플리카가 없을 때 (장애, 복제 지연 초과)</li>
+ * </ul>
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String MAIN = "main";
+
+    private final ReplicaSelector replicaSelector;
+
+    public ReplicationRoutingDataSource(DataSource main, ReplicaSelector replicaSelector) {
+        this.replicaSelector = replicaSelector;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(replicaSelector.dataSources());
+        targetDataSources.put(MAIN, main);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(main);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isActive()) {
+            return MAIN;
+        }
+
+        return replicaSelector.select().orElse(MAIN);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.loopers.domain.id;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 아이디 생성기의 노드 아이디 임대
+ * <p>
+ * 노드마다 서로 다른 노드 아이디를 쓰도록, 만료되지 않은 임대가 있는 노드 아이디는 다른 노드가 가져가지 못한다.
+ */
+@Getter
+@Entity
+@Table(name = "id_node_leases")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdNodeLease {
+
+    /**
+     * 노드 아이디
+     */
+    @Id
+    @Column(name = "node_id", nullable = false, updatable = false)
+    private Integer nodeId;
+
+    /**
+     * 임대한 노드
+     */
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    /**
+     * 임대 만료일시
+     */
+    @Column(name = "expires_at", nullable = false)
+    private ZonedDateTime expiresAt;
+
+}
@@ -0,0 +1,83 @@
+package com.loopers.config.jpa.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatException;
+
+class TsidFactoryTest {
+
+    @DisplayName("생성할 때:")
+    @Nested
+    class Create {
+
+        @DisplayName("노드 아이디가 범위를 벗어나면, IllegalArgumentException이 발생한다.")
+        @ValueSource(ints = {-1, TsidFactory.MAX_NODE_ID + 1})
+        @ParameterizedTest
+        void throwException_whenNodeIdIsOutOfRange(int nodeId) {
+            // when & then
+            assertThatException()
+                    .isThrownBy(() -> new TsidFactory(nodeId))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @DisplayName("아이디를 발급할 때:")
+    @Nested
+    class NextId {
+
+        @DisplayName("한 밀리초의 시퀀스를 넘도록 발급해도, 양수이고 항상 증가하며 노드 아이디를 담는다.")
+        @Test
+        void returnIncreasingIds_evenIfSequenceOverflows() {
+            // given
+            TsidFactory sut = new TsidFactory(TsidFactory.MAX_NODE_ID);
+            int count = (1 << TsidFactory.SEQUENCE_BITS) * 3;
+
+            // when
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(sut.nextId());
+            }
+
+            // then
+            assertThat(ids).allMatch(id -> id > 0);
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+            assertThat(ids).allMatch(id -> (id >>> TsidFactory.SEQUENCE_BITS & TsidFactory.MAX_NODE_ID) == TsidFactory.MAX_NODE_ID);
+        }
+
+        @DisplayName("여러 스레드가 동시에 발급해도, 아이디가 중복되지 않는다.")
+        @Test
+        void returnUniqueIds_whenGeneratedConcurrently() {
+            // given
+            TsidFactory sut = new TsidFactory(1);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                IntStream.range(0, 100).forEach(i -> executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(sut.nextId());
+                    }
+                }));
+            }
+
+            // then
+            assertThat(ids).hasSize(100 * 1000);
+        }
+
+    }
+
+}
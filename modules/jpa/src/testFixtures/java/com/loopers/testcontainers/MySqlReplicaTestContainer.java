@@ -0,0 +1,97 @@
+package com.loopers.testcontainers;
+
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link MySqlTestContainersConfig}의 컨테이너를 복제하는 레플리카 컨테이너.
+ * <p>
+ * 레플리카로 읽기를 보내면 복제 지연 때문에 다른 테스트가 흔들릴 수 있으므로, 설정으로 등록하지 않고 필요한 테스트에서만 연결한다.
+ *
+ * <pre>{@code
+ * @DynamicPropertySource
+ * static void replica(DynamicPropertyRegistry registry) {
+ *     registry.add("datasource.mysql-jpa.replication.replicas[0].jdbc-url", MySqlReplicaTestContainer::jdbcUrl);
+ * }
+ * }</pre>
+ */
+public final class MySqlReplicaTestContainer {
+
+    private static final MySQLContainer<?> mySqlContainer;
+
+    static {
+        MySQLContainer<?> primary = MySqlTestContainersConfig.container();
+
+        mySqlContainer = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("loopers")
+                .withUsername("test")
+                .withPassword("test")
+                .withExposedPorts(3306)
+                .withNetwork(Network.SHARED)
+                .withCommand(
+                        "--character-set-server=utf8mb4",
+                        "--collation-server=utf8mb4_general_ci",
+                        "--skip-character-set-client-handshake",
+                        "--server-id=2",
+                        "--gtid-mode=ON",
+                        "--enforce-gtid-consistency=ON",
+                        "--read-only=ON"
+                );
+        mySqlContainer.start();
+
+        replicate(primary, mySqlContainer);
+    }
+
+    private MySqlReplicaTestContainer() {
+    }
+
+    public static String jdbcUrl() {
+        return String.format(
+                "jdbc:mysql://%s:%d/%s",
+                mySqlContainer.getHost(),
+                mySqlContainer.getFirstMappedPort(),
+                mySqlContainer.getDatabaseName()
+        );
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    private static void replicate(MySQLContainer<?> primary, MySQLContainer<?> replica) {
+        try (Connection source = DriverManager.getConnection(primary.getJdbcUrl(), "root", primary.getPassword());
+             Connection target = DriverManager.getConnection(replica.getJdbcUrl(), "root", replica.getPassword());
+             Statement sourceStatement = source.createStatement();
+             Statement targetStatement = target.createStatement()) {
+            // 두 컨테이너가 각자 초기화하며 만든 데이터베이스/계정은 복제하지 않고, 이후의 변경만 복제한다.
+            String executed;
+            try (ResultSet resultSet = sourceStatement.executeQuery("SELECT @@GLOBAL.gtid_executed")) {
+                resultSet.next();
+                executed = resultSet.getString(1);
+            }
+
+            // 애플리케이션 계정으로 복제 지연을 확인할 수 있게 한다.
+            targetStatement.execute("GRANT REPLICATION CLIENT ON *.* TO '%s'@'%%'".formatted(replica.getUsername()));
+            targetStatement.execute("RESET MASTER");
+            targetStatement.execute("SET GLOBAL gtid_purged = '" + executed + "'");
+            targetStatement.execute("""
+                    CHANGE REPLICATION SOURCE TO
+                        SOURCE_HOST = '%s',
+                        SOURCE_PORT = 3306,
+                        SOURCE_USER = 'root',
+                        SOURCE_PASSWORD = '%s',
+                        SOURCE_AUTO_POSITION = 1,
+                        GET_SOURCE_PUBLIC_KEY = 1
+                    """.formatted(MySqlTestContainersConfig.NETWORK_ALIAS, primary.getPassword()));
+            targetStatement.execute("START REPLICA");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to start replication.", e);
+        }
+    }
+
+}
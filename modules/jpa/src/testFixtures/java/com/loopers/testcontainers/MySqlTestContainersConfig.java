@@ -2,11 +2,14 @@ package com.loopers.testcontainers;
 
 import org.springframework.context.annotation.Configuration;
 import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
 import org.testcontainers.utility.DockerImageName;
 
 @Configuration
 public class MySqlTestContainersConfig {
 
+    static final String NETWORK_ALIAS = "mysql-primary";
+
     private static final MySQLContainer<?> mySqlContainer;
 
     static {
@@ -15,10 +18,16 @@ public class MySqlTestContainersConfig {
                 .withUsername("test")
                 .withPassword("test")
                 .withExposedPorts(3306)
+                // 레플리카 컨테이너(MySqlReplicaTestContainer)가 복제할 수 있도록 GTID 를 켠다.
+                .withNetwork(Network.SHARED)
+                .withNetworkAliases(NETWORK_ALIAS)
                 .withCommand(
                         "--character-set-server=utf8mb4",
                         "--collation-server=utf8mb4_general_ci",
-                        "--skip-character-set-client-handshake"
+                        "--skip-character-set-client-handshake",
+                        "--server-id=1",
+                        "--gtid-mode=ON",
+                        "--enforce-gtid-consistency=ON"
                 );
         mySqlContainer.start();
 
@@ -34,4 +43,8 @@ public class MySqlTestContainersConfig {
         System.setProperty("datasource.mysql-jpa.main.password", mySqlContainer.getPassword());
     }
 
+    static MySQLContainer<?> container() {
+        return mySqlContainer;
+    }
+
 }
@@ -7,6 +7,9 @@ dependencies {
     api("org.springframework.boot:spring-boot-starter-cache")
     api("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // metrics
+    implementation("io.micrometer:micrometer-core")
+
     // Lombok
     testFixturesCompileOnly("org.projectlombok:lombok")
     testFixturesAnnotationProcessor("org.projectlombok:lombok")
@@ -0,0 +1,27 @@
+package com.loopers.config;
+
+import com.loopers.support.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(ClusterProperties.class)
+public class ClusterConfig {
+
+    @Bean
+    public ClusterCoordinator clusterCoordinator(
+            ClusterProperties properties,
+            @Qualifier(RedisConfig.REDIS_STRING_TEMPLATE_MASTER) StringRedisTemplate masterRedisTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        // 액추에이터가 없는 애플리케이션(commerce-batch)은 레지스트리 빈이 없으므로 전역 레지스트리에 기록한다.
+        return new ClusterCoordinator(properties, masterRedisTemplate, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+}
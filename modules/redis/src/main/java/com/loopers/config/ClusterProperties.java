@@ -0,0 +1,18 @@
+package com.loopers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @param enabled   여러 노드가 스케줄을 나누어 맡을지 여부. 끄면 이 노드 혼자 모든 작업을 맡는다.
+ * @param group     같은 작업을 나누어 맡는 노드의 묶음 (보통 애플리케이션 이름)
+ * @param memberTtl 노드가 살아있다고 보는 기간. 이 기간의 1/3 마다 갱신하며, 갱신이 끊기면 다른 노드가 작업을 넘겨받는다.
+ */
+@ConfigurationProperties(prefix = "loopers.cluster")
+public record ClusterProperties(
+        boolean enabled,
+        String group,
+        Duration memberTtl
+) {
+}
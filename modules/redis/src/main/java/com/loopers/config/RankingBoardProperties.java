@@ -0,0 +1,15 @@
+package com.loopers.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * commerce-batch 가 발행하고 commerce-api 가 읽는 랭킹 페이지의 형식.
+ * 두 애플리케이션이 같은 값을 쓰도록 Redis 모듈에 한 번만 둔다.
+ *
+ * @param pageSize 한 페이지에 담는 상품 수. 발행된 페이지의 크기와 다르면 commerce-api 는 발행된 페이지를 쓰지 않는다.
+ */
+@ConfigurationProperties(prefix = "loopers.ranking.board")
+public record RankingBoardProperties(
+        int pageSize
+) {
+}
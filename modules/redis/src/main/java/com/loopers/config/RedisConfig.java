@@ -18,7 +18,7 @@ import java.util.function.Consumer;
 
 @Configuration
 @RequiredArgsConstructor
-@EnableConfigurationProperties(RedisProperties.class)
+@EnableConfigurationProperties({RedisProperties.class, RankingBoardProperties.class})
 public class RedisConfig {
 
     public static final String REDIS_STRING_TEMPLATE_MASTER = "stringRedisTemplateMaster";
@@ -0,0 +1,246 @@
+package com.loopers.support.cluster;
+
+import com.loopers.config.ClusterProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 여러 노드에서 같은 스케줄이 돌 때, 작업을 한 노드만 하거나 노드끼리 나누어 맡게 한다.
+ * <p>
+ * 노드는 Redis 에 주기적으로 살아있음을 알리고(heartbeat), 갱신이 끊긴 노드는 목록에서 빠진다.
+ * <ul>
+ *     <li>{@link #runAsLeader}: 리더 임대를 가진 노드만 실행한다. 리더가 죽으면 임대가 만료된 뒤 다른 노드가 넘겨받는다.</li>
+ *     <li>{@link #runOwnedShards}: 샤드를 살아있는 노드 수로 나누어, 이 노드가 맡은 샤드만 실행한다.
+ *     노드가 들어오거나 나가면 다음 실행부터 다시 나누어 맡는다.</li>
+ *     <li>{@link #runOnce}: 같은 실행 키로는 먼저 잡은 한 노드만 실행한다. (하루 한 번 도는 배치 등)</li>
+ * </ul>
+ * 노드 목록이 바뀌는 순간에는 노드마다 보는 목록이 잠깐 다를 수 있으므로, 나누어 맡는 작업은 두 번 실행되어도 안전해야 한다.
+ * Redis 에 오래 알리지 못한 노드는 다른 노드가 이미 넘겨받았을 수 있으므로, 리더도 샤드도 맡지 않는다.
+ * <p>
+ * {@code cluster.leader}, {@code cluster.members} 게이지와, 작업(샤드)마다 걸린 시간을 {@code cluster.job.run} 타이머로 기록한다.
+ */
+@Slf4j
+public class ClusterCoordinator {
+
+    private static final String ALL_SHARDS = "all";
+
+    /**
+     * 만료된 노드를 지우고 이 노드의 만료일시를 갱신한 뒤, 살아있는 노드를 반환한다. 시각은 Redis 서버의 시계를 쓴다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HEARTBEAT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]) * 10)
+            return redis.call('ZRANGE', KEYS[1], 0, -1)
+            """, List.class);
+
+    /**
+     * 임대가 비어 있으면 잡고, 이미 가지고 있으면 연장한다.
+     */
+    private static final RedisScript<Long> ACQUIRE_LEASE = RedisScript.of("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            if owner == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_LEASE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ClusterProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String membersKey;
+    private final String leaderKey;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofVirtual().name("cluster-heartbeat").factory());
+
+    private volatile View view = View.EMPTY;
+
+    public ClusterCoordinator(ClusterProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.membersKey = "cluster:" + properties.group() + ":members";
+        this.leaderKey = "cluster:" + properties.group() + ":leader";
+
+        Gauge.builder("cluster.leader", this, coordinator -> coordinator.isLeader() ? 1 : 0)
+                .tag("group", String.valueOf(properties.group()))
+                .register(meterRegistry);
+        Gauge.builder("cluster.members", this, coordinator -> coordinator.view.members().size())
+                .tag("group", String.valueOf(properties.group()))
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            view = new View(List.of(nodeId), true, Long.MAX_VALUE);
+            return;
+        }
+
+        long period = properties.memberTtl().toMillis() / 3;
+        heartbeat.scheduleWithFixedDelay(this::beat, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        if (!properties.enabled()) {
+            return;
+        }
+
+        // 다른 노드가 만료를 기다리지 않고 바로 넘겨받게 한다.
+        try {
+            redisTemplate.opsForZSet().remove(membersKey, nodeId);
+            redisTemplate.execute(RELEASE_LEASE, List.of(leaderKey), nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to leave cluster: (group={}, message={})", properties.group(), e.getMessage());
+        }
+    }
+
+    public boolean isLeader() {
+        View current = view;
+        return current.leader() && current.isFresh(properties.memberTtl());
+    }
+
+    /**
+     * @return 샤드 {@code 0 ~ shardCount - 1} 중에서 이 노드가 맡은 샤드
+     */
+    public List<Integer> ownedShards(int shardCount) {
+        View current = view;
+        if (!current.isFresh(properties.memberTtl())) {
+            return List.of();
+        }
+
+        int index = current.members().indexOf(nodeId);
+        if (index < 0) {
+            return List.of();
+        }
+
+        int memberCount = current.members().size();
+        return IntStream.range(0, shardCount)
+                .filter(shard -> shard % memberCount == index)
+                .boxed()
+                .toList();
+    }
+
+    public void runAsLeader(String jobName, Runnable task) {
+        if (!isLeader()) {
+            return;
+        }
+
+        record(jobName, ALL_SHARDS, task);
+    }
+
+    /**
+     * 이 노드가 맡은 샤드를 차례로 실행한다. 한 샤드가 실패해도 나머지 샤드를 속행한다.
+     */
+    public void runOwnedShards(String jobName, int shardCount, IntConsumer task) {
+        for (Integer shard : ownedShards(shardCount)) {
+            try {
+                record(jobName, String.valueOf(shard), () -> task.accept(shard));
+            } catch (Exception e) {
+                log.error("Failed to run shard: (job={}, shard={}, message={})", jobName, shard, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 같은 {@code runKey}로는 먼저 잡은 한 노드만 실행한다. 잡은 표시는 {@code hold} 동안 남겨서, 늦게 깨어난 노드가 다시 실행하지 않게 한다.
+     *
+     * @return 이 노드가 실행했는지 여부
+     */
+    public boolean runOnce(String jobName, String runKey, Duration hold, Runnable task) {
+        if (properties.enabled()) {
+            String key = "cluster:" + properties.group() + ":run:" + jobName + ":" + runKey;
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, nodeId, hold);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return false;
+            }
+        }
+
+        record(jobName, ALL_SHARDS, task);
+        return true;
+    }
+
+    // -------------------------------------------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private void beat() {
+        try {
+            long ttl = properties.memberTtl().toMillis();
+            List<Object> members = redisTemplate.execute(HEARTBEAT, List.of(membersKey), nodeId, String.valueOf(ttl));
+            Long leased = redisTemplate.execute(ACQUIRE_LEASE, List.of(leaderKey), nodeId, String.valueOf(ttl));
+
+            List<String> sorted = members == null
+                    ? List.of(nodeId)
+                    : members.stream().map(String::valueOf).sorted().toList();
+            boolean leader = leased != null && leased == 1;
+
+            View previous = view;
+            view = new View(sorted, leader, System.currentTimeMillis());
+
+            if (previous.leader() != leader) {
+                log.info("Cluster leadership changed: (group={}, leader={})", properties.group(), leader);
+            }
+            if (!previous.members().equals(sorted)) {
+                log.info("Cluster members changed: (group={}, members={})", properties.group(), sorted.size());
+            }
+        } catch (Exception e) {
+            // 갱신하지 못한 채로 만료 기간이 지나면, 리더도 샤드도 맡지 않는다.
+            log.error("Failed to send cluster heartbeat: (group={}, message={})", properties.group(), e.getMessage());
+        }
+    }
+
+    private void record(String jobName, String shard, Runnable task) {
+        Timer.builder("cluster.job.run")
+                .tag("job", jobName)
+                .tag("shard", shard)
+                .register(meterRegistry)
+                .record(task);
+    }
+
+    /**
+     * 마지막으로 Redis 에서 확인한 노드 목록과 리더 여부
+     */
+    private record View(List<String> members, boolean leader, long checkedAt) {
+
+        static final View EMPTY = new View(List.of(), false, 0);
+
+        boolean isFresh(Duration ttl) {
+            return checkedAt == Long.MAX_VALUE || System.currentTimeMillis() - checkedAt < ttl.toMillis();
+        }
+
+    }
+
+}
@@ -7,6 +7,7 @@ dependencies {
     // Resilience4j
     api("org.springframework.boot:spring-boot-starter-aop")
     api("org.springframework.cloud:spring-cloud-starter-circuitbreaker-resilience4j")
+    api("io.github.resilience4j:resilience4j-bulkhead")
 
     compileOnly("org.springframework.boot:spring-boot-starter-web")
 